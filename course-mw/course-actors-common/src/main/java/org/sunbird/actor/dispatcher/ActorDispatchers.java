@@ -0,0 +1,33 @@
+package org.sunbird.actor.dispatcher;
+
+import akka.actor.Props;
+
+/**
+ * Assigns the actors to the bulkhead dispatcher of their {@link IOClass}. The dispatchers
+ * themselves are defined in application.conf.
+ */
+public final class ActorDispatchers {
+
+  private ActorDispatchers() {}
+
+  /**
+   * @param actorClass actor to be started
+   * @return id of the dispatcher of the actor's {@link IOBound} class, or null when the actor is
+   *     not annotated
+   */
+  public static String getDispatcher(Class<?> actorClass) {
+    IOBound ioBound = actorClass.getAnnotation(IOBound.class);
+    return ioBound == null ? null : ioBound.value().getDispatcher();
+  }
+
+  /**
+   * @param props props of the actor to be started
+   * @param actorClass actor to be started
+   * @return props running the actor on its bulkhead dispatcher, or the given props when the actor
+   *     is not annotated
+   */
+  public static Props withDispatcher(Props props, Class<?> actorClass) {
+    String dispatcher = getDispatcher(actorClass);
+    return dispatcher == null ? props : props.withDispatcher(dispatcher);
+  }
+}
@@ -0,0 +1,67 @@
+package org.sunbird.actor.dispatcher;
+
+import akka.dispatch.DispatcherPrerequisites;
+import akka.dispatch.ExecutorServiceConfigurator;
+import akka.dispatch.ExecutorServiceFactory;
+import akka.dispatch.SaneRejectedExecutionHandler;
+import com.typesafe.config.Config;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Akka executor configurator of {@link AdaptiveThreadPoolExecutor}, enabled in a dispatcher
+ * configuration by
+ *
+ * <pre>
+ * executor = "org.sunbird.actor.dispatcher.AdaptiveThreadPoolConfigurator"
+ * adaptive-pool-executor {
+ *   min-pool-size = 8
+ *   max-pool-size = 64
+ *   task-queue-size = -1
+ *   resize-interval = 5s
+ * }
+ * </pre>
+ *
+ * A task-queue-size of -1 leaves the queue unbounded. Once a bounded queue is full, tasks run on
+ * the submitting thread, as they do on the akka thread-pool-executor.
+ */
+public class AdaptiveThreadPoolConfigurator extends ExecutorServiceConfigurator {
+
+  private final int minPoolSize;
+  private final int maxPoolSize;
+  private final int taskQueueSize;
+  private final long resizeIntervalMillis;
+
+  public AdaptiveThreadPoolConfigurator(Config config, DispatcherPrerequisites prerequisites) {
+    super(config, prerequisites);
+    Config poolConfig = config.getConfig("adaptive-pool-executor");
+    this.minPoolSize = Math.max(1, poolConfig.getInt("min-pool-size"));
+    this.maxPoolSize = Math.max(minPoolSize, poolConfig.getInt("max-pool-size"));
+    this.taskQueueSize = poolConfig.getInt("task-queue-size");
+    this.resizeIntervalMillis =
+        poolConfig.getDuration("resize-interval", TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public ExecutorServiceFactory createExecutorServiceFactory(
+      String id, ThreadFactory threadFactory) {
+    return () ->
+        new AdaptiveThreadPoolExecutor(
+            id,
+            minPoolSize,
+            maxPoolSize,
+            resizeIntervalMillis,
+            createQueue(),
+            threadFactory,
+            new SaneRejectedExecutionHandler());
+  }
+
+  private BlockingQueue<Runnable> createQueue() {
+    return taskQueueSize > 0
+        ? new ArrayBlockingQueue<>(taskQueueSize)
+        : new LinkedBlockingQueue<>();
+  }
+}
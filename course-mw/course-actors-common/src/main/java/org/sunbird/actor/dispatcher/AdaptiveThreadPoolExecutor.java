@@ -0,0 +1,134 @@
+package org.sunbird.actor.dispatcher;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * Thread pool which resizes itself between a minimum and a maximum size. Every resize interval it
+ * compares the time its threads spent running tasks, blocking included, with the time they were
+ * available. The pool grows while it is busy and tasks are queued, and shrinks one thread at a
+ * time while it is mostly idle.
+ */
+public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
+
+  static final double GROW_UTILIZATION = 0.75;
+  static final double SHRINK_UTILIZATION = 0.25;
+
+  private static final LoggerUtil logger = new LoggerUtil(AdaptiveThreadPoolExecutor.class);
+  private static final ScheduledExecutorService resizer =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-pool-resizer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final String name;
+  private final int minPoolSize;
+  private final int maxPoolSize;
+  private final long intervalNanos;
+  private final AtomicLong busyNanos = new AtomicLong();
+  private final ThreadLocal<Long> taskStart = new ThreadLocal<>();
+  private final ScheduledFuture<?> resizeTask;
+
+  public AdaptiveThreadPoolExecutor(
+      String name,
+      int minPoolSize,
+      int maxPoolSize,
+      long resizeIntervalMillis,
+      BlockingQueue<Runnable> queue,
+      ThreadFactory threadFactory,
+      RejectedExecutionHandler rejectedExecutionHandler) {
+    super(
+        minPoolSize,
+        minPoolSize,
+        60,
+        TimeUnit.SECONDS,
+        queue,
+        threadFactory,
+        rejectedExecutionHandler);
+    this.name = name;
+    this.minPoolSize = minPoolSize;
+    this.maxPoolSize = Math.max(minPoolSize, maxPoolSize);
+    this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(resizeIntervalMillis);
+    this.resizeTask =
+        resizer.scheduleWithFixedDelay(
+            this::resize, resizeIntervalMillis, resizeIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected void beforeExecute(Thread thread, Runnable runnable) {
+    taskStart.set(System.nanoTime());
+    super.beforeExecute(thread, runnable);
+  }
+
+  @Override
+  protected void afterExecute(Runnable runnable, Throwable throwable) {
+    super.afterExecute(runnable, throwable);
+    Long start = taskStart.get();
+    if (start != null) {
+      busyNanos.addAndGet(System.nanoTime() - start);
+      taskStart.remove();
+    }
+  }
+
+  @Override
+  protected void terminated() {
+    resizeTask.cancel(false);
+    super.terminated();
+  }
+
+  /** Applies the utilization and queue depth observed since the previous call. */
+  void resize() {
+    int poolSize = getCorePoolSize();
+    double utilization = (double) busyNanos.getAndSet(0) / (intervalNanos * poolSize);
+    int queued = getQueue().size();
+    int newPoolSize = nextPoolSize(poolSize, utilization, queued);
+    if (newPoolSize > poolSize) {
+      setMaximumPoolSize(newPoolSize);
+      setCorePoolSize(newPoolSize);
+    } else if (newPoolSize < poolSize) {
+      setCorePoolSize(newPoolSize);
+      setMaximumPoolSize(newPoolSize);
+    }
+    if (newPoolSize != poolSize) {
+      logger.info(
+          null,
+          "AdaptiveThreadPoolExecutor:resize: "
+              + name
+              + " resized from "
+              + poolSize
+              + " to "
+              + newPoolSize
+              + " threads, utilization = "
+              + utilization
+              + ", queued = "
+              + queued);
+    }
+  }
+
+  /**
+   * @param poolSize current pool size
+   * @param utilization share of the interval the threads spent running tasks
+   * @param queued number of tasks waiting for a thread
+   * @return pool size for the next interval
+   */
+  int nextPoolSize(int poolSize, double utilization, int queued) {
+    if (queued > 0 && utilization >= GROW_UTILIZATION) {
+      // at most doubles, waiting tasks being the work the current threads could not take up
+      return Math.min(maxPoolSize, poolSize + Math.min(queued, poolSize));
+    }
+    if (queued == 0 && utilization < SHRINK_UTILIZATION) {
+      return Math.max(minPoolSize, poolSize - 1);
+    }
+    return poolSize;
+  }
+}
@@ -0,0 +1,15 @@
+package org.sunbird.actor.dispatcher;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Declares the dependency an actor is bound by, see {@link ActorDispatchers}. */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface IOBound {
+  IOClass value();
+}
@@ -0,0 +1,23 @@
+package org.sunbird.actor.dispatcher;
+
+/**
+ * Class of the dependency an actor mostly waits on. Actors of each class run on a dispatcher of
+ * their own, so a slow dependency only exhausts the threads of the actors which depend on it.
+ */
+public enum IOClass {
+  CASSANDRA("cassandra-dispatcher"),
+  ELASTICSEARCH("es-dispatcher"),
+  HTTP("http-dispatcher"),
+  CPU("cpu-dispatcher");
+
+  private final String dispatcher;
+
+  IOClass(String dispatcher) {
+    this.dispatcher = dispatcher;
+  }
+
+  /** @return id of the dispatcher of this class */
+  public String getDispatcher() {
+    return dispatcher;
+  }
+}
@@ -2,6 +2,8 @@ package org.sunbird.actor.exhaustjob;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.ActorOperations;
@@ -14,6 +16,7 @@ import org.sunbird.util.ExhaustAPIUtil;
 import java.util.HashMap;
 import java.util.Map;
 
+@IOBound(IOClass.HTTP)
 public class ExhaustJobActor extends BaseActor {
   private ObjectMapper mapper = new ObjectMapper();
   private EncryptionService encryptionService =
@@ -2,7 +2,6 @@ package org.sunbird.common.cacheloader;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.sunbird.cache.CacheFactory;
-import org.sunbird.cache.interfaces.Cache;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.ActorOperations;
@@ -17,13 +16,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Page and section data is served from the DataCacheHandler snapshots. When sunbird_cache_enable
+ * is set, Redis is used as a second tier shared across instances, and the snapshots are published
+ * to it whenever DataCacheHandler has swapped in a new version.
+ */
 public class PageCacheLoaderService implements Runnable {
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
-  private static boolean isCacheEnabled = false;
+  private static final boolean isCacheEnabled =
+      Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CACHE_ENABLE));
   private static LoggerUtil logger = new LoggerUtil(PageCacheLoaderService.class);
-  //      Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CACHE_ENABLE));
-
-  private static Cache cache = CacheFactory.getInstance();
+  private static volatile long publishedVersion = -1;
 
   @SuppressWarnings("unchecked")
   public Map<String, Map<String, Object>> cacheLoader(String tableName) {
@@ -75,9 +78,21 @@ public class PageCacheLoaderService implements Runnable {
   }
 
   private void updateAllCache() {
-    logger.info(null, "CacheLoaderService: updateAllCache called");
-    updateCache(cacheLoader(JsonKey.PAGE_SECTION), ActorOperations.GET_SECTION.getValue());
-    updateCache(cacheLoader(JsonKey.PAGE_MANAGEMENT), ActorOperations.GET_PAGE_DATA.getValue());
+    long version = DataCacheHandler.getVersion();
+    if (version == 0 || version == publishedVersion) {
+      return;
+    }
+    logger.info(null, "CacheLoaderService: updateAllCache called for version " + version);
+    Map<String, Map<String, Object>> sections = new HashMap<>();
+    for (Map.Entry<String, Map<String, Object>> entry :
+        DataCacheHandler.getSectionMap().entrySet()) {
+      Map<String, Object> section = new HashMap<>(entry.getValue());
+      removeUnwantedData(section, "");
+      sections.put(entry.getKey(), section);
+    }
+    updateCache(sections, ActorOperations.GET_SECTION.getValue());
+    updateCache(DataCacheHandler.getPageMap(), ActorOperations.GET_PAGE_DATA.getValue());
+    publishedVersion = version;
   }
 
   private void removeUnwantedData(Map<String, Object> map, String from) {
@@ -94,7 +109,7 @@ public class PageCacheLoaderService implements Runnable {
     try {
       Set<String> keys = cacheMap.keySet();
       for (String key : keys) {
-        cache.put(mapName, key, cacheMap.get(key));
+        CacheFactory.getInstance().put(mapName, key, cacheMap.get(key));
       }
     } catch (Exception e) {
       logger.error(null, "CacheLoaderService:updateCache: Error occured = " + e.getMessage(), e);
@@ -103,15 +118,22 @@ public class PageCacheLoaderService implements Runnable {
 
   @SuppressWarnings("unchecked")
   public static <T> T getDataFromCache(String mapName, String key, Class<T> class1) {
-    if (isCacheEnabled) {
-      Object res = cache.get(mapName, key, class1);
+    Map<String, Map<String, Object>> map = getDCMap(mapName);
+    if (map != null) {
+      Object res = map.get(key);
       if (res != null) {
         return (T) res;
       }
-    } else {
-      Map<String, Map<String, Object>> map = getDCMap(mapName);
-      if (map != null) {
-        return (T) map.get(key);
+    }
+    if (isCacheEnabled) {
+      try {
+        Object res = CacheFactory.getInstance().get(mapName, key, class1);
+        if (res != null) {
+          return (T) res;
+        }
+      } catch (Exception e) {
+        logger.error(
+            null, "CacheLoaderService:getDataFromCache: Error occured = " + e.getMessage(), e);
       }
     }
     return null;
@@ -119,18 +141,42 @@ public class PageCacheLoaderService implements Runnable {
 
   @SuppressWarnings("unchecked")
   public static boolean putDataIntoCache(String mapName, String key, Object obj) {
+    if (obj instanceof Map) {
+      if (ActorOperations.GET_PAGE_DATA.getValue().equals(mapName)) {
+        DataCacheHandler.putPage(key, (Map<String, Object>) obj);
+      } else if (ActorOperations.GET_SECTION.getValue().equals(mapName)) {
+        DataCacheHandler.putSection(key, (Map<String, Object>) obj);
+      }
+    }
     if (isCacheEnabled) {
-      cache.put(mapName, key, obj);
-      return true;
-    } else {
-      Map<String, Map<String, Object>> map = getDCMap(mapName);
-      if (map != null) {
-        map.put(key, (Map<String, Object>) obj);
+      try {
+        CacheFactory.getInstance().put(mapName, key, obj);
+        return true;
+      } catch (Exception e) {
+        logger.error(
+            null, "CacheLoaderService:putDataIntoCache: Error occured = " + e.getMessage(), e);
       }
     }
     return false;
   }
 
+  /**
+   * Drops every entry of the given map from Redis, e.g. the page settings after a page was created
+   * or updated.
+   *
+   * @param mapName name of the map
+   */
+  public static void clearCache(String mapName) {
+    if (isCacheEnabled) {
+      try {
+        CacheFactory.getInstance().clear(mapName);
+      } catch (Exception e) {
+        logger.error(
+            null, "CacheLoaderService:clearCache: Error occured = " + e.getMessage(), e);
+      }
+    }
+  }
+
   private static Map<String, Map<String, Object>> getDCMap(String mapName) {
     switch (mapName) {
       case "getPageData":
@@ -3,6 +3,8 @@ package org.sunbird.learner.actors;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
@@ -16,6 +18,7 @@ import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.learner.actors.coursebatch.service.UserCoursesService;
 import org.sunbird.learner.util.CourseBatchSchedulerUtil;
+import org.sunbird.learner.util.CourseBatchSearchCache;
 import org.sunbird.learner.util.Util;
 import scala.concurrent.Future;
 
@@ -31,6 +34,7 @@ import java.util.Map;
  * @author Manzarul
  * @author Amit Kumar
  */
+@IOBound(IOClass.ELASTICSEARCH)
 public class BackgroundJobManager extends BaseActor {
 
   private static Map<String, String> headerMap = new HashMap<>();
@@ -117,6 +121,7 @@ public class BackgroundJobManager extends BaseActor {
         ProjectUtil.EsType.courseBatch.getTypeName(),
         (String) batch.get(JsonKey.ID),
         batch);
+    CourseBatchSearchCache.invalidateAll();
   }
 
   @SuppressWarnings("unchecked")
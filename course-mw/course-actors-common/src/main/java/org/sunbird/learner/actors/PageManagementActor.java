@@ -10,6 +10,8 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.ElasticSearchHelper;
@@ -61,6 +63,7 @@ import static org.sunbird.common.models.util.JsonKey.ID;
  *
  * @author Amit Kumar
  */
+@IOBound(IOClass.HTTP)
 public class PageManagementActor extends BaseActor {
 
   private Util.DbInfo pageDbInfo = Util.dbInfoMap.get(JsonKey.PAGE_MGMT_DB);
@@ -500,6 +503,7 @@ public class PageManagementActor extends BaseActor {
     Response response =
         cassandraOperation.updateRecord(
                 actorMessage.getRequestContext(), pageDbInfo.getKeySpace(), pageDbInfo.getTableName(), pageMap);
+    clearPageSettingsCache();
     sender().tell(response, self());
 
     targetObject =
@@ -565,6 +569,7 @@ public class PageManagementActor extends BaseActor {
         cassandraOperation.insertRecord(
                 actorMessage.getRequestContext(), pageDbInfo.getKeySpace(), pageDbInfo.getTableName(), pageMap);
     response.put(JsonKey.PAGE_ID, uniqueId);
+    clearPageSettingsCache();
     sender().tell(response, self());
     targetObject = TelemetryUtil.generateTargetObject(uniqueId, JsonKey.PAGE, JsonKey.CREATE, null);
     TelemetryUtil.telemetryProcessingCall(
@@ -573,6 +578,12 @@ public class PageManagementActor extends BaseActor {
     updatePageDataCacheHandler(response, pageMap);
   }
 
+  /** The page settings served from Redis are built from every page, so any page write drops them. */
+  private void clearPageSettingsCache() {
+    PageCacheLoaderService.clearCache(ActorOperations.GET_PAGE_SETTINGS.name());
+    PageCacheLoaderService.clearCache(ActorOperations.GET_PAGE_SETTING.name());
+  }
+
   private void updatePageDataCacheHandler(Response response, Map<String, Object> pageMap) {
     // update DataCacheHandler page map with new page data
     new Thread(
@@ -691,7 +702,7 @@ public class PageManagementActor extends BaseActor {
 
     Future<Map<String, Object>> resultF = esService.search(requestContext, searcDto, type);
     Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
     return result;
   }
 
@@ -1,6 +1,8 @@
 package org.sunbird.learner.actors.cache;
 
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.cache.CacheFactory;
 import org.sunbird.cache.interfaces.Cache;
 import org.sunbird.common.models.response.Response;
@@ -12,9 +14,8 @@ import org.sunbird.common.models.util.ProjectLogger;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.responsecode.ResponseCode;
 
+@IOBound(IOClass.CPU)
 public class CacheManagementActor extends BaseActor {
-  private Cache cache = CacheFactory.getInstance();
-
   @Override
   public void onReceive(Request request) throws Throwable {
     System.out.println(
@@ -30,6 +31,8 @@ public class CacheManagementActor extends BaseActor {
     String mapName = (String) request.getContext().get(JsonKey.MAP_NAME);
     logger.info(request.getRequestContext(), "CacheManagementActor:clearCache: mapName = " + mapName);
     try {
+      // looked up on use, so that the actor starts while redis is unreachable
+      Cache cache = CacheFactory.getInstance();
       if (!JsonKey.ALL.equals(mapName)) {
         cache.clear(mapName);
       } else {
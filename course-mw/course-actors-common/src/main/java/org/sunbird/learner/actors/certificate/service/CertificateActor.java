@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections.CollectionUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.JsonKey;
@@ -22,6 +24,7 @@ import org.sunbird.learner.constants.InstructionEvent;
 import org.sunbird.learner.util.CourseBatchUtil;
 import org.sunbird.learner.util.Util;
 
+@IOBound(IOClass.CASSANDRA)
 public class CertificateActor extends BaseActor {
   
 
@@ -6,6 +6,8 @@ import com.mashape.unirest.http.Unirest;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.TelemetryEnvKey;
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
 import static org.sunbird.common.models.util.JsonKey.CONTENT_SERVICE_BASE_URL;
 import static org.sunbird.common.models.util.ProjectUtil.getConfigValue;
 
+@IOBound(IOClass.HTTP)
 public class CourseManagementActor extends BaseActor {
     private static ObjectMapper mapper = new ObjectMapper();
     private static HierarchyGenerationHelper helper = new HierarchyGenerationHelper();
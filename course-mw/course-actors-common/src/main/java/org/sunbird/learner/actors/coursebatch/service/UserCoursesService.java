@@ -88,7 +88,7 @@ public class UserCoursesService {
     Future<Map<String, Object>> resultF =
         esService.search(null, searchDto, ProjectUtil.EsType.usercourses.getTypeName());
     Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
     return result;
   }
 
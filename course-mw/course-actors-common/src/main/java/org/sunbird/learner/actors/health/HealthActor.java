@@ -1,40 +1,30 @@
 /** */
 package org.sunbird.learner.actors.health;
 
-import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpHeaders;
 import org.sunbird.actor.base.BaseActor;
-import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.exception.ProjectCommonException;
-import org.sunbird.common.factory.EsClientFactory;
-import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.ActorOperations;
-import org.sunbird.common.models.util.HttpUtil;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectUtil;
-import org.sunbird.common.models.util.PropertiesCache;
 import org.sunbird.common.models.util.TelemetryEnvKey;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.responsecode.ResponseCode;
-import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.util.Util;
-import scala.concurrent.Future;
 
-import javax.ws.rs.core.MediaType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /** @author Manzarul */
+@IOBound(IOClass.CPU)
 public class HealthActor extends BaseActor {
 
-  private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
-  private Util.DbInfo pagesDbInfo = Util.dbInfoMap.get(JsonKey.PAGE_MGMT_DB);
-  private ElasticSearchService esUtil = EsClientFactory.getInstance(JsonKey.REST);
   private static final String LMS_SERVICE = "lms-service";
   public LoggerUtil logger = new LoggerUtil(this.getClass());
 
@@ -81,58 +71,21 @@ public class HealthActor extends BaseActor {
 
   /** */
   private void esHealthCheck() {
-    // check the elastic search
-    boolean isallHealthy = true;
-    Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Future<Boolean> esResponseF = esUtil.healthCheck();
-      boolean esResponse = (boolean) ElasticSearchHelper.getResponseFromFuture(esResponseF);
-
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, esResponse, null));
-      isallHealthy = esResponse;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
-      isallHealthy = false;
-      logger.error(null, "Elastic search health Error == ", e);
-    }
-    finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "ES health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
-    Response response = new Response();
-    response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
-    sender().tell(response, self());
+    sendHealthResponse(
+        "ES health check api", responseList, Collections.singletonList(JsonKey.ES_SERVICE));
   }
 
   /** */
   private void cassandraHealthCheck() {
-    Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
-    boolean isallHealthy = true;
     responseList.add(ProjectUtil.createCheckResponse(LMS_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      cassandraOperation.getAllRecords(null, pagesDbInfo.getKeySpace(), pagesDbInfo.getTableName());
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, false, null));
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
-      isallHealthy = false;
-    }
-    finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "cassandra health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
-    Response response = new Response();
-    response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
-    sender().tell(response, self());
+    sendHealthResponse(
+        "cassandra health check api",
+        responseList,
+        Collections.singletonList(JsonKey.CASSANDRA_SERVICE));
   }
 
   /** */
@@ -151,69 +104,23 @@ public class HealthActor extends BaseActor {
 
   /** */
   private void checkAllComponentHealth() {
-    boolean isallHealthy = true;
-    Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(LMS_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-//      cassandraOperation.getAllRecords(null, pagesDbInfo.getKeySpace(), pagesDbInfo.getTableName());
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, false, null));
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
-      isallHealthy = false;
-    }
-    // check the elastic search
-    try {
-      Future<Boolean> responseF = esUtil.healthCheck();
-      boolean response = (boolean) ElasticSearchHelper.getResponseFromFuture(responseF);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, !response, null));
-      isallHealthy = response;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
-      isallHealthy = false;
-    }
-    // check EKStep Util.
-    try {
-      String body = "{\"request\":{\"filters\":{\"identifier\":\"test\"}}}";
-      Map<String, String> headers = new HashMap<>();
-      headers.put(
-              JsonKey.AUTHORIZATION, JsonKey.BEARER + System.getenv(JsonKey.EKSTEP_AUTHORIZATION));
-      headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
-      headers.remove(HttpHeaders.ACCEPT_ENCODING.toLowerCase());
-      headers.put(HttpHeaders.ACCEPT_ENCODING.toLowerCase(), "UTF-8");
-      if (StringUtils.isBlank(headers.get(JsonKey.AUTHORIZATION))) {
-        headers.put(
-                JsonKey.AUTHORIZATION,
-                PropertiesCache.getInstance().getProperty(JsonKey.EKSTEP_AUTHORIZATION));
-      }
-      String searchBaseUrl = ProjectUtil.getConfigValue(JsonKey.SEARCH_SERVICE_API_BASE_URL);
-      String response =
-              HttpUtil.sendPostRequest(
-                      searchBaseUrl
-                              + PropertiesCache.getInstance().getProperty(JsonKey.EKSTEP_CONTENT_SEARCH_URL),
-                      body,
-                      headers);
-      if (response.contains("OK")) {
-        responseList.add(ProjectUtil.createCheckResponse(JsonKey.EKSTEP_SERVICE, false, null));
-      } else {
-        responseList.add(ProjectUtil.createCheckResponse(JsonKey.EKSTEP_SERVICE, true, null));
-        isallHealthy = false;
-      }
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.EKSTEP_SERVICE, true, null));
-      isallHealthy = false;
-    }
+    sendHealthResponse(
+        "Complete health check api", responseList, HealthProbeService.getProbeNames());
+  }
 
+  private void sendHealthResponse(
+      String name, List<Map<String, Object>> responseList, List<String> probeNames) {
+    List<Map<String, Object>> probeChecks = HealthProbeService.check(probeNames);
+    responseList.addAll(probeChecks);
+    Map<String, Object> finalResponseMap = new HashMap<>();
     finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "Complete health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
+    finalResponseMap.put(JsonKey.NAME, name);
+    finalResponseMap.put(JsonKey.Healthy, HealthProbeService.isHealthy(probeChecks));
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
     sender().tell(response, self());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package org.sunbird.learner.actors.health;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.ws.rs.core.MediaType;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpHeaders;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.util.HttpUtil;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.models.util.PropertiesCache;
+import org.sunbird.helper.ServiceFactory;
+import org.sunbird.kafka.client.KafkaClient;
+import org.sunbird.redis.RedisConnectionManager;
+
+/**
+ * Runs lightweight dependency probes concurrently under a shared deadline. Each probe outcome is
+ * cached for a short window so frequent load balancer polling does not reach the datastores.
+ */
+public final class HealthProbeService {
+
+  private static final LoggerUtil logger = new LoggerUtil(HealthProbeService.class);
+  private static final long TIMEOUT_MS =
+      getConfigLong(JsonKey.HEALTH_CHECK_TIMEOUT_MS, 3000);
+  private static final long CACHE_TTL_MS =
+      getConfigLong(JsonKey.HEALTH_CHECK_CACHE_TTL_MS, 5000);
+
+  private static final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
+  private static final ElasticSearchService esUtil = EsClientFactory.getInstance(JsonKey.REST);
+  private static final Map<String, Supplier<Boolean>> probes = new LinkedHashMap<>();
+  private static final Map<String, CachedProbe> results = new ConcurrentHashMap<>();
+  private static final ExecutorService executor;
+
+  static {
+    probes.put(JsonKey.CASSANDRA_SERVICE, HealthProbeService::checkCassandra);
+    probes.put(JsonKey.ES_SERVICE, HealthProbeService::checkElasticSearch);
+    // with the cache disabled redis is not required, and a probe would still connect to it
+    if (Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CACHE_ENABLE))) {
+      probes.put(JsonKey.REDIS_SERVICE, RedisConnectionManager::checkConnection);
+    }
+    probes.put(JsonKey.KAFKA_SERVICE, KafkaClient::checkConnection);
+    probes.put(JsonKey.EKSTEP_SERVICE, HealthProbeService::checkContentService);
+    executor =
+        Executors.newFixedThreadPool(
+            probes.size() * 2,
+            runnable -> {
+              Thread thread = new Thread(runnable, "health-probe");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  private HealthProbeService() {}
+
+  /** @return names of all registered probes, in reporting order */
+  public static List<String> getProbeNames() {
+    return new ArrayList<>(probes.keySet());
+  }
+
+  /**
+   * Runs the given probes concurrently, reusing any outcome younger than the cache window and any
+   * probe still running, and waits for all of them until the shared deadline.
+   *
+   * @param names probe names, see {@link #getProbeNames()}
+   * @return check response per probe, as created by ProjectUtil.createCheckResponse
+   */
+  public static List<Map<String, Object>> check(List<String> names) {
+    long now = System.currentTimeMillis();
+    long deadline = now + TIMEOUT_MS;
+    Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+    for (String name : names) {
+      Supplier<Boolean> probe = probes.get(name);
+      if (probe != null) {
+        CachedProbe cached =
+            results.compute(
+                name,
+                (key, old) ->
+                    (old != null
+                            && (now - old.startedAt < CACHE_TTL_MS || !old.result.isDone()))
+                        ? old
+                        : new CachedProbe(now, CompletableFuture.supplyAsync(probe, executor)));
+        futures.put(name, cached.result);
+      }
+    }
+    List<Map<String, Object>> checks = new ArrayList<>(futures.size());
+    for (Map.Entry<String, CompletableFuture<Boolean>> entry : futures.entrySet()) {
+      checks.add(awaitProbe(entry.getKey(), entry.getValue(), deadline));
+    }
+    return checks;
+  }
+
+  /**
+   * @param checks check responses returned by {@link #check(List)}
+   * @return true if every check is healthy
+   */
+  public static boolean isHealthy(List<Map<String, Object>> checks) {
+    for (Map<String, Object> check : checks) {
+      if (!Boolean.TRUE.equals(check.get(JsonKey.Healthy))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<String, Object> awaitProbe(
+      String name, CompletableFuture<Boolean> result, long deadline) {
+    try {
+      long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+      boolean healthy = Boolean.TRUE.equals(result.get(remaining, TimeUnit.MILLISECONDS));
+      return ProjectUtil.createCheckResponse(name, !healthy, null);
+    } catch (TimeoutException e) {
+      logger.info(null, "HealthProbeService: probe timed out for " + name);
+      return ProjectUtil.createCheckResponse(name, true, null);
+    } catch (ExecutionException e) {
+      logger.error(null, "HealthProbeService: probe failed for " + name, e.getCause());
+      return ProjectUtil.createCheckResponse(name, true, toException(e.getCause()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return ProjectUtil.createCheckResponse(name, true, e);
+    }
+  }
+
+  private static Exception toException(Throwable t) {
+    return (t instanceof Exception) ? (Exception) t : new Exception(t);
+  }
+
+  private static boolean checkCassandra() {
+    return cassandraOperation.checkConnection(
+        null, ProjectUtil.getConfigValue(JsonKey.SUNBIRD_COURSE_KEYSPACE), (int) TIMEOUT_MS);
+  }
+
+  private static boolean checkElasticSearch() {
+    return Boolean.TRUE.equals(ElasticSearchHelper.getResponseFromFuture(esUtil.healthCheck()));
+  }
+
+  private static boolean checkContentService() {
+    try {
+      String body = "{\"request\":{\"filters\":{\"identifier\":\"test\"},\"limit\":0}}";
+      Map<String, String> headers = new HashMap<>();
+      headers.put(
+          JsonKey.AUTHORIZATION, JsonKey.BEARER + System.getenv(JsonKey.EKSTEP_AUTHORIZATION));
+      headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+      headers.put(HttpHeaders.ACCEPT_ENCODING.toLowerCase(), "UTF-8");
+      if (StringUtils.isBlank(headers.get(JsonKey.AUTHORIZATION))) {
+        headers.put(
+            JsonKey.AUTHORIZATION,
+            PropertiesCache.getInstance().getProperty(JsonKey.EKSTEP_AUTHORIZATION));
+      }
+      String searchBaseUrl = ProjectUtil.getConfigValue(JsonKey.SEARCH_SERVICE_API_BASE_URL);
+      String response =
+          HttpUtil.sendPostRequest(
+              searchBaseUrl
+                  + PropertiesCache.getInstance().getProperty(JsonKey.EKSTEP_CONTENT_SEARCH_URL),
+              body,
+              headers);
+      return StringUtils.contains(response, "OK");
+    } catch (Exception e) {
+      logger.error(null, "HealthProbeService: content service check failed", e);
+      return false;
+    }
+  }
+
+  private static long getConfigLong(String key, long defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : defaultValue;
+  }
+
+  private static final class CachedProbe {
+    private final long startedAt;
+    private final CompletableFuture<Boolean> result;
+
+    private CachedProbe(long startedAt, CompletableFuture<Boolean> result) {
+      this.startedAt = startedAt;
+      this.result = result;
+    }
+  }
+}
@@ -6,6 +6,8 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.JsonKey;
@@ -17,8 +19,13 @@ import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.common.util.CloudStorageUtil;
 import org.sunbird.learner.util.Util;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,6 +37,7 @@ import static org.sunbird.common.models.util.ProjectUtil.getConfigValue;
  * @Author : Rhea Fernandes This actor is used to create an html file for all the qr code images
  * that are linked to courses that are created userIds given
  */
+@IOBound(IOClass.HTTP)
 public class QRCodeDownloadManagementActor extends BaseActor {
 
   private final QRCodeDownloadManager downloadManager = new QRCodeDownloadManager();
@@ -59,86 +67,116 @@ public class QRCodeDownloadManagementActor extends BaseActor {
     Map<String, String> headers = (Map<String, String>) request.getRequest().get(JsonKey.HEADER);
     Map<String, Object> requestMap = (Map<String, Object>) request.getRequest().get(JsonKey.FILTER);
     requestMap.put(JsonKey.CONTENT_TYPE, "course");
-    Map<String, Object> searchResponse = downloadManager.searchCourses(request.getRequestContext(), requestMap, headers);
-    List<Map<String, Object>> contents = (List<Map<String, Object>>) searchResponse.get("contents");
-    if (CollectionUtils.isEmpty(contents))
-      throw new ProjectCommonException(
-          ResponseCode.errorUserHasNotCreatedAnyCourse.getErrorCode(),
-          ResponseCode.errorUserHasNotCreatedAnyCourse.getErrorMessage(),
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    String channel = (String) contents.get(0).get("channel");
-    Map<String, List<String>> dialCodesMap =
-        contents
-            .stream()
-            .filter(content -> content.get("dialcodes") != null)
-            .filter(content -> content.get("name") != null)
-            .collect(
-                Collectors.toMap(
-                    content -> ((String) content.get("identifier")) + "<<<" + (String) content.get("name"),
-                    content -> (List<String>) content.get("dialcodes"), (a,b) -> b, LinkedHashMap::new));
-    File file = generateCSVFile(request.getRequestContext(), dialCodesMap, channel);
-    Response response = new Response();
-    if (null == file)
-      throw new ProjectCommonException(
-          ResponseCode.errorProcessingFile.getErrorCode(),
-          ResponseCode.errorProcessingFile.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-
-    response = uploadFile(request.getRequestContext(), file);
+    File file = generateCSVFile(request.getRequestContext(), requestMap, headers);
+    Response response = uploadFile(request.getRequestContext(), file);
     sender().tell(response, self());
   }
 
-
   /**
-   * Generates the CSV File for the data provided
+   * Generates the CSV File for all the courses matching the request. Courses are searched one page
+   * at a time and the rows of each page are written to the file before the next page is fetched.
    *
    * @param requestContext
-   * @param dialCodeMap
+   * @param requestMap
+   * @param headers
    * @return
    */
-  private File generateCSVFile(RequestContext requestContext, Map<String, List<String>> dialCodeMap, String channel) {
-    File file = null;
-    if (MapUtils.isEmpty(dialCodeMap))
-      throw new ProjectCommonException(
-          ResponseCode.errorNoDialcodesLinked.getErrorCode(),
-          ResponseCode.errorNoDialcodesLinked.getErrorMessage(),
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    try {
-      file = new File(UUID.randomUUID().toString() + ".csv");
-      StringBuilder csvFile = new StringBuilder();
-      csvFile.append("Course Name,Dialcodes,Image Url");
-
-      Set<String> dialCodes = dialCodeMap.values().stream()
-              .flatMap(List::stream)
-              .collect(Collectors.toSet());
-
-      Map<String, String> dialcodeImageUrlMap = downloadManager.getQRCodeImageURLs(dialCodes, channel);
-
-      dialCodeMap
-          .keySet()
-          .forEach(
-              name -> {
-                dialCodeMap
-                    .get(name)
-                    .forEach(
-                        dialCode -> {
-                          csvFile.append("\n");
-                          csvFile
-                              .append(name.split("<<<")[1])
-                              .append(",")
-                              .append(dialCode)
-                              .append(",")
-                              .append(dialcodeImageUrlMap.get(dialCode));
-                        });
-              });
-      FileUtils.writeStringToFile(file, csvFile.toString());
+  private File generateCSVFile(
+      RequestContext requestContext, Map<String, Object> requestMap, Map<String, String> headers)
+      throws UnirestException {
+    File file = new File(FileUtils.getTempDirectory(), UUID.randomUUID().toString() + ".csv");
+    boolean completed = false;
+    try (Writer writer =
+        new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+      writer.write("Course Name,Dialcodes,Image Url");
+      int pageSize = downloadManager.getSearchPageSize();
+      int offset = 0;
+      long rows = 0;
+      String channel = null;
+      while (true) {
+        Map<String, Object> searchResponse =
+            downloadManager.searchCourses(requestContext, requestMap, headers, offset);
+        List<Map<String, Object>> contents =
+            (List<Map<String, Object>>) searchResponse.get("contents");
+        if (offset == 0 && CollectionUtils.isEmpty(contents))
+          throw new ProjectCommonException(
+              ResponseCode.errorUserHasNotCreatedAnyCourse.getErrorCode(),
+              ResponseCode.errorUserHasNotCreatedAnyCourse.getErrorMessage(),
+              ResponseCode.CLIENT_ERROR.getResponseCode());
+        if (MapUtils.isEmpty(searchResponse))
+          throw new ProjectCommonException(
+              ResponseCode.errorProcessingFile.getErrorCode(),
+              ResponseCode.errorProcessingFile.getErrorMessage(),
+              ResponseCode.SERVER_ERROR.getResponseCode());
+        if (CollectionUtils.isEmpty(contents)) break;
+        if (channel == null) channel = (String) contents.get(0).get("channel");
+        rows += writeRows(writer, contents, channel);
+        offset += contents.size();
+        Object count = searchResponse.get(JsonKey.COUNT);
+        if (contents.size() < pageSize
+            || (count instanceof Number && offset >= ((Number) count).longValue())) break;
+      }
+      if (rows == 0)
+        throw new ProjectCommonException(
+            ResponseCode.errorNoDialcodesLinked.getErrorCode(),
+            ResponseCode.errorNoDialcodesLinked.getErrorMessage(),
+            ResponseCode.CLIENT_ERROR.getResponseCode());
+      logger.info(
+          requestContext,
+          "QRCodeDownloadManagement:createCSVFile: courses " + offset + ", rows " + rows);
+      completed = true;
     } catch (IOException e) {
       logger.error(requestContext, "QRCodeDownloadManagement:createCSVFile: Exception occurred with error message = "
                       + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.errorProcessingFile.getErrorCode(),
+          ResponseCode.errorProcessingFile.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      if (!completed) FileUtils.deleteQuietly(file);
     }
     return file;
   }
 
+  /**
+   * Writes one row per dialcode of the given courses, resolving the image urls of the page at once
+   *
+   * @return number of rows written
+   */
+  private long writeRows(Writer writer, List<Map<String, Object>> contents, String channel)
+      throws IOException {
+    Map<String, List<String>> dialCodeMap =
+        contents
+            .stream()
+            .filter(content -> content.get("dialcodes") != null)
+            .filter(content -> content.get("name") != null)
+            .collect(
+                Collectors.toMap(
+                    content -> ((String) content.get("identifier")) + "<<<" + (String) content.get("name"),
+                    content -> (List<String>) content.get("dialcodes"), (a,b) -> b, LinkedHashMap::new));
+    if (MapUtils.isEmpty(dialCodeMap)) return 0;
+    Set<String> dialCodes = dialCodeMap.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toSet());
+    Map<String, String> dialcodeImageUrlMap = downloadManager.getQRCodeImageURLs(dialCodes, channel);
+    long rows = 0;
+    for (Map.Entry<String, List<String>> entry : dialCodeMap.entrySet()) {
+      String name = entry.getKey().split("<<<")[1];
+      for (String dialCode : entry.getValue()) {
+        writer
+            .append('\n')
+            .append(name)
+            .append(',')
+            .append(dialCode)
+            .append(',')
+            .append(dialcodeImageUrlMap.get(dialCode));
+        rows++;
+      }
+    }
+    return rows;
+  }
+
   /**
    * Uploading the generated csv to aws
    *
@@ -13,6 +13,9 @@ import org.sunbird.learner.util.ContentSearchUtil;
 
 import javax.ws.rs.core.MediaType;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 public class QRCodeDownloadManager {
@@ -26,6 +29,16 @@ public class QRCodeDownloadManager {
                     put(JsonKey.CONTENT_TYPE, JsonKey.CONTENT_TYPE);
                 }
             };
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final int DIAL_CODE_CHUNK_SIZE = getConfigInt(JsonKey.SUNBIRD_QRCODE_DIALCODE_CHUNK_SIZE, 100);
+    private static final ExecutorService dialSearchExecutor =
+            Executors.newFixedThreadPool(
+                    getConfigInt(JsonKey.SUNBIRD_QRCODE_DIALCODE_PARALLELISM, 4),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "qrcode-dial-search");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
     private static final int SEARCH_CONTENTS_LIMIT = Integer.parseInt(StringUtils.isNotBlank(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_QRCODE_COURSES_LIMIT)) ? ProjectUtil.getConfigValue(JsonKey.SUNBIRD_QRCODE_COURSES_LIMIT) : "2000");
 
     /**
@@ -39,10 +52,29 @@ public class QRCodeDownloadManager {
      */
     public Map<String, Object> searchCourses(
             RequestContext requestContext, Map<String, Object> requestMap, Map<String, String> headers) throws UnirestException {
-        String request = prepareSearchRequest (requestContext, requestMap);
+        return searchCourses(requestContext, requestMap, headers, 0);
+    }
+
+    /**
+     * Search call for one page of courses, the page size is configured by sunbird_user_qrcode_courses_limit
+     *
+     * @param requestContext
+     * @param requestMap
+     * @param headers
+     * @param offset index of the first course of the page
+     * @return
+     */
+    public Map<String, Object> searchCourses(
+            RequestContext requestContext, Map<String, Object> requestMap, Map<String, String> headers, int offset) throws UnirestException {
+        String request = prepareSearchRequest (requestContext, requestMap, offset);
         return ContentSearchUtil.searchContentSync(requestContext, null, request, headers);
     }
 
+    /** @return number of courses fetched by one search call */
+    public int getSearchPageSize() {
+        return SEARCH_CONTENTS_LIMIT;
+    }
+
     /**
      * Request Preparation for search Request for getting courses created by user and dialcodes linked
      * to them.
@@ -50,9 +82,10 @@ public class QRCodeDownloadManager {
      *
      * @param requestContext
      * @param requestMap
+     * @param offset
      * @return
      */
-    private String prepareSearchRequest(RequestContext requestContext, Map<String, Object> requestMap) {
+    private String prepareSearchRequest(RequestContext requestContext, Map<String, Object> requestMap, int offset) {
         Map<String, Object> searchRequestMap =
                 new HashMap<String, Object>() {
                     {
@@ -70,7 +103,7 @@ public class QRCodeDownloadManager {
                         put(JsonKey.SORT_BY, new HashMap<String, String>() {{
                             put(SunbirdKey.LAST_PUBLISHED_ON, JsonKey.DESC);
                         }});
-                        //TODO: Limit should come from request, need to facilitate this change.
+                        put(JsonKey.OFFSET, offset);
                         put(JsonKey.LIMIT, SEARCH_CONTENTS_LIMIT);
                     }
                 };
@@ -82,7 +115,7 @@ public class QRCodeDownloadManager {
                 };
         String requestJson = null;
         try {
-            requestJson = new ObjectMapper().writeValueAsString(request);
+            requestJson = mapper.writeValueAsString(request);
         } catch (JsonProcessingException e) {
             logger.error(requestContext, "QRCodeDownloadManagement:prepareSearchRequest: Exception occurred with error message = "
                     + e.getMessage(), e);
@@ -91,15 +124,35 @@ public class QRCodeDownloadManager {
     }
 
     /**
-     * Fetch QR code Urls for the given dialcodes
+     * Fetch QR code Urls for the given dialcodes. The dialcodes are searched in chunks, with a bounded
+     * number of chunks requested from the DIAL service at a time.
      *
      * @param dialCodes
      * @return
      */
     public Map<String, String> getQRCodeImageURLs(Set<String> dialCodes, String channel) {
+        List<String> dialCodeList = new ArrayList<>(dialCodes);
+        List<CompletableFuture<Map<String, String>>> futures = new ArrayList<>();
+        for (int from = 0; from < dialCodeList.size(); from += DIAL_CODE_CHUNK_SIZE) {
+            List<String> chunk = dialCodeList.subList(from, Math.min(from + DIAL_CODE_CHUNK_SIZE, dialCodeList.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> searchQRCodeImageURLs(chunk, channel), dialSearchExecutor));
+        }
+        Map<String, String> resMap = new HashMap<>();
+        for (CompletableFuture<Map<String, String>> future : futures) {
+            resMap.putAll(future.join());
+        }
+        return resMap;
+    }
+
+    private Map<String, String> searchQRCodeImageURLs(List<String> dialCodes, String channel) {
         Map<String, String> headers = new HashMap<>();
-        String params = "{\"request\": {\"search\":{\"identifier\": [\""+String.join("\",\"",dialCodes)+"\"]}}}";
         try {
+            Map<String, Object> search = new HashMap<>();
+            search.put(JsonKey.IDENTIFIER, dialCodes);
+            Map<String, Object> searchRequest = new HashMap<>();
+            searchRequest.put("search", search);
+            searchRequest.put(JsonKey.LIMIT, dialCodes.size());
+            String params = mapper.writeValueAsString(Collections.singletonMap(JsonKey.REQUEST, searchRequest));
             String dialServiceUrl = ProjectUtil.getConfigValue(JsonKey.SUNBIRD_DIAL_SERVICE_BASE_URL);
             headers.put(JsonKey.AUTHORIZATION, JsonKey.BEARER + System.getenv(JsonKey.EKSTEP_AUTHORIZATION));
             headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
@@ -111,15 +164,15 @@ public class QRCodeDownloadManager {
                         JsonKey.AUTHORIZATION,
                         PropertiesCache.getInstance().getProperty(JsonKey.EKSTEP_AUTHORIZATION));
             }
-            logger.info(null, "QRCodeDownloadManager:: getQRCodeImageUrl:: invoking DIAL service for QR Code Images:: " + params);
+            logger.info(null, "QRCodeDownloadManager:: getQRCodeImageUrl:: invoking DIAL service for QR Code Images:: " + dialCodes.size());
             String response = HttpUtil.sendPostRequest(dialServiceUrl + PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_DIAL_SERVICE_SEARCH_URL), params, headers);
-            Map<String, Object> data = new ObjectMapper().readValue(response, Map.class);
+            Map<String, Object> data = mapper.readValue(response, Map.class);
             logger.info(null, "QRCodeDownloadManager:: getQRCodeImageUrl:: QR Code List response:: ", null, (Map<String, Object>) data.get(JsonKey.PARAMS));
             if (MapUtils.isNotEmpty(data)) {
                 Map<String, Object> resultData = (Map<String, Object>) data.get(JsonKey.RESULT);
-                logger.info(null,"QRCodeDownloadManager:: getQRCodeImageUrl:: Total number of images fetched : " + ((List) resultData.get("dialcodes")).size());
                 if (MapUtils.isNotEmpty(resultData)) {
                     List<Map<String, Object>> qrCodeImagesList = (List) resultData.get("dialcodes");
+                    logger.info(null,"QRCodeDownloadManager:: getQRCodeImageUrl:: Total number of images fetched : " + qrCodeImagesList.size());
                     Map<String, String> resMap = new HashMap<>();
 
                     for(Map<String, Object> qrImageObj : qrCodeImagesList) {
@@ -139,4 +192,9 @@ public class QRCodeDownloadManager {
         return new HashMap<>();
     }
 
+    private static int getConfigInt(String key, int defaultValue) {
+        String value = ProjectUtil.getConfigValue(key);
+        return org.apache.commons.lang3.StringUtils.isNumeric(value) && Integer.parseInt(value) > 0 ? Integer.parseInt(value) : defaultValue;
+    }
+
 }
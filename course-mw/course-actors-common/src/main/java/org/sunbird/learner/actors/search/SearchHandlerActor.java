@@ -5,6 +5,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang.BooleanUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
@@ -15,6 +17,7 @@ import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.learner.actors.coursebatch.service.UserCoursesService;
+import org.sunbird.learner.util.CourseBatchSearchCache;
 import org.sunbird.learner.util.Util;
 import org.sunbird.telemetry.util.TelemetryWriter;
 import org.sunbird.userorg.UserOrgService;
@@ -33,6 +36,7 @@ import java.util.stream.Collectors;
  *
  * @author Manzarul
  */
+@IOBound(IOClass.ELASTICSEARCH)
 public class SearchHandlerActor extends BaseActor {
 
   private String topn = PropertiesCache.getInstance().getProperty(JsonKey.SEARCH_TOP_N);
@@ -76,8 +80,14 @@ public class SearchHandlerActor extends BaseActor {
       Map<String, Object> result = null;
       logger.info(request.getRequestContext(), "SearchHandlerActor:onReceive  request search instant duration="
               + (Instant.now().toEpochMilli() - instant.toEpochMilli()));
-      Future<Map<String, Object>> resultF = esService.search(request.getRequestContext(), searchDto, types[0]);
-      result = (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+      String type = types[0];
+      if (EsType.courseBatch.getTypeName().equalsIgnoreCase(type)) {
+        result =
+            CourseBatchSearchCache.search(
+                type, searchDto, () -> search(request.getRequestContext(), searchDto, type));
+      } else {
+        result = search(request.getRequestContext(), searchDto, type);
+      }
       logger.info(request.getRequestContext(), 
           "SearchHandlerActor:onReceive search complete instant duration="
               + (Instant.now().toEpochMilli() - instant.toEpochMilli()));
@@ -112,6 +122,12 @@ public class SearchHandlerActor extends BaseActor {
     }
   }
 
+  private Map<String, Object> search(
+      RequestContext requestContext, SearchDTO searchDto, String type) {
+    Future<Map<String, Object>> resultF = esService.search(requestContext, searchDto, type);
+    return (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
+  }
+
   private void populateCreatorDetails(Map<String, Object> context, Map<String, Object> result, RequestContext requestContext) {
     List<Map<String, Object>> content = (List<Map<String, Object>>) result.getOrDefault("content", new ArrayList<Map<String, Object>>());
     if (CollectionUtils.isNotEmpty(content)) {
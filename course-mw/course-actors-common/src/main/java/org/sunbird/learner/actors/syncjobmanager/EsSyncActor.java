@@ -7,8 +7,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.util.concurrent.FutureCallback;
 import org.apache.commons.collections.CollectionUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.CassandraUtil;
+import org.sunbird.common.CassandraRowMapper;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
@@ -22,6 +24,7 @@ import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.actors.coursebatch.service.UserCoursesService;
+import org.sunbird.learner.util.CourseBatchSearchCache;
 import org.sunbird.learner.util.Util;
 import org.sunbird.learner.util.Util.DbInfo;
 
@@ -34,11 +37,13 @@ import java.util.List;
 import java.util.Map;
 
 /** Sync data between Cassandra and Elastic Search. */
+@IOBound(IOClass.ELASTICSEARCH)
 public class EsSyncActor extends BaseActor {
 
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
   private static final int BATCH_SIZE = 100;
+  private static final ObjectMapper mapper = new ObjectMapper();
 
   @Override
   public void onReceive(Request request) throws Throwable {
@@ -145,14 +150,14 @@ public class EsSyncActor extends BaseActor {
       @Override
       public void onSuccess(ResultSet result) {
         List<Map<String, Object>> docList = new ArrayList<>();
-        Map<String, String> columnMap = CassandraUtil.fetchColumnsMapping(result);
+        CassandraRowMapper rowMapper = CassandraRowMapper.forColumns(result.getColumnDefinitions());
         long count = 0;
         try {
 
           Iterator<Row> resultIterator = result.iterator();
           while (resultIterator.hasNext()) {
             Row row = resultIterator.next();
-            Map<String, Object> doc = syncDataForEachRow(requestContext, row, columnMap, objectType);
+            Map<String, Object> doc = syncDataForEachRow(requestContext, row, rowMapper, objectType);
             docList.add(doc);
             count++;
             if (docList.size() >= BATCH_SIZE) {
@@ -163,6 +168,9 @@ public class EsSyncActor extends BaseActor {
           if (!docList.isEmpty()) {
             esService.bulkInsert(requestContext, getType(objectType), docList);
           }
+          if (objectType.equals(JsonKey.BATCH)) {
+            CourseBatchSearchCache.invalidateAll();
+          }
           logger.info(requestContext, "getSyncCallback sync successful objectType=" + objectType + " count=" + count);
         } catch (Exception e) {
           logger.error(requestContext, "Exception occurred while getSyncCallback on count" + count, e);
@@ -177,23 +185,17 @@ public class EsSyncActor extends BaseActor {
   }
 
   private Map<String, Object> syncDataForEachRow(
-          RequestContext requestContext, Row row, Map<String, String> columnMap, String objectType) {
-    Map<String, Object> rowMap = new HashMap<>();
-    columnMap
-        .entrySet()
-        .forEach(
-            entry -> {
-              Object value = row.getObject(entry.getValue());
-              if (entry.getKey().equals("contentStatus") && value != null) {
-                try {
-                  rowMap.put(entry.getKey(), new ObjectMapper().writeValueAsString(value));
-                } catch (JsonProcessingException e) {
-                  logger.error(requestContext, "JsonProcessingException occurred while getSyncCallback ", e);
-                }
-              } else {
-                rowMap.put(entry.getKey(), value);
-              }
-            });
+          RequestContext requestContext, Row row, CassandraRowMapper rowMapper, String objectType) {
+    Map<String, Object> rowMap = rowMapper.map(row);
+    Object contentStatus = rowMap.get("contentStatus");
+    if (contentStatus != null) {
+      try {
+        rowMap.put("contentStatus", mapper.writeValueAsString(contentStatus));
+      } catch (JsonProcessingException e) {
+        logger.error(requestContext, "JsonProcessingException occurred while getSyncCallback ", e);
+        rowMap.remove("contentStatus");
+      }
+    }
     String id = (String) rowMap.get(JsonKey.ID);
     if (objectType.equals(JsonKey.USER_COURSE)) {
       id =
@@ -12,6 +12,7 @@ import org.apache.http.HttpHeaders;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.sunbird.common.models.util.HttpUtil;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.PropertiesCache;
@@ -113,7 +114,7 @@ public class ContentSearchUtil {
             ? contentSearchURL + urlQueryString
             : contentSearchURL;
 
-    HttpResponse<String> searchResponse = Unirest.post(urlString).headers(getUpdatedHeaders(headers)).body(queryRequestBody).asString();
+    HttpResponse<String> searchResponse = HttpUtil.asString(Unirest.post(urlString).headers(getUpdatedHeaders(headers)).body(queryRequestBody));
     try {
       if (null != searchResponse && searchResponse.getStatus() == 200) {
         Map<String, Object> responseData = new ObjectMapper().readValue(searchResponse.getBody(), Map.class);
@@ -33,6 +33,8 @@ public final class ContentUtil {
   private static String EKSTEP_COURSE_SEARCH_QUERY =
           "{\"request\": {\"filters\":{\"contentType\": [\"Course\"], \"identifier\": \"COURSE_ID_PLACEHOLDER\", \"status\": \"Live\", \"mimeType\": \"application/vnd.ekstep.content-collection\", \"trackable.enabled\": \"Yes\"},\"limit\": 1}}";
   private static LoggerUtil logger = new LoggerUtil(ContentUtil.class);
+  /** Cache variant of the course search, which only matches contents of type Course */
+  private static final String COURSE_SEARCH_VARIANT = "search:course";
   private ContentUtil() {}
 
   static {
@@ -124,6 +126,8 @@ public final class ContentUtil {
         "BaseMetricsActor:makePostRequest: Response from analytics store for metrics", null, new HashMap<>(){{put("result", result);}});
     return result;
   }
+  // not cached: the batches read here are changed and written back with updateCollection, so they
+  // must be the latest ones
   public static Map<String, Object> getContent(String courseId, List<String> fields) {
     Map<String, Object> resMap = new HashMap<>();
     Map<String, String> headers = new HashMap<>();
@@ -161,6 +165,12 @@ public final class ContentUtil {
   public static Map<String, Object> getCourseObjectFromEkStep(
           String courseId, Map<String, String> headers) {
     logger.info(null, "Requested course id is ==" + courseId);
+    return CourseMetadataCache.get(
+        courseId, COURSE_SEARCH_VARIANT, () -> searchCourseObject(courseId, headers));
+  }
+
+  private static Map<String, Object> searchCourseObject(
+          String courseId, Map<String, String> headers) {
     if (!StringUtils.isBlank(courseId)) {
       try {
         String query = EKSTEP_COURSE_SEARCH_QUERY.replaceAll("COURSE_ID_PLACEHOLDER", courseId);
@@ -194,6 +204,8 @@ public final class ContentUtil {
                       headerMap);
     } catch (Exception e) {
       logger.error(requestContext, "Error while doing system update to collection " + e.getMessage(), e);
+    } finally {
+      CourseMetadataCache.invalidate(collectionId);
     }
     return JsonKey.SUCCESS.equalsIgnoreCase(response);
   }
@@ -16,9 +16,13 @@ import org.sunbird.common.request.RequestContext;
 import org.sunbird.helper.ServiceFactory;
 import scala.concurrent.Future;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * This class will update course batch count to EKStep. First it will get batch details from ES ,
@@ -51,25 +55,48 @@ public final class CourseBatchSchedulerUtil {
    * @param requestContext
    */
   public static void updateCourseBatchDbStatus(Map<String, Object> map, Boolean increment, RequestContext requestContext) {
-    logger.info(requestContext, "updateCourseBatchDbStatus: updating course batch details start");
+    updateCourseBatchesDbStatus(Collections.singletonList(map), increment, requestContext);
+  }
+
+  /**
+   * Method to update the status of many course batches at once, e.g. of all the batches starting
+   * or ending on the same day. The batch counts of every course are patched once for all its
+   * batches, the batches of the courses patched successfully are then saved to cassandra, and the
+   * ones saved are written to ES in one bulk request.
+   *
+   * @param batches course batches to save, the batch id under id
+   * @param increment true when the batches are opened, false when they are closed
+   * @param requestContext
+   */
+  public static void updateCourseBatchesDbStatus(
+      List<Map<String, Object>> batches, Boolean increment, RequestContext requestContext) {
+    logger.info(requestContext, "updateCourseBatchesDbStatus: updating details of " + batches.size() + " course batches start");
     try {
-      boolean response =
-          doOperationInContentCourse(requestContext,
-              (String) map.get(JsonKey.COURSE_ID),
-              increment,
-              (String) map.get(JsonKey.ENROLLMENT_TYPE));
-      logger.debug(requestContext, "Response for update content == " + response);
-      if (response) {
-        boolean flag = updateDataIntoES(requestContext, map);
-        if (flag) {
-          updateDataIntoCassandra(requestContext, map);
+      Map<String, List<Map<String, Object>>> batchesByCourse = new LinkedHashMap<>();
+      for (Map<String, Object> batch : batches) {
+        batchesByCourse
+            .computeIfAbsent((String) batch.get(JsonKey.COURSE_ID), courseId -> new ArrayList<>())
+            .add(batch);
+      }
+      List<Map<String, Object>> updatedBatches = new ArrayList<>(batches.size());
+      for (Map.Entry<String, List<Map<String, Object>>> entry : batchesByCourse.entrySet()) {
+        Map<String, Integer> countChanges = new HashMap<>();
+        for (Map<String, Object> batch : entry.getValue()) {
+          countChanges.merge(
+              getCountName((String) batch.get(JsonKey.ENROLLMENT_TYPE)), increment ? 1 : -1, Integer::sum);
+        }
+        boolean response = doOperationInContentCourse(requestContext, entry.getKey(), countChanges);
+        logger.debug(requestContext, "Response for update content == " + response);
+        if (response) {
+          updatedBatches.addAll(entry.getValue());
+        } else {
+          logger.info(requestContext, "CourseBatchSchedulerUtil:updateCourseBatchesDbStatus: Ekstep content update failed for courseId "
+                  + entry.getKey());
         }
-      } else {
-        logger.info(requestContext, "CourseBatchSchedulerUtil:updateCourseBatchDbStatus: Ekstep content update failed for courseId "
-                + (String) map.get(JsonKey.COURSE_ID));
       }
+      updateDataIntoES(requestContext, updateDataIntoCassandra(requestContext, updatedBatches));
     } catch (Exception e) {
-      logger.error(requestContext, "CourseBatchSchedulerUtil:updateCourseBatchDbStatus: Exception occurred while savin data to course batch db "
+      logger.error(requestContext, "CourseBatchSchedulerUtil:updateCourseBatchesDbStatus: Exception occurred while savin data to course batch db "
               + e.getMessage(), e);
     }
   }
@@ -84,6 +111,7 @@ public final class CourseBatchSchedulerUtil {
           esService.update(
                   requestContext, ProjectUtil.EsType.course.getTypeName(), (String) map.get(JsonKey.ID), map);
       flag = (boolean) ElasticSearchHelper.getResponseFromFuture(flagF);
+      CourseBatchSearchCache.invalidateAll();
     } catch (Exception e) {
       logger.error(requestContext, "CourseBatchSchedulerUtil:updateDataIntoES: Exception occurred while saving course batch data to ES", e);
       flag = false;
@@ -91,6 +119,29 @@ public final class CourseBatchSchedulerUtil {
     return flag;
   }
 
+  /**
+   * Updates the course batches in ES with one bulk request.
+   *
+   * @param requestContext
+   * @param batches course batches to save, the batch id under id
+   * @return ids of the batches updated in ES
+   */
+  @SuppressWarnings("unchecked")
+  public static List<String> updateDataIntoES(RequestContext requestContext, List<Map<String, Object>> batches) {
+    if (batches.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Future<List<String>> updatedF =
+        esService.bulkUpdate(requestContext, ProjectUtil.EsType.course.getTypeName(), batches);
+    List<String> updated = (List<String>) ElasticSearchHelper.getResponseFromFuture(updatedF);
+    CourseBatchSearchCache.invalidateAll();
+    if (updated == null) {
+      logger.info(requestContext, "CourseBatchSchedulerUtil:updateDataIntoES: Bulk update of " + batches.size() + " course batches failed");
+      return Collections.emptyList();
+    }
+    return updated;
+  }
+
   /**
    * @param map
    * @param requestContext */
@@ -103,6 +154,40 @@ public final class CourseBatchSchedulerUtil {
             + map.get(JsonKey.ID));
   }
 
+  /**
+   * Updates the course batches in cassandra one row at a time, as the batches are in different
+   * partitions. A failed update does not stop the following ones, the failed batch ids are logged
+   * once all are done.
+   *
+   * @param requestContext
+   * @param batches course batches to save, the batch id under id
+   * @return the batches saved
+   */
+  public static List<Map<String, Object>> updateDataIntoCassandra(
+      RequestContext requestContext, List<Map<String, Object>> batches) {
+    CassandraOperation cassandraOperation = ServiceFactory.getInstance();
+    Util.DbInfo courseBatchDBInfo = Util.dbInfoMap.get(JsonKey.COURSE_BATCH_DB);
+    List<Map<String, Object>> saved = new ArrayList<>(batches.size());
+    List<Object> failedIds = new ArrayList<>();
+    for (Map<String, Object> batch : batches) {
+      try {
+        cassandraOperation.updateRecord(
+            requestContext, courseBatchDBInfo.getKeySpace(), courseBatchDBInfo.getTableName(), batch);
+        saved.add(batch);
+      } catch (Exception e) {
+        logger.error(requestContext, "CourseBatchSchedulerUtil:updateDataIntoCassandra: Update failed for batchId "
+                + batch.get(JsonKey.ID), e);
+        failedIds.add(batch.get(JsonKey.ID));
+      }
+    }
+    logger.info(requestContext, "CourseBatchSchedulerUtil:updateDataIntoCassandra: Update Successful for " + saved.size() + " course batches");
+    if (!failedIds.isEmpty()) {
+      logger.error(requestContext, "CourseBatchSchedulerUtil:updateDataIntoCassandra: Update failed for batchIds "
+              + failedIds + ", they are not updated in ES", null);
+    }
+    return saved;
+  }
+
   private static void addHeaderProps(Map<String, String> header, String key, String value) {
     header.put(key, value);
   }
@@ -118,11 +203,29 @@ public final class CourseBatchSchedulerUtil {
    */
   public static boolean doOperationInContentCourse(
           RequestContext requestContext, String courseId, boolean increment, String enrollmentType) {
-    String contentName = getCountName(enrollmentType);
+    return doOperationInContentCourse(
+        requestContext, courseId, Collections.singletonMap(getCountName(enrollmentType), increment ? 1 : -1));
+  }
+
+  /**
+   * Method to update several batch counts of a course at ekstep with one request.
+   *
+   * @param requestContext
+   * @param courseId
+   * @param countChanges change of every batch count, by count name
+   * @return
+   */
+  public static boolean doOperationInContentCourse(
+          RequestContext requestContext, String courseId, Map<String, Integer> countChanges) {
     boolean response = false;
+    // not cached: the counts are patched with absolute values, so they must be computed from the
+    // latest content
     Map<String, Object> ekStepContent = getCourseObject(requestContext, courseId, getBasicHeader());
     if (MapUtils.isNotEmpty(ekStepContent)) {
-      int val = getUpdatedBatchCount(ekStepContent, contentName, increment);
+      Map<String, Integer> counts = new LinkedHashMap<>();
+      countChanges.forEach(
+          (contentName, change) ->
+              counts.put(contentName, getUpdatedBatchCount(ekStepContent, contentName, change)));
       if (ekStepContent.get(JsonKey.CHANNEL) != null) {
         logger.info(requestContext, "Channel value coming from content is " + (String) ekStepContent.get(JsonKey.CHANNEL)
                 + " Id " + courseId);
@@ -133,7 +236,7 @@ public final class CourseBatchSchedulerUtil {
       } else {
         logger.info(requestContext, "No channel value available in content with Id " + courseId);
       }
-      response = updateCourseContent(requestContext, courseId, contentName, val);
+      response = updateCourseContent(requestContext, courseId, counts);
     } else {
       logger.info(requestContext, "EKstep content not found for course id==" + courseId);
     }
@@ -162,19 +265,37 @@ public final class CourseBatchSchedulerUtil {
     return val;
   }
 
+  public static int getUpdatedBatchCount(
+      Map<String, Object> ekStepContent, String contentName, int change) {
+    int val = (int) ekStepContent.getOrDefault(contentName, 0);
+    return Math.max(val + change, 0);
+  }
+
   public static boolean updateCourseContent(RequestContext requestContext, String courseId, String contentName, int val) {
+    return updateCourseContent(requestContext, courseId, Collections.singletonMap(contentName, val));
+  }
+
+  public static boolean updateCourseContent(RequestContext requestContext, String courseId, Map<String, Integer> counts) {
     String response = "";
     try {
       String contentUpdateBaseUrl = ProjectUtil.getConfigValue(JsonKey.CONTENT_SERVICE_BASE_URL);
+      String content =
+          counts
+              .entrySet()
+              .stream()
+              .map(count -> "\"" + count.getKey() + "\": " + count.getValue())
+              .collect(Collectors.joining(", "));
       response =
           HttpUtil.sendPatchRequest(
               contentUpdateBaseUrl
                   + PropertiesCache.getInstance().getProperty(JsonKey.EKSTEP_CONTENT_UPDATE_URL)
                   + courseId,
-              "{\"request\": {\"content\": {\"" + contentName + "\": " + val + "}}}",
+              "{\"request\": {\"content\": {" + content + "}}}",
               getBasicHeader());
     } catch (Exception e) {
       logger.error(requestContext, "Error while updating content value " + e.getMessage(), e);
+    } finally {
+      CourseMetadataCache.invalidate(courseId);
     }
     return JsonKey.SUCCESS.equalsIgnoreCase(response);
   }
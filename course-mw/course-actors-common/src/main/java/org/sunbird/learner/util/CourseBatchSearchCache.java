@@ -0,0 +1,117 @@
+package org.sunbird.learner.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.dto.SearchDTO;
+
+/**
+ * Shared cache of course batch search results, keyed by a hash of the canonical JSON form of the
+ * search. Entries expire sunbird_course_batch_search_cache_ttl_seconds after they are loaded and at
+ * most sunbird_course_batch_search_cache_size searches are kept. Every caller gets its own copy of
+ * the cached result.
+ *
+ * <p>Any write to the course batch index drops all the entries, since a new or updated batch can
+ * change the result of any search. A write only becomes visible to searches after the next index
+ * refresh, so results of searches started less than sunbird_es_refresh_interval_ms after the last
+ * write are returned without being cached.
+ *
+ * <p>The entries are only dropped on the node that wrote, other nodes keep serving them until they
+ * expire. The cache is therefore off unless a ttl is configured, which should only be done where
+ * batch search results that old are acceptable.
+ */
+public final class CourseBatchSearchCache {
+
+  private static final long DEFAULT_TTL_SECONDS = 0;
+  private static final long DEFAULT_SIZE = 1000;
+  private static final long DEFAULT_REFRESH_INTERVAL_MS = 1000;
+
+  private static final ObjectMapper mapper =
+      new ObjectMapper()
+          .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+          .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+  private static long ttl =
+      getConfigLong(JsonKey.SUNBIRD_COURSE_BATCH_SEARCH_CACHE_TTL, DEFAULT_TTL_SECONDS);
+  private static final long refreshIntervalNanos =
+      TimeUnit.MILLISECONDS.toNanos(
+          getConfigLong(JsonKey.SUNBIRD_ES_REFRESH_INTERVAL, DEFAULT_REFRESH_INTERVAL_MS));
+  private static final Cache<String, Map<String, Object>> cache =
+      CacheBuilder.newBuilder()
+          .expireAfterWrite(Math.max(ttl, 1), TimeUnit.SECONDS)
+          .maximumSize(getConfigLong(JsonKey.SUNBIRD_COURSE_BATCH_SEARCH_CACHE_SIZE, DEFAULT_SIZE))
+          .build();
+
+  // searches started before this nano time may not see the last write yet
+  private static volatile long cacheableFrom = System.nanoTime();
+
+  private CourseBatchSearchCache() {}
+
+  /**
+   * Returns the cached result of the search, running it when it is not cached. Nothing is cached
+   * when the search returns null.
+   *
+   * @param type index searched
+   * @param searchDto search to run
+   * @param loader runs the search on elastic search
+   * @return copy of the search result, or the loader result when it is null
+   */
+  public static Map<String, Object> search(
+      String type, SearchDTO searchDto, Supplier<Map<String, Object>> loader) {
+    String key = ttl <= 0 ? null : getKey(type, searchDto);
+    if (key == null) {
+      return loader.get();
+    }
+    long start = System.nanoTime();
+    Map<String, Object> result = cache.getIfPresent(key);
+    if (result == null) {
+      result = loader.get();
+      if (result == null || start - cacheableFrom < 0) {
+        return result;
+      }
+      cache.put(key, result);
+      // an index write may have happened while the search was running
+      if (start - cacheableFrom < 0) {
+        cache.invalidate(key);
+      }
+    }
+    return CourseMetadataCache.copyOf(result);
+  }
+
+  /** Drops all the cached results, to be called after every write to the course batch index. */
+  public static void invalidateAll() {
+    cacheableFrom = System.nanoTime() + refreshIntervalNanos;
+    cache.invalidateAll();
+  }
+
+  /** Drops all the cached results without waiting for an index refresh, e.g. between tests. */
+  public static void clear() {
+    cacheableFrom = System.nanoTime();
+    cache.invalidateAll();
+  }
+
+  static String getKey(String type, SearchDTO searchDto) {
+    try {
+      String search = mapper.writeValueAsString(searchDto);
+      return type + ":" + Hashing.sha256().hashString(search, StandardCharsets.UTF_8);
+    } catch (JsonProcessingException e) {
+      // a search that cannot be serialized is not cached
+      return null;
+    }
+  }
+
+  private static long getConfigLong(String key, long defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : defaultValue;
+  }
+}
@@ -56,6 +56,7 @@ public class CourseBatchUtil {
     Future<String> esResponseF =
         esUtil.save(requestContext, ProjectUtil.EsType.courseBatch.getTypeName(), uniqueId, req);
     String esResponse = (String) ElasticSearchHelper.getResponseFromFuture(esResponseF);
+    CourseBatchSearchCache.invalidateAll();
     logger.info(requestContext, "CourseBatchManagementActor::syncCourseBatchForeground: Sync response for course batch ID = "
             + uniqueId
             + " received response = "
@@ -66,7 +67,7 @@ public class CourseBatchUtil {
     Future<Map<String, Object>> resultF =
         esUtil.getDataByIdentifier(requestContext, EsType.courseBatch.getTypeName(), batchId);
     Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
     if (MapUtils.isEmpty(result)) {
       ProjectCommonException.throwClientErrorException(
           ResponseCode.CLIENT_ERROR, "No such batchId exists");
@@ -0,0 +1,121 @@
+package org.sunbird.learner.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.ProjectUtil;
+
+/**
+ * Shared cache of course and collection metadata fetched from the content and search services.
+ * Entries expire sunbird_course_metadata_cache_ttl_seconds after they are loaded and at most
+ * sunbird_course_metadata_cache_size courses are kept. Every caller gets its own copy of the
+ * cached metadata, so it can be modified freely. Entries of a course are dropped whenever the
+ * course is updated through this service, on this node only, so the metadata must not be used to
+ * compute values written back to the course.
+ */
+public final class CourseMetadataCache {
+
+  private static final long DEFAULT_TTL_SECONDS = 300;
+  private static final long DEFAULT_SIZE = 1000;
+
+  private static final long ttl =
+      getConfigLong(JsonKey.SUNBIRD_COURSE_METADATA_CACHE_TTL, DEFAULT_TTL_SECONDS);
+  private static final Cache<String, Map<String, Map<String, Object>>> cache =
+      CacheBuilder.newBuilder()
+          .expireAfterWrite(Math.max(ttl, 1), TimeUnit.SECONDS)
+          .maximumSize(getConfigLong(JsonKey.SUNBIRD_COURSE_METADATA_CACHE_SIZE, DEFAULT_SIZE))
+          .build();
+
+  // nano time of the last invalidation, loads started before it are not cached
+  private static volatile long lastInvalidation = System.nanoTime();
+
+  private CourseMetadataCache() {}
+
+  /**
+   * Returns the cached metadata of the course, loading it when it is not cached. Nothing is cached
+   * when the loader returns null or an empty map.
+   *
+   * @param courseId course or collection identifier
+   * @param variant identifies the kind of lookup, e.g. the requested fields
+   * @param loader fetches the metadata from the content or search service
+   * @return copy of the metadata, or the loader result when it is null or empty
+   */
+  public static Map<String, Object> get(
+      String courseId, String variant, Supplier<Map<String, Object>> loader) {
+    if (ttl <= 0 || StringUtils.isBlank(courseId)) {
+      return loader.get();
+    }
+    Map<String, Map<String, Object>> variants = cache.getIfPresent(courseId);
+    Map<String, Object> metadata = variants == null ? null : variants.get(variant);
+    if (metadata == null) {
+      long start = System.nanoTime();
+      metadata = loader.get();
+      if (metadata == null || metadata.isEmpty() || lastInvalidation - start >= 0) {
+        return metadata;
+      }
+      try {
+        cache.get(courseId, ConcurrentHashMap::new).put(variant, metadata);
+      } catch (ExecutionException e) {
+        // ConcurrentHashMap::new does not throw, the metadata is returned uncached otherwise
+      }
+      // the course may have been invalidated while the metadata was being put
+      if (lastInvalidation - start >= 0) {
+        cache.invalidate(courseId);
+      }
+    }
+    return copyOf(metadata);
+  }
+
+  /**
+   * Drops all the cached metadata of the course.
+   *
+   * @param courseId course or collection identifier
+   */
+  public static void invalidate(String courseId) {
+    if (StringUtils.isNotBlank(courseId)) {
+      lastInvalidation = System.nanoTime();
+      cache.invalidate(courseId);
+    }
+  }
+
+  /** Drops all the cached metadata. */
+  public static void invalidateAll() {
+    lastInvalidation = System.nanoTime();
+    cache.invalidateAll();
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> T copyOf(T value) {
+    if (value instanceof Map) {
+      Map<Object, Object> map = (Map<Object, Object>) value;
+      Map<Object, Object> copy = new HashMap<>(map.size() * 2);
+      for (Map.Entry<Object, Object> entry : map.entrySet()) {
+        copy.put(entry.getKey(), copyOf(entry.getValue()));
+      }
+      return (T) copy;
+    }
+    if (value instanceof List) {
+      List<Object> list = (List<Object>) value;
+      List<Object> copy = new ArrayList<>(list.size());
+      for (Object item : list) {
+        copy.add(copyOf(item));
+      }
+      return (T) copy;
+    }
+    return value;
+  }
+
+  private static long getConfigLong(String key, long defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : defaultValue;
+  }
+}
@@ -1,75 +1,269 @@
 /** */
 package org.sunbird.learner.util;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.CassandraPropertyReader;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.models.util.TableNameUtil;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.helper.ServiceFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * This class will handle the data cache.
+ * This class will handle the data cache. Each refresh scans only the id and update timestamp of
+ * every row, refetches the rows that changed since the previous refresh and swaps in a new
+ * snapshot, so readers never block and never see a partially refreshed map.
  *
  * @author Amit Kumar
  */
 public class DataCacheHandler implements Runnable {
+  private static final int FETCH_BATCH_SIZE = 100;
+  private static final String UPDATED_DATE_COLUMN = "updateddate";
+  private static final String CREATED_DATE_COLUMN = "createddate";
+
   /**
    * pageMap is the map of (orgId:pageName) and page Object (i.e map of string , object) sectionMap
    * is the map of section Id and section Object (i.e map of string , object)
    */
-  private static Map<String, Map<String, Object>> pageMap = new ConcurrentHashMap<>();
+  private static volatile Snapshot pageSnapshot = new Snapshot();
 
-  private static Map<String, Map<String, Object>> sectionMap = new ConcurrentHashMap<>();
+  private static volatile Snapshot sectionSnapshot = new Snapshot();
+  private static final AtomicLong version = new AtomicLong();
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private LoggerUtil logger = new LoggerUtil(DataCacheHandler.class);
-  
+
   @Override
   public void run() {
     logger.info(null, "DataCacheHandler:run: Cache refresh started.");
-    cache(pageMap, TableNameUtil.PAGE_MANAGEMENT_TABLENAME);
-    cache(sectionMap, TableNameUtil.PAGE_SECTION_TABLENAME);
-    logger.info(null, "DataCacheHandler:run: Cache refresh completed.");
+    synchronized (DataCacheHandler.class) {
+      pageSnapshot = cache(pageSnapshot, TableNameUtil.PAGE_MANAGEMENT_TABLENAME);
+      sectionSnapshot = cache(sectionSnapshot, TableNameUtil.PAGE_SECTION_TABLENAME);
+    }
+    logger.info(null, "DataCacheHandler:run: Cache refresh completed, version " + version.get());
   }
 
-  @SuppressWarnings("unchecked")
-  private void cache(Map<String, Map<String, Object>> map, String tableName) {
+  private Snapshot cache(Snapshot current, String tableName) {
     try {
-      Response response = cassandraOperation.getAllRecords(null, ProjectUtil.getConfigValue(JsonKey.SUNBIRD_KEYSPACE), tableName);
-      List<Map<String, Object>> responseList =
-          (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
-      if (null != responseList && !responseList.isEmpty()) {
-        for (Map<String, Object> resultMap : responseList) {
-          if (tableName.equalsIgnoreCase(JsonKey.PAGE_SECTION)) {
-            map.put((String) resultMap.get(JsonKey.ID), resultMap);
-          } else {
-            String orgId =
-                (((String) resultMap.get(JsonKey.ORGANISATION_ID)) == null
-                    ? "NA"
-                    : (String) resultMap.get(JsonKey.ORGANISATION_ID));
-            map.put(orgId + ":" + ((String) resultMap.get(JsonKey.PAGE_NAME)), resultMap);
-          }
-        }
+      String keyspace = ProjectUtil.getConfigValue(JsonKey.SUNBIRD_KEYSPACE);
+      Snapshot next;
+      if (current.stamps.isEmpty()) {
+        next = fullLoad(keyspace, tableName);
+      } else {
+        next = incrementalLoad(current, keyspace, tableName);
+      }
+      if (next != current) {
+        version.incrementAndGet();
       }
-      logger.debug(null, "pagemap keyset " + map.keySet());
-      logger.info(null, tableName + " cache size: " + map.size());
+      logger.debug(null, "pagemap keyset " + next.data.keySet());
+      logger.info(null, tableName + " cache size: " + next.data.size());
+      return next;
     } catch (Exception e) {
       logger.error(null, "DataCacheHandler:cache: Exception in retrieving page section " + e.getMessage(), e);
     }
+    return current;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Snapshot fullLoad(String keyspace, String tableName) {
+    Response response = cassandraOperation.getAllRecords(null, keyspace, tableName);
+    List<Map<String, Object>> responseList =
+        (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+    Snapshot snapshot = new Snapshot();
+    if (null != responseList) {
+      for (Map<String, Object> resultMap : responseList) {
+        snapshot.add(tableName, resultMap);
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * Compares the update timestamp of every row with the one cached for it and applies the changed
+   * and deleted rows on a copy of the current snapshot. Rows without any timestamp are always
+   * refetched. Falls back to a full load when most of the rows have changed.
+   */
+  @SuppressWarnings("unchecked")
+  private Snapshot incrementalLoad(Snapshot current, String keyspace, String tableName) {
+    Response response =
+        cassandraOperation.getAllRecords(
+            null,
+            keyspace,
+            tableName,
+            Arrays.asList(JsonKey.ID, UPDATED_DATE_COLUMN, CREATED_DATE_COLUMN));
+    List<Map<String, Object>> stampList =
+        (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+    if (null == stampList) {
+      return current;
+    }
+    Map<String, String> latestStamps = new HashMap<>();
+    List<String> changedIds = new ArrayList<>();
+    for (Map<String, Object> stampMap : stampList) {
+      String id = (String) stampMap.get(JsonKey.ID);
+      String stamp = stampOf(stampMap);
+      latestStamps.put(id, stamp);
+      if (stamp == null || !Objects.equals(stamp, current.stamps.get(id))) {
+        changedIds.add(id);
+      }
+    }
+    List<String> deletedIds = new ArrayList<>();
+    for (String id : current.stamps.keySet()) {
+      if (!latestStamps.containsKey(id)) {
+        deletedIds.add(id);
+      }
+    }
+    if (changedIds.isEmpty() && deletedIds.isEmpty()) {
+      return current;
+    }
+    if (changedIds.size() * 2 > latestStamps.size()) {
+      return fullLoad(keyspace, tableName);
+    }
+    Snapshot next = new Snapshot(current);
+    for (String id : deletedIds) {
+      next.remove(id);
+    }
+    for (int from = 0; from < changedIds.size(); from += FETCH_BATCH_SIZE) {
+      List<String> ids =
+          changedIds.subList(from, Math.min(from + FETCH_BATCH_SIZE, changedIds.size()));
+      Response changed =
+          cassandraOperation.getRecordsByProperty(
+              null, keyspace, tableName, JsonKey.ID, new ArrayList<>(ids), null);
+      List<Map<String, Object>> changedList =
+          (List<Map<String, Object>>) changed.get(JsonKey.RESPONSE);
+      if (CollectionUtils.isNotEmpty(changedList)) {
+        for (Map<String, Object> resultMap : changedList) {
+          next.remove((String) resultMap.get(JsonKey.ID));
+          next.add(tableName, resultMap);
+        }
+      }
+    }
+    logger.info(
+        null,
+        "DataCacheHandler:incrementalLoad: "
+            + tableName
+            + " changed "
+            + changedIds.size()
+            + " deleted "
+            + deletedIds.size());
+    return next;
+  }
+
+  private static String stampOf(Map<String, Object> resultMap) {
+    Object updatedDate = resultMap.get(propertyOf(UPDATED_DATE_COLUMN));
+    if (updatedDate == null) {
+      updatedDate = resultMap.get(propertyOf(CREATED_DATE_COLUMN));
+    }
+    return updatedDate == null ? null : String.valueOf(updatedDate);
+  }
+
+  private static String propertyOf(String column) {
+    return CassandraPropertyReader.getInstance().readProperty(column).trim();
+  }
+
+  private static String cacheKeyOf(String tableName, Map<String, Object> resultMap) {
+    if (tableName.equalsIgnoreCase(JsonKey.PAGE_SECTION)) {
+      return (String) resultMap.get(JsonKey.ID);
+    }
+    String orgId =
+        (((String) resultMap.get(JsonKey.ORGANISATION_ID)) == null
+            ? "NA"
+            : (String) resultMap.get(JsonKey.ORGANISATION_ID));
+    return orgId + ":" + ((String) resultMap.get(JsonKey.PAGE_NAME));
   }
 
   /** @return the pageMap */
   public static Map<String, Map<String, Object>> getPageMap() {
-    return pageMap;
+    return pageSnapshot.data;
   }
 
   /** @return the sectionMap */
   public static Map<String, Map<String, Object>> getSectionMap() {
-    return sectionMap;
+    return sectionSnapshot.data;
+  }
+
+  /**
+   * Serves a page written on this node until the next refresh reads it from the table. The entry
+   * is added to a copy of the snapshot, which is then swapped in.
+   *
+   * @param key orgId:pageName of the page
+   * @param page the page as written
+   */
+  public static void putPage(String key, Map<String, Object> page) {
+    synchronized (DataCacheHandler.class) {
+      pageSnapshot = pageSnapshot.with(key, page);
+    }
+  }
+
+  /**
+   * Serves a section written on this node until the next refresh reads it from the table, see
+   * {@link #putPage(String, Map)}.
+   *
+   * @param key id of the section
+   * @param section the section as written
+   */
+  public static void putSection(String key, Map<String, Object> section) {
+    synchronized (DataCacheHandler.class) {
+      sectionSnapshot = sectionSnapshot.with(key, section);
+    }
+  }
+
+  /** @return version of the cached data, incremented whenever a refresh swaps in a new snapshot */
+  public static long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Cached rows of one table along with the update timestamp and cache key of every row id. A
+   * snapshot is only changed before it is published.
+   */
+  private static class Snapshot {
+    private final Map<String, Map<String, Object>> data;
+    private final Map<String, String> stamps;
+    private final Map<String, String> keys;
+
+    private Snapshot() {
+      data = new ConcurrentHashMap<>();
+      stamps = new HashMap<>();
+      keys = new HashMap<>();
+    }
+
+    private Snapshot(Snapshot snapshot) {
+      data = new ConcurrentHashMap<>(snapshot.data);
+      stamps = new HashMap<>(snapshot.stamps);
+      keys = new HashMap<>(snapshot.keys);
+    }
+
+    /** @return a copy with the given entry, stamps are left to the next refresh */
+    private Snapshot with(String key, Map<String, Object> value) {
+      Snapshot next = new Snapshot(this);
+      next.data.put(key, value);
+      return next;
+    }
+
+    private void add(String tableName, Map<String, Object> resultMap) {
+      String id = (String) resultMap.get(JsonKey.ID);
+      String key = cacheKeyOf(tableName, resultMap);
+      data.put(key, resultMap);
+      stamps.put(id, stampOf(resultMap));
+      keys.put(id, key);
+    }
+
+    private void remove(String id) {
+      String key = keys.remove(id);
+      stamps.remove(id);
+      if (key != null) {
+        data.remove(key);
+      }
+    }
   }
 }
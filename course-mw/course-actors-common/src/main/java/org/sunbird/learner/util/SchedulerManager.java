@@ -3,15 +3,18 @@ package org.sunbird.learner.util;
 
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
 import org.sunbird.common.cacheloader.PageCacheLoaderService;
+import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerEnum;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectLogger;
+import org.sunbird.common.models.util.ProjectUtil;
 
 /** @author Manzarul All the scheduler job will be handle by this class. */
 public class SchedulerManager {
 
-  private static final int PAGE_DATA_TTL = 4;
+  private static final long PAGE_DATA_TTL = 240;
   private static LoggerUtil logger = new LoggerUtil(SchedulerManager.class);
 
   /*
@@ -21,9 +24,18 @@ public class SchedulerManager {
 
   /** all scheduler job will be configure here. */
   public static void schedule() {
-    service.scheduleWithFixedDelay(new DataCacheHandler(), 0, PAGE_DATA_TTL, TimeUnit.HOURS);
-    service.scheduleWithFixedDelay(new PageCacheLoaderService(), 0, PAGE_DATA_TTL, TimeUnit.HOURS);
+    long interval = getRefreshInterval();
+    service.scheduleWithFixedDelay(new DataCacheHandler(), 0, interval, TimeUnit.MINUTES);
+    // publishes the snapshots once DataCacheHandler has loaded them
+    service.scheduleWithFixedDelay(new PageCacheLoaderService(), 1, interval, TimeUnit.MINUTES);
     logger.info(null, 
         "SchedulerManager:schedule: Started scheduler job for cache refresh.");
   }
+
+  private static long getRefreshInterval() {
+    String interval = ProjectUtil.getConfigValue(JsonKey.PAGE_CACHE_REFRESH_INTERVAL);
+    return StringUtils.isNumeric(interval) && Long.parseLong(interval) > 0
+        ? Long.parseLong(interval)
+        : PAGE_DATA_TTL;
+  }
 }
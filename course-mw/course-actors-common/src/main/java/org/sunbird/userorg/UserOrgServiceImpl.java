@@ -9,6 +9,7 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.HttpUtil;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.request.RequestContext;
@@ -82,10 +83,10 @@ public class UserOrgServiceImpl implements UserOrgService {
       String reqBody = mapper.writeValueAsString(requestMap);
       logger.info(null, "UserOrgServiceImpl:getResponse:Sending Request Body=" + reqBody);
       if (HttpMethod.POST.equals(requestType)) {
-        httpResponse = Unirest.post(requestUrl).headers(headers).body(reqBody).asString();
+        httpResponse = HttpUtil.asString(Unirest.post(requestUrl).headers(headers).body(reqBody));
       }
       if (HttpMethod.GET.equals(requestType)) {
-        httpResponse = Unirest.get(requestUrl).headers(headers).asString();
+        httpResponse = HttpUtil.asString(Unirest.get(requestUrl).headers(headers));
       }
       logger.info(null, 
           "UserOrgServiceImpl:getResponse Response Status : "
@@ -0,0 +1,94 @@
+package org.sunbird.actor.dispatcher;
+
+import akka.actor.ActorSystem;
+import akka.dispatch.MessageDispatcher;
+import com.typesafe.config.ConfigFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.learner.actors.search.SearchHandlerActor;
+
+public class AdaptiveThreadPoolExecutorTest {
+
+  private AdaptiveThreadPoolExecutor executor;
+
+  @Before
+  public void setup() {
+    executor =
+        new AdaptiveThreadPoolExecutor(
+            "test-dispatcher",
+            2,
+            8,
+            60000,
+            new LinkedBlockingQueue<>(),
+            Executors.defaultThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void growWhenBusyAndQueuedTest() {
+    Assert.assertEquals(4, executor.nextPoolSize(2, 0.9, 10));
+    Assert.assertEquals(8, executor.nextPoolSize(6, 0.9, 10));
+    Assert.assertEquals(3, executor.nextPoolSize(2, 0.9, 1));
+  }
+
+  @Test
+  public void shrinkWhenIdleTest() {
+    Assert.assertEquals(5, executor.nextPoolSize(6, 0.1, 0));
+    Assert.assertEquals(2, executor.nextPoolSize(2, 0.0, 0));
+  }
+
+  @Test
+  public void keepSizeTest() {
+    Assert.assertEquals(4, executor.nextPoolSize(4, 0.5, 0));
+    Assert.assertEquals(4, executor.nextPoolSize(4, 0.5, 3));
+  }
+
+  @Test
+  public void resizeTest() {
+    executor.resize();
+    Assert.assertEquals(2, executor.getCorePoolSize());
+  }
+
+  @Test
+  public void dispatcherConfigTest() {
+    Assert.assertEquals(
+        IOClass.ELASTICSEARCH.getDispatcher(),
+        ActorDispatchers.getDispatcher(SearchHandlerActor.class));
+    Assert.assertNull(ActorDispatchers.getDispatcher(Object.class));
+    ActorSystem system =
+        ActorSystem.create(
+            "dispatchers",
+            ConfigFactory.parseString(
+                IOClass.CASSANDRA.getDispatcher()
+                    + " {\n"
+                    + "  type = Dispatcher\n"
+                    + "  executor = \""
+                    + AdaptiveThreadPoolConfigurator.class.getName()
+                    + "\"\n"
+                    + "  adaptive-pool-executor {\n"
+                    + "    min-pool-size = 2\n"
+                    + "    max-pool-size = 8\n"
+                    + "    task-queue-size = -1\n"
+                    + "    resize-interval = 5000\n"
+                    + "  }\n"
+                    + "}\n"));
+    try {
+      MessageDispatcher dispatcher =
+          system.dispatchers().lookup(IOClass.CASSANDRA.getDispatcher());
+      Assert.assertNotNull(dispatcher);
+      dispatcher.execute(() -> {});
+    } finally {
+      system.terminate();
+    }
+  }
+}
@@ -55,6 +55,7 @@ import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.actors.coursebatch.dao.UserCoursesDao;
 import org.sunbird.learner.actors.coursebatch.dao.impl.UserCoursesDaoImpl;
 import org.sunbird.learner.actors.search.SearchHandlerActor;
+import org.sunbird.learner.util.CourseBatchSearchCache;
 import scala.concurrent.Promise;
 
 @RunWith(PowerMockRunner.class)
@@ -89,6 +90,7 @@ public class SearchHandlerActorTest {
 
   @Before
   public void beforeTest() throws Exception {
+    CourseBatchSearchCache.clear();
     PowerMockito.mockStatic(EsClientFactory.class);
     esService = mock(ElasticSearchRestHighImpl.class);
     when(EsClientFactory.getInstance(Mockito.anyString())).thenReturn(esService);
@@ -109,6 +111,7 @@ public class SearchHandlerActorTest {
     mockStatic(HttpUtil.class);
     String body = "{\"id\":\"api.user.search\",\"ver\":\"v1\",\"ts\":\"2020-04-15 14:59:51:094+0000\",\"params\":{\"resmsgid\":null,\"msgid\":null,\"err\":null,\"status\":\"success\",\"errmsg\":null},\"responseCode\":\"OK\",\"result\":{\"response\":{\"count\":1,\"content\":[{\"lastName\":\"User\",\"firstName\":\"Reviewer\",\"id\":\"95e4942d-cbe8-477d-aebd-ad8e6de4bfc8\"}]}}}";
     when(HttpUtil.doPostRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap())).thenReturn(new HttpUtilResponse(body, 200));
+    when(HttpUtil.asString(Mockito.any())).thenCallRealMethod();
   }
 
   private static Response getRecordByPropertyResponse() {
@@ -47,6 +47,7 @@ public class QRCodeDownloadManagerTest {
         PowerMockito.when(ProjectUtil.getConfigValue(Mockito.anyString())).thenReturn("");
         String qrImageListAPIResponse = "{\"id\": \"sunbird.dialcode.images.list\",\"ver\": \"3.0\",\"ts\": \"2023-02-01T12:16:52Z+05:30\",\"params\": {\"resmsgid\": \"505bce18-1feb-44c3-91c3-07b8324de4f9\",\"msgid\": null,\"err\": null,\"status\": \"successful\",\"errmsg\": null},\"responseCode\": \"OK\",\"result\": {\"count\": 1, \"dialcodes\": [{ \"dialcode_index\": 14711964,\"identifier\": \"F6A5C7\",\"imageUrl\": \"https://sunbirddevbbpublic.blob.core.windows.net/dial/01309282781705830427//4_F6A5C7.png\", \"channel\": \"01309282781705830427\",\"batchcode\": \"do_21373837923890790415\",\"generated_on\": \"2023-02-22T06:44:48.449+0000\",\"objectType\": \"DialCode\",\"status\": \"Draft\"}]}}";
         PowerMockito.when(HttpUtil.sendPostRequest(Mockito.anyString(),Mockito.anyString(),Mockito.anyMap())).thenReturn(qrImageListAPIResponse);
+        PowerMockito.when(HttpUtil.asString(Mockito.any())).thenCallRealMethod();
     }
 
     private void mockSearchResponse() throws UnirestException {
@@ -113,6 +114,18 @@ public class QRCodeDownloadManagerTest {
 
     }
 
+    @Test
+    public void getQRImagesInChunksTest() throws Exception {
+        Set<String> dialcodes = new HashSet();
+        for (int i = 0; i < 250; i++) {
+            dialcodes.add("DIAL" + i);
+        }
+        Map<String, String> qrCodeImageURLObjs = downloadManager.getQRCodeImageURLs(dialcodes, "sunbird");
+        Assert.assertEquals("https://sunbirddevbbpublic.blob.core.windows.net/dial/01309282781705830427//4_F6A5C7.png", qrCodeImageURLObjs.get("F6A5C7"));
+        PowerMockito.verifyStatic(HttpUtil.class, Mockito.times(3));
+        HttpUtil.sendPostRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap());
+    }
+
 
 
 }
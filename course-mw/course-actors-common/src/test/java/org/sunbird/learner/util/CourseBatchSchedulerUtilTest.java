@@ -2,17 +2,22 @@ package org.sunbird.learner.util;
 
 import akka.dispatch.Futures;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.builder.mocker.CassandraMocker;
 import org.sunbird.builder.mocker.ESMocker;
 import org.sunbird.builder.mocker.MockerBuilder;
@@ -46,6 +51,9 @@ public class CourseBatchSchedulerUtilTest {
             .withCassandraMock(new CassandraMocker())
             .andStaticMock(HttpUtil.class)
             .andStaticMock(ContentUtil.class);
+    CourseMetadataCache.invalidateAll();
+    Whitebox.setInternalState(
+        CourseBatchSchedulerUtil.class, "esService", group.getESMockerService());
   }
 
   @Test
@@ -122,8 +130,8 @@ public class CourseBatchSchedulerUtilTest {
     PowerMockito.when(
             group
                 .getESMockerService()
-                .update(Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.anyMap()))
-        .thenReturn(Futures.successful(true));
+                .bulkUpdate(Mockito.any(), Mockito.anyString(), Mockito.anyList()))
+        .thenReturn(Futures.successful(Arrays.asList((String) courseBatch.get(JsonKey.ID))));
     PowerMockito.when(
             group
                 .getCassandraMockerService()
@@ -132,5 +140,61 @@ public class CourseBatchSchedulerUtilTest {
     CourseBatchSchedulerUtil.updateCourseBatchDbStatus(courseBatch, true, null);
     PowerMockito.verifyStatic(ContentUtil.class);
     ContentUtil.searchContent(Mockito.anyString(), Mockito.anyMap());
+    Mockito.verify(group.getCassandraMockerService())
+        .updateRecord(Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.eq(courseBatch));
+    Mockito.verify(group.getESMockerService())
+        .bulkUpdate(Mockito.any(), Mockito.anyString(), Mockito.anyList());
+  }
+
+  @Test
+  public void updateCourseBatchesDbStatusSuccessTest() throws IOException {
+    List<Map<String, Object>> courseBatches = new ArrayList<>();
+    for (String batchId : Arrays.asList("batch1", "batch2", "batch3")) {
+      Map<String, Object> courseBatch = new HashMap<>();
+      courseBatch.put(JsonKey.ID, batchId);
+      courseBatch.put(JsonKey.COURSE_ID, "randomCourseId");
+      courseBatch.put(JsonKey.ENROLLMENT_TYPE, ProjectUtil.EnrolmentType.open.getVal());
+      courseBatch.put(JsonKey.STATUS, 1);
+      courseBatches.add(courseBatch);
+    }
+    PowerMockito.when(ContentUtil.searchContent(Mockito.anyString(), Mockito.anyMap()))
+        .thenReturn(CustomObjectBuilder.getRandomCourse().get());
+    PowerMockito.when(
+            HttpUtil.sendPatchRequest(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap()))
+        .thenReturn(JsonKey.SUCCESS);
+    PowerMockito.when(
+            group
+                .getESMockerService()
+                .bulkUpdate(Mockito.any(), Mockito.anyString(), Mockito.anyList()))
+        .thenReturn(Futures.successful(Arrays.asList("batch1", "batch3")));
+    PowerMockito.when(
+            group
+                .getCassandraMockerService()
+                .updateRecord(Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.anyMap()))
+        .thenReturn(new Response());
+    PowerMockito.when(
+            group
+                .getCassandraMockerService()
+                .updateRecord(
+                    Mockito.any(),
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.eq(courseBatches.get(1))))
+        .thenThrow(new RuntimeException("write timeout"));
+    CourseBatchSchedulerUtil.updateCourseBatchesDbStatus(courseBatches, true, null);
+
+    // one batch count update for the course, with the count of all its batches
+    ArgumentCaptor<String> patch = ArgumentCaptor.forClass(String.class);
+    PowerMockito.verifyStatic(HttpUtil.class, Mockito.times(1));
+    HttpUtil.sendPatchRequest(Mockito.anyString(), patch.capture(), Mockito.anyMap());
+    Assert.assertTrue(patch.getValue().contains("_open_batch_count\": 3"));
+    Mockito.verify(group.getCassandraMockerService(), Mockito.times(3))
+        .updateRecord(Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.anyMap());
+    // only the batches saved to cassandra are written to ES
+    Mockito.verify(group.getESMockerService(), Mockito.times(1))
+        .bulkUpdate(
+            Mockito.any(),
+            Mockito.anyString(),
+            Mockito.eq(Arrays.asList(courseBatches.get(0), courseBatches.get(2))));
   }
 }
@@ -0,0 +1,99 @@
+package org.sunbird.learner.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.dto.SearchDTO;
+
+public class CourseBatchSearchCacheTest {
+
+  private AtomicInteger loads;
+
+  @Before
+  public void setup() {
+    Whitebox.setInternalState(CourseBatchSearchCache.class, "ttl", 30L);
+    CourseBatchSearchCache.clear();
+    loads = new AtomicInteger();
+  }
+
+  private Map<String, Object> load() {
+    loads.incrementAndGet();
+    List<Map<String, Object>> content = new ArrayList<>();
+    Map<String, Object> batch = new HashMap<>();
+    batch.put(JsonKey.BATCH_ID, "0123");
+    content.add(batch);
+    Map<String, Object> result = new HashMap<>();
+    result.put(JsonKey.CONTENT, content);
+    return result;
+  }
+
+  private static SearchDTO search(String... batchIds) {
+    SearchDTO dto = new SearchDTO();
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.STATUS, 1);
+    filters.put(JsonKey.BATCH_ID, Arrays.asList(batchIds));
+    dto.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    return dto;
+  }
+
+  @Test
+  public void getCachedCopyTest() {
+    Map<String, Object> first = CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    ((List<Object>) first.get(JsonKey.CONTENT)).clear();
+    Map<String, Object> second = CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    Assert.assertEquals(1, loads.get());
+    Assert.assertEquals(1, ((List<Object>) second.get(JsonKey.CONTENT)).size());
+    CourseBatchSearchCache.search("course-batch", search("0124"), this::load);
+    Assert.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void canonicalKeyTest() {
+    SearchDTO dto = search("0123");
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.BATCH_ID, Arrays.asList("0123"));
+    filters.put(JsonKey.STATUS, 1);
+    SearchDTO sameSearch = new SearchDTO();
+    sameSearch.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    Assert.assertEquals(
+        CourseBatchSearchCache.getKey("course-batch", dto),
+        CourseBatchSearchCache.getKey("course-batch", sameSearch));
+    dto.setLimit(1);
+    Assert.assertNotEquals(
+        CourseBatchSearchCache.getKey("course-batch", dto),
+        CourseBatchSearchCache.getKey("course-batch", sameSearch));
+  }
+
+  @Test
+  public void invalidateAllTest() {
+    CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    CourseBatchSearchCache.invalidateAll();
+    CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    // not cached until the index is refreshed
+    CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    Assert.assertEquals(3, loads.get());
+  }
+
+  @Test
+  public void noTtlNotCachedTest() {
+    Whitebox.setInternalState(CourseBatchSearchCache.class, "ttl", 0L);
+    CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    Assert.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void nullResultNotCachedTest() {
+    Assert.assertNull(CourseBatchSearchCache.search("course-batch", search("0123"), () -> null));
+    CourseBatchSearchCache.search("course-batch", search("0123"), this::load);
+    Assert.assertEquals(1, loads.get());
+  }
+}
@@ -0,0 +1,69 @@
+package org.sunbird.learner.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CourseMetadataCacheTest {
+
+  private AtomicInteger loads;
+
+  @Before
+  public void setup() {
+    CourseMetadataCache.invalidateAll();
+    loads = new AtomicInteger();
+  }
+
+  private Map<String, Object> load() {
+    loads.incrementAndGet();
+    Map<String, Object> course = new HashMap<>();
+    course.put("identifier", "do_123");
+    course.put("batches", new ArrayList<>());
+    return course;
+  }
+
+  @Test
+  public void getCachedCopyTest() {
+    Map<String, Object> first = CourseMetadataCache.get("do_123", "search", this::load);
+    ((List<Object>) first.get("batches")).add("batch1");
+    Map<String, Object> second = CourseMetadataCache.get("do_123", "search", this::load);
+    Assert.assertEquals(1, loads.get());
+    Assert.assertTrue(((List<Object>) second.get("batches")).isEmpty());
+    CourseMetadataCache.get("do_123", "read:status", this::load);
+    Assert.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void invalidateTest() {
+    CourseMetadataCache.get("do_123", "search", this::load);
+    CourseMetadataCache.invalidate("do_123");
+    CourseMetadataCache.get("do_123", "search", this::load);
+    Assert.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void emptyResultNotCachedTest() {
+    Assert.assertNull(CourseMetadataCache.get("do_123", "search", () -> null));
+    CourseMetadataCache.get("do_123", "search", this::load);
+    Assert.assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void loadRacingInvalidationNotCachedTest() {
+    CourseMetadataCache.get(
+        "do_123",
+        "search",
+        () -> {
+          Map<String, Object> course = load();
+          CourseMetadataCache.invalidate("do_123");
+          return course;
+        });
+    CourseMetadataCache.get("do_123", "search", this::load);
+    Assert.assertEquals(2, loads.get());
+  }
+}
@@ -1,5 +1,10 @@
 package org.sunbird.learner.util;
 
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -9,9 +14,11 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.builder.mocker.CassandraMocker;
 import org.sunbird.builder.mocker.MockerBuilder;
 import org.sunbird.builder.object.CustomObjectBuilder;
+import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.helper.ServiceFactory;
 
 @RunWith(PowerMockRunner.class)
@@ -22,8 +29,13 @@ public class DataCacheHandlerTest {
   private static MockerBuilder.MockersGroup group;
 
   @Before
-  public void setup() {
+  public void setup() throws Exception {
     group = MockerBuilder.getFreshMockerGroup().withCassandraMock(new CassandraMocker());
+    Constructor<?> snapshot =
+        Class.forName(DataCacheHandler.class.getName() + "$Snapshot").getDeclaredConstructor();
+    snapshot.setAccessible(true);
+    Whitebox.setInternalState(DataCacheHandler.class, "pageSnapshot", snapshot.newInstance());
+    Whitebox.setInternalState(DataCacheHandler.class, "sectionSnapshot", snapshot.newInstance());
   }
 
   @Test
@@ -45,4 +57,75 @@ public class DataCacheHandlerTest {
     Assert.assertEquals(10, cacheHandler.getPageMap().size());
     Assert.assertEquals(4, cacheHandler.getSectionMap().size());
   }
+
+  @Test
+  public void sectionIncrementalRefreshTest() {
+    List<Map<String, Object>> sections = CustomObjectBuilder.getRandomPageSections(4).get();
+    for (Map<String, Object> section : sections) {
+      section.put("oldUpdatedDate", "2020-01-01 00:00:00:000+0000");
+    }
+    PowerMockito.when(
+            group
+                .getCassandraMockerService()
+                .getAllRecords(Mockito.any(), Mockito.anyString(), Mockito.eq("page_section")))
+        .thenReturn(new CustomObjectBuilder.CustomObjectWrapper<>(sections).asCassandraResponse());
+    DataCacheHandler cacheHandler = new DataCacheHandler();
+    cacheHandler.run();
+    long version = DataCacheHandler.getVersion();
+    Map<String, Map<String, Object>> loaded = DataCacheHandler.getSectionMap();
+
+    Map<String, Object> changed = new HashMap<>(sections.get(0));
+    changed.put("oldUpdatedDate", "2020-01-02 00:00:00:000+0000");
+    changed.put(JsonKey.STATUS, 0);
+    List<Map<String, Object>> stamps =
+        Arrays.asList(stampOf(changed), stampOf(sections.get(1)), stampOf(sections.get(2)));
+    PowerMockito.when(
+            group
+                .getCassandraMockerService()
+                .getAllRecords(
+                    Mockito.any(),
+                    Mockito.anyString(),
+                    Mockito.eq("page_section"),
+                    Mockito.anyList()))
+        .thenReturn(new CustomObjectBuilder.CustomObjectWrapper<>(stamps).asCassandraResponse());
+    PowerMockito.when(
+            group
+                .getCassandraMockerService()
+                .getRecordsByProperty(
+                    Mockito.any(),
+                    Mockito.anyString(),
+                    Mockito.eq("page_section"),
+                    Mockito.eq(JsonKey.ID),
+                    Mockito.eq(Arrays.asList("randomSectionId1")),
+                    Mockito.any()))
+        .thenReturn(
+            new CustomObjectBuilder.CustomObjectWrapper<>(Arrays.asList(changed))
+                .asCassandraResponse());
+    cacheHandler.run();
+
+    Assert.assertTrue(DataCacheHandler.getVersion() > version);
+    Assert.assertNotSame(loaded, DataCacheHandler.getSectionMap());
+    Assert.assertEquals(4, loaded.size());
+    Assert.assertEquals(3, DataCacheHandler.getSectionMap().size());
+    Assert.assertEquals(0, DataCacheHandler.getSectionMap().get("randomSectionId1").get(JsonKey.STATUS));
+    Assert.assertNull(DataCacheHandler.getSectionMap().get("randomSectionId4"));
+  }
+
+  @Test
+  public void putPageSwapsSnapshotTest() {
+    Map<String, Map<String, Object>> before = DataCacheHandler.getPageMap();
+    Map<String, Object> page = new HashMap<>();
+    page.put(JsonKey.ID, "randomPageId");
+    DataCacheHandler.putPage("NA:randomPage", page);
+
+    Assert.assertTrue(before.isEmpty());
+    Assert.assertSame(page, DataCacheHandler.getPageMap().get("NA:randomPage"));
+  }
+
+  private Map<String, Object> stampOf(Map<String, Object> section) {
+    Map<String, Object> stamp = new HashMap<>();
+    stamp.put(JsonKey.ID, section.get(JsonKey.ID));
+    stamp.put("oldUpdatedDate", section.get("oldUpdatedDate"));
+    return stamp;
+  }
 }
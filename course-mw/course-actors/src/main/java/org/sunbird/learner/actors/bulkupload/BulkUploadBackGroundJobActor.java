@@ -12,6 +12,8 @@ import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
@@ -21,6 +23,7 @@ import org.sunbird.common.models.util.*;
 import org.sunbird.common.models.util.ProjectUtil.EsType;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.actors.coursebatch.dao.UserCoursesDao;
@@ -38,6 +41,7 @@ import scala.concurrent.Future;
  *
  * @author Amit Kumar
  */
+@IOBound(IOClass.CASSANDRA)
 public class BulkUploadBackGroundJobActor extends BaseActor {
 
   private String processId = "";
@@ -105,7 +109,7 @@ public class BulkUploadBackGroundJobActor extends BaseActor {
       Future<Map<String, Object>> resultF =
           esService.getDataByIdentifier(requestContext, ProjectUtil.EsType.courseBatch.getTypeName(), batchId);
       Map<String, Object> courseBatchObject =
-          (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+          (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
       String msg = validateBatchInfo(courseBatchObject);
       if (msg.equals(JsonKey.SUCCESS)) {
         try {
@@ -258,7 +262,7 @@ public class BulkUploadBackGroundJobActor extends BaseActor {
   }
 
   private void insertUserCoursesToES(RequestContext requestContext, Map<String, Object> courseMap) {
-    Request request = new Request(requestContext);
+    Request request = new Request(RequestDeadline.detach(requestContext));
     request.setOperation(ActorOperations.INSERT_USR_COURSES_INFO_ELASTIC.getValue());
     request.getRequest().put(JsonKey.USER_COURSES, courseMap);
     try {
@@ -269,7 +273,7 @@ public class BulkUploadBackGroundJobActor extends BaseActor {
   }
 
   private void updateUserCoursesToES(RequestContext requestContext, Map<String, Object> courseMap) {
-    Request request = new Request(requestContext);
+    Request request = new Request(RequestDeadline.detach(requestContext));
     request.setOperation(ActorOperations.UPDATE_USR_COURSES_INFO_ELASTIC.getValue());
     request.getRequest().put(JsonKey.USER_COURSES, courseMap);
     try {
@@ -2,6 +2,8 @@ package org.sunbird.learner.actors.bulkupload;
 
 import akka.actor.ActorRef;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
@@ -13,6 +15,7 @@ import org.sunbird.common.models.util.PropertiesCache;
 import org.sunbird.common.models.util.TelemetryEnvKey;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.common.util.CloudStorageUtil;
 import org.sunbird.helper.ServiceFactory;
@@ -36,6 +39,7 @@ import java.util.Map;
  *
  * @author Amit Kumar
  */
+@IOBound(IOClass.CASSANDRA)
 public class BulkUploadManagementActor extends BaseBulkUploadActor {
 
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
@@ -267,7 +271,7 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
     sender().tell(res, self());
     if (((String) res.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
       // send processId for data processing to background job
-      Request request = new Request(requestContext);
+      Request request = new Request(RequestDeadline.detach(requestContext));
       request.put(JsonKey.PROCESS_ID, processId);
       request.setOperation(ActorOperations.PROCESS_BULK_UPLOAD.getValue());
       bulkUploadBackGroundJobActorRef.tell(request, getSelf());
@@ -6,6 +6,8 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
@@ -19,6 +21,7 @@ import org.sunbird.common.models.util.PropertiesCache;
 import org.sunbird.common.models.util.TelemetryEnvKey;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.common.util.JsonUtil;
 import org.sunbird.learner.actors.coursebatch.dao.CourseBatchDao;
@@ -52,6 +55,7 @@ import java.util.stream.Collectors;
 import static org.sunbird.common.models.util.JsonKey.ID;
 import static org.sunbird.common.models.util.JsonKey.PARTICIPANTS;
 
+@IOBound(IOClass.CASSANDRA)
 public class CourseBatchManagementActor extends BaseActor {
 
   private CourseBatchDao courseBatchDao = new CourseBatchDaoImpl();
@@ -123,6 +127,8 @@ public class CourseBatchManagementActor extends BaseActor {
     CourseBatchUtil.syncCourseBatchForeground(actorMessage.getRequestContext(),
         courseBatchId, esCourseMap);
     sender().tell(result, self());
+    // the caller has its answer, the course update below must not be cut off at the deadline
+    RequestDeadline.bind(RequestDeadline.detach(actorMessage.getRequestContext()));
 
     targetObject =
         TelemetryUtil.generateTargetObject(
@@ -150,7 +156,8 @@ public class CourseBatchManagementActor extends BaseActor {
 
   private void batchOperationNotifier(Request actorMessage, CourseBatch courseBatch, Map<String, Object> participantMentorMap) {
     logger.debug(actorMessage.getRequestContext(), "CourseBatchManagementActor: batchoperationNotifier called");
-    Request batchNotification = new Request(actorMessage.getRequestContext());
+    Request batchNotification =
+        new Request(RequestDeadline.detach(actorMessage.getRequestContext()));
     batchNotification.getContext().putAll(actorMessage.getContext());
     batchNotification.setOperation(ActorOperations.COURSE_BATCH_NOTIFICATION.getValue());
     Map<String, Object> batchNotificationMap = new HashMap<>();
@@ -209,6 +216,8 @@ public class CourseBatchManagementActor extends BaseActor {
         courseBatchDao.update(actorMessage.getRequestContext(), (String) request.get(JsonKey.COURSE_ID), batchId, courseBatchMap);
     CourseBatch updatedCourseObject = mapESFieldsToObject(courseBatch);
     sender().tell(result, self());
+    // the caller has its answer, the updates below must not be cut off at the deadline
+    RequestDeadline.bind(RequestDeadline.detach(actorMessage.getRequestContext()));
     Map<String, Object> esCourseMap = CourseBatchUtil.esCourseMapping(updatedCourseObject, dateFormat);
 
     CourseBatchUtil.syncCourseBatchForeground(actorMessage.getRequestContext(), batchId, esCourseMap);
@@ -285,7 +294,7 @@ public class CourseBatchManagementActor extends BaseActor {
                 actorMessage.getRequestContext(), ProjectUtil.EsType.courseBatch.getTypeName(),
             (String) actorMessage.getContext().get(JsonKey.BATCH_ID));
     Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
     if (result.containsKey(JsonKey.COURSE_ID))
       result.put(JsonKey.COLLECTION_ID, result.getOrDefault(JsonKey.COURSE_ID, ""));
     Response response = new Response();
@@ -3,6 +3,8 @@ package org.sunbird.learner.actors.coursebatch;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.sunbird.actor.base.BaseActor;
+import org.sunbird.actor.dispatcher.IOBound;
+import org.sunbird.actor.dispatcher.IOClass;
 import org.sunbird.common.models.util.ActorOperations;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
@@ -13,9 +15,8 @@ import org.sunbird.common.util.JsonUtil;
 import org.sunbird.learner.util.ContentUtil;
 import org.sunbird.learner.util.CourseBatchSchedulerUtil;
 import org.sunbird.models.course.batch.CourseBatch;
-import org.sunbird.userorg.UserOrgService;
-import org.sunbird.userorg.UserOrgServiceImpl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -23,15 +24,16 @@ import java.util.Map;
 
 /**
  * Actor responsible to sending email notifications to participants and mentors in open and
- * invite-only batches.
+ * invite-only batches. Recipients sharing a template are notified in bulk requests, which are
+ * sent by {@link CourseBatchNotificationDispatcher}.
  */
+@IOBound(IOClass.HTTP)
 public class CourseBatchNotificationActor extends BaseActor {
   private static String courseBatchNotificationSignature =
       PropertiesCache.getInstance()
           .getProperty(JsonKey.SUNBIRD_COURSE_BATCH_NOTIFICATION_SIGNATURE);
   private static String baseUrl =
       PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_WEB_URL);
-  private UserOrgService userOrgService = UserOrgServiceImpl.getInstance();
 
   @Override
   public void onReceive(Request request) throws Throwable {
@@ -59,6 +61,7 @@ public class CourseBatchNotificationActor extends BaseActor {
     Map<String, String> headers = CourseBatchSchedulerUtil.headerMap;
     Map<String, Object> contentDetails =
         ContentUtil.getCourseObjectFromEkStep(courseBatch.getCourseId(), headers);
+    Map<String, Object> batchDetails = createBatchDetails(courseBatch, contentDetails);
 
     if (userId != null) {
       logger.info(request.getRequestContext(), "CourseBatchNotificationActor:courseBatchNotification: Open batch");
@@ -75,7 +78,7 @@ public class CourseBatchNotificationActor extends BaseActor {
       }
 
       triggerEmailNotification( request.getRequestContext(), 
-          Arrays.asList(userId), courseBatch, subject, template, contentDetails, authToken);
+          Arrays.asList(userId), batchDetails, subject, template, authToken);
 
     } else {
       logger.info(request.getRequestContext(), "CourseBatchNotificationActor:courseBatchNotification: Invite only batch");
@@ -85,16 +88,16 @@ public class CourseBatchNotificationActor extends BaseActor {
 
       triggerEmailNotification(
               request.getRequestContext(), addedMentors,
-          courseBatch,
+          batchDetails,
           JsonKey.COURSE_INVITATION,
           JsonKey.BATCH_MENTOR_ENROL,
-          contentDetails, authToken);
+          authToken);
       triggerEmailNotification(
               request.getRequestContext(), removedMentors,
-          courseBatch,
+          batchDetails,
           JsonKey.UNENROLL_FROM_COURSE_BATCH,
           JsonKey.BATCH_MENTOR_UNENROL,
-          contentDetails, authToken);
+          authToken);
 
       List<String> addedParticipants = (List<String>) requestMap.get(JsonKey.ADDED_PARTICIPANTS);
       List<String> removedParticipants =
@@ -102,67 +105,84 @@ public class CourseBatchNotificationActor extends BaseActor {
 
       triggerEmailNotification(
               request.getRequestContext(), addedParticipants,
-          courseBatch,
+          batchDetails,
           JsonKey.COURSE_INVITATION,
           JsonKey.BATCH_LEARNER_ENROL,
-          contentDetails, authToken);
+          authToken);
       triggerEmailNotification(
               request.getRequestContext(), removedParticipants,
-          courseBatch,
+          batchDetails,
           JsonKey.UNENROLL_FROM_COURSE_BATCH,
           JsonKey.BATCH_LEARNER_UNENROL,
-          contentDetails, authToken);
+          authToken);
     }
   }
 
   private void triggerEmailNotification(
           RequestContext requestContext, List<String> userIdList,
-          CourseBatch courseBatch,
+          Map<String, Object> batchDetails,
           String subject,
           String template,
-          Map<String, Object> contentDetails, String authToken) throws Exception {
+          String authToken) {
 
     logger.debug(requestContext, "CourseBatchNotificationActor:triggerEmailNotification: userIdList = "
             + userIdList);
 
     if (CollectionUtils.isEmpty(userIdList)) return;
 
-    for (String userId : userIdList) {
+    int recipientsLimit = CourseBatchNotificationDispatcher.getRecipientsLimit();
+    for (int from = 0; from < userIdList.size(); from += recipientsLimit) {
+      List<String> recipients =
+          new ArrayList<>(
+              userIdList.subList(from, Math.min(from + recipientsLimit, userIdList.size())));
       Map<String, Object> requestMap =
-          createEmailRequest(userId, courseBatch, contentDetails, subject, template);
+          createEmailRequest(recipients, batchDetails, subject, template);
 
-      logger.info(requestContext, "CourseBatchNotificationActor:triggerEmailNotification: requestMap = " + requestMap);
-      sendMail(requestContext, requestMap, authToken);
+      logger.info(requestContext, "CourseBatchNotificationActor:triggerEmailNotification: template = "
+              + template + ", recipients = " + recipients.size());
+      CourseBatchNotificationDispatcher.dispatch(requestContext, requestMap, authToken);
     }
   }
 
+  /**
+   * Builds the template fields which are common to all the notifications of a batch
+   *
+   * @param courseBatch
+   * @param contentDetails
+   * @return
+   */
   @SuppressWarnings("unchecked")
-  private Map<String, Object> createEmailRequest(
-      String userId,
-      CourseBatch courseBatch,
-      Map<String, Object> contentDetails,
-      String subject,
-      String template) throws Exception {
+  private Map<String, Object> createBatchDetails(
+      CourseBatch courseBatch, Map<String, Object> contentDetails) throws Exception {
     Map<String, Object> courseBatchObject = JsonUtil.convert(courseBatch, Map.class);
 
+    Map<String, Object> batchDetails = new HashMap<String, Object>();
+    batchDetails.put(JsonKey.BODY, "Notification mail Body");
+    batchDetails.put(JsonKey.ORG_NAME, courseBatchObject.get(JsonKey.ORG_NAME));
+    batchDetails.put(JsonKey.COURSE_LOGO_URL, contentDetails.get(JsonKey.APP_ICON));
+    batchDetails.put(JsonKey.START_DATE, courseBatchObject.get(JsonKey.START_DATE));
+    batchDetails.put(JsonKey.END_DATE, courseBatchObject.get(JsonKey.END_DATE));
+    batchDetails.put(JsonKey.COURSE_ID, courseBatchObject.get(JsonKey.COURSE_ID));
+    batchDetails.put(JsonKey.BATCH_NAME, courseBatch.getName());
+    batchDetails.put(JsonKey.COURSE_NAME, contentDetails.get(JsonKey.NAME));
+    batchDetails.put(
+        JsonKey.COURSE_BATCH_URL,
+        getCourseBatchUrl(courseBatch.getCourseId(), courseBatch.getBatchId()));
+    batchDetails.put(JsonKey.SIGNATURE, courseBatchNotificationSignature);
+    return batchDetails;
+  }
+
+  private Map<String, Object> createEmailRequest(
+      List<String> recipients,
+      Map<String, Object> batchDetails,
+      String subject,
+      String template) {
     Map<String, Object> request = new HashMap<>();
-    Map<String, Object> requestMap = new HashMap<String, Object>();
+    Map<String, Object> requestMap = new HashMap<String, Object>(batchDetails);
 
     requestMap.put(JsonKey.SUBJECT, subject);
     requestMap.put(JsonKey.EMAIL_TEMPLATE_TYPE, template);
-    requestMap.put(JsonKey.BODY, "Notification mail Body");
-    requestMap.put(JsonKey.ORG_NAME, courseBatchObject.get(JsonKey.ORG_NAME));
-    requestMap.put(JsonKey.COURSE_LOGO_URL, contentDetails.get(JsonKey.APP_ICON));
-    requestMap.put(JsonKey.START_DATE, courseBatchObject.get(JsonKey.START_DATE));
-    requestMap.put(JsonKey.END_DATE, courseBatchObject.get(JsonKey.END_DATE));
-    requestMap.put(JsonKey.COURSE_ID, courseBatchObject.get(JsonKey.COURSE_ID));
-    requestMap.put(JsonKey.BATCH_NAME, courseBatch.getName());
-    requestMap.put(JsonKey.COURSE_NAME, contentDetails.get(JsonKey.NAME));
-    requestMap.put(
-        JsonKey.COURSE_BATCH_URL,
-        getCourseBatchUrl(courseBatch.getCourseId(), courseBatch.getBatchId()));
-    requestMap.put(JsonKey.SIGNATURE, courseBatchNotificationSignature);
-    requestMap.put(JsonKey.RECIPIENT_USERIDS, Arrays.asList(userId));
+    requestMap.put(JsonKey.RECIPIENT_USERIDS, recipients);
     request.put(JsonKey.REQUEST, requestMap);
     return request;
   }
@@ -172,15 +192,4 @@ public class CourseBatchNotificationActor extends BaseActor {
     String url = baseUrl + "/learn/course/" + courseId + "/batch/" + batchId;
     return url;
   }
-
-  private void sendMail(RequestContext requestContext, Map<String, Object> requestMap, String authToken) {
-    logger.info(requestContext, "CourseBatchNotificationActor:sendMail: email ready");
-    try {
-      userOrgService.sendEmailNotification(requestMap, authToken);
-      logger.info(requestContext, "CourseBatchNotificationActor:sendMail: Email sent successfully");
-    } catch (Exception e) {
-      logger.error(requestContext, "CourseBatchNotificationActor:sendMail: Exception occurred with error message = "
-                      + e.getMessage(), e);
-    }
-  }
 }
@@ -0,0 +1,207 @@
+package org.sunbird.learner.actors.coursebatch;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.userorg.UserOrgService;
+import org.sunbird.userorg.UserOrgServiceImpl;
+
+/**
+ * Sends course batch email notification requests asynchronously. At most
+ * sunbird_course_batch_notification_parallelism requests are in flight at a time. A request failing
+ * with a server or I/O error is queued again with exponential backoff until
+ * sunbird_course_batch_notification_max_retries is reached; client errors are not retried. At most
+ * sunbird_course_batch_notification_queue_size requests wait to be sent or retried, further
+ * requests are dropped and logged at warn level with the number dropped so far.
+ */
+final class CourseBatchNotificationDispatcher {
+
+  private static final LoggerUtil logger = new LoggerUtil(CourseBatchNotificationDispatcher.class);
+  private static final long RETRY_BACKOFF_MS = 1000;
+  private static final CourseBatchNotificationDispatcher instance =
+      new CourseBatchNotificationDispatcher(
+          UserOrgServiceImpl.getInstance(),
+          createExecutor(getConfigInt(JsonKey.SUNBIRD_COURSE_BATCH_NOTIFICATION_PARALLELISM, 4)),
+          getConfigInt(JsonKey.SUNBIRD_COURSE_BATCH_NOTIFICATION_MAX_RETRIES, 3),
+          getConfigInt(JsonKey.SUNBIRD_COURSE_BATCH_NOTIFICATION_QUEUE_SIZE, 1000),
+          RETRY_BACKOFF_MS);
+
+  private final UserOrgService userOrgService;
+  private final ScheduledExecutorService executor;
+  private final int maxRetries;
+  private final int queueSize;
+  private final long retryBackoffMs;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicLong dropped = new AtomicLong();
+
+  CourseBatchNotificationDispatcher(
+      UserOrgService userOrgService,
+      ScheduledExecutorService executor,
+      int maxRetries,
+      int queueSize,
+      long retryBackoffMs) {
+    this.userOrgService = userOrgService;
+    this.executor = executor;
+    this.maxRetries = maxRetries;
+    this.queueSize = queueSize;
+    this.retryBackoffMs = retryBackoffMs;
+  }
+
+  /**
+   * Queues the given notification request for sending.
+   *
+   * @param requestContext
+   * @param request notification request, with all recipients in request.recipientUserIds
+   * @param authToken
+   */
+  static void dispatch(
+      RequestContext requestContext, Map<String, Object> request, String authToken) {
+    instance.submit(requestContext, request, authToken);
+  }
+
+  /** @return maximum number of recipients in one notification request */
+  static int getRecipientsLimit() {
+    return getConfigInt(JsonKey.SUNBIRD_COURSE_BATCH_NOTIFICATION_RECIPIENTS_LIMIT, 100);
+  }
+
+  /**
+   * Queues the given notification request for sending.
+   *
+   * @return false when the request is dropped because the queue is full
+   */
+  boolean submit(RequestContext requestContext, Map<String, Object> request, String authToken) {
+    if (pending.incrementAndGet() > queueSize) {
+      pending.decrementAndGet();
+      logger.warn(
+          requestContext,
+          "CourseBatchNotificationDispatcher:submit: Queue is full, dropping email to "
+              + getRecipientCount(request)
+              + " recipients, "
+              + dropped.incrementAndGet()
+              + " requests dropped so far",
+          null);
+      return false;
+    }
+    try {
+      executor.execute(() -> send(requestContext, request, authToken, 0));
+    } catch (RejectedExecutionException e) {
+      pending.decrementAndGet();
+      logger.error(
+          requestContext,
+          "CourseBatchNotificationDispatcher:submit: Dropping email to "
+              + getRecipientCount(request)
+              + " recipients, dispatcher is shut down",
+          e);
+      return false;
+    }
+    return true;
+  }
+
+  /** @return number of requests waiting to be sent or retried */
+  int getPendingCount() {
+    return pending.get();
+  }
+
+  /** @return number of requests dropped because the queue was full */
+  long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private void send(
+      RequestContext requestContext, Map<String, Object> request, String authToken, int attempt) {
+    try {
+      userOrgService.sendEmailNotification(request, authToken);
+      pending.decrementAndGet();
+      logger.info(
+          requestContext,
+          "CourseBatchNotificationDispatcher:send: Email sent successfully to "
+              + getRecipientCount(request)
+              + " recipients");
+    } catch (Exception e) {
+      if (attempt < maxRetries && isRetryable(e)) {
+        long delay = retryBackoffMs << attempt;
+        logger.info(
+            requestContext,
+            "CourseBatchNotificationDispatcher:send: attempt "
+                + (attempt + 1)
+                + " failed with "
+                + e.getMessage()
+                + ", retrying in "
+                + delay
+                + " ms");
+        try {
+          executor.schedule(
+              () -> send(requestContext, request, authToken, attempt + 1),
+              delay,
+              TimeUnit.MILLISECONDS);
+          return;
+        } catch (RejectedExecutionException rejected) {
+          // shut down, given up below
+        }
+      }
+      pending.decrementAndGet();
+      logger.error(
+          requestContext,
+          "CourseBatchNotificationDispatcher:send: Giving up on email to "
+              + getRecipientCount(request)
+              + " recipients after "
+              + (attempt + 1)
+              + " attempts, error message = "
+              + e.getMessage(),
+          e);
+    }
+  }
+
+  /** Server errors and I/O failures may succeed later, client errors will not. */
+  static boolean isRetryable(Throwable e) {
+    if (e instanceof ProjectCommonException) {
+      return ((ProjectCommonException) e).getResponseCode() >= 500;
+    }
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int getRecipientCount(Map<String, Object> request) {
+    Map<String, Object> requestMap = (Map<String, Object>) request.get(JsonKey.REQUEST);
+    List<String> recipients =
+        requestMap == null ? null : (List<String>) requestMap.get(JsonKey.RECIPIENT_USERIDS);
+    return recipients == null ? 0 : recipients.size();
+  }
+
+  private static ScheduledExecutorService createExecutor(int parallelism) {
+    ScheduledThreadPoolExecutor scheduledExecutor =
+        new ScheduledThreadPoolExecutor(
+            parallelism,
+            runnable -> {
+              Thread thread = new Thread(runnable, "course-batch-notification");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduledExecutor.setRemoveOnCancelPolicy(true);
+    return scheduledExecutor;
+  }
+
+  private static int getConfigInt(String key, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    return StringUtils.isNumeric(value) && Integer.parseInt(value) > 0
+        ? Integer.parseInt(value)
+        : defaultValue;
+  }
+}
@@ -39,6 +39,7 @@ import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.actors.coursebatch.dao.UserCoursesDao;
 import org.sunbird.learner.actors.coursebatch.dao.impl.UserCoursesDaoImpl;
 import org.sunbird.learner.actors.search.SearchHandlerActor;
+import org.sunbird.learner.util.CourseBatchSearchCache;
 import scala.concurrent.Promise;
 
 @RunWith(PowerMockRunner.class)
@@ -69,6 +70,7 @@ public class SearchHandlerActorTest {
 
   @Before
   public void beforeTest() {
+    CourseBatchSearchCache.clear();
     PowerMockito.mockStatic(EsClientFactory.class);
     esService = mock(ElasticSearchRestHighImpl.class);
     when(EsClientFactory.getInstance(Mockito.anyString())).thenReturn(esService);
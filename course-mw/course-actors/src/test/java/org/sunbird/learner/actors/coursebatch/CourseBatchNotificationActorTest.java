@@ -0,0 +1,122 @@
+package org.sunbird.learner.actors.coursebatch;
+
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.TestActorRef;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.common.models.util.ActorOperations;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.learner.util.ContentUtil;
+import org.sunbird.models.course.batch.CourseBatch;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ContentUtil.class, CourseBatchNotificationDispatcher.class})
+@PowerMockIgnore({"javax.management.*", "jdk.internal.reflect.*"})
+public class CourseBatchNotificationActorTest {
+
+  private static ActorSystem system;
+  private static final Props props = Props.create(CourseBatchNotificationActor.class);
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("system");
+  }
+
+  @Before
+  public void beforeTest() {
+    PowerMockito.mockStatic(ContentUtil.class);
+    Map<String, Object> course = new HashMap<>();
+    course.put(JsonKey.NAME, "Course");
+    when(ContentUtil.getCourseObjectFromEkStep(Mockito.anyString(), Mockito.anyMap()))
+        .thenReturn(course);
+    PowerMockito.mockStatic(CourseBatchNotificationDispatcher.class);
+    when(CourseBatchNotificationDispatcher.getRecipientsLimit()).thenReturn(100);
+  }
+
+  private static Request notificationRequest(Map<String, Object> fields) {
+    CourseBatch courseBatch = new CourseBatch();
+    courseBatch.setBatchId("0123");
+    courseBatch.setCourseId("do_123");
+    courseBatch.setName("Batch");
+    courseBatch.setStatus(1);
+    Request request = new Request();
+    request.setOperation(ActorOperations.COURSE_BATCH_NOTIFICATION.getValue());
+    request.getRequest().put(JsonKey.COURSE_BATCH, courseBatch);
+    request.getRequest().putAll(fields);
+    return request;
+  }
+
+  private static List<String> userIds(int count) {
+    List<String> userIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      userIds.add("user" + i);
+    }
+    return userIds;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> dispatchedRequests(int count) {
+    ArgumentCaptor<Map> requests = ArgumentCaptor.forClass(Map.class);
+    PowerMockito.verifyStatic(CourseBatchNotificationDispatcher.class, Mockito.times(count));
+    CourseBatchNotificationDispatcher.dispatch(
+        Mockito.nullable(RequestContext.class), requests.capture(), Mockito.anyString());
+    List<Map<String, Object>> requestMaps = new ArrayList<>();
+    for (Map request : requests.getAllValues()) {
+      requestMaps.add((Map<String, Object>) request.get(JsonKey.REQUEST));
+    }
+    return requestMaps;
+  }
+
+  @Test
+  public void testOpenBatchEnrolNotification() {
+    Map<String, Object> fields = new HashMap<>();
+    fields.put(JsonKey.USER_ID, "user1");
+    fields.put(JsonKey.OPERATION_TYPE, JsonKey.ADD);
+
+    TestActorRef.create(system, props).tell(notificationRequest(fields), ActorRef.noSender());
+
+    Map<String, Object> request = dispatchedRequests(1).get(0);
+    Assert.assertEquals(JsonKey.OPEN_BATCH_LEARNER_ENROL, request.get(JsonKey.EMAIL_TEMPLATE_TYPE));
+    Assert.assertEquals(Arrays.asList("user1"), request.get(JsonKey.RECIPIENT_USERIDS));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testInviteOnlyBatchRecipientsAreSentInBulk() {
+    Map<String, Object> fields = new HashMap<>();
+    fields.put(JsonKey.ADDED_MENTORS, userIds(2));
+    fields.put(JsonKey.ADDED_PARTICIPANTS, userIds(250));
+
+    TestActorRef.create(system, props).tell(notificationRequest(fields), ActorRef.noSender());
+
+    List<Map<String, Object>> requests = dispatchedRequests(4);
+    Assert.assertEquals(JsonKey.BATCH_MENTOR_ENROL, requests.get(0).get(JsonKey.EMAIL_TEMPLATE_TYPE));
+    Assert.assertEquals(2, ((List<String>) requests.get(0).get(JsonKey.RECIPIENT_USERIDS)).size());
+    int[] sizes = {100, 100, 50};
+    for (int i = 0; i < sizes.length; i++) {
+      Map<String, Object> request = requests.get(i + 1);
+      Assert.assertEquals(JsonKey.BATCH_LEARNER_ENROL, request.get(JsonKey.EMAIL_TEMPLATE_TYPE));
+      Assert.assertEquals(sizes[i], ((List<String>) request.get(JsonKey.RECIPIENT_USERIDS)).size());
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package org.sunbird.learner.actors.coursebatch;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.userorg.UserOrgService;
+
+public class CourseBatchNotificationDispatcherTest {
+
+  private final UserOrgService userOrgService = mock(UserOrgService.class);
+  private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private CourseBatchNotificationDispatcher dispatcher(int queueSize) {
+    return new CourseBatchNotificationDispatcher(userOrgService, executor, 3, queueSize, 1);
+  }
+
+  private static Map<String, Object> emailRequest() {
+    Map<String, Object> requestMap = new HashMap<>();
+    requestMap.put(JsonKey.RECIPIENT_USERIDS, Arrays.asList("user1", "user2"));
+    Map<String, Object> request = new HashMap<>();
+    request.put(JsonKey.REQUEST, requestMap);
+    return request;
+  }
+
+  @Test
+  public void testServerErrorIsRetried() {
+    Map<String, Object> request = emailRequest();
+    doThrow(
+            new ProjectCommonException(
+                ResponseCode.SERVER_ERROR.getErrorCode(),
+                ResponseCode.SERVER_ERROR.getErrorMessage(),
+                ResponseCode.SERVER_ERROR.getResponseCode()))
+        .doThrow(new RuntimeException(new IOException("connection reset")))
+        .doNothing()
+        .when(userOrgService)
+        .sendEmailNotification(request, "token");
+
+    Assert.assertTrue(dispatcher(10).submit(null, request, "token"));
+
+    verify(userOrgService, timeout(5000).times(3)).sendEmailNotification(request, "token");
+  }
+
+  @Test
+  public void testClientErrorIsNotRetried() throws Exception {
+    Map<String, Object> request = emailRequest();
+    doThrow(
+            new ProjectCommonException(
+                ResponseCode.invalidRequestData.getErrorCode(),
+                ResponseCode.invalidRequestData.getErrorMessage(),
+                ResponseCode.CLIENT_ERROR.getResponseCode()))
+        .when(userOrgService)
+        .sendEmailNotification(request, "token");
+    CourseBatchNotificationDispatcher dispatcher = dispatcher(10);
+
+    dispatcher.submit(null, request, "token");
+
+    verify(userOrgService, timeout(5000)).sendEmailNotification(request, "token");
+    while (dispatcher.getPendingCount() > 0) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(50);
+    verify(userOrgService, Mockito.times(1)).sendEmailNotification(request, "token");
+  }
+
+  @Test
+  public void testRequestIsDroppedWhenQueueIsFull() throws Exception {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.doAnswer(
+            invocation -> {
+              sending.countDown();
+              release.await();
+              return null;
+            })
+        .when(userOrgService)
+        .sendEmailNotification(Mockito.anyMap(), Mockito.anyString());
+    CourseBatchNotificationDispatcher dispatcher = dispatcher(2);
+
+    Assert.assertTrue(dispatcher.submit(null, emailRequest(), "token"));
+    sending.await();
+    Assert.assertTrue(dispatcher.submit(null, emailRequest(), "token"));
+    Assert.assertFalse(dispatcher.submit(null, emailRequest(), "token"));
+    Assert.assertFalse(dispatcher.submit(null, emailRequest(), "token"));
+    Assert.assertEquals(2, dispatcher.getDroppedCount());
+    release.countDown();
+
+    verify(userOrgService, timeout(5000).times(2))
+        .sendEmailNotification(Mockito.anyMap(), Mockito.anyString());
+  }
+
+  @Test
+  public void testIsRetryable() {
+    Assert.assertTrue(CourseBatchNotificationDispatcher.isRetryable(new IOException()));
+    Assert.assertFalse(CourseBatchNotificationDispatcher.isRetryable(new NullPointerException()));
+  }
+}
@@ -11,9 +11,10 @@ import org.apache.http.HttpHeaders
 import org.joda.time.format.DateTimeFormat
 import org.joda.time.{DateTime, DateTimeZone}
 import org.sunbird.actor.base.BaseActor
+import org.sunbird.actor.dispatcher.{IOBound, IOClass}
 import org.sunbird.cache.util.RedisCacheUtil
 import org.sunbird.common.models.response.Response
-import org.sunbird.common.models.util.{JsonKey, ProjectLogger, ProjectUtil, TelemetryEnvKey}
+import org.sunbird.common.models.util.{HttpUtil, JsonKey, ProjectLogger, ProjectUtil, TelemetryEnvKey}
 import org.sunbird.common.request.{Request, RequestContext}
 import org.sunbird.learner.actors.coursebatch.dao.CourseBatchDao
 import org.sunbird.learner.actors.coursebatch.dao.impl.CourseBatchDaoImpl
@@ -24,6 +25,7 @@ import java.text.SimpleDateFormat
 import java.util.Date
 import scala.collection.JavaConverters._
 
+@IOBound(IOClass.HTTP)
 class CollectionSummaryAggregate @Inject()(implicit val cacheUtil: RedisCacheUtil) extends BaseActor {
   val ttl: Int = if (StringUtils.isNotBlank(ProjectUtil.getConfigValue("collection_summary_agg_cache_ttl"))) ProjectUtil.getConfigValue("collection_summary_agg_cache_ttl").toInt else 60
   val dataSource: String = if (StringUtils.isNotBlank(ProjectUtil.getConfigValue("collection_summary_agg_data_source"))) ProjectUtil.getConfigValue("collection_summary_agg_data_source") else "telemetry-events-syncts"
@@ -44,13 +46,13 @@ class CollectionSummaryAggregate @Inject()(implicit val cacheUtil: RedisCacheUti
     val key = getCacheKey(batchId = batchId, granularity, groupByKeys)
     println(s"Druid granularity: $granularity & Cache Key: $key")
     try {
-      val redisData = cacheUtil.get(key)
+      val redisData = cacheUtil.getObject(key, classOf[util.HashMap[String, AnyRef]])
       val result: util.Map[String, AnyRef] = if (null != redisData && !redisData.isEmpty) {
-        JsonUtil.deserialize(redisData, new util.HashMap[String, AnyRef]().getClass)
+        redisData
       } else {
         val druidResponse = getResponseFromDruid(batchId = batchId, courseId = collectionId, granularity, groupByKeys = groupByKeys)
         val transformedResult = transform(druidResponse, groupByKeys)
-        if (!transformedResult.isEmpty) cacheUtil.set(key, JsonUtil.serialize(transformedResult), ttl)
+        if (!transformedResult.isEmpty) cacheUtil.setObject(key, transformedResult, ttl)
         transformedResult
       }
       response.put("metrics", result.get("metrics"))
@@ -203,7 +205,7 @@ class CollectionSummaryAggregate @Inject()(implicit val cacheUtil: RedisCacheUti
     val port: String = if (StringUtils.isNotBlank(ProjectUtil.getConfigValue("druid_proxy_api_port"))) ProjectUtil.getConfigValue("druid_proxy_api_port") else "8081"
     val endPoint: String = if (StringUtils.isNotBlank(ProjectUtil.getConfigValue("druid_proxy_api_endpoint"))) ProjectUtil.getConfigValue("druid_proxy_api_endpoint") else "/druid/v2/"
     val request = Unirest.post(s"http://$host:$port$endPoint").headers(getUpdatedHeaders(new util.HashMap[String, String]())).body(druidQuery)
-    val response = request.asString().getBody
+    val response = HttpUtil.asString(request).getBody
     println("=====Druid Response======" + response)
     response
   }
@@ -1,6 +1,7 @@
 package org.sunbird.enrolments
 
 import java.util
+import java.util.function.Supplier
 
 import org.apache.commons.collections4.CollectionUtils
 import org.sunbird.actor.base.BaseActor
@@ -10,6 +11,7 @@ import org.sunbird.common.inf.ElasticSearchService
 import org.sunbird.common.models.util.{JsonKey, ProjectUtil}
 import org.sunbird.common.request.RequestContext
 import org.sunbird.dto.SearchDTO
+import org.sunbird.learner.util.CourseBatchSearchCache
 
 abstract class BaseEnrolmentActor extends BaseActor {
 
@@ -21,8 +23,13 @@ abstract class BaseEnrolmentActor extends BaseActor {
         dto.getAdditionalProperties().put(JsonKey.FILTERS, new java.util.HashMap[String, AnyRef](){{ put(JsonKey.BATCH_ID, batchIds)}})
         if(CollectionUtils.isNotEmpty(requestedFields))
             dto.setFields(requestedFields)
-        val future = esService.search(requestContext, dto, ProjectUtil.EsType.courseBatch.getTypeName)
-        val response = ElasticSearchHelper.getResponseFromFuture(future).asInstanceOf[java.util.Map[String, AnyRef]]
+        val batchType = ProjectUtil.EsType.courseBatch.getTypeName
+        val response = CourseBatchSearchCache.search(batchType, dto, new Supplier[java.util.Map[String, AnyRef]] {
+            override def get(): java.util.Map[String, AnyRef] = {
+                val future = esService.search(requestContext, dto, batchType)
+                ElasticSearchHelper.getReadResponseFromFuture(future).asInstanceOf[java.util.Map[String, AnyRef]]
+            }
+        })
         response.getOrDefault(JsonKey.CONTENT, new java.util.ArrayList[util.Map[String, AnyRef]]).asInstanceOf[util.List[util.Map[String, AnyRef]]]
     }
     
@@ -1,14 +1,14 @@
 package org.sunbird.enrolments
 
 import java.util
-import java.util.{Date, TimeZone, UUID}
+import java.util.{TimeZone, UUID}
 
 import com.fasterxml.jackson.databind.ObjectMapper
 import javax.inject.Inject
-import org.apache.commons.collections4.{CollectionUtils, MapUtils}
+import org.apache.commons.collections4.CollectionUtils
 import org.apache.commons.lang3.StringUtils
+import org.sunbird.actor.dispatcher.{IOBound, IOClass}
 import org.sunbird.cassandra.CassandraOperation
-import org.sunbird.common.CassandraUtil
 import org.sunbird.common.exception.ProjectCommonException
 import org.sunbird.common.models.response.Response
 import org.sunbird.common.models.util._
@@ -16,8 +16,7 @@ import org.sunbird.common.request.{Request, RequestContext}
 import org.sunbird.common.responsecode.ResponseCode
 import org.sunbird.common.util.JsonUtil
 import org.sunbird.helper.ServiceFactory
-import org.sunbird.kafka.client.{InstructionEventGenerator, KafkaClient}
-import org.sunbird.learner.constants.{CourseJsonKey, InstructionEvent}
+import org.sunbird.kafka.client.KafkaClient
 import org.sunbird.learner.util.Util
 
 import scala.collection.JavaConversions._
@@ -27,22 +26,20 @@ case class InternalContentConsumption(courseId: String, batchId: String, content
   def validConsumption() = StringUtils.isNotBlank(courseId) && StringUtils.isNotBlank(batchId) && StringUtils.isNotBlank(contentId)
 }
 
+@IOBound(IOClass.CASSANDRA)
 class ContentConsumptionActor @Inject() extends BaseEnrolmentActor {
     private val mapper = new ObjectMapper
     private var cassandraOperation = ServiceFactory.getInstance
     private var pushTokafkaEnabled: Boolean = true //TODO: to be removed once all are in scala
-    private val consumptionDBInfo = Util.dbInfoMap.get(JsonKey.LEARNER_CONTENT_DB)
     private val assessmentAggregatorDBInfo = Util.dbInfoMap.get(JsonKey.ASSESSMENT_AGGREGATOR_DB)
     private val enrolmentDBInfo = Util.dbInfoMap.get(JsonKey.LEARNER_COURSE_DB)
-    val dateFormatter = ProjectUtil.getDateFormatter
     val jsonFields = Set[String]("progressdetails")
+    // stateless, the buffer calls it on its own thread
+    private var consumptionWriter = new ContentConsumptionWriter(cassandraOperation, pushTokafkaEnabled)
 
     override def onReceive(request: Request): Unit = {
         Util.initializeContext(request, TelemetryEnvKey.BATCH, this.getClass.getName)
 
-        dateFormatter.setTimeZone(
-            TimeZone.getTimeZone(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_TIMEZONE)))
-
         request.getOperation match {
             case "updateConsumption" => updateConsumption(request)
             case "getConsumption" => getConsumption(request)
@@ -170,17 +167,11 @@ class ContentConsumptionActor @Inject() extends BaseEnrolmentActor {
                         if(validUserIds.contains(userId)) {
                             val courseId = if (entry._2.head.containsKey(JsonKey.COURSE_ID)) entry._2.head.getOrDefault(JsonKey.COURSE_ID, "").asInstanceOf[String] else entry._2.head.getOrDefault(JsonKey.COLLECTION_ID, "").asInstanceOf[String]
                             if(entry._2.head.containsKey(JsonKey.COLLECTION_ID)) entry._2.head.remove(JsonKey.COLLECTION_ID)
-                            val contentIds = entry._2.map(e => e.getOrDefault(JsonKey.CONTENT_ID, "").asInstanceOf[String]).distinct.asJava
-                            val existingContents = getContentsConsumption(userId, courseId, contentIds, batchId, requestContext).groupBy(x => x.get("contentId").asInstanceOf[String]).map(e => e._1 -> e._2.toList.head).toMap
-                            val contents:List[java.util.Map[String, AnyRef]] = entry._2.toList.map(inputContent => {
-                                val existingContent = existingContents.getOrElse(inputContent.get("contentId").asInstanceOf[String], new java.util.HashMap[String, AnyRef])
-                                CassandraUtil.changeCassandraColumnMapping(processContentConsumption(inputContent, existingContent, userId))
-                            })
-                            // First push the event to kafka and then update cassandra user_content_consumption table
-                            pushInstructionEvent(requestContext, userId, batchId, courseId, contents.asJava)
-                            cassandraOperation.batchInsertLogged(requestContext, consumptionDBInfo.getKeySpace, consumptionDBInfo.getTableName, contents)
-                            val updateData = getLatestReadDetails(userId, batchId, contents)
-                            cassandraOperation.updateRecordV2(requestContext, enrolmentDBInfo.getKeySpace, enrolmentDBInfo.getTableName, updateData._1, updateData._2, true)
+                            val contentIds = entry._2.map(e => e.getOrDefault(JsonKey.CONTENT_ID, "").asInstanceOf[String]).distinct
+                            // Written by the buffer once its window elapses, or right away when there is no buffer or it is full.
+                            // A buffered update is answered with SUCCESS before it is saved, and is lost if the node stops first.
+                            val buffered = ContentConsumptionBuffer.instance.exists(buffer => buffer.add(requestContext, userId, courseId, batchId, entry._2, consumptionWriter))
+                            if (!buffered) consumptionWriter.write(requestContext, userId, courseId, batchId, entry._2)
                             contentIds.map(id => responseMessage.put(id,JsonKey.SUCCESS))
 
                         } else {
@@ -236,130 +227,8 @@ class ContentConsumptionActor @Inject() extends BaseEnrolmentActor {
         }
     }
 
-    def getContentsConsumption(userId: String, courseId : String, contentIds: java.util.List[String], batchId: String, requestContext: RequestContext):java.util.List[java.util.Map[String, AnyRef]] = {
-        val filters = new java.util.HashMap[String, AnyRef]() {{
-            put("userid", userId)
-            put("courseid", courseId)
-            put("batchid", batchId)
-            if(CollectionUtils.isNotEmpty(contentIds))
-                put("contentid", contentIds)
-        }}
-        val response = cassandraOperation.getRecords(requestContext, consumptionDBInfo.getKeySpace, consumptionDBInfo.getTableName, filters, null)
-        response.getResult.getOrDefault(JsonKey.RESPONSE, new java.util.ArrayList[java.util.Map[String, AnyRef]]).asInstanceOf[java.util.List[java.util.Map[String, AnyRef]]]
-    }
-
-    def processContentConsumption(inputContent: java.util.Map[String, AnyRef], existingContent: java.util.Map[String, AnyRef], userId: String) = {
-        val inputStatus = inputContent.getOrDefault(JsonKey.STATUS, 0.asInstanceOf[AnyRef]).asInstanceOf[Number].intValue()
-        val updatedContent = new java.util.HashMap[String, AnyRef]()
-        updatedContent.putAll(inputContent)
-        val parsedMap = new java.util.HashMap[String, AnyRef]()
-        jsonFields.foreach(field =>
-            if(inputContent.containsKey(field)) {
-                parsedMap.put(field, mapper.writeValueAsString(inputContent.get(field)))
-            }
-        )
-        updatedContent.putAll(parsedMap)
-        val inputCompletedTime = parseDate(inputContent.getOrDefault(JsonKey.LAST_COMPLETED_TIME, "").asInstanceOf[String])
-        val inputAccessTime = parseDate(inputContent.getOrDefault(JsonKey.LAST_ACCESS_TIME, "").asInstanceOf[String])
-        if(MapUtils.isNotEmpty(existingContent)) {
-            val existingAccessTime = if(parseDate(existingContent.get(JsonKey.LAST_ACCESS_TIME).asInstanceOf[Date]) == null) parseDate(existingContent.getOrDefault(JsonKey.OLD_LAST_ACCESS_TIME, "").asInstanceOf[String]) else parseDate(existingContent.get(JsonKey.LAST_ACCESS_TIME).asInstanceOf[Date])
-            updatedContent.put(JsonKey.LAST_ACCESS_TIME, compareTime(existingAccessTime, inputAccessTime))
-            val inputProgress = inputContent.getOrDefault(JsonKey.PROGRESS, 0.asInstanceOf[AnyRef]).asInstanceOf[Number].intValue()
-            val existingProgress = Option(existingContent.getOrDefault(JsonKey.PROGRESS, 0.asInstanceOf[AnyRef]).asInstanceOf[Number]).getOrElse(0.asInstanceOf[Number]).intValue()
-            updatedContent.put(JsonKey.PROGRESS, List(inputProgress, existingProgress).max.asInstanceOf[AnyRef])
-            val existingStatus = Option(existingContent.getOrDefault(JsonKey.STATUS, 0.asInstanceOf[AnyRef]).asInstanceOf[Number]).getOrElse(0.asInstanceOf[Number]).intValue()
-            val existingCompletedTime = if (parseDate(existingContent.get(JsonKey.LAST_COMPLETED_TIME).asInstanceOf[Date]) == null) parseDate(existingContent.getOrDefault(JsonKey.OLD_LAST_COMPLETED_TIME, "").asInstanceOf[String]) else parseDate(existingContent.get(JsonKey.LAST_COMPLETED_TIME).asInstanceOf[Date])
-            if(inputStatus >= existingStatus) {
-                if(inputStatus >= 2) {
-                    updatedContent.put(JsonKey.STATUS, 2.asInstanceOf[AnyRef])
-                    updatedContent.put(JsonKey.PROGRESS, 100.asInstanceOf[AnyRef])
-                    updatedContent.put(JsonKey.LAST_COMPLETED_TIME, compareTime(existingCompletedTime, inputCompletedTime))
-                }
-            } else {
-                updatedContent.put(JsonKey.STATUS, existingStatus.asInstanceOf[AnyRef])
-            }
-        } else {
-            if(inputStatus >= 2) {
-                updatedContent.put(JsonKey.PROGRESS, 100.asInstanceOf[AnyRef])
-                updatedContent.put(JsonKey.LAST_COMPLETED_TIME, compareTime(null, inputCompletedTime))
-            } else {
-                updatedContent.put(JsonKey.PROGRESS, 0.asInstanceOf[AnyRef])
-            }
-            updatedContent.put(JsonKey.LAST_ACCESS_TIME, compareTime(null, inputAccessTime))
-        }
-        updatedContent.put(JsonKey.LAST_UPDATED_TIME, ProjectUtil.getTimeStamp)
-        updatedContent.put(JsonKey.USER_ID, userId)
-        updatedContent
-    }
-
-    def parseDate(dateString: String) = {
-        if(StringUtils.isNotBlank(dateString) && !StringUtils.equalsIgnoreCase(JsonKey.NULL, dateString)) {
-            dateFormatter.parse(dateString)
-        } else null
-    }
-
-    def parseDate(date: Date) = {
-        if(date != null) {
-            dateFormatter.parse(dateFormatter.format(date))
-        } else null
-    }
-
-    def compareTime(existingTime: java.util.Date, inputTime: java.util.Date): Date = {
-        if (null == existingTime && null == inputTime) {
-            ProjectUtil.getTimeStamp
-        } else if (null == existingTime) inputTime
-        else if (null == inputTime) existingTime
-        else {
-            if (inputTime.after(existingTime)) inputTime
-            else existingTime
-        }
-    }
-
-    def getLatestReadDetails(userId: String, batchId: String, contents: List[java.util.Map[String, AnyRef]]) = {
-       val lastAccessContent: java.util.Map[String, AnyRef] = contents.groupBy(x => x.getOrDefault(JsonKey.LAST_ACCESS_TIME_KEY, null).asInstanceOf[Date]).maxBy(_._1)._2.get(0)
-       val updateMap = new java.util.HashMap[String, AnyRef] () {{
-            put("lastreadcontentid", lastAccessContent.get(JsonKey.CONTENT_ID_KEY))
-            put("lastreadcontentstatus", lastAccessContent.get("status"))
-            put(JsonKey.LAST_CONTENT_ACCESS_TIME, lastAccessContent.get(JsonKey.LAST_ACCESS_TIME_KEY))
-
-       }}
-      val selectMap = new util.HashMap[String, AnyRef]() {{
-        put("batchId", batchId)
-        put("userId", userId)
-        put("courseId", lastAccessContent.get(JsonKey.COURSE_ID_KEY))
-      }}
-      (selectMap, updateMap)
-    }
-
-    @throws[Exception]
-    private def pushInstructionEvent(requestContext: RequestContext, userId: String, batchId: String, courseId: String, contents: java.util.List[java.util.Map[String, AnyRef]]): Unit = {
-        val data = new java.util.HashMap[String, AnyRef]
-        data.put(CourseJsonKey.ACTOR, new java.util.HashMap[String, AnyRef]() {{
-            put(JsonKey.ID, InstructionEvent.BATCH_USER_STATE_UPDATE.getActorId)
-            put(JsonKey.TYPE, InstructionEvent.BATCH_USER_STATE_UPDATE.getActorType)
-        }})
-        data.put(CourseJsonKey.OBJECT, new java.util.HashMap[String, AnyRef]() {{
-            put(JsonKey.ID, batchId + CourseJsonKey.UNDERSCORE + userId)
-            put(JsonKey.TYPE, InstructionEvent.BATCH_USER_STATE_UPDATE.getType)
-        }})
-        data.put(CourseJsonKey.ACTION, InstructionEvent.BATCH_USER_STATE_UPDATE.getAction)
-        val contentsMap = contents.map(c => new java.util.HashMap[String, AnyRef]() {{
-            put(JsonKey.CONTENT_ID, c.get(JsonKey.CONTENT_ID_KEY))
-            put(JsonKey.STATUS, c.get(JsonKey.STATUS))
-        }}).asJava
-        data.put(CourseJsonKey.E_DATA, new java.util.HashMap[String, AnyRef]() {{
-            put(JsonKey.USER_ID, userId)
-            put(JsonKey.BATCH_ID, batchId)
-            put(JsonKey.COURSE_ID, courseId)
-            put(JsonKey.CONTENTS, contentsMap)
-            put(CourseJsonKey.ACTION, InstructionEvent.BATCH_USER_STATE_UPDATE.getAction)
-            put(CourseJsonKey.ITERATION, 1.asInstanceOf[AnyRef])
-        }})
-        val topic = ProjectUtil.getConfigValue("kafka_topics_instruction")
-        logger.info(requestContext,"LearnerStateUpdateActor: pushInstructionEvent :Event Data " + data + " and Topic " + topic)
-        if(pushTokafkaEnabled)
-            InstructionEventGenerator.pushInstructionEvent(userId, topic, data)
-    }
+    def getContentsConsumption(userId: String, courseId : String, contentIds: java.util.List[String], batchId: String, requestContext: RequestContext):java.util.List[java.util.Map[String, AnyRef]] =
+        consumptionWriter.getContentsConsumption(userId, courseId, contentIds, batchId, requestContext)
 
     def getConsumption(request: Request): Unit = {
         val userId = request.get(JsonKey.USER_ID).asInstanceOf[String]
@@ -370,6 +239,8 @@ class ContentConsumptionActor @Inject() extends BaseEnrolmentActor {
         val contentsConsumed = getContentsConsumption(userId, courseId, contentIds, batchId, request.getRequestContext)
         val response = new Response
         if(CollectionUtils.isNotEmpty(contentsConsumed)) {
+            val dateFormatter = ProjectUtil.getDateFormatter
+            dateFormatter.setTimeZone(TimeZone.getTimeZone(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_TIMEZONE)))
             val filteredContents = contentsConsumed.map(m => {
                 ProjectUtil.removeUnwantedFields(m, JsonKey.DATE_TIME, JsonKey.USER_ID, JsonKey.ADDED_BY, JsonKey.LAST_UPDATED_TIME, JsonKey.OLD_LAST_ACCESS_TIME, JsonKey.OLD_LAST_UPDATED_TIME, JsonKey.OLD_LAST_COMPLETED_TIME)
                 m.put(JsonKey.COLLECTION_ID, m.getOrDefault(JsonKey.COURSE_ID, ""))
@@ -393,6 +264,7 @@ class ContentConsumptionActor @Inject() extends BaseEnrolmentActor {
     def setCassandraOperation(cassandraOps: CassandraOperation, kafkaEnabled: Boolean): ContentConsumptionActor = {
         pushTokafkaEnabled = kafkaEnabled
         cassandraOperation = cassandraOps
+        consumptionWriter = new ContentConsumptionWriter(cassandraOps, kafkaEnabled)
         this
     }
 
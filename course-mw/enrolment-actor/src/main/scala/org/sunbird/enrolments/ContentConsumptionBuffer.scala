@@ -0,0 +1,146 @@
+package org.sunbird.enrolments
+
+import java.util
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.{ConcurrentHashMap, Executors, ScheduledExecutorService, ThreadFactory, TimeUnit}
+import java.util.function.BiFunction
+
+import org.apache.commons.lang3.StringUtils
+import org.sunbird.common.models.util.{JsonKey, LoggerUtil, ProjectUtil}
+import org.sunbird.common.request.RequestContext
+import org.sunbird.common.request.RequestDeadline
+
+import scala.collection.JavaConverters._
+
+/**
+  * Write-behind buffer of content consumption updates. Updates of the same (user, course, batch,
+  * content) which arrive within one window are coalesced into a single input, and every
+  * (user, course, batch) is flushed with one write once the window elapses. When the buffer holds
+  * capacity contents, further updates are rejected so that the caller writes them directly.
+  *
+  * A buffered update is acknowledged before it is saved: it becomes visible to reads once the
+  * window elapses, and is lost when the node stops without running its shutdown hook.
+  */
+class ContentConsumptionBuffer(windowMs: Long, capacity: Int) {
+    private val logger = new LoggerUtil(classOf[ContentConsumptionBuffer])
+    private val pending = new ConcurrentHashMap[ContentConsumptionBuffer.GroupKey, ContentConsumptionBuffer.Group]()
+    private val size = new AtomicInteger()
+    private val scheduler: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory {
+        override def newThread(runnable: Runnable): Thread = {
+            val thread = new Thread(runnable, "content-consumption-buffer")
+            thread.setDaemon(true)
+            thread
+        }
+    })
+    scheduler.scheduleWithFixedDelay(new Runnable {
+        override def run(): Unit = flush()
+    }, windowMs, windowMs, TimeUnit.MILLISECONDS)
+
+    /**
+      * Buffers the input contents of one (user, course, batch).
+      *
+      * @param writer writes the coalesced inputs of the (user, course, batch) when they are flushed,
+      *               on the buffer thread, so it must not close over actor state
+      * @return false when the buffer is full and nothing was buffered
+      */
+    def add(requestContext: RequestContext, userId: String, courseId: String, batchId: String, contents: List[util.Map[String, AnyRef]],
+            writer: ContentConsumptionBuffer.Writer): Boolean = {
+        if (size.get() + contents.size > capacity) return false
+        pending.compute(ContentConsumptionBuffer.GroupKey(userId, courseId, batchId), new BiFunction[ContentConsumptionBuffer.GroupKey, ContentConsumptionBuffer.Group, ContentConsumptionBuffer.Group] {
+            override def apply(key: ContentConsumptionBuffer.GroupKey, existing: ContentConsumptionBuffer.Group): ContentConsumptionBuffer.Group = {
+                val group = if (existing == null) new ContentConsumptionBuffer.Group else existing
+                contents.foreach(content => {
+                    val contentId = content.get(JsonKey.CONTENT_ID).asInstanceOf[String]
+                    val coalesced = ContentConsumptionBuffer.coalesce(group.contents.get(contentId), content)
+                    if (group.contents.put(contentId, coalesced) == null) size.incrementAndGet()
+                })
+                // flushed after the response, so not bound by the request deadline
+                group.requestContext = RequestDeadline.detach(requestContext)
+                group.writer = writer
+                group
+            }
+        })
+        true
+    }
+
+    /** Writes all the buffered updates. */
+    def flush(): Unit = {
+        pending.keySet().asScala.toList.foreach(key => {
+            val group = pending.remove(key)
+            if (group != null) {
+                size.addAndGet(-group.contents.size())
+                try {
+                    group.writer.write(group.requestContext, key.userId, key.courseId, key.batchId, group.contents.values().asScala.toList)
+                } catch {
+                    case e: Exception =>
+                        logger.error(group.requestContext, "ContentConsumptionBuffer:flush: Failed to write the consumption of user " + key.userId
+                          + " for batch " + key.batchId + " : " + e.getMessage, e)
+                }
+            }
+        })
+    }
+
+    /** @return number of buffered contents */
+    def pendingCount(): Int = size.get()
+
+    def shutdown(): Unit = {
+        scheduler.shutdown()
+        flush()
+    }
+}
+
+object ContentConsumptionBuffer {
+    trait Writer {
+        def write(requestContext: RequestContext, userId: String, courseId: String, batchId: String, contents: List[util.Map[String, AnyRef]]): Unit
+    }
+
+    private case class GroupKey(userId: String, courseId: String, batchId: String)
+
+    private class Group {
+        val contents = new util.LinkedHashMap[String, util.Map[String, AnyRef]]()
+        @volatile var requestContext: RequestContext = _
+        @volatile var writer: Writer = _
+    }
+
+    /** Shared buffer, when sunbird_content_consumption_buffer_window_ms is set. */
+    lazy val instance: Option[ContentConsumptionBuffer] = {
+        val windowMs = configValue(JsonKey.SUNBIRD_CONTENT_CONSUMPTION_BUFFER_WINDOW, 0)
+        if (windowMs > 0) {
+            val buffer = new ContentConsumptionBuffer(windowMs, configValue(JsonKey.SUNBIRD_CONTENT_CONSUMPTION_BUFFER_CAPACITY, 10000).toInt)
+            Runtime.getRuntime.addShutdownHook(new Thread(new Runnable {
+                override def run(): Unit = buffer.shutdown()
+            }))
+            Option(buffer)
+        } else None
+    }
+
+    /**
+      * Coalesces two inputs of the same content so that merging the result with the stored
+      * consumption gives the same row as merging them one after the other: the latest input wins,
+      * except for the status, progress and timestamps which keep their highest value.
+      */
+    def coalesce(previous: util.Map[String, AnyRef], input: util.Map[String, AnyRef]): util.Map[String, AnyRef] = {
+        if (previous == null) return input
+        val coalesced = new util.HashMap[String, AnyRef](previous)
+        coalesced.putAll(input)
+        val status = Math.max(intValue(previous.get(JsonKey.STATUS)), intValue(input.get(JsonKey.STATUS)))
+        if (status != ContentConsumptionRecord.UNSET) coalesced.put(JsonKey.STATUS, Integer.valueOf(status))
+        val progress = Math.max(intValue(previous.get(JsonKey.PROGRESS)), intValue(input.get(JsonKey.PROGRESS)))
+        if (progress != ContentConsumptionRecord.UNSET) coalesced.put(JsonKey.PROGRESS, Integer.valueOf(progress))
+        List(JsonKey.LAST_ACCESS_TIME, JsonKey.LAST_COMPLETED_TIME).foreach(key => {
+            if (ContentConsumptionRecord.parseTime(previous.get(key)) > ContentConsumptionRecord.parseTime(input.get(key)))
+                coalesced.put(key, previous.get(key))
+        })
+        coalesced
+    }
+
+    private def intValue(value: AnyRef): Int = value match {
+        case number: Number => number.intValue()
+        case _ => ContentConsumptionRecord.UNSET
+    }
+
+    private def configValue(key: String, defaultValue: Long): Long = {
+        val value = ProjectUtil.getConfigValue(key)
+        if (StringUtils.isNumeric(value)) value.toLong else defaultValue
+    }
+}
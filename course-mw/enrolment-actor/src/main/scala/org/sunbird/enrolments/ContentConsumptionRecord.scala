@@ -0,0 +1,163 @@
+package org.sunbird.enrolments
+
+import java.time.OffsetDateTime
+import java.time.format.{DateTimeFormatter, DateTimeParseException}
+import java.util
+import java.util.Date
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.google.common.collect.Interners
+import org.apache.commons.lang3.StringUtils
+import org.sunbird.common.models.util.{CassandraPropertyReader, JsonKey, ProjectUtil}
+
+/**
+  * Compact view of one user_content_consumption row: status and progress are primitives, the
+  * timestamps are epoch millis and the ids are interned. Unknown input fields are carried along
+  * as they are, keyed by their column name.
+  */
+final class ContentConsumptionRecord(val userId: String, val courseId: String, val batchId: String, val contentId: String) {
+    var status: Int = ContentConsumptionRecord.UNSET
+    var progress: Int = ContentConsumptionRecord.UNSET
+    var lastAccessTime: Long = ContentConsumptionRecord.UNSET_TIME
+    var lastCompletedTime: Long = ContentConsumptionRecord.UNSET_TIME
+    var lastUpdatedTime: Long = ContentConsumptionRecord.UNSET_TIME
+    var extraColumns: util.Map[String, AnyRef] = util.Collections.emptyMap()
+
+    /** @return the row to be written, keyed by cassandra column name */
+    def toRow(): util.Map[String, AnyRef] = {
+        val row = new util.HashMap[String, AnyRef](16 + extraColumns.size() * 2)
+        row.putAll(extraColumns)
+        row.put("userid", userId)
+        row.put(JsonKey.COURSE_ID_KEY, courseId)
+        row.put("batchid", batchId)
+        row.put(JsonKey.CONTENT_ID_KEY, contentId)
+        if (status != ContentConsumptionRecord.UNSET) row.put(JsonKey.STATUS, Integer.valueOf(status))
+        if (progress != ContentConsumptionRecord.UNSET) row.put(JsonKey.PROGRESS, Integer.valueOf(progress))
+        putTime(row, JsonKey.LAST_ACCESS_TIME_KEY, lastAccessTime)
+        putTime(row, "last_completed_time", lastCompletedTime)
+        putTime(row, "last_updated_time", lastUpdatedTime)
+        row
+    }
+
+    private def putTime(row: util.Map[String, AnyRef], column: String, time: Long): Unit = {
+        if (time != ContentConsumptionRecord.UNSET_TIME) row.put(column, new Date(time))
+    }
+}
+
+object ContentConsumptionRecord {
+    val UNSET: Int = -1
+    val UNSET_TIME: Long = Long.MinValue
+    private val COMPLETED = 2
+    private val mapper = new ObjectMapper
+    private val jsonFields = Set[String]("progressdetails")
+    private val handledFields = Set[String](JsonKey.USER_ID, JsonKey.COURSE_ID, JsonKey.COLLECTION_ID, JsonKey.BATCH_ID,
+        JsonKey.CONTENT_ID, JsonKey.STATUS, JsonKey.PROGRESS, JsonKey.LAST_ACCESS_TIME, JsonKey.LAST_COMPLETED_TIME, JsonKey.LAST_UPDATED_TIME)
+    private val ids = Interners.newWeakInterner[String]()
+    private val propertiesCache = CassandraPropertyReader.getInstance()
+    // Thread-safe equivalent of ProjectUtil.getDateFormatter
+    private val dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss:SSSZ")
+
+    /**
+      * Merges the input consumption of a content with the one already stored for it.
+      *
+      * @param input content consumption from the request, keyed by property name
+      * @param existing stored consumption of the content, if any
+      */
+    def merge(input: util.Map[String, AnyRef], existing: Option[ContentConsumptionRecord], userId: String, courseId: String): ContentConsumptionRecord = {
+        val record = new ContentConsumptionRecord(intern(userId), intern(courseId),
+            intern(input.get(JsonKey.BATCH_ID).asInstanceOf[String]), intern(input.get(JsonKey.CONTENT_ID).asInstanceOf[String]))
+        record.extraColumns = extraColumns(input)
+        val now = System.currentTimeMillis()
+        val inputStatus = intValue(input.get(JsonKey.STATUS))
+        val status = if (inputStatus == UNSET) 0 else inputStatus
+        val inputCompletedTime = parseTime(input.get(JsonKey.LAST_COMPLETED_TIME))
+        val inputAccessTime = parseTime(input.get(JsonKey.LAST_ACCESS_TIME))
+        record.status = inputStatus
+        existing match {
+            case Some(stored) =>
+                record.lastAccessTime = latest(stored.lastAccessTime, inputAccessTime, now)
+                record.progress = Math.max(Math.max(intValue(input.get(JsonKey.PROGRESS)), stored.progress), 0)
+                record.lastCompletedTime = inputCompletedTime
+                val storedStatus = Math.max(stored.status, 0)
+                if (status >= storedStatus) {
+                    if (status >= COMPLETED) {
+                        record.status = COMPLETED
+                        record.progress = 100
+                        record.lastCompletedTime = latest(stored.lastCompletedTime, inputCompletedTime, now)
+                    }
+                } else {
+                    record.status = storedStatus
+                }
+            case None =>
+                if (status >= COMPLETED) {
+                    record.progress = 100
+                    record.lastCompletedTime = latest(UNSET_TIME, inputCompletedTime, now)
+                } else {
+                    record.progress = 0
+                    record.lastCompletedTime = inputCompletedTime
+                }
+                record.lastAccessTime = latest(UNSET_TIME, inputAccessTime, now)
+        }
+        record.lastUpdatedTime = now
+        record
+    }
+
+    /**
+      * @param row stored consumption, keyed by property name as returned by CassandraOperation
+      */
+    def fromRow(row: util.Map[String, AnyRef]): ContentConsumptionRecord = {
+        val record = new ContentConsumptionRecord(intern(row.get(JsonKey.USER_ID).asInstanceOf[String]), intern(row.get(JsonKey.COURSE_ID).asInstanceOf[String]),
+            intern(row.get(JsonKey.BATCH_ID).asInstanceOf[String]), intern(row.get(JsonKey.CONTENT_ID).asInstanceOf[String]))
+        record.status = intValue(row.get(JsonKey.STATUS))
+        record.progress = intValue(row.get(JsonKey.PROGRESS))
+        record.lastAccessTime = storedTime(row, JsonKey.LAST_ACCESS_TIME, JsonKey.OLD_LAST_ACCESS_TIME)
+        record.lastCompletedTime = storedTime(row, JsonKey.LAST_COMPLETED_TIME, JsonKey.OLD_LAST_COMPLETED_TIME)
+        record.lastUpdatedTime = storedTime(row, JsonKey.LAST_UPDATED_TIME, JsonKey.OLD_LAST_UPDATED_TIME)
+        record
+    }
+
+    private def extraColumns(input: util.Map[String, AnyRef]): util.Map[String, AnyRef] = {
+        var columns: util.Map[String, AnyRef] = util.Collections.emptyMap()
+        val entries = input.entrySet().iterator()
+        while (entries.hasNext) {
+            val entry = entries.next()
+            if (!handledFields.contains(entry.getKey)) {
+                if (columns.isEmpty) columns = new util.HashMap[String, AnyRef]()
+                val value = if (jsonFields.contains(entry.getKey)) mapper.writeValueAsString(entry.getValue) else entry.getValue
+                columns.put(propertiesCache.readPropertyValue(entry.getKey), value)
+            }
+        }
+        columns
+    }
+
+    private def storedTime(row: util.Map[String, AnyRef], key: String, oldKey: String): Long = {
+        row.get(key) match {
+            case date: Date => date.getTime
+            case _ => parseTime(row.get(oldKey))
+        }
+    }
+
+    private def latest(existingTime: Long, inputTime: Long, now: Long): Long = {
+        if (existingTime == UNSET_TIME && inputTime == UNSET_TIME) now
+        else Math.max(existingTime, inputTime)
+    }
+
+    private def intValue(value: AnyRef): Int = value match {
+        case number: Number => number.intValue()
+        case _ => UNSET
+    }
+
+    private def intern(id: String): String = if (id == null) null else ids.intern(id)
+
+    def parseTime(value: AnyRef): Long = value match {
+        case date: Date => date.getTime
+        case text: String if StringUtils.isNotBlank(text) && !StringUtils.equalsIgnoreCase(JsonKey.NULL, text) =>
+            try {
+                OffsetDateTime.parse(text, dateFormatter).toInstant.toEpochMilli
+            } catch {
+                // fall back to the lenient parsing used so far, on a formatter of its own
+                case _: DateTimeParseException => ProjectUtil.getDateFormatter.parse(text).getTime
+            }
+        case _ => UNSET_TIME
+    }
+}
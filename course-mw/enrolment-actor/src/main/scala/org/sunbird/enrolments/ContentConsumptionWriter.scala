@@ -0,0 +1,105 @@
+package org.sunbird.enrolments
+
+import java.util
+import java.util.Date
+
+import org.apache.commons.collections4.CollectionUtils
+import org.sunbird.cassandra.CassandraOperation
+import org.sunbird.common.models.util.{JsonKey, LoggerUtil, ProjectUtil}
+import org.sunbird.common.request.RequestContext
+import org.sunbird.kafka.client.InstructionEventGenerator
+import org.sunbird.learner.constants.{CourseJsonKey, InstructionEvent}
+import org.sunbird.learner.util.Util
+
+import scala.collection.JavaConversions._
+import scala.collection.JavaConverters._
+
+/**
+  * Writes the content consumption of a user in one batch. Holds nothing but its dependencies, so
+  * the buffer can call it on its own thread after the actor has replied.
+  */
+class ContentConsumptionWriter(cassandraOperation: CassandraOperation, pushToKafkaEnabled: Boolean) extends ContentConsumptionBuffer.Writer {
+    private val logger = new LoggerUtil(classOf[ContentConsumptionWriter])
+    private val consumptionDBInfo = Util.dbInfoMap.get(JsonKey.LEARNER_CONTENT_DB)
+    private val enrolmentDBInfo = Util.dbInfoMap.get(JsonKey.LEARNER_COURSE_DB)
+
+    /**
+      * Merges the input contents of a user in one batch with the stored consumption, and writes
+      * them with one batch insert and one enrolment update.
+      */
+    override def write(requestContext: RequestContext, userId: String, courseId: String, batchId: String, inputContents: List[util.Map[String, AnyRef]]): Unit = {
+        val contentIds = inputContents.map(e => e.getOrDefault(JsonKey.CONTENT_ID, "").asInstanceOf[String]).distinct.asJava
+        val existingContents = new util.HashMap[String, ContentConsumptionRecord]()
+        getContentsConsumption(userId, courseId, contentIds, batchId, requestContext).foreach(row => {
+            val existing = ContentConsumptionRecord.fromRow(row)
+            existingContents.putIfAbsent(existing.contentId, existing)
+        })
+        val records: List[ContentConsumptionRecord] = inputContents.map(inputContent => {
+            ContentConsumptionRecord.merge(inputContent, Option(existingContents.get(inputContent.get(JsonKey.CONTENT_ID).asInstanceOf[String])), userId, courseId)
+        })
+        val contents: List[util.Map[String, AnyRef]] = records.map(record => record.toRow())
+        // First push the event to kafka and then update cassandra user_content_consumption table
+        pushInstructionEvent(requestContext, userId, batchId, courseId, contents.asJava)
+        cassandraOperation.batchInsertLogged(requestContext, consumptionDBInfo.getKeySpace, consumptionDBInfo.getTableName, contents)
+        val updateData = getLatestReadDetails(userId, batchId, records)
+        cassandraOperation.updateRecordV2(requestContext, enrolmentDBInfo.getKeySpace, enrolmentDBInfo.getTableName, updateData._1, updateData._2, true)
+    }
+
+    def getContentsConsumption(userId: String, courseId : String, contentIds: util.List[String], batchId: String, requestContext: RequestContext): util.List[util.Map[String, AnyRef]] = {
+        val filters = new util.HashMap[String, AnyRef]() {{
+            put("userid", userId)
+            put("courseid", courseId)
+            put("batchid", batchId)
+            if(CollectionUtils.isNotEmpty(contentIds))
+                put("contentid", contentIds)
+        }}
+        val response = cassandraOperation.getRecords(requestContext, consumptionDBInfo.getKeySpace, consumptionDBInfo.getTableName, filters, null)
+        response.getResult.getOrDefault(JsonKey.RESPONSE, new util.ArrayList[util.Map[String, AnyRef]]).asInstanceOf[util.List[util.Map[String, AnyRef]]]
+    }
+
+    def getLatestReadDetails(userId: String, batchId: String, records: List[ContentConsumptionRecord]) = {
+       val lastAccessContent = records.maxBy(_.lastAccessTime)
+       val updateMap = new util.HashMap[String, AnyRef] () {{
+            put("lastreadcontentid", lastAccessContent.contentId)
+            put("lastreadcontentstatus", if (lastAccessContent.status == ContentConsumptionRecord.UNSET) null else Integer.valueOf(lastAccessContent.status))
+            put(JsonKey.LAST_CONTENT_ACCESS_TIME, new Date(lastAccessContent.lastAccessTime))
+
+       }}
+      val selectMap = new util.HashMap[String, AnyRef]() {{
+        put("batchId", batchId)
+        put("userId", userId)
+        put("courseId", lastAccessContent.courseId)
+      }}
+      (selectMap, updateMap)
+    }
+
+    @throws[Exception]
+    private def pushInstructionEvent(requestContext: RequestContext, userId: String, batchId: String, courseId: String, contents: util.List[util.Map[String, AnyRef]]): Unit = {
+        val data = new util.HashMap[String, AnyRef]
+        data.put(CourseJsonKey.ACTOR, new util.HashMap[String, AnyRef]() {{
+            put(JsonKey.ID, InstructionEvent.BATCH_USER_STATE_UPDATE.getActorId)
+            put(JsonKey.TYPE, InstructionEvent.BATCH_USER_STATE_UPDATE.getActorType)
+        }})
+        data.put(CourseJsonKey.OBJECT, new util.HashMap[String, AnyRef]() {{
+            put(JsonKey.ID, batchId + CourseJsonKey.UNDERSCORE + userId)
+            put(JsonKey.TYPE, InstructionEvent.BATCH_USER_STATE_UPDATE.getType)
+        }})
+        data.put(CourseJsonKey.ACTION, InstructionEvent.BATCH_USER_STATE_UPDATE.getAction)
+        val contentsMap = contents.map(c => new util.HashMap[String, AnyRef]() {{
+            put(JsonKey.CONTENT_ID, c.get(JsonKey.CONTENT_ID_KEY))
+            put(JsonKey.STATUS, c.get(JsonKey.STATUS))
+        }}).asJava
+        data.put(CourseJsonKey.E_DATA, new util.HashMap[String, AnyRef]() {{
+            put(JsonKey.USER_ID, userId)
+            put(JsonKey.BATCH_ID, batchId)
+            put(JsonKey.COURSE_ID, courseId)
+            put(JsonKey.CONTENTS, contentsMap)
+            put(CourseJsonKey.ACTION, InstructionEvent.BATCH_USER_STATE_UPDATE.getAction)
+            put(CourseJsonKey.ITERATION, 1.asInstanceOf[AnyRef])
+        }})
+        val topic = ProjectUtil.getConfigValue("kafka_topics_instruction")
+        logger.info(requestContext,"LearnerStateUpdateActor: pushInstructionEvent :Event Data " + data + " and Topic " + topic)
+        if(pushToKafkaEnabled)
+            InstructionEventGenerator.pushInstructionEvent(userId, topic, data)
+    }
+}
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import javax.inject.{Inject, Named}
 import org.apache.commons.collections4.{CollectionUtils, MapUtils}
 import org.apache.commons.lang3.StringUtils
+import org.sunbird.actor.dispatcher.{IOBound, IOClass}
 import org.sunbird.common.exception.ProjectCommonException
 import org.sunbird.common.models.response.Response
 import org.sunbird.common.models.util.ProjectUtil.EnrolmentType
@@ -21,7 +22,7 @@ import org.sunbird.common.responsecode.ResponseCode
 import org.sunbird.learner.actors.coursebatch.dao.impl.{CourseBatchDaoImpl, UserCoursesDaoImpl}
 import org.sunbird.learner.actors.coursebatch.dao.{CourseBatchDao, UserCoursesDao}
 import org.sunbird.learner.actors.group.dao.impl.GroupDaoImpl
-import org.sunbird.learner.util.{ContentSearchUtil, ContentUtil, CourseBatchSchedulerUtil, JsonUtil, Util}
+import org.sunbird.learner.util.{ContentSearchUtil, ContentUtil, CourseBatchSchedulerUtil, Util}
 import org.sunbird.models.course.batch.CourseBatch
 import org.sunbird.models.user.courses.UserCourses
 import org.sunbird.cache.util.RedisCacheUtil
@@ -32,6 +33,7 @@ import org.sunbird.telemetry.util.TelemetryUtil
 import scala.collection.JavaConversions._
 import scala.collection.JavaConverters._
 
+@IOBound(IOClass.CASSANDRA)
 class CourseEnrolmentActor @Inject()(@Named("course-batch-notification-actor") courseBatchNotificationActorRef: ActorRef
                                     )(implicit val  cacheUtil: RedisCacheUtil ) extends BaseEnrolmentActor {
 
@@ -46,13 +48,14 @@ class CourseEnrolmentActor @Inject()(@Named("course-batch-notification-actor") c
         (ProjectUtil.getConfigValue("user_enrolments_response_cache_enable")).toBoolean else true
     val ttl: Int = if (StringUtils.isNotBlank(ProjectUtil.getConfigValue("user_enrolments_response_cache_ttl")))
         (ProjectUtil.getConfigValue("user_enrolments_response_cache_ttl")).toInt else 60
+    // outlives every list cached under the current generation
+    private val generationTtl: Int = Math.max(ttl * 10, 86400)
     private val DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd")
 
 
     override def preStart { println("Starting CourseEnrolmentActor") }
 
     override def postStop {
-        cacheUtil.closePool()
         println("CourseEnrolmentActor stopped successfully")
     }
 
@@ -83,8 +86,8 @@ class CourseEnrolmentActor @Inject()(@Named("course-batch-notification-actor") c
         validateEnrolment(batchData, enrolmentData, true)
         val data: java.util.Map[String, AnyRef] = createUserEnrolmentMap(userId, courseId, batchId, enrolmentData, request.getContext.getOrDefault(JsonKey.REQUEST_ID, "").asInstanceOf[String])
         upsertEnrollment(userId, courseId, batchId, data, (null == enrolmentData), request.getRequestContext)
-        logger.info(request.getRequestContext, "CourseEnrolmentActor :: enroll :: Deleting redis for key " + getCacheKey(userId))
-        cacheUtil.delete(getCacheKey(userId))
+        logger.info(request.getRequestContext, "CourseEnrolmentActor :: enroll :: Incrementing redis generation for key " + getGenerationKey(userId))
+        cacheUtil.increment(getGenerationKey(userId), generationTtl)
         sender().tell(successResponse(), self)
         generateTelemetryAudit(userId, courseId, batchId, data, "enrol", JsonKey.CREATE, request.getContext)
         notifyUser(userId, batchData, JsonKey.ADD)
@@ -101,8 +104,8 @@ class CourseEnrolmentActor @Inject()(@Named("course-batch-notification-actor") c
         validateEnrolment(batchData, enrolmentData, false)
         val data: java.util.Map[String, AnyRef] = new java.util.HashMap[String, AnyRef]() {{ put(JsonKey.ACTIVE, ProjectUtil.ActiveStatus.INACTIVE.getValue.asInstanceOf[AnyRef]) }}
         upsertEnrollment(userId,courseId, batchId, data, false, request.getRequestContext)
-        logger.info(request.getRequestContext, "CourseEnrolmentActor :: unEnroll :: Deleting redis for key " + getCacheKey(userId))
-        cacheUtil.delete(getCacheKey(userId))
+        logger.info(request.getRequestContext, "CourseEnrolmentActor :: unEnroll :: Incrementing redis generation for key " + getGenerationKey(userId))
+        cacheUtil.increment(getGenerationKey(userId), generationTtl)
         sender().tell(successResponse(), self)
         generateTelemetryAudit(userId, courseId, batchId, data, "unenrol", JsonKey.UPDATE, request.getContext)
         notifyUser(userId, batchData, JsonKey.REMOVE)
@@ -300,17 +303,26 @@ class CourseEnrolmentActor @Inject()(@Named("course-batch-notification-actor") c
         case _ => 100
     }
 
-    def getCacheKey(userId: String) = s"$userId:user-enrolments"
+    def getCacheKey(userId: String): String = s"$userId:user-enrolments"
+
+    /**
+      * The cached list of a user is stored under a key holding the generation of the user's
+      * enrolments, which enrol and unenrol increment. A list built before an enrolment change is
+      * therefore written under the previous generation and never read again.
+      */
+    def getCacheKey(userId: String, generation: String): String = s"${getCacheKey(userId)}:$generation"
+
+    def getGenerationKey(userId: String): String = s"${getCacheKey(userId)}:generation"
 
     def getCachedEnrolmentList(userId: String, handleEmptyCache: () => Response): Response = {
-        val key = getCacheKey(userId)
-        val responseString = cacheUtil.get(key)
-        if (StringUtils.isNotBlank(responseString)) {
-            JsonUtil.deserialize(responseString, classOf[Response])
+        val generation = StringUtils.defaultIfBlank(cacheUtil.get(getGenerationKey(userId), null), "0")
+        val key = getCacheKey(userId, generation)
+        val cachedResponse = cacheUtil.getObject(key, classOf[Response])
+        if (null != cachedResponse) {
+            cachedResponse
         } else {
             val response = handleEmptyCache()
-            val responseString = JsonUtil.serialize(response)
-            cacheUtil.set(key, responseString, ttl)
+            cacheUtil.setObject(key, response, ttl)
             response
         }
     }
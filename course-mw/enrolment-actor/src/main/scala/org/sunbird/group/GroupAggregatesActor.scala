@@ -6,6 +6,7 @@ import javax.inject.Inject
 import org.apache.commons.collections.CollectionUtils
 import org.apache.commons.lang3.StringUtils
 import org.sunbird.actor.base.BaseActor
+import org.sunbird.actor.dispatcher.{IOBound, IOClass}
 import org.sunbird.cache.util.RedisCacheUtil
 import org.sunbird.common.exception.ProjectCommonException
 import org.sunbird.common.models.response.Response
@@ -14,11 +15,11 @@ import org.sunbird.common.request.{Request, RequestContext}
 import org.sunbird.common.responsecode.ResponseCode
 import org.sunbird.keys.SunbirdKey
 import org.sunbird.learner.actors.group.dao.impl.GroupDaoImpl
-import org.sunbird.learner.util.JsonUtil
 
 import scala.collection.JavaConversions._
 import scala.collection.JavaConverters._
 
+@IOBound(IOClass.CASSANDRA)
 class GroupAggregatesActor @Inject()(implicit val cacheUtil: RedisCacheUtil) extends BaseActor {
 
   private val GROUP_MEMBERS_METADATA: java.util.List[String] = java.util.Arrays.asList("name", "userId", "role", "status", "createdBy")
@@ -142,14 +143,11 @@ class GroupAggregatesActor @Inject()(implicit val cacheUtil: RedisCacheUtil) ext
   }
 
   def setResponseToRedis(key: String, response: Response) :Unit = {
-    cacheUtil.set( key, JsonUtil.serialize(response), ttl)
+    cacheUtil.setObject(key, response, ttl)
   }
 
   def getResponseFromRedis(key: String): Response = {
-    val responseString = cacheUtil.get(key)
-    if (responseString != null) {
-      JsonUtil.deserialize(responseString, classOf[Response])
-    } else null
+    cacheUtil.getObject(key, classOf[Response])
   }
 
   def setInstanceVariable(groupAggregateUtil: GroupAggregatesUtil, groupDao: GroupDaoImpl) = {
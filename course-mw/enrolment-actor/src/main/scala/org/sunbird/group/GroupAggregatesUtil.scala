@@ -9,7 +9,7 @@ import org.apache.commons.lang3.StringUtils
 import org.sunbird.common.exception.ProjectCommonException
 import org.sunbird.common.models.response.Response
 import org.sunbird.common.models.util.ProjectUtil.getConfigValue
-import org.sunbird.common.models.util.{JsonKey, LoggerEnum, LoggerUtil, ProjectLogger}
+import org.sunbird.common.models.util.{HttpUtil, JsonKey, LoggerEnum, LoggerUtil, ProjectLogger}
 import org.sunbird.common.request.{HeaderParam, Request}
 import org.sunbird.common.responsecode.ResponseCode
 import org.sunbird.keys.SunbirdKey
@@ -33,7 +33,7 @@ class GroupAggregatesUtil {
       }}
 
       logger.info(request.getRequestContext, "GroupAggregatesActor:getGroupDetails : Read request group : " + request.get(SunbirdKey.GROUPID))
-      val groupResponse = Unirest.get(requestUrl).headers(headers).asString
+      val groupResponse = HttpUtil.asString(Unirest.get(requestUrl).headers(headers))
 
       if ( null== groupResponse || groupResponse.getStatus != ResponseCode.OK.getResponseCode) {
         logger.info(request.getRequestContext, "GroupAggregatesActor:getGroupDetails : groupResponse.getBody : " + groupResponse.getBody)
@@ -24,7 +24,6 @@ import org.sunbird.common.models.response.Response
 import org.sunbird.common.request.Request
 import org.sunbird.common.responsecode.ResponseCode
 import org.sunbird.learner.util.JsonUtil
-import redis.clients.jedis.Jedis
 import redis.embedded.RedisServer
 import scala.collection.JavaConverters._
 
@@ -38,7 +37,6 @@ class CollectionSummaryAggregateTest extends FlatSpec with Matchers with BeforeA
   EmbeddedCassandraServerHelper.startEmbeddedCassandra(80000L)
   var server = new MockWebServer()
   server.start(8082)
-  var jedis: Jedis = _
   val redisConnect = new RedisCacheUtil()
 
   override def afterAll() {
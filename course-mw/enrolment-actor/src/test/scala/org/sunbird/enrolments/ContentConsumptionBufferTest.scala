@@ -0,0 +1,51 @@
+package org.sunbird.enrolments
+
+import java.util
+
+import org.scalatest.{FlatSpec, Matchers}
+import org.sunbird.common.request.RequestContext
+
+class ContentConsumptionBufferTest extends FlatSpec with Matchers {
+
+    def content(contentId: String, status: Int, progress: Int, lastAccessTime: String): util.Map[String, AnyRef] = new util.HashMap[String, AnyRef]() {{
+        put("batchId", "0123")
+        put("contentId", contentId)
+        put("status", status.asInstanceOf[AnyRef])
+        put("progress", progress.asInstanceOf[AnyRef])
+        put("lastAccessTime", lastAccessTime)
+    }}
+
+    class RecordingWriter extends ContentConsumptionBuffer.Writer {
+        val writes = new util.ArrayList[List[util.Map[String, AnyRef]]]()
+        override def write(requestContext: RequestContext, userId: String, courseId: String, batchId: String, contents: List[util.Map[String, AnyRef]]): Unit = writes.add(contents)
+    }
+
+    "coalesce" should "keep the highest status, progress and access time" in {
+        val coalesced = ContentConsumptionBuffer.coalesce(content("do_456", 2, 40, "2021-01-02 10:00:00:000+0000"), content("do_456", 1, 30, "2021-01-01 10:00:00:000+0000"))
+        coalesced.get("status") should be (2)
+        coalesced.get("progress") should be (40)
+        coalesced.get("lastAccessTime") should be ("2021-01-02 10:00:00:000+0000")
+    }
+
+    "flush" should "write the coalesced contents of a batch at once" in {
+        val buffer = new ContentConsumptionBuffer(60000, 10)
+        val writer = new RecordingWriter
+        buffer.add(null, "user1", "do_123", "0123", List(content("do_456", 1, 10, "2021-01-01 10:00:00:000+0000")), writer) should be (true)
+        buffer.add(null, "user1", "do_123", "0123", List(content("do_456", 1, 20, "2021-01-01 10:01:00:000+0000"), content("do_789", 1, 5, "2021-01-01 10:01:00:000+0000")), writer) should be (true)
+        buffer.pendingCount() should be (2)
+        buffer.flush()
+        buffer.shutdown()
+        writer.writes.size() should be (1)
+        writer.writes.get(0).size should be (2)
+        writer.writes.get(0).head.get("progress") should be (20)
+        buffer.pendingCount() should be (0)
+    }
+
+    "add" should "reject contents once the buffer is full" in {
+        val buffer = new ContentConsumptionBuffer(60000, 1)
+        val writer = new RecordingWriter
+        buffer.add(null, "user1", "do_123", "0123", List(content("do_456", 1, 10, "2021-01-01 10:00:00:000+0000"), content("do_789", 1, 10, "2021-01-01 10:00:00:000+0000")), writer) should be (false)
+        buffer.shutdown()
+        writer.writes.size() should be (0)
+    }
+}
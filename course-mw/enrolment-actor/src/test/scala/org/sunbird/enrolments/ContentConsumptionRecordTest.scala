@@ -0,0 +1,45 @@
+package org.sunbird.enrolments
+
+import org.scalatest.{FlatSpec, Matchers}
+
+class ContentConsumptionRecordTest extends FlatSpec with Matchers {
+
+    def inputContent(status: Int, lastAccessTime: String): java.util.Map[String, AnyRef] = new java.util.HashMap[String, AnyRef]() {{
+        put("batchId", "0123")
+        put("contentId", "do_456")
+        put("status", status.asInstanceOf[AnyRef])
+        put("progress", 20.asInstanceOf[AnyRef])
+        put("lastAccessTime", lastAccessTime)
+        put("progressdetails", new java.util.HashMap[String, AnyRef]() {{ put("stage", "1") }})
+    }}
+
+    "merge" should "complete the content and keep the latest access time" in {
+        val existing = ContentConsumptionRecord.fromRow(new java.util.HashMap[String, AnyRef]() {{
+            put("userId", "user1")
+            put("courseId", "do_123")
+            put("batchId", "0123")
+            put("contentId", "do_456")
+            put("status", 1.asInstanceOf[AnyRef])
+            put("progress", 50.asInstanceOf[AnyRef])
+            put("oldLastAccessTime", "2021-01-02 10:00:00:000+0000")
+        }})
+        val record = ContentConsumptionRecord.merge(inputContent(2, "2021-01-01 10:00:00:000+0000"), Option(existing), "user1", "do_123")
+        record.status should be (2)
+        record.progress should be (100)
+        record.lastAccessTime should be (existing.lastAccessTime)
+        val row = record.toRow()
+        row.get("contentid") should be ("do_456")
+        row.get("progressdetails") should be ("""{"stage":"1"}""")
+        row.containsKey("last_completed_time") should be (true)
+    }
+
+    "merge" should "not downgrade the status of a completed content" in {
+        val existing = ContentConsumptionRecord.merge(inputContent(2, "2021-01-01 10:00:00:000+0000"), None, "user1", "do_123")
+        val record = ContentConsumptionRecord.merge(inputContent(1, "2021-01-03 10:00:00:000+0000"), Option(existing), "user1", "do_123")
+        record.status should be (2)
+        record.progress should be (100)
+        record.lastAccessTime should be (ContentConsumptionRecord.parseTime("2021-01-03 10:00:00:000+0000"))
+        record.toRow().containsKey("last_completed_time") should be (false)
+        record.courseId should be theSameInstanceAs existing.courseId
+    }
+}
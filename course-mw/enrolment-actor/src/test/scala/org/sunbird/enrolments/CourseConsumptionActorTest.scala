@@ -5,7 +5,7 @@ import java.util.concurrent.TimeUnit
 import akka.actor.{ActorSystem, Props}
 import akka.testkit.TestKit
 import org.scalamock.scalatest.MockFactory
-import org.scalatest.{FlatSpec, Matchers}
+import org.scalatest.{BeforeAndAfterEach, FlatSpec, Matchers}
 import org.sunbird.cassandra.CassandraOperation
 import org.sunbird.common.Constants
 import org.sunbird.common.exception.ProjectCommonException
@@ -15,13 +15,16 @@ import org.sunbird.common.models.util.{JsonKey, ProjectUtil}
 import org.sunbird.common.request.{Request, RequestContext}
 import org.sunbird.common.responsecode.ResponseCode
 import org.sunbird.dto.SearchDTO
+import org.sunbird.learner.util.CourseBatchSearchCache
 
 import scala.concurrent.ExecutionContext
 import scala.concurrent.duration.FiniteDuration
 
-class CourseConsumptionActorTest extends FlatSpec with Matchers with MockFactory {
+class CourseConsumptionActorTest extends FlatSpec with Matchers with MockFactory with BeforeAndAfterEach {
     implicit val ec: ExecutionContext = ExecutionContext.global
     val system = ActorSystem.create("system")
+
+    override def beforeEach(): Unit = CourseBatchSearchCache.clear()
     
     "get Consumption" should "return success on not giving contentIds" in {
         val cassandraOperation = mock[CassandraOperation]
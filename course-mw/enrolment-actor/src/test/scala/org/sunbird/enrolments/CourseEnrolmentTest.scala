@@ -44,7 +44,7 @@ class CourseEnrolmentTest extends FlatSpec with Matchers with MockFactory {
         (courseDao.readById(_: String, _: String,_: RequestContext)).expects(*,*,*).returns(courseBatch)
         (userDao.read(_: RequestContext, _: String,_: String,_: String)).expects(*,*,*,*).returns(null)
         (userDao.insertV2(_: RequestContext, _: java.util.Map[String, AnyRef])).expects(*, *)
-        (cacheUtil.delete(_: String)).expects(*).once()
+        (cacheUtil.increment(_: String, _: Int)).expects(*, *).returns(1L).once()
         val response = callActor(getEnrolRequest(), Props(new CourseEnrolmentActor(null)(cacheUtil).setDao(courseDao, userDao, groupDao)))
         assert("Success".equalsIgnoreCase(response.get("response").asInstanceOf[String]))
     }
@@ -112,7 +112,7 @@ class CourseEnrolmentTest extends FlatSpec with Matchers with MockFactory {
         (courseDao.readById(_: String, _: String,_: RequestContext)).expects(*,*,*).returns(courseBatch)
         (userDao.read(_: RequestContext, _: String,_: String,_: String)).expects(*,*,*,*).returns(userCourse)
         (userDao.updateV2(_: RequestContext, _: String,_: String,_: String, _: java.util.Map[String, AnyRef])).expects(*,*,*,*,*)
-        (cacheUtil.delete(_: String)).expects(*).once()
+        (cacheUtil.increment(_: String, _: Int)).expects(*, *).returns(1L).once()
         val response = callActor(getEnrolRequest(), Props(new CourseEnrolmentActor(null)(cacheUtil).setDao(courseDao, userDao, groupDao)))
         assert("Success".equalsIgnoreCase(response.get("response").asInstanceOf[String]))
     }
@@ -125,7 +125,7 @@ class CourseEnrolmentTest extends FlatSpec with Matchers with MockFactory {
         (courseDao.readById(_: String, _: String, _: RequestContext)).expects(*,*,*).returns(courseBatch)
         (userDao.read(_: RequestContext, _: String,_: String,_: String)).expects(*,*,*,*).returns(userCourse)
         (userDao.updateV2(_: RequestContext, _: String,_: String,_: String, _: java.util.Map[String, AnyRef])).expects(*,*,*,*,*)
-        (cacheUtil.delete(_: String)).expects(*).once()
+        (cacheUtil.increment(_: String, _: Int)).expects(*, *).returns(1L).once()
         val response = callActor(getUnEnrolRequest(), Props(new CourseEnrolmentActor(null)(cacheUtil).setDao(courseDao, userDao, groupDao)))
         assert("Success".equalsIgnoreCase(response.get("response").asInstanceOf[String]))
     }
@@ -217,7 +217,8 @@ class CourseEnrolmentTest extends FlatSpec with Matchers with MockFactory {
         userCourse.setActive(true)
         userCourse.setCourseId("do_11305605610466508811")
         userCourse.setBatchId("0130598559365038081")
-        (cacheUtil.get(_: String, _: String => String, _: Int)).expects(*, *, *).returns(getRedisString())
+        (cacheUtil.get(_: String, _: String => String, _: Int)).expects("user1:user-enrolments:generation", *, *).returns("1")
+        (cacheUtil.getObject[Response](_: String, _: Class[Response])).expects("user1:user-enrolments:1", *).returns(JsonUtil.deserialize(getRedisString(), classOf[Response]))
         val request = getListEnrolRequest()
         request.getContext.put("cache", true.asInstanceOf[AnyRef])
         val response = callActor(request, Props(new CourseEnrolmentActor(null)(cacheUtil).setDao(courseDao, userDao, groupDao)))
@@ -230,9 +231,10 @@ class CourseEnrolmentTest extends FlatSpec with Matchers with MockFactory {
         userCourse.setActive(true)
         userCourse.setCourseId("do_11305605610466508811")
         userCourse.setBatchId("0130598559365038081")
-        (cacheUtil.get(_: String, _: String => String, _: Int)).expects(*, *, *).returns(null)
+        (cacheUtil.get(_: String, _: String => String, _: Int)).expects("user1:user-enrolments:generation", *, *).returns(null)
+        (cacheUtil.getObject[Response](_: String, _: Class[Response])).expects("user1:user-enrolments:0", *).returns(null)
         (userDao.listEnrolments(_: RequestContext, _: String, _: java.util.List[String])).expects(*, *, *).returns(getEnrolmentLists())
-        (cacheUtil.set(_: String, _: String, _: Int)).expects(*, *, *).once()
+        (cacheUtil.setObject(_: String, _: AnyRef, _: Int)).expects("user1:user-enrolments:0", *, *).once()
         val request = getListEnrolRequest()
         request.getContext.put("cache", true.asInstanceOf[AnyRef])
         val response = callActor(request, Props(new CourseEnrolmentActor(null)( cacheUtil).setDao(courseDao, userDao, groupDao)))
@@ -244,7 +246,7 @@ class CourseEnrolmentTest extends FlatSpec with Matchers with MockFactory {
         (courseDao.readById(_: String, _: String, _: RequestContext)).expects(*,*,*).returns(getBatchWithValidEnrolmentEndDateAndBatchEndDate())
         (userDao.read(_: RequestContext,_: String,_: String,_: String)).expects(*,*,*,*).returns(null)
         (userDao.insertV2(_: RequestContext,_: java.util.Map[String, AnyRef])).expects(*,*)
-        (cacheUtil.delete(_: String)).expects(*).once()
+        (cacheUtil.increment(_: String, _: Int)).expects(*, *).returns(1L).once()
         val response = callActor(getEnrolRequest(), Props(new CourseEnrolmentActor(null)(cacheUtil).setDao(courseDao, userDao, groupDao)))
         assert("Success".equalsIgnoreCase(response.get("response").asInstanceOf[String]))
     }
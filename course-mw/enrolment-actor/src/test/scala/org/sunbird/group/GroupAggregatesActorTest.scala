@@ -26,7 +26,7 @@ class GroupAggregatesActorTest extends FlatSpec with Matchers with MockFactory {
   "GroupAggregatesActor" should "return sucess" in {
     (groupAggregateUtil.getGroupDetails(_:String, _:Request)).expects(*,*).returns(validRestResponse())
     (groupDao.read(_: String, _: String, _: java.util.List[String], _: RequestContext)).expects(*,*,*,* ).returns(validDBResponse())
-      (cacheUtil.set(_: String, _: String, _: Int)).expects(*, *, *).once()
+      (cacheUtil.setObject(_: String, _: AnyRef, _: Int)).expects(*, *, *).once()
     val response = callActor(getGroupActivityAggRequest(), Props(new GroupAggregatesActor()(cacheUtil).setInstanceVariable(groupAggregateUtil, groupDao)))
 
     assert(response.getResponseCode == ResponseCode.OK)
@@ -35,7 +35,7 @@ class GroupAggregatesActorTest extends FlatSpec with Matchers with MockFactory {
   "GroupAggregatesActor with null aggr field" should "return success" in {
     (groupAggregateUtil.getGroupDetails(_:String, _:Request)).expects(*,*).returns(validRestResponse())
     (groupDao.read(_: String, _: String, _: java.util.List[String], _: RequestContext)).expects(*,*,*,* ).returns(validDBResponseWithNullAggr())
-    (cacheUtil.set(_: String, _: String, _: Int)).expects(*, *, *).once()
+    (cacheUtil.setObject(_: String, _: AnyRef, _: Int)).expects(*, *, *).once()
     val response = callActor(getGroupActivityAggRequest(), Props(new GroupAggregatesActor()(cacheUtil).setInstanceVariable(groupAggregateUtil, groupDao)))
 
     assert(response.getResponseCode == ResponseCode.OK)
@@ -44,7 +44,7 @@ class GroupAggregatesActorTest extends FlatSpec with Matchers with MockFactory {
   "GroupAggregatesActor with missing attemptCount last updated" should "return success" in {
     (groupAggregateUtil.getGroupDetails(_:String, _:Request)).expects(*,*).returns(validRestResponse())
     (groupDao.read(_: String, _: String, _: java.util.List[String], _: RequestContext)).expects(*,*,*,* ).returns(validDBResponseWithMissingAttemptsCountLastUpdated())
-    (cacheUtil.set(_: String, _: String, _: Int)).expects(*, *, *).once()
+    (cacheUtil.setObject(_: String, _: AnyRef, _: Int)).expects(*, *, *).once()
     val response = callActor(getGroupActivityAggRequest(), Props(new GroupAggregatesActor()(cacheUtil).setInstanceVariable(groupAggregateUtil, groupDao)))
 
     assert(response.getResponseCode == ResponseCode.OK)
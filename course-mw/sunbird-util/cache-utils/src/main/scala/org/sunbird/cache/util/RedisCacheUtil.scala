@@ -1,13 +1,14 @@
 package org.sunbird.cache.util
 
-import java.time.Duration
+import java.util.concurrent.{CompletionException, CompletionStage}
+import java.util.function.BiConsumer
+
 import org.apache.commons.lang3.StringUtils
-import org.sunbird.cache.platform.Platform
-import org.sunbird.common.models.util.{JsonKey, LoggerUtil}
-import redis.clients.jedis.{Jedis, JedisPool, JedisPoolConfig}
+import org.sunbird.common.models.util.LoggerUtil
+import org.sunbird.redis.{RedisClient, RedisConnectionManager}
 
 import scala.collection.JavaConverters._
-import scala.concurrent.{ExecutionContext, Future}
+import scala.concurrent.{ExecutionContext, Future, Promise}
 
 /**
   * This Utility Object Provide Methods To Perform CRUD Operation With Redis
@@ -18,72 +19,13 @@ class RedisCacheUtil {
 
     implicit val className = "org.sunbird.cache.connector.RedisConnector"
 
-    private val redis_host = Platform.getString(JsonKey.REDIS_HOST_VALUE, "localhost")
-    private val redis_port = Platform.getInteger(JsonKey.REDIS_PORT_VALUE, 6379)
-    private val index = Platform.getInteger(JsonKey.REDIS_INDEX_VALUE, 0)
-
-     println("=====redis_host=====" + redis_host)
-    println("=====redis index=====" + index)
-    println("=====redis port=====" + redis_port)
-    private def buildPoolConfig = {
-        val poolConfig = new JedisPoolConfig
-        poolConfig.setMaxTotal(Platform.getInteger("redis.connection.max", 2))
-        poolConfig.setMaxIdle(Platform.getInteger("redis.connection.idle.max", 2))
-        poolConfig.setMinIdle(Platform.getInteger("redis.connection.idle.min", 1))
-        poolConfig.setTestWhileIdle(true)
-        poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(Platform.getLong("redis.connection.minEvictableIdleTimeSeconds", 120)).toMillis)
-        poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(Platform.getLong("redis.connection.timeBetweenEvictionRunsSeconds", 300)).toMillis)
-        poolConfig.setBlockWhenExhausted(true)
-        poolConfig
-    }
-
-    protected var jedisPool: JedisPool = new JedisPool(buildPoolConfig, redis_host, redis_port)
-
-    def getConnection(database: Int): Jedis = {
-        val conn = jedisPool.getResource
-        conn.select(database)
-        conn
-    }
-
-    def getConnection: Jedis = try {
-        val jedis = jedisPool.getResource
-        if (index > 0) jedis.select(index)
-        jedis
-    } catch {
-        case e: Exception => throw e
-    }
-
     /**
-      * This Method takes a connection object and put it back to pool.
-      *
-      * @param jedis
+      * The client shared with the rest of the service, looked up on use so that creating this
+      * utility does not connect to redis.
       */
-    protected def returnConnection(jedis: Jedis): Unit = {
-        try if (null != jedis) jedisPool.returnResource(jedis)
-        catch {
-            case e: Exception => throw e
-        }
-    }
-
-
-    def resetConnection(): Unit = {
-        jedisPool.close()
-        jedisPool = new JedisPool(buildPoolConfig, redis_host, redis_port)
-    }
-
-    def closePool() = {
-        jedisPool.close()
-    }
+    private def client: RedisClient = RedisClient.getInstance()
 
-    def checkConnection = {
-        try {
-            val conn = getConnection(2)
-            conn.close()
-            true;
-        } catch {
-            case ex: Exception => false
-        }
-    }
+    def checkConnection: Boolean = RedisConnectionManager.checkConnection()
 
     /**
       * This method store string data into cache for given Key
@@ -93,16 +35,12 @@ class RedisCacheUtil {
       * @param ttl
       */
     def set(key: String, data: String, ttl: Int = 0): Unit = {
-        val jedis = getConnection
-        try {
-            jedis.del(key)
-            jedis.set(key, data)
-            if (ttl > 0) jedis.expire(key, ttl)
-        } catch {
+        try client.set(key, data, ttl)
+        catch {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Saving String Data to Redis Cache for Key : " + key + "| Exception is:", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -114,9 +52,8 @@ class RedisCacheUtil {
       * @return
       */
     def get(key: String, handler: (String) => String = defaultStringHandler, ttl: Int = 0): String = {
-        val jedis = getConnection
         try {
-            var data = jedis.get(key)
+            var data = client.get(key)
             if (null != handler && (null == data || data.isEmpty)) {
                 data = handler(key)
                 if (null != data && !data.isEmpty)
@@ -128,7 +65,7 @@ class RedisCacheUtil {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Fetching String Data from Redis Cache for Key : " + key + "| Exception is:", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -141,25 +78,52 @@ class RedisCacheUtil {
       * @return Future[String]
       */
     def getAsync(key: String, asyncHandler: (String) => Future[String], ttl: Int = 0)(implicit ec: ExecutionContext): Future[String] = {
-        val jedis = getConnection
-        try {
-            val data = jedis.get(key)
+        toScala(client.getAsync(key)).flatMap(data => {
             if (null != asyncHandler && (null == data || data.isEmpty)) {
-                val dataFuture: Future[String] = asyncHandler(key)
-                dataFuture.map(value => {
+                asyncHandler(key).flatMap(value => {
                     if (null != value && !value.isEmpty)
-                        set(key, value, ttl)
-                    value
+                        toScala(client.setAsync(key, value, ttl)).map(_ => value)
+                    else Future.successful(value)
                 })
-            } else Future {
-                data
-            }
+            } else Future.successful(data)
+        }).recoverWith {
+            case e: Exception =>
+                logger.error(null, "Exception Occurred While Fetching String Data from Redis Cache for Key : " + key + "| Exception is:", e)
+                Future.failed(e)
+        }
+    }
+
+    /**
+      * This method store an object into cache for given Key, in the compact encoding of the
+      * shared client's codec
+      *
+      * @param key
+      * @param data
+      * @param ttl
+      */
+    def setObject(key: String, data: AnyRef, ttl: Int = 0): Unit = {
+        try client.setObject(key, data, ttl)
+        catch {
+            case e: Exception =>
+                logger.error(null, "Exception Occurred While Saving Object Data to Redis Cache for Key : " + key + "| Exception is:", e)
+                throw e
         }
+    }
+
+    /**
+      * This method read an object from cache for a given key
+      *
+      * @param key
+      * @param cls
+      * @return the object, or null if the key does not exist
+      */
+    def getObject[T](key: String, cls: Class[T]): T = {
+        try client.getObject(key, cls)
         catch {
             case e: Exception =>
-                logger.error(null, "Exception Occurred While Fetching String Data from Redis Cache for Key : " + key + "| Exception is:", e)
+                logger.error(null, "Exception Occurred While Fetching Object Data from Redis Cache for Key : " + key + "| Exception is:", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -169,14 +133,29 @@ class RedisCacheUtil {
       * @return Double
       */
     def incrementAndGet(key: String): Double = {
-        val jedis = getConnection
         val inc = 1.0
-        try jedis.incrByFloat(key, inc)
+        try client.incrementByFloat(key, inc)
         catch {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Incrementing Value for Key : " + key + " | Exception is : ", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
+    }
+
+    /**
+      * This method increment the counter by 1 for given key and returns the new value
+      *
+      * @param key
+      * @param ttl expiry of the counter in seconds, renewed on every increment
+      * @return Long
+      */
+    def increment(key: String, ttl: Int = 0): Long = {
+        try client.increment(key, ttl)
+        catch {
+            case e: Exception =>
+                logger.error(null, "Exception Occurred While Incrementing Counter for Key : " + key + " | Exception is : ", e)
+                throw e
+        }
     }
 
     /**
@@ -188,17 +167,12 @@ class RedisCacheUtil {
       * @param ttl
       */
     def saveList(key: String, data: List[String], ttl: Int = 0, isPartialUpdate: Boolean = false): Unit = {
-        val jedis = getConnection
-        try {
-            if (!isPartialUpdate)
-                jedis.del(key)
-            data.foreach(entry => jedis.sadd(key, entry))
-            if (ttl > 0 && !isPartialUpdate) jedis.expire(key, ttl)
-        } catch {
+        try client.addToSet(key, data.asJava, !isPartialUpdate, if (isPartialUpdate) 0 else ttl)
+        catch {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Saving List Data to Redis Cache for Key : " + key + "| Exception is:", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -220,9 +194,8 @@ class RedisCacheUtil {
       * @return
       */
     def getList(key: String, handler: (String) => List[String] = defaultListHandler, ttl: Int = 0): List[String] = {
-        val jedis = getConnection
         try {
-            var data = jedis.smembers(key).asScala.toList
+            var data = client.getSet(key).asScala.toList
             if (null != handler && (null == data || data.isEmpty)) {
                 data = handler(key)
                 if (null != data && !data.isEmpty)
@@ -233,7 +206,7 @@ class RedisCacheUtil {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Fetching List Data from Redis Cache for Key : " + key + "| Exception is:", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -246,24 +219,20 @@ class RedisCacheUtil {
       * @return Future[List[String]]
       **/
     def getListAsync(key: String, asyncHandler: (String) => Future[List[String]], ttl: Int = 0)(implicit ec: ExecutionContext): Future[List[String]] = {
-        val jedis = getConnection
-        try {
-            val data = jedis.smembers(key).asScala.toList
-            if (null != asyncHandler && (null == data || data.isEmpty)) {
-                val dataFuture = asyncHandler(key)
-                dataFuture.map(value => {
+        toScala(client.getSetAsync(key)).flatMap(members => {
+            val data = members.asScala.toList
+            if (null != asyncHandler && data.isEmpty) {
+                asyncHandler(key).map(value => {
                     if (null != value && !value.isEmpty)
                         saveList(key, value, ttl, false)
                     value
                 })
-            } else Future {
-                data
-            }
-        } catch {
+            } else Future.successful(data)
+        }).recoverWith {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Fetching List Data from Redis Cache for Key : " + key + "| Exception is:", e)
-                throw e
-        } finally returnConnection(jedis)
+                Future.failed(e)
+        }
     }
 
     /**
@@ -273,13 +242,12 @@ class RedisCacheUtil {
       * @param data
       */
     def removeFromList(key: String, data: List[String]): Unit = {
-        val jedis = getConnection
-        try data.foreach(entry => jedis.srem(key, entry))
+        try if (data.nonEmpty) client.removeFromSet(key, data.asJava)
         catch {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Deleting Partial Data From Redis Cache for Key : " + key + "| Exception is:", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -288,13 +256,12 @@ class RedisCacheUtil {
       * @param keys
       */
     def delete(keys: String*): Unit = {
-        val jedis = getConnection
-        try jedis.del(keys.map(_.asInstanceOf[String]): _*)
+        try if (keys.nonEmpty) client.delete(keys: _*)
         catch {
             case e: Exception =>
                 logger.error(null, "Exception Occurred While Deleting Records From Redis Cache for Identifiers : " + keys.toArray + " | Exception is : ", e)
                 throw e
-        } finally returnConnection(jedis)
+        }
     }
 
     /**
@@ -304,19 +271,27 @@ class RedisCacheUtil {
       */
     def deleteByPattern(pattern: String): Unit = {
         if (StringUtils.isNotBlank(pattern) && !StringUtils.equalsIgnoreCase(pattern, "*")) {
-            val jedis = getConnection
-            try {
-                val keys = jedis.keys(pattern)
-                if (keys != null && keys.size > 0)
-                    jedis.del(keys.toArray.map(_.asInstanceOf[String]): _*)
-            } catch {
+            try client.deleteByPattern(pattern)
+            catch {
                 case e: Exception =>
                     logger.error(null, "Exception Occurred While Deleting Records From Redis Cache for Pattern : " + pattern + " | Exception is : ", e)
                     throw e
-            } finally returnConnection(jedis)
+            }
         }
     }
 
+    private def toScala[T](stage: CompletionStage[T]): Future[T] = {
+        val promise = Promise[T]()
+        stage.whenComplete(new BiConsumer[T, Throwable] {
+            override def accept(value: T, error: Throwable): Unit = error match {
+                case null => promise.success(value)
+                case e: CompletionException if null != e.getCause => promise.failure(e.getCause)
+                case e => promise.failure(e)
+            }
+        })
+        promise.future
+    }
+
     private def defaultStringHandler(objKey: String): String = {
         //Default Implementation Can Be Provided Here
         ""
@@ -45,6 +45,12 @@ class RedisCacheUtilTest extends AsyncFlatSpec with Matchers with BeforeAndAfter
         result shouldEqual "kptest-value-03"
     }
 
+    "increment" should "return the incremented counter for given key" in {
+        cacheUtil.increment("kptest-counter-01", 60) shouldEqual 1
+        cacheUtil.increment("kptest-counter-01", 60) shouldEqual 2
+        cacheUtil.get("kptest-counter-01") shouldEqual "2"
+    }
+
     "saveList" should "store list data into cache for given key" in {
         val data = List[String]("kp-test-04-list-val-01", "kp-test-04-list-val-02")
         cacheUtil.saveList("kptest-104", data)
@@ -57,7 +63,7 @@ class RedisCacheUtilTest extends AsyncFlatSpec with Matchers with BeforeAndAfter
         val exception = intercept[Exception] {
             cacheUtil.getList("kptest-105")
         }
-        exception.getMessage shouldEqual "WRONGTYPE Operation against a key holding the wrong kind of value"
+        exception.getMessage should startWith ("WRONGTYPE Operation against a key holding the wrong kind of value")
     }
 
     "get with wrong type key" should "throw an exception" in {
@@ -66,7 +72,7 @@ class RedisCacheUtilTest extends AsyncFlatSpec with Matchers with BeforeAndAfter
         val exception = intercept[Exception] {
             cacheUtil.get("kptest-106")
         }
-        exception.getMessage shouldEqual "WRONGTYPE Operation against a key holding the wrong kind of value"
+        exception.getMessage should startWith ("WRONGTYPE Operation against a key holding the wrong kind of value")
     }
 
     "delete with key" should "delete the data from cache for given key" in {
@@ -9,7 +9,12 @@ public class CacheFactory {
 
   private CacheFactory() {}
 
-  public static Cache getInstance() {
+  /**
+   * @return the shared cache, created on first use
+   * @throws org.redisson.client.RedisException if redis cannot be reached, the next call tries
+   *     again
+   */
+  public static synchronized Cache getInstance() {
     if (null == cache) {
       cache = new RedisCache();
     }
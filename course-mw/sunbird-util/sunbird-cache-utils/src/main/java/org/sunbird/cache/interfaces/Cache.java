@@ -3,6 +3,7 @@ package org.sunbird.cache.interfaces;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValue;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -35,4 +36,9 @@ public interface Cache {
   public void clearAll();
 
   boolean setMapExpiry(String name, long seconds);
+
+  /** @return statistics of the cache, such as hit rates, by map */
+  default Map<String, Map<String, Object>> getStats() {
+    return Collections.emptyMap();
+  }
 }
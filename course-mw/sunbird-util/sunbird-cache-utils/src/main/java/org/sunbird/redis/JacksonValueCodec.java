@@ -0,0 +1,144 @@
+package org.sunbird.redis;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.ProjectUtil;
+
+/**
+ * Encodes values with Jackson in the configured format, compressing them with LZ4 once they grow
+ * beyond a threshold.
+ *
+ * <p>Every encoded value starts with one byte naming its format and whether it is compressed, so
+ * values written in any format can be read whatever the current configuration is. Strings are
+ * stored as plain UTF-8 text, and plain text, like the JSON strings cached before this codec, is
+ * read as JSON. Reading any value as a String gives its JSON text.
+ */
+public class JacksonValueCodec implements ValueCodec {
+
+  public enum Format {
+    JSON(1, new JsonFactory()),
+    SMILE(2, new SmileFactory()),
+    CBOR(3, new CBORFactory());
+
+    private final byte id;
+    private final ObjectMapper mapper;
+
+    Format(int id, JsonFactory factory) {
+      this.id = (byte) id;
+      this.mapper =
+          new ObjectMapper(factory)
+              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private static Format of(byte header) {
+      for (Format format : values()) {
+        if (format.id == (header & ~COMPRESSED)) {
+          return format;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final int COMPRESSED = 0x10;
+  private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+  private static final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+  private static final LZ4FastDecompressor decompressor =
+      LZ4Factory.fastestInstance().fastDecompressor();
+
+  private final Format format;
+  private final int compressionThreshold;
+
+  /**
+   * @param format Format to write values in
+   * @param compressionThreshold size in bytes above which values are compressed, 0 to never
+   *     compress
+   */
+  public JacksonValueCodec(Format format, int compressionThreshold) {
+    this.format = format;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  /** @return codec configured by sunbird_cache_value_format and compression threshold */
+  public static JacksonValueCodec fromConfig() {
+    Format format =
+        EnumUtils.getEnum(
+            Format.class,
+            ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CACHE_VALUE_FORMAT).toUpperCase());
+    int threshold =
+        NumberUtils.toInt(
+            ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CACHE_COMPRESSION_THRESHOLD),
+            DEFAULT_COMPRESSION_THRESHOLD);
+    return new JacksonValueCodec(null == format ? Format.SMILE : format, threshold);
+  }
+
+  @Override
+  public byte[] encode(Object value) throws IOException {
+    if (value instanceof String) {
+      return ((String) value).getBytes(StandardCharsets.UTF_8);
+    }
+    byte[] encoded = format.mapper.writeValueAsBytes(value);
+    if (compressionThreshold > 0 && encoded.length > compressionThreshold) {
+      byte[] compressed = compress(encoded);
+      if (compressed.length < encoded.length) {
+        return compressed;
+      }
+    }
+    byte[] data = new byte[encoded.length + 1];
+    data[0] = format.id;
+    System.arraycopy(encoded, 0, data, 1, encoded.length);
+    return data;
+  }
+
+  @Override
+  public <T> T decode(byte[] data, Class<T> type) throws IOException {
+    if (null == data || data.length == 0) {
+      return null;
+    }
+    Format valueFormat = Format.of(data[0]);
+    if (null == valueFormat) {
+      return String.class == type
+          ? type.cast(new String(data, StandardCharsets.UTF_8))
+          : Format.JSON.mapper.readValue(data, type);
+    }
+    byte[] encoded = (data[0] & COMPRESSED) != 0 ? decompress(data) : data;
+    int offset = encoded == data ? 1 : 0;
+    if (String.class == type) {
+      // the JSON text of an object, as a string value is never encoded by the format
+      JsonNode node =
+          valueFormat.mapper.readValue(encoded, offset, encoded.length - offset, JsonNode.class);
+      return type.cast(node.isTextual() ? node.textValue() : node.toString());
+    }
+    return valueFormat.mapper.readValue(encoded, offset, encoded.length - offset, type);
+  }
+
+  /** Header byte, length of the encoded value and the LZ4 block. */
+  private byte[] compress(byte[] encoded) {
+    byte[] data = new byte[5 + compressor.maxCompressedLength(encoded.length)];
+    data[0] = (byte) (format.id | COMPRESSED);
+    ByteBuffer.wrap(data, 1, 4).putInt(encoded.length);
+    int length = compressor.compress(encoded, 0, encoded.length, data, 5);
+    byte[] compressed = new byte[5 + length];
+    System.arraycopy(data, 0, compressed, 0, compressed.length);
+    return compressed;
+  }
+
+  private static byte[] decompress(byte[] data) {
+    byte[] encoded = new byte[ByteBuffer.wrap(data, 1, 4).getInt()];
+    decompressor.decompress(data, 5, encoded, 0, encoded.length);
+    return encoded;
+  }
+}
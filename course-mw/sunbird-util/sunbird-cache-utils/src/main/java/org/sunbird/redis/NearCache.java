@@ -0,0 +1,160 @@
+package org.sunbird.redis;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * In-process tier in front of the redis maps named by cache.nearCache.mapNames. It keeps the
+ * encoded values, bounded per map by their size in bytes (cache.nearCache.maxWeight.mapName), for
+ * at most cache.nearCache.ttl seconds.
+ *
+ * <p>Every write or clear of a map is published on a redis channel so that the other nodes drop
+ * their copies. When that channel cannot be subscribed to, the near cache stays disabled rather
+ * than serve values that are never invalidated.
+ */
+class NearCache {
+  static final String INVALIDATION_CHANNEL = "sunbird:cache:invalidate";
+  private static final String NEAR_CACHE_MAP_LIST = "cache.nearCache.mapNames";
+  private static final String NEAR_CACHE_TTL = "cache.nearCache.ttl";
+  private static final String NEAR_CACHE_MAX_WEIGHT = "cache.nearCache.maxWeight.";
+  private static final String SEPARATOR = "\n";
+  private static final long DEFAULT_TTL_SECONDS = 600;
+  private static final long DEFAULT_MAX_WEIGHT = 16 * 1024 * 1024;
+
+  private static final LoggerUtil logger = new LoggerUtil(NearCache.class);
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, Tier> tiers = new HashMap<>();
+  private final RedisClient client;
+
+  /** Values of one map, and a version bumped on every invalidation of the map. */
+  private static final class Tier {
+    private final Cache<String, byte[]> values;
+    private final AtomicLong version = new AtomicLong();
+
+    private Tier(long maxWeight, long ttlSeconds) {
+      values =
+          CacheBuilder.newBuilder()
+              .maximumWeight(maxWeight)
+              .weigher(
+                  (Weigher<String, byte[]>) (key, value) -> key.length() * 2 + value.length)
+              .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+              .recordStats()
+              .build();
+    }
+  }
+
+  NearCache(RedisClient client, Map<String, String> properties) {
+    this.client = client;
+    String mapNames = properties.get(NEAR_CACHE_MAP_LIST);
+    if (StringUtils.isBlank(mapNames)) {
+      return;
+    }
+    long ttl = NumberUtils.toLong(properties.get(NEAR_CACHE_TTL), DEFAULT_TTL_SECONDS);
+    for (String mapName : mapNames.split(",")) {
+      mapName = mapName.trim();
+      long maxWeight =
+          NumberUtils.toLong(properties.get(NEAR_CACHE_MAX_WEIGHT + mapName), DEFAULT_MAX_WEIGHT);
+      tiers.put(mapName, new Tier(maxWeight, ttl));
+    }
+    try {
+      client.subscribe(INVALIDATION_CHANNEL, this::onInvalidation);
+    } catch (Exception e) {
+      logger.error(null, "NearCache: Could not subscribe to invalidations, near cache disabled", e);
+      tiers.clear();
+    }
+  }
+
+  boolean isEnabled(String mapName) {
+    return tiers.containsKey(mapName);
+  }
+
+  /**
+   * @param loader reads the value from redis on a miss
+   * @return encoded value, or null if there is none
+   */
+  byte[] get(String mapName, String key, Supplier<byte[]> loader) {
+    Tier tier = tiers.get(mapName);
+    byte[] value = tier.values.getIfPresent(key);
+    if (value == null) {
+      long version = tier.version.get();
+      value = loader.get();
+      // a value read before an invalidation of the map may already be outdated
+      if (value != null && version == tier.version.get()) {
+        tier.values.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /** Keeps the value written to redis and drops the copies of the other nodes. */
+  void put(String mapName, String key, byte[] value) {
+    Tier tier = tiers.get(mapName);
+    tier.version.incrementAndGet();
+    tier.values.put(key, value);
+    publish(mapName, key);
+  }
+
+  /** Drops every value of the map, on this node and on the others. */
+  void clear(String mapName) {
+    Tier tier = tiers.get(mapName);
+    tier.version.incrementAndGet();
+    tier.values.invalidateAll();
+    publish(mapName, "");
+  }
+
+  /** @return hits, misses, hit rate, evictions and number of values held, by map */
+  Map<String, Map<String, Object>> getStats() {
+    Map<String, Map<String, Object>> stats = new TreeMap<>();
+    tiers.forEach(
+        (mapName, tier) -> {
+          CacheStats cacheStats = tier.values.stats();
+          Map<String, Object> values = new TreeMap<>();
+          values.put("hits", cacheStats.hitCount());
+          values.put("misses", cacheStats.missCount());
+          values.put("hitRate", cacheStats.hitRate());
+          values.put("evictions", cacheStats.evictionCount());
+          values.put("size", tier.values.size());
+          stats.put(mapName, values);
+        });
+    return stats;
+  }
+
+  private void publish(String mapName, String key) {
+    try {
+      client.publish(INVALIDATION_CHANNEL, nodeId + SEPARATOR + mapName + SEPARATOR + key);
+    } catch (Exception e) {
+      logger.error(
+          null, "NearCache:publish: Error occurred mapName = " + mapName + ", key = " + key, e);
+    }
+  }
+
+  private void onInvalidation(String message) {
+    String[] parts = message.split(SEPARATOR, 3);
+    if (parts.length < 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+    Tier tier = tiers.get(parts[1]);
+    if (tier == null) {
+      return;
+    }
+    tier.version.incrementAndGet();
+    if (parts[2].isEmpty()) {
+      tier.values.invalidateAll();
+    } else {
+      tier.values.invalidate(parts[2]);
+    }
+  }
+}
@@ -1,31 +1,27 @@
 package org.sunbird.redis;
 
-import org.redisson.api.RMap;
-import org.redisson.api.RedissonClient;
 import org.sunbird.cache.interfaces.Cache;
 import org.sunbird.common.models.util.LoggerUtil;
-import org.sunbird.notification.utils.JsonUtil;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 public class RedisCache implements Cache {
   private static final String CACHE_MAP_LIST = "cache.mapNames";
   private Map<String, String> properties = readConfig();
   private String[] mapNameList = properties.get(CACHE_MAP_LIST).split(",");
-  private RedissonClient client;
+  private RedisClient client;
+  private NearCache nearCache;
 
   public RedisCache() {
-    client = RedisConnectionManager.getClient();
+    client = RedisClient.getInstance();
+    nearCache = new NearCache(client, properties);
   }
   private LoggerUtil logger = new LoggerUtil(RedisCache.class);
 
   @Override
   public String get(String mapName, String key) {
     try {
-      RMap<String, String> map = client.getMap(mapName);
-      String s = map.get(key);
-      return s;
+      return client.getCodec().decode(read(mapName, key), String.class);
     } catch (Exception e) {
       logger.error(null, 
           "RedisCache:get: Error occurred mapName = " + mapName + ", key = " + key, e);
@@ -37,8 +33,10 @@ public class RedisCache implements Cache {
   public boolean clear(String mapName) {
     logger.info(null, "RedisCache:clear: mapName = " + mapName);
     try {
-      RMap<String, String> map = client.getMap(mapName);
-      map.clear();
+      client.delete(mapName);
+      if (nearCache.isEnabled(mapName)) {
+        nearCache.clear(mapName);
+      }
       return true;
     } catch (Exception e) {
       logger.error(null, 
@@ -57,7 +55,7 @@ public class RedisCache implements Cache {
 
   @Override
   public boolean setMapExpiry(String name, long seconds) {
-    boolean result = client.getMap(name).expire(seconds, TimeUnit.SECONDS);
+    boolean result = client.expire(name, seconds);
 
     logger.info(null, 
         "RedisCache:setMapExpiry: name = " + name + " seconds = " + seconds + " result = " + result);
@@ -70,14 +68,11 @@ public class RedisCache implements Cache {
         "RedisCache:put: mapName = " + mapName + ", key = " + key + ", value = " + value);
 
     try {
-      String res = "";
-      if(value instanceof String){
-        res = (String) value;
-      } else {
-        res = JsonUtil.toJson(value);
+      byte[] data = client.getCodec().encode(value);
+      client.putBytesInMap(mapName, key, data);
+      if (nearCache.isEnabled(mapName)) {
+        nearCache.put(mapName, key, data);
       }
-      RMap<String, String> map = client.getMap(mapName);
-      map.put(key, res);
       return true;
     } catch (Exception e) {
       logger.error(null, 
@@ -93,13 +88,25 @@ public class RedisCache implements Cache {
 
   public Object get(String mapName, String key, Class<?> cls) {
     try {
-      RMap<String, String> map = client.getMap(mapName);
-      String s = map.get(key);
-      return JsonUtil.getAsObject(s, cls);
+      return client.getCodec().decode(read(mapName, key), cls);
     } catch (Exception e) {
       logger.error(null, 
           "RedisCache:get: Error occurred mapName = " + mapName + ", key = " + key, e);
     }
     return null;
   }
+
+  /** @return hits, misses and hit rate of the near cache, by map */
+  @Override
+  public Map<String, Map<String, Object>> getStats() {
+    return nearCache.getStats();
+  }
+
+  /** Reads an encoded value, from the near cache for the maps it holds. */
+  private byte[] read(String mapName, String key) {
+    if (nearCache.isEnabled(mapName)) {
+      return nearCache.get(mapName, key, () -> client.getBytesFromMap(mapName, key));
+    }
+    return client.getBytesFromMap(mapName, key);
+  }
 }
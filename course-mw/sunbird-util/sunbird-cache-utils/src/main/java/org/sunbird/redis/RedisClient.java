@@ -0,0 +1,359 @@
+package org.sunbird.redis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.sunbird.common.request.RequestDeadline;
+
+/**
+ * The one redis client of the service, shared by the page cache ({@link RedisCache}) and the
+ * enrolment and aggregate caches (RedisCacheUtil), so that all of them draw on the same connection
+ * pool and event loop and report into the same {@link RedisMetrics}.
+ *
+ * <p>Every operation is available synchronously and asynchronously, and several operations can be
+ * sent in one round trip through a {@link RedisPipeline}. Synchronous reads wait no longer than the
+ * deadline of the request being served, writes and pipelines are not bound by it. Objects are
+ * stored in the encoding of a {@link ValueCodec}.
+ */
+public class RedisClient {
+
+  private static volatile RedisClient instance;
+
+  private final RedissonClient client;
+  private final ValueCodec codec;
+  private final RedisMetrics metrics = new RedisMetrics();
+
+  public RedisClient(RedissonClient client) {
+    this(client, JacksonValueCodec.fromConfig());
+  }
+
+  public RedisClient(RedissonClient client, ValueCodec codec) {
+    this.client = client;
+    this.codec = codec;
+  }
+
+  /**
+   * @return the shared client, connecting on first use. While redis cannot be reached no client is
+   *     kept, so that the next call tries to connect again.
+   * @throws RedisException if redis cannot be reached
+   */
+  public static RedisClient getInstance() {
+    if (instance == null) {
+      synchronized (RedisClient.class) {
+        if (instance == null) {
+          RedissonClient client = RedisConnectionManager.getClient();
+          if (client == null) {
+            throw new RedisException("Unable to connect to redis");
+          }
+          instance = new RedisClient(client);
+        }
+      }
+    }
+    return instance;
+  }
+
+  public RedisMetrics getMetrics() {
+    return metrics;
+  }
+
+  public ValueCodec getCodec() {
+    return codec;
+  }
+
+  public boolean checkConnection() {
+    return RedisConnectionManager.checkConnection();
+  }
+
+  /** @return value of the key, or null if it does not exist */
+  public String get(String key) {
+    return read("get", () -> client.<String>getBucket(key).getAsync());
+  }
+
+  public CompletionStage<String> getAsync(String key) {
+    return readAsync("get", () -> client.<String>getBucket(key).getAsync());
+  }
+
+  /**
+   * @param key Key to set
+   * @param value Value to store
+   * @param ttlSeconds expiry of the key, 0 for none
+   */
+  public void set(String key, String value, int ttlSeconds) {
+    write("set", () -> setCommand(key, value, ttlSeconds));
+  }
+
+  public CompletionStage<Void> setAsync(String key, String value, int ttlSeconds) {
+    return writeAsync("set", () -> setCommand(key, value, ttlSeconds));
+  }
+
+  private RFuture<Void> setCommand(String key, String value, int ttlSeconds) {
+    return ttlSeconds > 0
+        ? client.<String>getBucket(key).setAsync(value, ttlSeconds, TimeUnit.SECONDS)
+        : client.<String>getBucket(key).setAsync(value);
+  }
+
+  /** @return value of the key decoded as the given type, or null if it does not exist */
+  public <T> T getObject(String key, Class<T> type) {
+    byte[] data =
+        read(
+            "getObject", () -> client.<byte[]>getBucket(key, ByteArrayCodec.INSTANCE).getAsync());
+    return decode(key, data, type);
+  }
+
+  public <T> CompletionStage<T> getObjectAsync(String key, Class<T> type) {
+    return readAsync(
+            "getObject", () -> client.<byte[]>getBucket(key, ByteArrayCodec.INSTANCE).getAsync())
+        .thenApply(data -> decode(key, data, type));
+  }
+
+  /**
+   * @param key Key to set
+   * @param value Object to store, encoded by the codec of this client
+   * @param ttlSeconds expiry of the key, 0 for none
+   */
+  public void setObject(String key, Object value, int ttlSeconds) {
+    byte[] data = encode(key, value);
+    write(
+        "setObject",
+        () ->
+            ttlSeconds > 0
+                ? client
+                    .<byte[]>getBucket(key, ByteArrayCodec.INSTANCE)
+                    .setAsync(data, ttlSeconds, TimeUnit.SECONDS)
+                : client.<byte[]>getBucket(key, ByteArrayCodec.INSTANCE).setAsync(data));
+  }
+
+  /**
+   * Increments the counter and renews its expiry in one round trip.
+   *
+   * @param ttlSeconds expiry of the counter, 0 for none
+   * @return the incremented value
+   */
+  public long increment(String key, int ttlSeconds) {
+    RedisPipeline pipeline = pipeline();
+    CompletionStage<Long> value = pipeline.increment(key);
+    if (ttlSeconds > 0) {
+      pipeline.expire(key, ttlSeconds);
+    }
+    pipeline.execute();
+    return value.toCompletableFuture().join();
+  }
+
+  public double incrementByFloat(String key, double delta) {
+    return write("incrementByFloat", () -> client.getAtomicDouble(key).addAndGetAsync(delta));
+  }
+
+  /** @return members of the set, empty if the key does not exist */
+  public Set<String> getSet(String key) {
+    return read("getSet", () -> client.<String>getSet(key).readAllAsync());
+  }
+
+  public CompletionStage<Set<String>> getSetAsync(String key) {
+    return readAsync("getSet", () -> client.<String>getSet(key).readAllAsync());
+  }
+
+  /**
+   * Adds values to a set in one round trip.
+   *
+   * @param replace true to drop the current members first
+   * @param ttlSeconds expiry of the set, 0 to leave it unchanged
+   */
+  public void addToSet(String key, Collection<String> values, boolean replace, int ttlSeconds) {
+    if (values.isEmpty() && !replace) {
+      return;
+    }
+    RedisPipeline pipeline = pipeline();
+    if (replace) {
+      pipeline.delete(key);
+    }
+    if (!values.isEmpty()) {
+      pipeline.addToSet(key, values);
+    }
+    if (ttlSeconds > 0) {
+      pipeline.expire(key, ttlSeconds);
+    }
+    pipeline.execute();
+  }
+
+  public void removeFromSet(String key, Collection<String> values) {
+    write("removeFromSet", () -> client.<String>getSet(key).removeAllAsync(values));
+  }
+
+  /** @return value stored under the key of the hash, or null */
+  public String getFromMap(String mapName, String key) {
+    return read("getFromMap", () -> client.<String, String>getMap(mapName).getAsync(key));
+  }
+
+  public CompletionStage<String> getFromMapAsync(String mapName, String key) {
+    return readAsync("getFromMap", () -> client.<String, String>getMap(mapName).getAsync(key));
+  }
+
+  public void putInMap(String mapName, String key, String value) {
+    write("putInMap", () -> client.<String, String>getMap(mapName).fastPutAsync(key, value));
+  }
+
+  /** @return value stored under the key of the hash decoded as the given type, or null */
+  public <T> T getObjectFromMap(String mapName, String key, Class<T> type) {
+    return decode(key, getBytesFromMap(mapName, key), type);
+  }
+
+  public void putObjectInMap(String mapName, String key, Object value) {
+    putBytesInMap(mapName, key, encode(key, value));
+  }
+
+  /** @return encoded value stored under the key of the hash, or null */
+  public byte[] getBytesFromMap(String mapName, String key) {
+    return read(
+        "getObjectFromMap",
+        () ->
+            client
+                .<byte[], byte[]>getMap(mapName, ByteArrayCodec.INSTANCE)
+                .getAsync(key.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  public void putBytesInMap(String mapName, String key, byte[] data) {
+    write(
+        "putObjectInMap",
+        () ->
+            client
+                .<byte[], byte[]>getMap(mapName, ByteArrayCodec.INSTANCE)
+                .fastPutAsync(key.getBytes(StandardCharsets.UTF_8), data));
+  }
+
+  /** @return number of clients that received the message */
+  public long publish(String channel, String message) {
+    return write("publish", () -> client.<String>getTopic(channel).publishAsync(message));
+  }
+
+  /**
+   * @param channel Channel to listen on
+   * @param listener called with every message published on the channel, on a redis thread
+   */
+  public void subscribe(String channel, Consumer<String> listener) {
+    client
+        .<String>getTopic(channel)
+        .addListener(
+            new MessageListener<String>() {
+              @Override
+              public void onMessage(String messageChannel, String message) {
+                listener.accept(message);
+              }
+            });
+  }
+
+  /** @return number of keys deleted */
+  public long delete(String... keys) {
+    return write("delete", () -> client.getKeys().deleteAsync(keys));
+  }
+
+  /** @return number of keys deleted */
+  public long deleteByPattern(String pattern) {
+    return write("deleteByPattern", () -> client.getKeys().deleteByPatternAsync(pattern));
+  }
+
+  /** @return true if the key exists and its expiry was set */
+  public boolean expire(String key, long seconds) {
+    return write("expire", () -> client.getBucket(key).expireAsync(seconds, TimeUnit.SECONDS));
+  }
+
+  /** @return a pipeline whose commands are sent together once it is executed */
+  public RedisPipeline pipeline() {
+    return new RedisPipeline(this, client.createBatch());
+  }
+
+  List<?> execute(RBatch batch) {
+    return write("pipeline", batch::executeAsync);
+  }
+
+  CompletionStage<List<?>> executeAsync(RBatch batch) {
+    return writeAsync("pipeline", batch::executeAsync);
+  }
+
+  private byte[] encode(String key, Object value) {
+    try {
+      return codec.encode(value);
+    } catch (IOException e) {
+      throw new RedisException("Could not encode value of " + key, e);
+    }
+  }
+
+  private <T> T decode(String key, byte[] data, Class<T> type) {
+    try {
+      return codec.decode(data, type);
+    } catch (IOException e) {
+      throw new RedisException("Could not decode value of " + key, e);
+    }
+  }
+
+  private <T> T read(String operation, Supplier<RFuture<T>> command) {
+    RequestDeadline.check(null, "redis " + operation);
+    return call(operation, command, RequestDeadline.remainingMillis());
+  }
+
+  // writes are not cut off at the request deadline, so that an update is never left half done
+  private <T> T write(String operation, Supplier<RFuture<T>> command) {
+    return call(operation, command, RequestDeadline.NONE);
+  }
+
+  private <T> T call(String operation, Supplier<RFuture<T>> command, long timeoutMillis) {
+    long startTime = System.nanoTime();
+    boolean success = false;
+    try {
+      T result = await(operation, command.get(), timeoutMillis);
+      success = true;
+      return result;
+    } finally {
+      metrics.record(operation, startTime, success);
+    }
+  }
+
+  private <T> CompletionStage<T> readAsync(String operation, Supplier<RFuture<T>> command) {
+    if (RequestDeadline.isExceeded()) {
+      CompletableFuture<T> failed = new CompletableFuture<>();
+      failed.completeExceptionally(RequestDeadline.exceeded("redis " + operation));
+      return failed;
+    }
+    return writeAsync(operation, command);
+  }
+
+  private <T> CompletionStage<T> writeAsync(String operation, Supplier<RFuture<T>> command) {
+    long startTime = System.nanoTime();
+    return command
+        .get()
+        .whenComplete((result, error) -> metrics.record(operation, startTime, error == null));
+  }
+
+  private static <T> T await(String operation, RFuture<T> future, long timeoutMillis) {
+    try {
+      return timeoutMillis == RequestDeadline.NONE
+          ? future.get()
+          : future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(false);
+      throw RequestDeadline.exceeded("redis " + operation);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RedisException("Redis " + operation + " failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RedisException("Interrupted during redis " + operation, e);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.sunbird.redis;
 
+import com.typesafe.config.ConfigFactory;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.StringCodec;
@@ -18,6 +19,7 @@ public class RedisConnectionManager {
   private static String scanInterval = ProjectUtil.getConfigValue(JsonKey.SUNBIRD_REDIS_SCAN_INTERVAL);
   private static int poolsize =
       Integer.valueOf(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_REDIS_CONN_POOL_SIZE));
+  private static int database = getDatabase();
   private static RedissonClient client = null;
   private static LoggerUtil logger = new LoggerUtil(RedisConnectionManager.class);
 
@@ -32,6 +34,28 @@ public class RedisConnectionManager {
     return client;
   }
 
+  /**
+   * Pings all redis nodes known to the client.
+   *
+   * @return true if every node answered the ping
+   */
+  public static boolean checkConnection() {
+    try {
+      RedissonClient redissonClient = getClient();
+      return null != redissonClient && redissonClient.getNodesGroup().pingAll();
+    } catch (Exception e) {
+      logger.error(null, "RedisConnectionManager:checkConnection: Error occurred = " + e.getMessage(), e);
+      return false;
+    }
+  }
+
+  // looked up like the redis cache util always did, from the environment or application.conf
+  private static int getDatabase() {
+    com.typesafe.config.Config config =
+        ConfigFactory.systemEnvironment().withFallback(ConfigFactory.load());
+    return config.hasPath(JsonKey.REDIS_INDEX_VALUE) ? config.getInt(JsonKey.REDIS_INDEX_VALUE) : 0;
+  }
+
   private static boolean initialiseConnection() {
     try {
       if (isRedisCluster) {
@@ -55,6 +79,7 @@ public class RedisConnectionManager {
     SingleServerConfig singleServerConfig = config.useSingleServer();
     singleServerConfig.setAddress(host + ":" + port);
     singleServerConfig.setConnectionPoolSize(poolsize);
+    singleServerConfig.setDatabase(database);
     config.setCodec(new StringCodec());
     client = Redisson.create(config);
   }
@@ -0,0 +1,52 @@
+package org.sunbird.redis;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Calls, errors and time spent per redis operation, across every user of {@link RedisClient}. */
+public class RedisMetrics {
+
+  private final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+  private static final class Stats {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+  }
+
+  /**
+   * @param operation name of the operation, e.g. get or pipeline
+   * @param startNanos {@link System#nanoTime()} when the operation was issued
+   * @param success false if the operation failed or timed out
+   */
+  public void record(String operation, long startNanos, boolean success) {
+    Stats operationStats = stats.computeIfAbsent(operation, key -> new Stats());
+    operationStats.calls.increment();
+    operationStats.nanos.add(System.nanoTime() - startNanos);
+    if (!success) {
+      operationStats.errors.increment();
+    }
+  }
+
+  /** @return calls, errors and mean latency in milliseconds, by operation */
+  public Map<String, Map<String, Object>> snapshot() {
+    Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+    stats.forEach(
+        (operation, operationStats) -> {
+          long calls = operationStats.calls.sum();
+          Map<String, Object> values = new TreeMap<>();
+          values.put("calls", calls);
+          values.put("errors", operationStats.errors.sum());
+          values.put(
+              "meanMillis",
+              calls == 0
+                  ? 0.0
+                  : (double) operationStats.nanos.sum() / calls / TimeUnit.MILLISECONDS.toNanos(1));
+          snapshot.put(operation, values);
+        });
+    return snapshot;
+  }
+}
@@ -0,0 +1,88 @@
+package org.sunbird.redis;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.redisson.api.RBatch;
+
+/**
+ * Commands queued to be sent to redis in one round trip. The stages returned for reads complete
+ * once the pipeline has been executed.
+ */
+public class RedisPipeline {
+
+  private final RedisClient owner;
+  private final RBatch batch;
+
+  RedisPipeline(RedisClient owner, RBatch batch) {
+    this.owner = owner;
+    this.batch = batch;
+  }
+
+  public CompletionStage<String> get(String key) {
+    return batch.<String>getBucket(key).getAsync();
+  }
+
+  /** @param ttlSeconds expiry of the key, 0 for none */
+  public RedisPipeline set(String key, String value, int ttlSeconds) {
+    if (ttlSeconds > 0) {
+      batch.<String>getBucket(key).setAsync(value, ttlSeconds, TimeUnit.SECONDS);
+    } else {
+      batch.<String>getBucket(key).setAsync(value);
+    }
+    return this;
+  }
+
+  public CompletionStage<Long> increment(String key) {
+    return batch.getAtomicLong(key).incrementAndGetAsync();
+  }
+
+  public CompletionStage<Set<String>> getSet(String key) {
+    return batch.<String>getSet(key).readAllAsync();
+  }
+
+  public RedisPipeline addToSet(String key, Collection<String> values) {
+    batch.<String>getSet(key).addAllAsync(values);
+    return this;
+  }
+
+  public RedisPipeline removeFromSet(String key, Collection<String> values) {
+    batch.<String>getSet(key).removeAllAsync(values);
+    return this;
+  }
+
+  public CompletionStage<String> getFromMap(String mapName, String key) {
+    return batch.<String, String>getMap(mapName).getAsync(key);
+  }
+
+  public RedisPipeline putInMap(String mapName, String key, String value) {
+    batch.<String, String>getMap(mapName).fastPutAsync(key, value);
+    return this;
+  }
+
+  public RedisPipeline expire(String key, long seconds) {
+    batch.getBucket(key).expireAsync(seconds, TimeUnit.SECONDS);
+    return this;
+  }
+
+  public RedisPipeline delete(String... keys) {
+    batch.getKeys().deleteAsync(keys);
+    return this;
+  }
+
+  /**
+   * Sends the queued commands and waits for their replies, no longer than the deadline of the
+   * request being served.
+   *
+   * @return the replies in the order the commands were queued
+   */
+  public List<?> execute() {
+    return owner.execute(batch);
+  }
+
+  public CompletionStage<List<?>> executeAsync() {
+    return owner.executeAsync(batch);
+  }
+}
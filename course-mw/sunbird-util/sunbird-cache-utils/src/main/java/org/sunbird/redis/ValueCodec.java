@@ -0,0 +1,20 @@
+package org.sunbird.redis;
+
+import java.io.IOException;
+
+/** Turns cached objects into the bytes stored in redis and back. */
+public interface ValueCodec {
+
+  /**
+   * @param value Object to cache
+   * @return bytes to store for the value
+   */
+  byte[] encode(Object value) throws IOException;
+
+  /**
+   * @param data bytes read from redis, may be null
+   * @param type Class to read the value as
+   * @return the value, or null if there was none
+   */
+  <T> T decode(byte[] data, Class<T> type) throws IOException;
+}
@@ -0,0 +1,74 @@
+package org.sunbird.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.redis.JacksonValueCodec.Format;
+
+public class JacksonValueCodecTest {
+
+  @Test
+  public void testEncodeDecodeInEveryFormat() throws Exception {
+    Map<String, Object> value = newValue(3);
+    for (Format format : Format.values()) {
+      JacksonValueCodec codec = new JacksonValueCodec(format, 0);
+      Assert.assertEquals(value, codec.decode(codec.encode(value), Map.class));
+    }
+  }
+
+  @Test
+  public void testLargeValueIsCompressed() throws Exception {
+    Map<String, Object> value = newValue(500);
+    JacksonValueCodec uncompressed = new JacksonValueCodec(Format.SMILE, 0);
+    JacksonValueCodec compressed = new JacksonValueCodec(Format.SMILE, 1024);
+
+    byte[] plain = uncompressed.encode(value);
+    byte[] data = compressed.encode(value);
+
+    Assert.assertTrue(data.length < plain.length);
+    Assert.assertEquals(value, compressed.decode(data, Map.class));
+    Assert.assertEquals(value, uncompressed.decode(data, Map.class));
+  }
+
+  @Test
+  public void testDecodeJsonTextWrittenBeforeCodec() throws Exception {
+    JacksonValueCodec codec = new JacksonValueCodec(Format.SMILE, 1024);
+    byte[] json = "{\"id\":\"do_1\",\"count\":2}".getBytes(StandardCharsets.UTF_8);
+
+    Map<String, Object> value = codec.decode(json, Map.class);
+
+    Assert.assertEquals("do_1", value.get("id"));
+    Assert.assertEquals(2, value.get("count"));
+    Assert.assertEquals("{\"id\":\"do_1\",\"count\":2}", codec.decode(json, String.class));
+  }
+
+  @Test
+  public void testDecodeAsStringGivesJson() throws Exception {
+    JacksonValueCodec codec = new JacksonValueCodec(Format.CBOR, 0);
+    Map<String, Object> value = new HashMap<>();
+    value.put("id", "do_1");
+
+    Assert.assertEquals("{\"id\":\"do_1\"}", codec.decode(codec.encode(value), String.class));
+    Assert.assertEquals("text", codec.decode(codec.encode("text"), String.class));
+    Assert.assertNull(codec.decode(null, Map.class));
+  }
+
+  private static Map<String, Object> newValue(int sections) {
+    Map<String, Object> value = new HashMap<>();
+    List<Map<String, Object>> list = new ArrayList<>();
+    for (int i = 0; i < sections; i++) {
+      Map<String, Object> section = new HashMap<>();
+      section.put("id", "section_" + i);
+      section.put("index", i);
+      section.put("active", i % 2 == 0);
+      list.add(section);
+    }
+    value.put("name", "page");
+    value.put("sections", list);
+    return value;
+  }
+}
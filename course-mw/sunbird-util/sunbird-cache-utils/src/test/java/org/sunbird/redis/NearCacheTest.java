@@ -0,0 +1,101 @@
+package org.sunbird.redis;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class NearCacheTest {
+
+  private RedisClient client;
+  private NearCache nearCache;
+  private Consumer<String> listener;
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    client = mock(RedisClient.class);
+    nearCache = new NearCache(client, properties());
+    ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+    verify(client).subscribe(eq(NearCache.INVALIDATION_CHANNEL), captor.capture());
+    listener = captor.getValue();
+  }
+
+  @Test
+  public void testGetLoadsOnceAndCountsHits() {
+    Assert.assertTrue(nearCache.isEnabled("pageAssemble"));
+    Assert.assertFalse(nearCache.isEnabled("getSection"));
+
+    Assert.assertArrayEquals(new byte[] {1}, get("page1"));
+    Assert.assertArrayEquals(new byte[] {1}, get("page1"));
+
+    Assert.assertEquals(1, loads.get());
+    Map<String, Object> stats = nearCache.getStats().get("pageAssemble");
+    Assert.assertEquals(1L, stats.get("hits"));
+    Assert.assertEquals(1L, stats.get("misses"));
+  }
+
+  @Test
+  public void testInvalidationFromOtherNodeDropsValue() {
+    get("page1");
+    get("page2");
+
+    listener.accept("other-node\npageAssemble\npage1");
+    get("page1");
+    get("page2");
+    Assert.assertEquals(3, loads.get());
+
+    listener.accept("other-node\npageAssemble\n");
+    get("page2");
+    Assert.assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void testPutKeepsValueAndPublishes() {
+    nearCache.put("pageAssemble", "page1", new byte[] {2});
+
+    Assert.assertArrayEquals(new byte[] {2}, get("page1"));
+    Assert.assertEquals(0, loads.get());
+    verify(client).publish(eq(NearCache.INVALIDATION_CHANNEL), anyString());
+  }
+
+  @Test
+  public void testDisabledWithoutSubscription() {
+    RedisClient unavailable = mock(RedisClient.class);
+    doThrow(new RuntimeException("down"))
+        .when(unavailable)
+        .subscribe(anyString(), any(Consumer.class));
+
+    Assert.assertFalse(new NearCache(unavailable, properties()).isEnabled("pageAssemble"));
+  }
+
+  private byte[] get(String key) {
+    return nearCache.get(
+        "pageAssemble",
+        key,
+        () -> {
+          loads.incrementAndGet();
+          return new byte[] {1};
+        });
+  }
+
+  private static Map<String, String> properties() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("cache.nearCache.mapNames", "getPageData,pageAssemble");
+    properties.put("cache.nearCache.ttl", "60");
+    properties.put("cache.nearCache.maxWeight.pageAssemble", "1024");
+    return properties;
+  }
+}
@@ -157,6 +157,18 @@ public interface CassandraOperation {
    */
   public Response getAllRecords(RequestContext requestContext, String keyspaceName, String tableName);
 
+  /**
+   * @desc This method is used to fetch the given columns of all records for table(i.e Select
+   *     field1,field2 from tableName)
+   * @param requestContext
+   * @param keyspaceName String (data base keyspace name)
+   * @param tableName String
+   * @param fields List of columns to be selected, all columns are selected if empty
+   * @return Response Response
+   */
+  public Response getAllRecords(
+      RequestContext requestContext, String keyspaceName, String tableName, List<String> fields);
+
   /**
    * Method to update the record on basis of composite primary key.
    *
@@ -290,4 +302,14 @@ public interface CassandraOperation {
    */
   Response batchInsertLogged(RequestContext requestContext, String keyspaceName, String tableName, List<Map<String, Object>> records);
 
+  /**
+   * Method to check cassandra connectivity with a lightweight query on the system keyspace.
+   *
+   * @param requestContext
+   * @param keyspaceName Keyspace name whose session is used for the check
+   * @param timeoutMillis Read timeout for the check
+   * @return true if cassandra answered the query
+   */
+  boolean checkConnection(RequestContext requestContext, String keyspaceName, int timeoutMillis);
+
 }
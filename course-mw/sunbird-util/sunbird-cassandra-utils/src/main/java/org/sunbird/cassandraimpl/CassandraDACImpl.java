@@ -51,7 +51,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
 
       ResultSet results = null;
       logger.debug(requestContext, select.getQueryString());
-      results = session.execute(select);
+      results = execute(requestContext, session, select);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext,Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
@@ -90,7 +90,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
         }
       }
       logger.debug(requestContext, select.getQueryString());
-      ResultSetFuture future = session.executeAsync(select);
+      ResultSetFuture future = session.executeAsync(withDeadline(requestContext, session, select));
       Futures.addCallback(future, callback, Executors.newFixedThreadPool(1));
     } catch (Exception e) {
       logger.error(requestContext,Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
@@ -191,7 +191,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       select.limit(limit);
       ResultSet results = null;
       logger.debug(requestContext, select.getQueryString());
-      results = session.execute(select);
+      results = execute(requestContext, session, select);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext,Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
@@ -6,6 +6,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.WriteType;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.WriteTimeoutException;
@@ -31,6 +32,7 @@ import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.*;
 import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.helper.CassandraConnectionManager;
 import org.sunbird.helper.CassandraConnectionManagerImpl;
@@ -188,7 +190,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       ResultSet results = null;
       Select selectQuery = selectStatement.allowFiltering();
       if (null != selectStatement) logger.debug(requestContext, selectStatement.getQueryString());
-      results = session.execute(selectQuery);
+      results = execute(requestContext, session, selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
@@ -240,7 +242,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       }
       selectQuery = selectQuery.allowFiltering();
       if (null != selectQuery) logger.debug(requestContext, selectQuery.getQueryString());
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      ResultSet results = execute(requestContext, connectionManager.getSession(keyspaceName), selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
@@ -266,7 +268,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       logger.debug(requestContext, statement.getQueryString());
       BoundStatement boundStatement = new BoundStatement(statement);
       ResultSet results =
-          connectionManager.getSession(keyspaceName).execute(boundStatement.bind(id));
+          execute(requestContext, connectionManager.getSession(keyspaceName), boundStatement.bind(id));
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
@@ -287,7 +289,34 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     try {
       Select selectQuery = QueryBuilder.select().all().from(keyspaceName, tableName);
       logger.debug(requestContext, selectQuery.getQueryString());
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      ResultSet results = execute(requestContext, connectionManager.getSession(keyspaceName), selectQuery);
+      response = CassandraUtil.createResponse(results);
+    } catch (Exception e) {
+      logger.error(requestContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+    logQueryElapseTime("getAllRecords", startTime);
+    return response;
+  }
+
+  @Override
+  public Response getAllRecords(
+      RequestContext requestContext, String keyspaceName, String tableName, List<String> fields) {
+    if (CollectionUtils.isEmpty(fields)) {
+      return getAllRecords(requestContext, keyspaceName, tableName);
+    }
+    long startTime = System.currentTimeMillis();
+    logger.debug(requestContext, "Cassandra Service getAllRecords method started at ==" + startTime);
+    Response response = new Response();
+    try {
+      Select selectQuery =
+          QueryBuilder.select(fields.toArray(new String[fields.size()]))
+              .from(keyspaceName, tableName);
+      logger.debug(requestContext, selectQuery.getQueryString());
+      ResultSet results = execute(requestContext, connectionManager.getSession(keyspaceName), selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
@@ -450,7 +479,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
                 });
       }
       logger.debug(requestContext, selectWhere.getQueryString());
-      ResultSet results = session.execute(selectWhere);
+      ResultSet results = execute(requestContext, session, selectWhere);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
@@ -532,6 +561,34 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return response;
   }
 
+  /**
+   * Executes the read statement within the deadline of the request: nothing is sent once the
+   * deadline has passed, otherwise the driver waits no longer than the deadline for the response.
+   * Writes are not bound by the deadline, so that an operation is never cut off between its writes.
+   */
+  protected ResultSet execute(RequestContext requestContext, Session session, Statement statement) {
+    return session.execute(withDeadline(requestContext, session, statement));
+  }
+
+  protected Statement withDeadline(
+      RequestContext requestContext, Session session, Statement statement) {
+    long remaining = RequestDeadline.remainingMillis(requestContext);
+    if (remaining == RequestDeadline.NONE) {
+      return statement;
+    }
+    if (remaining == 0) {
+      throw RequestDeadline.exceeded("cassandra query");
+    }
+    int readTimeout =
+        statement.getReadTimeoutMillis() > 0
+            ? statement.getReadTimeoutMillis()
+            : session.getCluster().getConfiguration().getSocketOptions().getReadTimeoutMillis();
+    if (remaining < readTimeout) {
+      statement.setReadTimeoutMillis((int) remaining);
+    }
+    return statement;
+  }
+
   private void logQueryElapseTime(String operation, long startTime) {
 
     long stopTime = System.currentTimeMillis();
@@ -555,7 +612,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       selectQuery.allowFiltering();
       if (null != selectQuery) logger.debug(requestContext, selectQuery.getQueryString());
       ResultSet results =
-          connectionManager.getSession(keyspaceName).execute(selectQuery.allowFiltering());
+          execute(requestContext, connectionManager.getSession(keyspaceName), selectQuery.allowFiltering());
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, 
@@ -652,7 +709,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
         selectWhere.and(clause);
       }
       logger.debug(requestContext, selectQuery.getQueryString());
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      ResultSet results = execute(requestContext, connectionManager.getSession(keyspaceName), selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(requestContext, 
@@ -719,7 +776,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       }
     }
     logger.debug(requestContext, selectQuery.getQueryString());
-    ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
+    ResultSet resultSet = execute(requestContext, connectionManager.getSession(keyspace), selectQuery);
     Response response = CassandraUtil.createResponse(resultSet);
     return response;
   }
@@ -772,4 +829,17 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return response;
   }
 
+  @Override
+  public boolean checkConnection(RequestContext requestContext, String keyspaceName, int timeoutMillis) {
+    try {
+      Statement statement =
+          new SimpleStatement(Constants.HEALTH_CHECK_QUERY).setReadTimeoutMillis(timeoutMillis);
+      ResultSet resultSet = connectionManager.getSession(keyspaceName).execute(statement);
+      return null != resultSet.one();
+    } catch (Exception e) {
+      logger.error(requestContext, "Cassandra Service checkConnection failed : " + e.getMessage(), e);
+      return false;
+    }
+  }
+
 }
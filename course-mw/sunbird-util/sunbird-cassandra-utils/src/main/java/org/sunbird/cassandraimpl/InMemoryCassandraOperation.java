@@ -0,0 +1,652 @@
+package org.sunbird.cassandraimpl;
+
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.Constants;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.CassandraPropertyReader;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.InMemoryStorage;
+
+/**
+ * @desc CassandraOperation kept in memory, for load tests and local runs without a cassandra
+ *     cluster. Every table is a sorted map of rows keyed by their primary key values. Column names
+ *     are case insensitive, as unquoted identifiers are in cassandra, and rows are returned keyed by
+ *     property name like CassandraUtil.createResponse does. Tables whose primary key is not
+ *     registered are keyed by id.
+ */
+public class InMemoryCassandraOperation implements CassandraOperation {
+
+  private static final String KEY_SEPARATOR = "\u0000";
+  private static final Map<String, List<String>> DEFAULT_PRIMARY_KEYS = new HashMap<>();
+
+  static {
+    DEFAULT_PRIMARY_KEYS.put("user_enrolments", Arrays.asList("userid", "courseid", "batchid"));
+    DEFAULT_PRIMARY_KEYS.put("user_courses", Arrays.asList("batchid", "userid"));
+    DEFAULT_PRIMARY_KEYS.put("course_batch", Arrays.asList("courseid", "batchid"));
+    DEFAULT_PRIMARY_KEYS.put(
+        "user_content_consumption", Arrays.asList("userid", "courseid", "batchid", "contentid"));
+    DEFAULT_PRIMARY_KEYS.put(
+        "user_activity_agg",
+        Arrays.asList("activity_type", "activity_id", "user_id", "context_id"));
+    DEFAULT_PRIMARY_KEYS.put(
+        "assessment_aggregator",
+        Arrays.asList("user_id", "course_id", "batch_id", "content_id", "attempt_id"));
+  }
+
+  private final CassandraPropertyReader propertiesCache = CassandraPropertyReader.getInstance();
+  private final Map<String, List<String>> primaryKeys = new ConcurrentHashMap<>(DEFAULT_PRIMARY_KEYS);
+  private final Map<String, ConcurrentNavigableMap<String, Map<String, Object>>> tables =
+      new ConcurrentHashMap<>();
+  private final InMemoryStorage storage;
+  private LoggerUtil logger = new LoggerUtil(this.getClass());
+
+  public InMemoryCassandraOperation() {
+    this(InMemoryStorage.fromConfig());
+  }
+
+  public InMemoryCassandraOperation(InMemoryStorage storage) {
+    this.storage = storage;
+  }
+
+  /**
+   * @desc Registers the primary key columns of a table, in clustering order.
+   * @param tableName Table name
+   * @param keyColumns primary key column names
+   */
+  public void registerTable(String tableName, String... keyColumns) {
+    List<String> columns = new ArrayList<>(keyColumns.length);
+    for (String column : keyColumns) {
+      columns.add(column.toLowerCase());
+    }
+    primaryKeys.put(tableName.toLowerCase(), columns);
+  }
+
+  /** @desc Drops all rows of all tables. */
+  public void clear() {
+    tables.clear();
+  }
+
+  @Override
+  public Response upsertRecord(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext requestContext) {
+    storage.simulateLatency();
+    write(keyspaceName, tableName, request, request);
+    return success();
+  }
+
+  @Override
+  public Response insertRecord(
+      RequestContext requestContext, String keyspaceName, String tableName, Map<String, Object> request) {
+    return upsertRecord(keyspaceName, tableName, request, requestContext);
+  }
+
+  @Override
+  public Response updateRecord(
+      RequestContext requestContext, String keyspaceName, String tableName, Map<String, Object> request) {
+    storage.simulateLatency();
+    Map<String, Object> key = new HashMap<>();
+    key.put(Constants.IDENTIFIER, request.get(Constants.IDENTIFIER));
+    write(keyspaceName, tableName, key, request);
+    return success();
+  }
+
+  @Override
+  public Response updateRecord(
+      RequestContext requestContext,
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> updateAttributes,
+      Map<String, Object> compositeKey) {
+    storage.simulateLatency();
+    write(keyspaceName, tableName, compositeKey, updateAttributes);
+    return success();
+  }
+
+  @Override
+  public Response updateRecordV2(
+      RequestContext requestContext,
+      String keyspace,
+      String table,
+      Map<String, Object> selectMap,
+      Map<String, Object> updateMap,
+      boolean ifExists) {
+    storage.simulateLatency();
+    if (!ifExists || !select(keyspace, table, selectMap).isEmpty()) {
+      write(keyspace, table, selectMap, updateMap);
+    }
+    return success();
+  }
+
+  @Override
+  public Response deleteRecord(
+      String keyspaceName, String tableName, String identifier, RequestContext requestContext) {
+    storage.simulateLatency();
+    delete(keyspaceName, tableName, Collections.singletonMap(Constants.IDENTIFIER, identifier));
+    return success();
+  }
+
+  @Override
+  public void deleteRecord(
+      String keyspaceName,
+      String tableName,
+      Map<String, String> compositeKeyMap,
+      RequestContext requestContext) {
+    storage.simulateLatency();
+    delete(keyspaceName, tableName, new HashMap<String, Object>(compositeKeyMap));
+  }
+
+  @Override
+  public boolean deleteRecords(
+      String keyspaceName, String tableName, List<String> identifierList, RequestContext requestContext) {
+    storage.simulateLatency();
+    delete(
+        keyspaceName,
+        tableName,
+        Collections.singletonMap(Constants.IDENTIFIER, new ArrayList<Object>(identifierList)));
+    return true;
+  }
+
+  @Override
+  public Response getRecordsByProperty(
+      RequestContext requestContext,
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      Object propertyValue,
+      List<String> fields) {
+    return getRecords(
+        requestContext,
+        keyspaceName,
+        tableName,
+        Collections.singletonMap(propertyName, propertyValue),
+        fields);
+  }
+
+  @Override
+  public Response getRecordsByIndexedProperty(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      Object propertyValue,
+      RequestContext requestContext) {
+    return getRecordsByProperty(
+        requestContext, keyspaceName, tableName, propertyName, propertyValue, null);
+  }
+
+  @Override
+  public Response getRecordsByProperties(
+      RequestContext requestContext,
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap) {
+    return getRecords(requestContext, keyspaceName, tableName, propertyMap, null);
+  }
+
+  @Override
+  public Response getRecordsByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext requestContext) {
+    return getRecords(requestContext, keyspaceName, tableName, propertyMap, fields);
+  }
+
+  @Override
+  public Response getPropertiesValueById(
+      String keyspaceName,
+      String tableName,
+      String id,
+      RequestContext requestContext,
+      String... properties) {
+    return getRecordsByProperty(
+        requestContext,
+        keyspaceName,
+        tableName,
+        Constants.IDENTIFIER,
+        id,
+        Arrays.asList(properties));
+  }
+
+  @Override
+  public Response getAllRecords(RequestContext requestContext, String keyspaceName, String tableName) {
+    return getRecords(requestContext, keyspaceName, tableName, null, null);
+  }
+
+  @Override
+  public Response getAllRecords(
+      RequestContext requestContext, String keyspaceName, String tableName, List<String> fields) {
+    return getRecords(requestContext, keyspaceName, tableName, null, fields);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Response getRecordByIdentifier(
+      RequestContext requestContext,
+      String keyspaceName,
+      String tableName,
+      Object key,
+      List<String> fields) {
+    Map<String, Object> filters =
+        key instanceof Map
+            ? (Map<String, Object>) key
+            : Collections.singletonMap(Constants.IDENTIFIER, key);
+    return getRecords(requestContext, keyspaceName, tableName, filters, fields);
+  }
+
+  @Override
+  public Response batchInsert(
+      RequestContext requestContext,
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records) {
+    storage.simulateLatency();
+    for (Map<String, Object> record : records) {
+      write(keyspaceName, tableName, record, record);
+    }
+    return success();
+  }
+
+  @Override
+  public Response batchInsertLogged(
+      RequestContext requestContext,
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records) {
+    return batchInsert(requestContext, keyspaceName, tableName, records);
+  }
+
+  @Override
+  public Response batchUpdate(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Map<String, Object>>> list,
+      RequestContext requestContext) {
+    storage.simulateLatency();
+    for (Map<String, Map<String, Object>> record : list) {
+      write(
+          keyspaceName,
+          tableName,
+          record.get(JsonKey.PRIMARY_KEY),
+          record.get(JsonKey.NON_PRIMARY_KEY));
+    }
+    return success();
+  }
+
+  @Override
+  public Response getRecords(
+      RequestContext requestContext,
+      String keyspace,
+      String table,
+      Map<String, Object> filters,
+      List<String> fields) {
+    return getRecordsWithLimit(requestContext, keyspace, table, filters, fields, null);
+  }
+
+  @Override
+  public Response getRecordsWithLimit(
+      RequestContext requestContext,
+      String keyspace,
+      String table,
+      Map<String, Object> filters,
+      List<String> fields,
+      Integer limit) {
+    storage.simulateLatency();
+    List<Map<String, Object>> rows = select(keyspace, table, filters);
+    if (limit != null && rows.size() > limit) {
+      rows = rows.subList(0, limit);
+    }
+    return createResponse(rows, fields);
+  }
+
+  @Override
+  public Response getRecordsByCompositeKey(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> compositeKeyMap,
+      RequestContext requestContext) {
+    return getRecords(requestContext, keyspaceName, tableName, compositeKeyMap, null);
+  }
+
+  /** @desc Hands the matching rows to the callback, on the calling thread. */
+  @Override
+  public void applyOperationOnRecordsAsync(
+      RequestContext requestContext,
+      String keySpace,
+      String table,
+      Map<String, Object> filters,
+      List<String> fields,
+      FutureCallback<ResultSet> callback) {
+    storage.simulateLatency();
+    ResultSet resultSet;
+    try {
+      resultSet = InMemoryResultSet.of(keySpace, table, select(keySpace, table, filters), fields);
+    } catch (Exception e) {
+      logger.error(
+          requestContext,
+          "InMemoryCassandraOperation:applyOperationOnRecordsAsync: failed to read " + table,
+          e);
+      callback.onFailure(e);
+      return;
+    }
+    callback.onSuccess(resultSet);
+  }
+
+  @Override
+  public Response searchValueInList(
+      String keyspace, String tableName, String key, String value, RequestContext requestContext) {
+    return searchValueInList(keyspace, tableName, key, value, null, requestContext);
+  }
+
+  @Override
+  public Response searchValueInList(
+      String keyspace,
+      String tableName,
+      String key,
+      String value,
+      Map<String, Object> propertyMap,
+      RequestContext requestContext) {
+    storage.simulateLatency();
+    String column = key.toLowerCase();
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (Map<String, Object> row : select(keyspace, tableName, propertyMap)) {
+      Object list = row.get(column);
+      if (list instanceof Collection && ((Collection) list).contains(value)) {
+        rows.add(row);
+      }
+    }
+    return createResponse(rows, null);
+  }
+
+  @Override
+  public Response updateAddMapRecord(
+      RequestContext requestContext,
+      String keySpace,
+      String table,
+      Map<String, Object> primaryKey,
+      String column,
+      String key,
+      Object value) {
+    return updateMapRecord(keySpace, table, primaryKey, column, key, value, true);
+  }
+
+  @Override
+  public Response updateRemoveMapRecord(
+      RequestContext requestContext,
+      String keySpace,
+      String table,
+      Map<String, Object> primaryKey,
+      String column,
+      String key) {
+    return updateMapRecord(keySpace, table, primaryKey, column, key, null, false);
+  }
+
+  @Override
+  public boolean checkConnection(
+      RequestContext requestContext, String keyspaceName, int timeoutMillis) {
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Response updateMapRecord(
+      String keySpace,
+      String table,
+      Map<String, Object> primaryKey,
+      String column,
+      String key,
+      Object value,
+      boolean add) {
+    if (MapUtils.isEmpty(primaryKey)) {
+      logger.error(
+          null,
+          Constants.EXCEPTION_MSG_FETCH + table + " : primary key is a must for update call",
+          null);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+    storage.simulateLatency();
+    String columnName = column.toLowerCase();
+    ConcurrentNavigableMap<String, Map<String, Object>> rows = getTable(keySpace, table);
+    String rowKey = rowKey(table, normalise(primaryKey));
+    rows.compute(
+        rowKey,
+        (k, row) -> {
+          Map<String, Object> updated = row == null ? normalise(primaryKey) : new HashMap<>(row);
+          Object current = updated.get(columnName);
+          Map<String, Object> map =
+              current instanceof Map
+                  ? new HashMap<>((Map<String, Object>) current)
+                  : new HashMap<>();
+          if (add) {
+            map.put(key, value);
+          } else {
+            map.remove(key);
+          }
+          updated.put(columnName, map);
+          return updated;
+        });
+    return success();
+  }
+
+  private void write(
+      String keyspace, String table, Map<String, Object> key, Map<String, Object> values) {
+    Map<String, Object> keyColumns = normalise(key);
+    Map<String, Object> columns = normalise(values);
+    getTable(keyspace, table)
+        .merge(
+            rowKey(table, keyColumns),
+            merge(keyColumns, columns),
+            (existing, update) -> merge(existing, update));
+  }
+
+  private static Map<String, Object> merge(Map<String, Object> row, Map<String, Object> update) {
+    Map<String, Object> merged = new HashMap<>(row);
+    merged.putAll(update);
+    return merged;
+  }
+
+  private void delete(String keyspace, String table, Map<String, Object> filters) {
+    ConcurrentNavigableMap<String, Map<String, Object>> rows = getTable(keyspace, table);
+    Map<String, Object> columnFilters = normalise(filters);
+    Iterator<Map<String, Object>> iterator = rows.values().iterator();
+    while (iterator.hasNext()) {
+      if (matches(iterator.next(), columnFilters)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private List<Map<String, Object>> select(
+      String keyspace, String table, Map<String, Object> filters) {
+    Map<String, Object> columnFilters = normalise(filters);
+    ConcurrentNavigableMap<String, Map<String, Object>> rows = getTable(keyspace, table);
+    Collection<Map<String, Object>> candidates = rows.values();
+    String prefix = keyPrefix(table, columnFilters);
+    if (prefix != null) {
+      candidates = rows.subMap(prefix, prefix + Character.MAX_VALUE).values();
+    }
+    List<Map<String, Object>> result = new ArrayList<>();
+    for (Map<String, Object> row : candidates) {
+      if (matches(row, columnFilters)) {
+        result.add(row);
+      }
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean matches(Map<String, Object> row, Map<String, Object> filters) {
+    for (Map.Entry<String, Object> filter : filters.entrySet()) {
+      Object actual = row.get(filter.getKey());
+      Object expected = filter.getValue();
+      if (expected instanceof List) {
+        boolean found = false;
+        for (Object value : (List<Object>) expected) {
+          if (valueEquals(actual, value)) {
+            found = true;
+            break;
+          }
+        }
+        if (!found) {
+          return false;
+        }
+      } else if (expected instanceof Map) {
+        for (Map.Entry<String, Object> range : ((Map<String, Object>) expected).entrySet()) {
+          if (!inRange(actual, range.getKey(), range.getValue())) {
+            return false;
+          }
+        }
+      } else if (!valueEquals(actual, expected)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean valueEquals(Object actual, Object expected) {
+    if (actual instanceof Number && expected instanceof Number) {
+      return ((Number) actual).doubleValue() == ((Number) expected).doubleValue();
+    }
+    return actual == null ? expected == null : actual.equals(expected);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean inRange(Object actual, String operation, Object bound) {
+    if (!(actual instanceof Comparable) || bound == null) {
+      return false;
+    }
+    int comparison;
+    if (actual instanceof Number && bound instanceof Number) {
+      comparison = Double.compare(((Number) actual).doubleValue(), ((Number) bound).doubleValue());
+    } else {
+      comparison = ((Comparable<Object>) actual).compareTo(bound);
+    }
+    switch (operation) {
+      case Constants.LTE:
+        return comparison <= 0;
+      case Constants.LT:
+        return comparison < 0;
+      case Constants.GTE:
+        return comparison >= 0;
+      case Constants.GT:
+        return comparison > 0;
+      default:
+        return true;
+    }
+  }
+
+  private ConcurrentNavigableMap<String, Map<String, Object>> getTable(
+      String keyspace, String table) {
+    return tables.computeIfAbsent(
+        (keyspace + Constants.DOT + table).toLowerCase(), name -> new ConcurrentSkipListMap<>());
+  }
+
+  private List<String> getPrimaryKey(String table) {
+    return primaryKeys.getOrDefault(
+        table.toLowerCase(), Collections.singletonList(Constants.IDENTIFIER));
+  }
+
+  private String rowKey(String table, Map<String, Object> columns) {
+    StringBuilder key = new StringBuilder();
+    for (String column : getPrimaryKey(table)) {
+      Object value = columns.get(column);
+      if (value == null) {
+        throw new ProjectCommonException(
+            ResponseCode.SERVER_ERROR.getErrorCode(),
+            "Missing primary key column " + column + " for " + table,
+            ResponseCode.SERVER_ERROR.getResponseCode());
+      }
+      key.append(value).append(KEY_SEPARATOR);
+    }
+    return key.toString();
+  }
+
+  /** @return the row key prefix fixed by equality filters on the leading primary key columns */
+  private String keyPrefix(String table, Map<String, Object> filters) {
+    StringBuilder prefix = new StringBuilder();
+    for (String column : getPrimaryKey(table)) {
+      Object value = filters.get(column);
+      if (value == null || value instanceof List || value instanceof Map) {
+        break;
+      }
+      prefix.append(value).append(KEY_SEPARATOR);
+    }
+    return prefix.length() == 0 ? null : prefix.toString();
+  }
+
+  private static Map<String, Object> normalise(Map<String, Object> columns) {
+    if (MapUtils.isEmpty(columns)) {
+      return Collections.emptyMap();
+    }
+    Map<String, Object> normalised = new HashMap<>(columns.size() * 2);
+    for (Map.Entry<String, Object> column : columns.entrySet()) {
+      normalised.put(column.getKey().toLowerCase(), column.getValue());
+    }
+    return normalised;
+  }
+
+  private Response createResponse(List<Map<String, Object>> rows, List<String> fields) {
+    Set<String> columns = null;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      columns = new HashSet<>();
+      for (String field : fields) {
+        columns.add(field.toLowerCase());
+      }
+    }
+    List<Map<String, Object>> responseList = new ArrayList<>(rows.size());
+    for (Map<String, Object> row : rows) {
+      Map<String, Object> rowMap = new HashMap<>(row.size() * 2);
+      for (Map.Entry<String, Object> column : row.entrySet()) {
+        if (columns == null || columns.contains(column.getKey())) {
+          rowMap.put(
+              propertiesCache.readProperty(column.getKey()).trim(), copyOf(column.getValue()));
+        }
+      }
+      responseList.add(rowMap);
+    }
+    Response response = new Response();
+    response.put(Constants.RESPONSE, responseList);
+    return response;
+  }
+
+  @SuppressWarnings("unchecked")
+  static Object copyOf(Object value) {
+    if (value instanceof List) {
+      return new ArrayList<>((List<Object>) value);
+    } else if (value instanceof Set) {
+      return new HashSet<>((Set<Object>) value);
+    } else if (value instanceof Map) {
+      return new HashMap<>((Map<String, Object>) value);
+    }
+    return value;
+  }
+
+  private static Response success() {
+    Response response = new Response();
+    response.put(Constants.RESPONSE, Constants.SUCCESS);
+    return response;
+  }
+}
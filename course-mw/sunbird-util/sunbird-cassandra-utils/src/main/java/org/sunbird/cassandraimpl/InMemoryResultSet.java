@@ -0,0 +1,288 @@
+package org.sunbird.cassandraimpl;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.apache.commons.collections.CollectionUtils;
+
+/**
+ * @desc Driver ResultSet over rows of the in-memory storage, so that the callbacks of
+ *     applyOperationOnRecordsAsync read them the way they read rows fetched from cassandra. All
+ *     rows are fetched up front. The type of a column is inferred from its first non null value,
+ *     text when there is none. Only the reading methods of ResultSet and Row are supported.
+ */
+final class InMemoryResultSet {
+
+  private InMemoryResultSet() {}
+
+  /**
+   * @param keyspace Keyspace name
+   * @param table Table name
+   * @param rows rows keyed by lower case column name
+   * @param fields columns to return, all the columns of the rows when empty
+   * @return ResultSet
+   */
+  static ResultSet of(
+      String keyspace, String table, List<Map<String, Object>> rows, List<String> fields) {
+    Collection<String> columns = new TreeSet<>();
+    if (CollectionUtils.isNotEmpty(fields)) {
+      for (String field : fields) {
+        columns.add(field.toLowerCase());
+      }
+    } else {
+      for (Map<String, Object> row : rows) {
+        columns.addAll(row.keySet());
+      }
+    }
+    List<String> names = new ArrayList<>(columns);
+    ColumnDefinitions.Definition[] definitions = new ColumnDefinitions.Definition[names.size()];
+    for (int i = 0; i < definitions.length; i++) {
+      definitions[i] = definition(keyspace, table, names.get(i), typeOf(rows, names.get(i)));
+    }
+    ColumnDefinitions columnDefinitions = columnDefinitions(definitions);
+    Deque<Row> remaining = new ArrayDeque<>(rows.size());
+    for (Map<String, Object> row : rows) {
+      Object[] values = new Object[names.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = InMemoryCassandraOperation.copyOf(row.get(names.get(i)));
+      }
+      remaining.add(row(columnDefinitions, values));
+    }
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            new ResultSetHandler(columnDefinitions, remaining));
+  }
+
+  private static DataType typeOf(List<Map<String, Object>> rows, String column) {
+    for (Map<String, Object> row : rows) {
+      Object value = row.get(column);
+      if (value instanceof Integer) {
+        return DataType.cint();
+      } else if (value instanceof Long) {
+        return DataType.bigint();
+      } else if (value instanceof Boolean) {
+        return DataType.cboolean();
+      } else if (value instanceof Double) {
+        return DataType.cdouble();
+      } else if (value instanceof Float) {
+        return DataType.cfloat();
+      } else if (value instanceof Short) {
+        return DataType.smallint();
+      } else if (value instanceof Byte) {
+        return DataType.tinyint();
+      } else if (value instanceof Date) {
+        return DataType.timestamp();
+      } else if (value instanceof UUID) {
+        return DataType.uuid();
+      } else if (value instanceof BigDecimal) {
+        return DataType.decimal();
+      } else if (value instanceof BigInteger) {
+        return DataType.varint();
+      } else if (value instanceof Map) {
+        return DataType.map(DataType.text(), DataType.text());
+      } else if (value instanceof Set) {
+        return DataType.set(DataType.text());
+      } else if (value instanceof List) {
+        return DataType.list(DataType.text());
+      } else if (value != null) {
+        return DataType.text();
+      }
+    }
+    return DataType.text();
+  }
+
+  // the driver only builds column definitions from the metadata of a response
+  private static ColumnDefinitions.Definition definition(
+      String keyspace, String table, String name, DataType type) {
+    try {
+      Constructor<ColumnDefinitions.Definition> constructor =
+          ColumnDefinitions.Definition.class.getDeclaredConstructor(
+              String.class, String.class, String.class, DataType.class);
+      constructor.setAccessible(true);
+      return constructor.newInstance(keyspace, table, name, type);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create the column definition of " + name, e);
+    }
+  }
+
+  private static ColumnDefinitions columnDefinitions(ColumnDefinitions.Definition[] definitions) {
+    try {
+      Constructor<ColumnDefinitions> constructor =
+          ColumnDefinitions.class.getDeclaredConstructor(
+              ColumnDefinitions.Definition[].class, CodecRegistry.class);
+      constructor.setAccessible(true);
+      return constructor.newInstance(definitions, CodecRegistry.DEFAULT_INSTANCE);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create the column definitions", e);
+    }
+  }
+
+  private static Row row(ColumnDefinitions definitions, Object[] values) {
+    return (Row)
+        Proxy.newProxyInstance(
+            Row.class.getClassLoader(), new Class<?>[] {Row.class}, new RowHandler(definitions, values));
+  }
+
+  private static UnsupportedOperationException unsupported(Method method) {
+    return new UnsupportedOperationException(
+        method.getName() + " is not supported by the in-memory storage");
+  }
+
+  private static final class ResultSetHandler implements InvocationHandler {
+
+    private final ColumnDefinitions definitions;
+    private final Deque<Row> remaining;
+
+    private ResultSetHandler(ColumnDefinitions definitions, Deque<Row> remaining) {
+      this.definitions = definitions;
+      this.remaining = remaining;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+      switch (method.getName()) {
+        case "getColumnDefinitions":
+          return definitions;
+        case "iterator":
+          return iterator();
+        case "spliterator":
+          return Spliterators.spliteratorUnknownSize(iterator(), 0);
+        case "forEach":
+          iterator().forEachRemaining((Consumer<Row>) args[0]);
+          return null;
+        case "one":
+          return remaining.poll();
+        case "all":
+          List<Row> rows = new ArrayList<>(remaining);
+          remaining.clear();
+          return rows;
+        case "isExhausted":
+          return remaining.isEmpty();
+        case "isFullyFetched":
+        case "wasApplied":
+          return true;
+        case "getAvailableWithoutFetching":
+          return remaining.size();
+        case "fetchMoreResults":
+          return Futures.immediateFuture(proxy);
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return "ResultSet[ exhausted: " + remaining.isEmpty() + ", " + definitions + "]";
+        default:
+          throw unsupported(method);
+      }
+    }
+
+    private Iterator<Row> iterator() {
+      return new Iterator<Row>() {
+        @Override
+        public boolean hasNext() {
+          return !remaining.isEmpty();
+        }
+
+        @Override
+        public Row next() {
+          if (remaining.isEmpty()) {
+            throw new NoSuchElementException();
+          }
+          return remaining.poll();
+        }
+      };
+    }
+  }
+
+  private static final class RowHandler implements InvocationHandler {
+
+    private final ColumnDefinitions definitions;
+    private final Object[] values;
+
+    private RowHandler(ColumnDefinitions definitions, Object[] values) {
+      this.definitions = definitions;
+      this.values = values;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+      switch (method.getName()) {
+        case "getColumnDefinitions":
+          return definitions;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return "Row" + Arrays.toString(values);
+        default:
+          break;
+      }
+      if (args == null || !(args[0] instanceof Integer || args[0] instanceof String)) {
+        throw unsupported(method);
+      }
+      int index =
+          args[0] instanceof Integer
+              ? (Integer) args[0]
+              : definitions.getIndexOf((String) args[0]);
+      if (index < 0 || index >= values.length) {
+        throw new IllegalArgumentException(args[0] + " is not a column of this row");
+      }
+      Object value = values[index];
+      if ("isNull".equals(method.getName())) {
+        return value == null;
+      }
+      Class<?> type = method.getReturnType();
+      if (type == String.class) {
+        return value == null ? null : value.toString();
+      } else if (!type.isPrimitive()) {
+        return value;
+      } else if (type == boolean.class) {
+        return Boolean.TRUE.equals(value);
+      }
+      // like the driver, a null is read as 0 by the primitive getters
+      Number number = value == null ? 0 : (Number) value;
+      if (type == int.class) {
+        return number.intValue();
+      } else if (type == long.class) {
+        return number.longValue();
+      } else if (type == double.class) {
+        return number.doubleValue();
+      } else if (type == float.class) {
+        return number.floatValue();
+      } else if (type == short.class) {
+        return number.shortValue();
+      } else if (type == byte.class) {
+        return number.byteValue();
+      }
+      throw unsupported(method);
+    }
+  }
+}
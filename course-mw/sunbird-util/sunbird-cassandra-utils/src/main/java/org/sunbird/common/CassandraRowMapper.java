@@ -0,0 +1,135 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.sunbird.common.models.util.CassandraPropertyReader;
+
+/**
+ * @desc Maps cassandra rows to map <propertyName,columnValue>. A mapper is compiled once per result
+ *     set shape (column names and types) and cached, so the property name lookup and the choice of
+ *     getter are not repeated for every row and every cell.
+ */
+public final class CassandraRowMapper {
+
+  private static final CassandraPropertyReader propertiesCache =
+      CassandraPropertyReader.getInstance();
+  private static final int MAX_CACHED_MAPPERS = 512;
+  private static final Map<String, CassandraRowMapper> mappers = new ConcurrentHashMap<>();
+
+  private final String[] columns;
+  private final String[] properties;
+  private final ColumnReader[] readers;
+  private final int mapCapacity;
+
+  private CassandraRowMapper(ColumnDefinitions definitions) {
+    int size = definitions.size();
+    columns = new String[size];
+    properties = new String[size];
+    readers = new ColumnReader[size];
+    for (int i = 0; i < size; i++) {
+      columns[i] = definitions.getName(i);
+      properties[i] = propertiesCache.readProperty(columns[i]).trim();
+      readers[i] = readerFor(definitions.getType(i));
+    }
+    mapCapacity = (int) (size / 0.75f) + 1;
+  }
+
+  /**
+   * @desc Returns the compiled mapper for the given column definitions, compiling and caching it on
+   *     first use.
+   * @param definitions ColumnDefinitions of the result set
+   * @return CassandraRowMapper
+   */
+  public static CassandraRowMapper forColumns(ColumnDefinitions definitions) {
+    String shape = shapeOf(definitions);
+    CassandraRowMapper mapper = mappers.get(shape);
+    if (mapper == null) {
+      if (mappers.size() >= MAX_CACHED_MAPPERS) {
+        mappers.clear();
+      }
+      mapper = mappers.computeIfAbsent(shape, key -> new CassandraRowMapper(definitions));
+    }
+    return mapper;
+  }
+
+  /**
+   * @desc Converts a row into map <propertyName,columnValue>.
+   * @param row Row
+   * @return Map<String, Object>
+   */
+  public Map<String, Object> map(Row row) {
+    Map<String, Object> rowMap = new HashMap<>(mapCapacity);
+    for (int i = 0; i < readers.length; i++) {
+      rowMap.put(properties[i], readers[i].read(row, i));
+    }
+    return rowMap;
+  }
+
+  /**
+   * @desc Returns map <propertyName,columnName> for this shape.
+   * @return Map<String, String>
+   */
+  public Map<String, String> getColumnsMapping() {
+    Map<String, String> columnsMapping = new HashMap<>(mapCapacity);
+    for (int i = 0; i < properties.length; i++) {
+      columnsMapping.put(properties[i], columns[i]);
+    }
+    return columnsMapping;
+  }
+
+  private static String shapeOf(ColumnDefinitions definitions) {
+    StringBuilder shape = new StringBuilder(definitions.size() * 24);
+    for (int i = 0; i < definitions.size(); i++) {
+      shape
+          .append(definitions.getName(i))
+          .append(':')
+          .append(definitions.getType(i).getName().ordinal())
+          .append(',');
+    }
+    return shape.toString();
+  }
+
+  private static ColumnReader readerFor(DataType type) {
+    switch (type.getName()) {
+      case ASCII:
+      case TEXT:
+      case VARCHAR:
+        return (row, i) -> row.getString(i);
+      case INT:
+        return (row, i) -> row.isNull(i) ? null : row.getInt(i);
+      case BIGINT:
+      case COUNTER:
+        return (row, i) -> row.isNull(i) ? null : row.getLong(i);
+      case BOOLEAN:
+        return (row, i) -> row.isNull(i) ? null : row.getBool(i);
+      case DOUBLE:
+        return (row, i) -> row.isNull(i) ? null : row.getDouble(i);
+      case FLOAT:
+        return (row, i) -> row.isNull(i) ? null : row.getFloat(i);
+      case SMALLINT:
+        return (row, i) -> row.isNull(i) ? null : row.getShort(i);
+      case TINYINT:
+        return (row, i) -> row.isNull(i) ? null : row.getByte(i);
+      case TIMESTAMP:
+        return (row, i) -> row.getTimestamp(i);
+      case UUID:
+      case TIMEUUID:
+        return (row, i) -> row.getUUID(i);
+      case DECIMAL:
+        return (row, i) -> row.getDecimal(i);
+      case VARINT:
+        return (row, i) -> row.getVarint(i);
+      default:
+        return (row, i) -> row.getObject(i);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ColumnReader {
+    Object read(Row row, int index);
+  }
+}
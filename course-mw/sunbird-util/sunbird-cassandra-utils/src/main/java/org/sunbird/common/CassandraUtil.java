@@ -13,11 +13,9 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.sunbird.cassandraannotation.ClusteringKey;
 import org.sunbird.cassandraannotation.PartitioningKey;
 import org.sunbird.common.exception.ProjectCommonException;
@@ -73,31 +71,19 @@ public final class CassandraUtil {
    */
   public static Response createResponse(ResultSet results) {
     Response response = new Response();
-    List<Map<String, Object>> responseList = new ArrayList<>();
-    Map<String, String> columnsMapping = fetchColumnsMapping(results);
-    Iterator<Row> rowIterator = results.iterator();
-    rowIterator.forEachRemaining(
-        row -> {
-          Map<String, Object> rowMap = new HashMap<>();
-          columnsMapping
-              .entrySet()
-              .stream()
-              .forEach(entry -> rowMap.put(entry.getKey(), row.getObject(entry.getValue())));
-          responseList.add(rowMap);
-        });
-    logger.info(null, "Total rows fetched from cassandra: " + responseList.size());
+    List<Map<String, Object>> responseList =
+        new ArrayList<>(Math.max(results.getAvailableWithoutFetching(), 10));
+    CassandraRowMapper rowMapper = CassandraRowMapper.forColumns(results.getColumnDefinitions());
+    for (Row row : results) {
+      responseList.add(rowMapper.map(row));
+    }
+    logger.debug(null, "Total rows fetched from cassandra: " + responseList.size());
     response.put(Constants.RESPONSE, responseList);
     return response;
   }
 
   public static Map<String, String> fetchColumnsMapping(ResultSet results) {
-    return results
-        .getColumnDefinitions()
-        .asList()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                d -> propertiesCache.readProperty(d.getName()).trim(), d -> d.getName()));
+    return CassandraRowMapper.forColumns(results.getColumnDefinitions()).getColumnsMapping();
   }
 
   /**
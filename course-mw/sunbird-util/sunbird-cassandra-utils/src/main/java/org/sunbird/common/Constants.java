@@ -18,6 +18,7 @@ public interface Constants {
   public static final String PORT = "port";
   public static final String QUERY_LOGGER_THRESHOLD = "queryLoggerConstantThreshold";
   public static final String CASSANDRA_PROPERTIES_FILE = "cassandra.config.properties";
+  public static final String HEALTH_CHECK_QUERY = "SELECT release_version FROM system.local";
 
   // CONSTANT
   public static final String COURSE_ID = "courseId";
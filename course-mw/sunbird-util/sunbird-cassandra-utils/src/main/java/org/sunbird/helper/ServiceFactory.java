@@ -2,6 +2,8 @@ package org.sunbird.helper;
 
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraDACImpl;
+import org.sunbird.cassandraimpl.InMemoryCassandraOperation;
+import org.sunbird.common.util.InMemoryStorage;
 
 /**
  * This class will provide cassandraOperationImpl instance.
@@ -15,6 +17,8 @@ public class ServiceFactory {
 
   /**
    * On call of this method , it will provide a new CassandraOperationImpl instance on each call.
+   * When sunbird_storage_backend is set to memory, an InMemoryCassandraOperation is provided
+   * instead.
    *
    * @return
    */
@@ -22,7 +26,10 @@ public class ServiceFactory {
     if (null == operation) {
       synchronized (ServiceFactory.class) {
         if (null == operation) {
-          operation = new CassandraDACImpl();
+          operation =
+              InMemoryStorage.isEnabled()
+                  ? new InMemoryCassandraOperation()
+                  : new CassandraDACImpl();
         }
       }
     }
@@ -0,0 +1,154 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.common.CassandraRowMapper;
+import org.sunbird.common.Constants;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.util.InMemoryStorage;
+
+public class InMemoryCassandraOperationTest {
+
+  private static final String KEYSPACE = "sunbird_courses";
+  private static final String ENROLMENTS = "user_enrolments";
+
+  private final InMemoryCassandraOperation operation =
+      new InMemoryCassandraOperation(new InMemoryStorage(0, 0));
+
+  private Map<String, Object> enrolment(String userId, String courseId, String batchId) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("userid", userId);
+    row.put("courseid", courseId);
+    row.put("batchid", batchId);
+    row.put("status", 1);
+    return row;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> rows(Response response) {
+    return (List<Map<String, Object>>) response.get(Constants.RESPONSE);
+  }
+
+  @Test
+  public void testUpsertMergesRowsByPrimaryKey() {
+    operation.insertRecord(null, KEYSPACE, ENROLMENTS, enrolment("user1", "do_1", "0123"));
+    Map<String, Object> update = enrolment("user1", "do_1", "0123");
+    update.remove("status");
+    update.put("progress", 50);
+    operation.upsertRecord(KEYSPACE, ENROLMENTS, update, null);
+    operation.insertRecord(null, KEYSPACE, ENROLMENTS, enrolment("user1", "do_2", "0456"));
+
+    Map<String, Object> key = new HashMap<>();
+    key.put("userid", "user1");
+    key.put("courseid", "do_1");
+    List<Map<String, Object>> result =
+        rows(operation.getRecordsByCompositeKey(KEYSPACE, ENROLMENTS, key, null));
+
+    assertEquals(1, result.size());
+    assertEquals("do_1", result.get(0).get("courseId"));
+    assertEquals(1, result.get(0).get("status"));
+    assertEquals(50, result.get(0).get("progress"));
+    assertEquals(
+        2, rows(operation.getRecordsByProperty(null, KEYSPACE, ENROLMENTS, "userId", "user1", null)).size());
+  }
+
+  @Test
+  public void testFiltersFieldsAndLimit() {
+    operation.batchInsert(
+        null,
+        KEYSPACE,
+        ENROLMENTS,
+        Arrays.asList(
+            enrolment("user1", "do_1", "01"),
+            enrolment("user2", "do_1", "02"),
+            enrolment("user3", "do_2", "03")));
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("courseid", Arrays.asList("do_1", "do_2"));
+
+    List<Map<String, Object>> result =
+        rows(
+            operation.getRecordsWithLimit(
+                null, KEYSPACE, ENROLMENTS, filters, Arrays.asList("batchid"), 2));
+
+    assertEquals(2, result.size());
+    assertEquals(1, result.get(0).size());
+    assertTrue(result.get(0).containsKey("batchId"));
+  }
+
+  @Test
+  public void testUpdateAndDeleteById() {
+    Map<String, Object> page = new HashMap<>();
+    page.put("id", "page1");
+    page.put("name", "home");
+    operation.insertRecord(null, KEYSPACE, "page_management", page);
+    Map<String, Object> update = new HashMap<>();
+    update.put("id", "page1");
+    update.put("name", "explore");
+    operation.updateRecord(null, KEYSPACE, "page_management", update);
+    operation.updateAddMapRecord(
+        null, KEYSPACE, "page_management", update, "appmap", "section", "s1");
+
+    Map<String, Object> row =
+        rows(operation.getRecordByIdentifier(null, KEYSPACE, "page_management", "page1", null))
+            .get(0);
+    assertEquals("explore", row.get("name"));
+    assertEquals("s1", ((Map) row.get("appMap")).get("section"));
+
+    operation.deleteRecord(KEYSPACE, "page_management", "page1", null);
+    assertTrue(rows(operation.getAllRecords(null, KEYSPACE, "page_management")).isEmpty());
+  }
+
+  @Test
+  public void testApplyOperationOnRecordsAsync() {
+    Map<String, Object> completed = enrolment("user2", "do_1", "02");
+    completed.put("progress", 100);
+    operation.batchInsert(
+        null,
+        KEYSPACE,
+        ENROLMENTS,
+        Arrays.asList(
+            enrolment("user1", "do_1", "01"), completed, enrolment("user3", "do_2", "03")));
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("courseid", "do_1");
+    List<Map<String, Object>> result = new ArrayList<>();
+
+    operation.applyOperationOnRecordsAsync(
+        null,
+        KEYSPACE,
+        ENROLMENTS,
+        filters,
+        null,
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet resultSet) {
+            CassandraRowMapper mapper =
+                CassandraRowMapper.forColumns(resultSet.getColumnDefinitions());
+            for (Row row : resultSet) {
+              result.add(mapper.map(row));
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            throw new AssertionError(t);
+          }
+        });
+
+    assertEquals(2, result.size());
+    assertEquals("user1", result.get(0).get("userId"));
+    assertEquals(1, result.get(0).get("status"));
+    assertNull(result.get(0).get("progress"));
+    assertEquals(100, result.get(1).get("progress"));
+  }
+}
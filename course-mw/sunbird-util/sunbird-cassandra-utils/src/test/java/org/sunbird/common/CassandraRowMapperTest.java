@@ -0,0 +1,53 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CassandraRowMapperTest {
+
+  private ColumnDefinitions columnDefinitions(String[] names, DataType[] types) {
+    ColumnDefinitions definitions = Mockito.mock(ColumnDefinitions.class);
+    Mockito.when(definitions.size()).thenReturn(names.length);
+    for (int i = 0; i < names.length; i++) {
+      Mockito.when(definitions.getName(i)).thenReturn(names[i]);
+      Mockito.when(definitions.getType(i)).thenReturn(types[i]);
+    }
+    return definitions;
+  }
+
+  @Test
+  public void testMapRowWithTypedColumns() {
+    ColumnDefinitions definitions =
+        columnDefinitions(
+            new String[] {"id", "status", "progress"},
+            new DataType[] {DataType.text(), DataType.cint(), DataType.cint()});
+    Row row = Mockito.mock(Row.class);
+    Mockito.when(row.getString(0)).thenReturn("do_123");
+    Mockito.when(row.getInt(1)).thenReturn(2);
+    Mockito.when(row.isNull(2)).thenReturn(true);
+
+    Map<String, Object> rowMap = CassandraRowMapper.forColumns(definitions).map(row);
+
+    assertEquals(3, rowMap.size());
+    assertEquals("do_123", rowMap.get("id"));
+    assertEquals(2, rowMap.get("status"));
+    assertNull(rowMap.get("progress"));
+  }
+
+  @Test
+  public void testMapperIsReusedForSameShape() {
+    String[] names = {"batchid", "name"};
+    DataType[] types = {DataType.text(), DataType.text()};
+    assertSame(
+        CassandraRowMapper.forColumns(columnDefinitions(names, types)),
+        CassandraRowMapper.forColumns(columnDefinitions(names, types)));
+  }
+}
@@ -28,9 +28,11 @@ import org.elasticsearch.search.sort.SortOrder;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.util.ConfigUtil;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.dto.SearchDTO;
 import scala.concurrent.Await;
 import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -85,8 +87,26 @@ public class ElasticSearchHelper {
    */
   @SuppressWarnings("unchecked")
   public static Object getResponseFromFuture(Future future) {
+    return getResponseFromFuture(future, timeout.duration().toMillis());
+  }
+
+  /**
+   * Like {@link #getResponseFromFuture(Future)}, but within a request waits no longer than its
+   * deadline. Only for the futures of reads (search, getDataByIdentifier), a write must be waited
+   * for until it completes.
+   *
+   * @param future
+   * @return Object which future inherits
+   */
+  public static Object getReadResponseFromFuture(Future future) {
+    return getResponseFromFuture(
+        future, RequestDeadline.timeoutMillis(null, timeout.duration().toMillis()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object getResponseFromFuture(Future future, long waitMillis) {
     try {
-      Object result = Await.result(future, timeout.duration());
+      Object result = Await.result(future, Duration.create(waitMillis, TimeUnit.MILLISECONDS));
       return result;
     } catch (Exception e) {
       logger.error( null, 
@@ -41,6 +41,7 @@ import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.models.util.PropertiesCache;
 import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.helper.ConnectionManager;
@@ -206,6 +207,9 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
    */
   @Override
   public Future<Map<String, Object>> getDataByIdentifier(RequestContext requestContext, String index, String identifier) {
+    if (RequestDeadline.isExceeded(requestContext)) {
+      return Futures.failed(RequestDeadline.exceeded("elasticsearch getDataByIdentifier on " + index));
+    }
     long startTime = System.currentTimeMillis();
     Promise<Map<String, Object>> promise = Futures.promise();
     if (StringUtils.isNotEmpty(identifier) && StringUtils.isNotEmpty(index)) {
@@ -331,6 +335,9 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
   @Override
   @SuppressWarnings({"unchecked", "rawtypes"})
   public Future<Map<String, Object>> search(RequestContext requestContext, SearchDTO searchDTO, String index) {
+    if (RequestDeadline.isExceeded(requestContext)) {
+      return Futures.failed(RequestDeadline.exceeded("elasticsearch search on " + index));
+    }
     long startTime = System.currentTimeMillis();
 
     logger.debug(requestContext, 
@@ -565,6 +572,65 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     return promise.future();
   }
 
+  /**
+   * This method will partially update the documents in one bulk request.
+   *
+   * @param requestContext
+   * @param index String index name
+   * @param dataList List<Map<String, Object>>, the identifier of each document under id
+   * @return Future<List<String>> identifiers of the updated documents
+   */
+  @Override
+  public Future<List<String>> bulkUpdate(RequestContext requestContext, String index, List<Map<String, Object>> dataList) {
+    if (CollectionUtils.isEmpty(dataList)) {
+      return Futures.successful(new ArrayList<>());
+    }
+    long startTime = System.currentTimeMillis();
+    logger.debug(requestContext,
+        "ElasticSearchRestHighImpl:bulkUpdate: method started at =="
+            + startTime
+            + " for Index "
+            + index);
+    BulkRequest request = new BulkRequest();
+    Promise<List<String>> promise = Futures.promise();
+    for (Map<String, Object> data : dataList) {
+      request.add(new UpdateRequest(index, _DOC, (String) data.get(JsonKey.ID)).doc(data));
+    }
+    ActionListener<BulkResponse> listener =
+        new ActionListener<BulkResponse>() {
+          @Override
+          public void onResponse(BulkResponse bulkResponse) {
+            List<String> updated = new ArrayList<>(dataList.size());
+            for (BulkItemResponse bResponse : bulkResponse) {
+              if (bResponse.isFailed()) {
+                logger.info(requestContext,
+                    "ElasticSearchRestHighImpl:bulkUpdate: api response==="
+                        + bResponse.getId()
+                        + " "
+                        + bResponse.getFailureMessage());
+              } else {
+                updated.add(bResponse.getId());
+              }
+            }
+            promise.success(updated);
+            logger.debug(requestContext,
+                "ElasticSearchRestHighImpl:bulkUpdate: method end =="
+                    + " for Index "
+                    + index
+                    + " ,Total time elapsed = "
+                    + calculateEndTime(startTime));
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            logger.error(requestContext, "ElasticSearchRestHighImpl:bulkUpdate: Bulk update error block", e);
+            promise.failure(e);
+          }
+        };
+    ConnectionManager.getRestClient().bulkAsync(request, listener);
+    return promise.future();
+  }
+
   private static long calculateEndTime(long startTime) {
     return System.currentTimeMillis() - startTime;
   }
@@ -685,7 +751,7 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
 
     Future<Map<String, Object>> resultF = search(requestContext, searchDTO, index);
     Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
     List<Map<String, Object>> esContent = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
     Promise<Map<String, Map<String, Object>>> promise = Futures.promise();
     promise.success(
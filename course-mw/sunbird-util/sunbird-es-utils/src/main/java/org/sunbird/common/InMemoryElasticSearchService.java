@@ -0,0 +1,607 @@
+package org.sunbird.common;
+
+import akka.dispatch.Futures;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.InMemoryStorage;
+import org.sunbird.dto.SearchDTO;
+import scala.concurrent.Future;
+
+/**
+ * ElasticSearchService kept in memory, for load tests and local runs without an elastic search
+ * cluster. Documents of an index are held by identifier, and every leaf value is also recorded in
+ * an inverted index of field and term, so that term filters and query strings only look at the
+ * documents holding the terms. Range, lexical and exists filters, sorting, paging, field selection
+ * and term facets are then applied to the remaining documents.
+ */
+public class InMemoryElasticSearchService implements ElasticSearchService {
+
+  private static final String ALL_FIELDS = "_all";
+  private static final String TERM_SEPARATOR = "\u0000";
+  private static final String VALUES = "values";
+  private static LoggerUtil logger = new LoggerUtil(InMemoryElasticSearchService.class);
+
+  private final Map<String, Index> indices = new ConcurrentHashMap<>();
+  private final InMemoryStorage storage;
+
+  public InMemoryElasticSearchService() {
+    this(InMemoryStorage.fromConfig());
+  }
+
+  public InMemoryElasticSearchService(InMemoryStorage storage) {
+    this.storage = storage;
+  }
+
+  /** Drops all documents of all indices. */
+  public void clear() {
+    indices.clear();
+  }
+
+  @Override
+  public Future<String> save(
+      RequestContext requestContext, String index, String identifier, Map<String, Object> data) {
+    storage.simulateLatency();
+    if (StringUtils.isBlank(identifier) || StringUtils.isBlank(index)) {
+      logger.info(
+          requestContext,
+          "InMemoryElasticSearchService:save: Identifier or Index value is null or empty, identifier : "
+              + identifier
+              + ",index: "
+              + index);
+      return Futures.successful("ERROR");
+    }
+    data.put("identifier", identifier);
+    getIndex(index).put(identifier, data);
+    return Futures.successful(identifier);
+  }
+
+  @Override
+  public Future<Boolean> update(
+      RequestContext requestContext, String index, String identifier, Map<String, Object> data) {
+    storage.simulateLatency();
+    if (StringUtils.isBlank(index) || StringUtils.isBlank(identifier) || data == null) {
+      return Futures.failed(ProjectUtil.createClientException(ResponseCode.invalidData));
+    }
+    if (!getIndex(index).merge(identifier, data, false)) {
+      return Futures.failed(ProjectUtil.createClientException(ResponseCode.resourceNotFound));
+    }
+    return Futures.successful(true);
+  }
+
+  @Override
+  public Future<Boolean> upsert(
+      RequestContext requestContext, String index, String identifier, Map<String, Object> data) {
+    storage.simulateLatency();
+    if (StringUtils.isBlank(index) || StringUtils.isBlank(identifier) || MapUtils.isEmpty(data)) {
+      return Futures.failed(ProjectUtil.createClientException(ResponseCode.invalidData));
+    }
+    getIndex(index).merge(identifier, data, true);
+    return Futures.successful(true);
+  }
+
+  @Override
+  public Future<Map<String, Object>> getDataByIdentifier(
+      RequestContext requestContext, String index, String identifier) {
+    storage.simulateLatency();
+    if (StringUtils.isEmpty(identifier) || StringUtils.isEmpty(index)) {
+      return Futures.failed(ProjectUtil.createClientException(ResponseCode.invalidData));
+    }
+    Map<String, Object> document = getIndex(index).documents.get(identifier);
+    return Futures.successful(
+        document == null ? new HashMap<>() : (Map<String, Object>) deepCopy(document));
+  }
+
+  @Override
+  public Future<Boolean> delete(RequestContext requestContext, String index, String identifier) {
+    storage.simulateLatency();
+    if (StringUtils.isEmpty(identifier) || StringUtils.isEmpty(index)) {
+      return Futures.failed(ProjectUtil.createClientException(ResponseCode.invalidData));
+    }
+    return Futures.successful(getIndex(index).remove(identifier));
+  }
+
+  @Override
+  public Future<Boolean> bulkInsert(
+      RequestContext requestContext, String index, List<Map<String, Object>> dataList) {
+    storage.simulateLatency();
+    Index target = getIndex(index);
+    for (Map<String, Object> data : dataList) {
+      target.put((String) data.get(JsonKey.ID), data);
+    }
+    return Futures.successful(true);
+  }
+
+  @Override
+  public Future<List<String>> bulkUpdate(
+      RequestContext requestContext, String index, List<Map<String, Object>> dataList) {
+    storage.simulateLatency();
+    Index target = getIndex(index);
+    List<String> updated = new ArrayList<>(dataList.size());
+    for (Map<String, Object> data : dataList) {
+      String identifier = (String) data.get(JsonKey.ID);
+      if (StringUtils.isNotBlank(identifier) && target.merge(identifier, data, false)) {
+        updated.add(identifier);
+      }
+    }
+    return Futures.successful(updated);
+  }
+
+  @Override
+  public Future<Boolean> healthCheck() {
+    return Futures.successful(true);
+  }
+
+  @Override
+  public Future<Map<String, Map<String, Object>>> getEsResultByListOfIds(
+      RequestContext requestContext, List<String> ids, List<String> fields, String index) {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.ID, ids);
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    searchDTO.setFields(fields);
+    Map<String, Map<String, Object>> result = new HashMap<>();
+    for (Map<String, Object> document : doSearch(searchDTO, index).content) {
+      result.put((String) document.get(JsonKey.ID), document);
+    }
+    return Futures.successful(result);
+  }
+
+  @Override
+  public Future<Map<String, Object>> search(
+      RequestContext requestContext, SearchDTO searchDTO, String index) {
+    SearchResult result = doSearch(searchDTO, index);
+    Map<String, Object> responseMap = new HashMap<>();
+    responseMap.put(JsonKey.CONTENT, result.content);
+    if (!result.facets.isEmpty()) {
+      responseMap.put(JsonKey.FACETS, result.facets);
+    }
+    responseMap.put(JsonKey.COUNT, result.count);
+    return Futures.successful(responseMap);
+  }
+
+  @SuppressWarnings("unchecked")
+  private SearchResult doSearch(SearchDTO searchDTO, String index) {
+    storage.simulateLatency();
+    Index source = getIndex(index);
+    Map<String, Object> filters = new HashMap<>();
+    List<Map<String, Object>> scanFilters = new ArrayList<>();
+    Map<String, Object> additionalProperties = searchDTO.getAdditionalProperties();
+    if (additionalProperties != null) {
+      for (Map.Entry<String, Object> entry : additionalProperties.entrySet()) {
+        String key = entry.getKey();
+        if ((JsonKey.FILTERS.equalsIgnoreCase(key)
+                || JsonKey.NESTED_KEY_FILTER.equalsIgnoreCase(key))
+            && entry.getValue() instanceof Map) {
+          filters.putAll((Map<String, Object>) entry.getValue());
+        } else {
+          scanFilters.add(Collections.singletonMap(key, entry.getValue()));
+        }
+      }
+    }
+
+    Set<String> candidates = null;
+    for (Map.Entry<String, Object> filter : filters.entrySet()) {
+      Object value = filter.getValue();
+      if (value instanceof Map) {
+        scanFilters.add(Collections.singletonMap(filter.getKey(), value));
+      } else {
+        Collection<Object> terms =
+            value instanceof Collection ? (Collection<Object>) value : Collections.singleton(value);
+        candidates = intersect(candidates, source.lookup(filter.getKey(), terms));
+      }
+    }
+    if (StringUtils.isNotBlank(searchDTO.getQuery())) {
+      for (String token : tokenize(searchDTO.getQuery())) {
+        candidates = intersect(candidates, source.lookup(ALL_FIELDS, Collections.singleton(token)));
+      }
+    }
+
+    List<Map<String, Object>> matched = new ArrayList<>();
+    Collection<String> ids = candidates == null ? source.documents.keySet() : candidates;
+    for (String id : ids) {
+      Map<String, Object> document = source.documents.get(id);
+      if (document != null
+          && matchesAll(document, scanFilters)
+          && matchesQuery(document, searchDTO.getQuery(), searchDTO.getQueryFields())) {
+        matched.add(document);
+      }
+    }
+    sort(matched, searchDTO.getSortBy());
+
+    SearchResult result = new SearchResult();
+    result.count = matched.size();
+    result.facets = facets(matched, searchDTO.getFacets());
+    int offset = searchDTO.getOffset() == null ? 0 : Math.max(searchDTO.getOffset(), 0);
+    int limit = searchDTO.getLimit() == null ? matched.size() : Math.max(searchDTO.getLimit(), 0);
+    int end = (int) Math.min((long) offset + limit, matched.size());
+    result.content = new ArrayList<>(Math.max(end - offset, 0));
+    for (int i = offset; i < end; i++) {
+      result.content.add(
+          project(matched.get(i), searchDTO.getFields(), searchDTO.getExcludedFields()));
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean matchesAll(Map<String, Object> document, List<Map<String, Object>> filters) {
+    for (Map<String, Object> filter : filters) {
+      Map.Entry<String, Object> entry = filter.entrySet().iterator().next();
+      String key = entry.getKey();
+      Object value = entry.getValue();
+      if (JsonKey.EXISTS.equalsIgnoreCase(key) || JsonKey.NESTED_EXISTS.equalsIgnoreCase(key)) {
+        for (String field : (List<String>) value) {
+          if (leafValues(document, field).isEmpty()) {
+            return false;
+          }
+        }
+      } else if (JsonKey.NOT_EXISTS.equalsIgnoreCase(key)
+          || JsonKey.NESTED_NOT_EXISTS.equalsIgnoreCase(key)) {
+        for (String field : (List<String>) value) {
+          if (!leafValues(document, field).isEmpty()) {
+            return false;
+          }
+        }
+      } else if (JsonKey.ES_OR_OPERATION.equalsIgnoreCase(key)) {
+        boolean any = false;
+        for (Map.Entry<String, Object> option : ((Map<String, Object>) value).entrySet()) {
+          if (containsTerm(document, option.getKey(), option.getValue())) {
+            any = true;
+            break;
+          }
+        }
+        if (!any) {
+          return false;
+        }
+      } else if (value instanceof Map && !matchesOperations(document, key, (Map) value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean containsTerm(Map<String, Object> document, String field, Object value) {
+    String expected = term(value);
+    for (Object leaf : leafValues(document, field)) {
+      if (expected.equals(term(leaf))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean matchesOperations(
+      Map<String, Object> document, String field, Map<String, Object> operations) {
+    List<Object> leaves = leafValues(document, field);
+    for (Map.Entry<String, Object> operation : operations.entrySet()) {
+      boolean any = false;
+      for (Object leaf : leaves) {
+        if (matchesOperation(leaf, operation.getKey(), operation.getValue())) {
+          any = true;
+          break;
+        }
+      }
+      if (!any) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean matchesOperation(Object actual, String operation, Object bound) {
+    if (operation.startsWith(ElasticSearchHelper.STARTS_WITH)) {
+      return StringUtils.startsWithIgnoreCase(String.valueOf(actual), String.valueOf(bound));
+    } else if (operation.startsWith(ElasticSearchHelper.ENDS_WITH)) {
+      return StringUtils.endsWithIgnoreCase(String.valueOf(actual), String.valueOf(bound));
+    }
+    int comparison = compare(actual, bound);
+    switch (operation) {
+      case ElasticSearchHelper.LTE:
+        return comparison <= 0;
+      case ElasticSearchHelper.LT:
+        return comparison < 0;
+      case ElasticSearchHelper.GTE:
+        return comparison >= 0;
+      case ElasticSearchHelper.GT:
+        return comparison > 0;
+      default:
+        return true;
+    }
+  }
+
+  private static boolean matchesQuery(
+      Map<String, Object> document, String query, List<String> queryFields) {
+    if (StringUtils.isBlank(query) || CollectionUtils.isEmpty(queryFields)) {
+      return true;
+    }
+    Set<String> tokens = new HashSet<>();
+    for (String field : queryFields) {
+      for (Object leaf : leafValues(document, field)) {
+        tokens.addAll(tokenize(String.valueOf(leaf)));
+      }
+    }
+    return tokens.containsAll(tokenize(query));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void sort(List<Map<String, Object>> documents, Map<String, Object> sortBy) {
+    if (MapUtils.isEmpty(sortBy)) {
+      return;
+    }
+    Comparator<Map<String, Object>> comparator = null;
+    for (Map.Entry<String, Object> entry : sortBy.entrySet()) {
+      if (entry.getKey().contains(".") || !(entry.getValue() instanceof String)) {
+        continue;
+      }
+      String field = entry.getKey();
+      boolean ascending = ElasticSearchHelper.ASC_ORDER.equalsIgnoreCase((String) entry.getValue());
+      Comparator<Map<String, Object>> byField =
+          (first, second) -> {
+            Object a = first.get(field);
+            Object b = second.get(field);
+            if (a == null || b == null) {
+              // missing values sort last in either order
+              return a == b ? 0 : (a == null ? 1 : -1);
+            }
+            int comparison = compare(a, b);
+            return ascending ? comparison : -comparison;
+          };
+      comparator = comparator == null ? byField : comparator.thenComparing(byField);
+    }
+    if (comparator != null) {
+      documents.sort(comparator);
+    }
+  }
+
+  private static List<Map<String, Object>> facets(
+      List<Map<String, Object>> documents, List<Map<String, String>> facets) {
+    List<Map<String, Object>> facetList = new ArrayList<>();
+    if (CollectionUtils.isEmpty(facets)) {
+      return facetList;
+    }
+    for (String field : facets.get(0).keySet()) {
+      Map<Object, Long> counts = new LinkedHashMap<>();
+      for (Map<String, Object> document : documents) {
+        for (Object leaf : leafValues(document, field)) {
+          counts.merge(leaf instanceof String ? ((String) leaf).toLowerCase() : leaf, 1L, Long::sum);
+        }
+      }
+      List<Map<String, Object>> values = new ArrayList<>(counts.size());
+      for (Map.Entry<Object, Long> count : counts.entrySet()) {
+        Map<String, Object> value = new HashMap<>();
+        value.put(JsonKey.NAME, count.getKey());
+        value.put(JsonKey.COUNT, count.getValue());
+        values.add(value);
+      }
+      values.sort((a, b) -> Long.compare((Long) b.get(JsonKey.COUNT), (Long) a.get(JsonKey.COUNT)));
+      Map<String, Object> facet = new HashMap<>();
+      facet.put(VALUES, values);
+      facet.put(JsonKey.NAME, field);
+      facetList.add(facet);
+    }
+    return facetList;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> project(
+      Map<String, Object> document, List<String> fields, List<String> excludedFields) {
+    Map<String, Object> copy = (Map<String, Object>) deepCopy(document);
+    if (CollectionUtils.isNotEmpty(fields)) {
+      copy.keySet().retainAll(fields);
+    }
+    if (CollectionUtils.isNotEmpty(excludedFields)) {
+      copy.keySet().removeAll(excludedFields);
+    }
+    return copy;
+  }
+
+  private static Set<String> intersect(Set<String> candidates, Set<String> ids) {
+    if (candidates == null) {
+      return new HashSet<>(ids);
+    }
+    candidates.retainAll(ids);
+    return candidates;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Object a, Object b) {
+    if (a instanceof Number && b instanceof Number) {
+      return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+    }
+    if (a instanceof String || b instanceof String) {
+      return String.valueOf(a).compareToIgnoreCase(String.valueOf(b));
+    }
+    if (a instanceof Comparable && a.getClass().isInstance(b)) {
+      return ((Comparable<Object>) a).compareTo(b);
+    }
+    return String.valueOf(a).compareTo(String.valueOf(b));
+  }
+
+  /** @return the scalar values found at the given dotted path, looking into lists on the way */
+  @SuppressWarnings("unchecked")
+  private static List<Object> leafValues(Map<String, Object> document, String path) {
+    List<Object> current = Collections.singletonList(document);
+    for (String part : StringUtils.split(path, '.')) {
+      List<Object> next = new ArrayList<>();
+      for (Object node : current) {
+        if (node instanceof Map) {
+          addFlattened(next, ((Map<String, Object>) node).get(part));
+        }
+      }
+      current = next;
+    }
+    return current;
+  }
+
+  private static void addFlattened(List<Object> values, Object value) {
+    if (value instanceof Collection) {
+      for (Object element : (Collection<?>) value) {
+        addFlattened(values, element);
+      }
+    } else if (value != null) {
+      values.add(value);
+    }
+  }
+
+  /** @return value normalised the way a lower cased keyword field would hold it */
+  private static String term(Object value) {
+    if (value instanceof Number) {
+      return new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+    }
+    return String.valueOf(value).toLowerCase();
+  }
+
+  private static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    for (String token : StringUtils.split(text.toLowerCase(), " \t\n\r\f,.;:!?\"'()[]{}/\\-_")) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object deepCopy(Object value) {
+    if (value instanceof Map) {
+      Map<String, Object> copy = new HashMap<>();
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+        copy.put(entry.getKey(), deepCopy(entry.getValue()));
+      }
+      return copy;
+    } else if (value instanceof Collection) {
+      List<Object> copy = new ArrayList<>();
+      for (Object element : (Collection<Object>) value) {
+        copy.add(deepCopy(element));
+      }
+      return copy;
+    }
+    return value;
+  }
+
+  private Index getIndex(String name) {
+    return indices.computeIfAbsent(name, key -> new Index());
+  }
+
+  /**
+   * Documents of one index and their inverted index. Writes are serialised per index, searches read
+   * the concurrent maps without locking.
+   */
+  private static final class Index {
+    private final Map<String, Map<String, Object>> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    synchronized void put(String id, Map<String, Object> data) {
+      Map<String, Object> previous =
+          documents.put(id, (Map<String, Object>) deepCopy(data));
+      if (previous != null) {
+        unindex(id, previous);
+      }
+      index(id, documents.get(id));
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized boolean merge(String id, Map<String, Object> data, boolean create) {
+      Map<String, Object> previous = documents.get(id);
+      if (previous == null && !create) {
+        return false;
+      }
+      Map<String, Object> merged =
+          previous == null ? new HashMap<>() : (Map<String, Object>) deepCopy(previous);
+      merged.putAll((Map<String, Object>) deepCopy(data));
+      put(id, merged);
+      return true;
+    }
+
+    synchronized boolean remove(String id) {
+      Map<String, Object> previous = documents.remove(id);
+      if (previous == null) {
+        return false;
+      }
+      unindex(id, previous);
+      return true;
+    }
+
+    Set<String> lookup(String field, Collection<Object> values) {
+      Set<String> ids = new HashSet<>();
+      for (Object value : values) {
+        Set<String> posting = postings.get(field + TERM_SEPARATOR + term(value));
+        if (posting != null) {
+          ids.addAll(posting);
+        }
+      }
+      return ids;
+    }
+
+    private void index(String id, Map<String, Object> document) {
+      for (String key : terms(document)) {
+        postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+      }
+    }
+
+    private void unindex(String id, Map<String, Object> document) {
+      for (String key : terms(document)) {
+        Set<String> posting = postings.get(key);
+        if (posting != null) {
+          posting.remove(id);
+          if (posting.isEmpty()) {
+            postings.remove(key, posting);
+          }
+        }
+      }
+    }
+
+    private static Set<String> terms(Map<String, Object> document) {
+      Set<String> terms = new HashSet<>();
+      collectTerms(terms, "", document);
+      return terms;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectTerms(Set<String> terms, String path, Object value) {
+      if (value instanceof Map) {
+        for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+          String field = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+          collectTerms(terms, field, entry.getValue());
+        }
+      } else if (value instanceof Collection) {
+        for (Object element : (Collection<Object>) value) {
+          collectTerms(terms, path, element);
+        }
+      } else if (value != null) {
+        terms.add(path + TERM_SEPARATOR + term(value));
+        if (value instanceof String) {
+          for (String token : tokenize((String) value)) {
+            terms.add(ALL_FIELDS + TERM_SEPARATOR + token);
+          }
+        }
+      }
+    }
+  }
+
+  private static final class SearchResult {
+    private List<Map<String, Object>> content;
+    private List<Map<String, Object>> facets;
+    private long count;
+  }
+}
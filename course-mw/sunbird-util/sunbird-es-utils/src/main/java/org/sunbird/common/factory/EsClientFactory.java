@@ -1,11 +1,13 @@
 package org.sunbird.common.factory;
 
 import org.sunbird.common.ElasticSearchRestHighImpl;
+import org.sunbird.common.InMemoryElasticSearchService;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerEnum;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectLogger;
+import org.sunbird.common.util.InMemoryStorage;
 
 public class EsClientFactory {
 
@@ -13,7 +15,8 @@ public class EsClientFactory {
   private static LoggerUtil logger = new LoggerUtil(EsClientFactory.class);
 
   /**
-   * This method return REST/TCP client for elastic search
+   * This method return REST/TCP client for elastic search. When sunbird_storage_backend is set to
+   * memory, an InMemoryElasticSearchService is returned for the rest type instead.
    *
    * @param type can be "tcp" or "rest"
    * @return ElasticSearchService with the respected type impl
@@ -32,7 +35,10 @@ public class EsClientFactory {
     if (restClient == null) {
       synchronized (EsClientFactory.class) {
         if (restClient == null) {
-          restClient = new ElasticSearchRestHighImpl();
+          restClient =
+              InMemoryStorage.isEnabled()
+                  ? new InMemoryElasticSearchService()
+                  : new ElasticSearchRestHighImpl();
         }
       }
     }
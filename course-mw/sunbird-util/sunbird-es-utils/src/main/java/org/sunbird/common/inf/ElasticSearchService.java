@@ -98,6 +98,18 @@ public interface ElasticSearchService {
    */
   public Future<Boolean> bulkInsert(RequestContext requestContext, String index, List<Map<String, Object>> dataList);
 
+  /**
+   * This method will partially update existing documents, all of them in one bulk request. Every
+   * map holds the fields to update and the document identifier under id.
+   *
+   *
+   * @param requestContext
+   * @param index String index name
+   * @param dataList List<Map<String, Object>>
+   * @return identifiers of the documents that were updated
+   */
+  public Future<List<String>> bulkUpdate(RequestContext requestContext, String index, List<Map<String, Object>> dataList);
+
   /**
    * This method will upsert data based on identifier.take the data based on identifier and merge
    * with incoming data then update it or if not present already will create it.
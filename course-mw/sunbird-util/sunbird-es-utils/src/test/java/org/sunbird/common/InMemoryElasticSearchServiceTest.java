@@ -0,0 +1,138 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.util.InMemoryStorage;
+import org.sunbird.dto.SearchDTO;
+
+public class InMemoryElasticSearchServiceTest {
+
+  private static final String INDEX = "course-batch";
+
+  private final InMemoryElasticSearchService esService =
+      new InMemoryElasticSearchService(new InMemoryStorage(0, 0));
+
+  private Map<String, Object> batch(String id, String courseId, int status, String name) {
+    Map<String, Object> batch = new HashMap<>();
+    batch.put(JsonKey.ID, id);
+    batch.put(JsonKey.COURSE_ID, courseId);
+    batch.put(JsonKey.STATUS, status);
+    batch.put(JsonKey.NAME, name);
+    batch.put("createdFor", Arrays.asList("org1", "org2"));
+    return batch;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> search(SearchDTO searchDTO) {
+    return (Map<String, Object>)
+        ElasticSearchHelper.getResponseFromFuture(esService.search(null, searchDTO, INDEX));
+  }
+
+  @Before
+  public void setUp() {
+    esService.bulkInsert(
+        null,
+        INDEX,
+        Arrays.asList(
+            batch("b1", "do_1", 1, "Spring batch"),
+            batch("b2", "do_1", 2, "Summer batch"),
+            batch("b3", "do_2", 1, "Spring session")));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSearchWithFiltersSortAndPaging() {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.COURSE_ID, "DO_1");
+    filters.put(JsonKey.STATUS, Arrays.asList(1, 2));
+    filters.put("createdFor", "org2");
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    searchDTO.getSortBy().put(JsonKey.STATUS, "desc");
+    searchDTO.setLimit(1);
+    searchDTO.setFields(Arrays.asList(JsonKey.ID));
+
+    Map<String, Object> result = search(searchDTO);
+
+    assertEquals(2L, result.get(JsonKey.COUNT));
+    List<Map<String, Object>> content = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
+    assertEquals(1, content.size());
+    assertEquals("b2", content.get(0).get(JsonKey.ID));
+    assertEquals(1, content.get(0).size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSearchWithQueryRangeAndFacets() {
+    Map<String, Object> filters = new HashMap<>();
+    Map<String, Object> range = new HashMap<>();
+    range.put(ElasticSearchHelper.LT, 2);
+    filters.put(JsonKey.STATUS, range);
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    searchDTO.setQuery("spring");
+    Map<String, String> facet = new HashMap<>();
+    facet.put(JsonKey.COURSE_ID, null);
+    searchDTO.getFacets().add(facet);
+
+    Map<String, Object> result = search(searchDTO);
+
+    assertEquals(2L, result.get(JsonKey.COUNT));
+    List<Map<String, Object>> facets = (List<Map<String, Object>>) result.get(JsonKey.FACETS);
+    assertEquals(2, ((List) facets.get(0).get("values")).size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testUpdateReindexesDocument() {
+    Map<String, Object> update = new HashMap<>();
+    update.put(JsonKey.COURSE_ID, "do_3");
+    assertTrue(
+        (Boolean) ElasticSearchHelper.getResponseFromFuture(esService.update(null, INDEX, "b1", update)));
+    esService.delete(null, INDEX, "b3");
+
+    Map<String, Map<String, Object>> result =
+        (Map<String, Map<String, Object>>)
+            ElasticSearchHelper.getResponseFromFuture(
+                esService.getEsResultByListOfIds(null, Arrays.asList("b1", "b3"), null, INDEX));
+    assertEquals(1, result.size());
+    assertEquals("do_3", result.get("b1").get(JsonKey.COURSE_ID));
+
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.COURSE_ID, "do_1");
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    assertEquals(1L, search(searchDTO).get(JsonKey.COUNT));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testBulkUpdateSkipsMissingDocuments() {
+    Map<String, Object> started = new HashMap<>();
+    started.put(JsonKey.ID, "b2");
+    started.put(JsonKey.STATUS, 1);
+    Map<String, Object> missing = new HashMap<>();
+    missing.put(JsonKey.ID, "b4");
+    missing.put(JsonKey.STATUS, 1);
+
+    List<String> updated =
+        (List<String>)
+            ElasticSearchHelper.getResponseFromFuture(
+                esService.bulkUpdate(null, INDEX, Arrays.asList(started, missing)));
+    assertEquals(Arrays.asList("b2"), updated);
+
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.STATUS, 1);
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    assertEquals(3L, search(searchDTO).get(JsonKey.COUNT));
+  }
+}
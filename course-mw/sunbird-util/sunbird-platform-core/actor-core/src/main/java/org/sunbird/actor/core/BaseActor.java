@@ -15,6 +15,7 @@ import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectLogger;
 import org.sunbird.common.request.Request;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import scala.concurrent.duration.Duration;
 
@@ -32,15 +33,29 @@ public abstract class BaseActor extends UntypedAbstractActor {
       Request request = (Request) message;
       String operation = request.getOperation();
       logger.debug(request.getRequestContext(), "BaseActor: onReceive called for operation: " + operation);
+      if (hasWaitingSender() && RequestDeadline.isExceeded(request.getRequestContext())) {
+        // The caller stopped waiting while the request sat in the mailbox
+        logger.info(request.getRequestContext(), "BaseActor: deadline exceeded, skipping operation: " + operation);
+        sender().tell(RequestDeadline.exceeded(operation), self());
+        return;
+      }
+      RequestDeadline.bind(request.getRequestContext());
       try {
         onReceive(request);
       } catch (Exception e) {
         logger.debug(request.getRequestContext(), "BaseActor: FAILED onReceive called for operation: " + operation);
         onReceiveException(operation, e);
+      } finally {
+        RequestDeadline.unbind();
       }
     }
   }
 
+  /** @return false for messages told without a sender, whose result nobody waits for */
+  private boolean hasWaitingSender() {
+    return !getSender().equals(getContext().getSystem().deadLetters());
+  }
+
   public void tellToAnother(Request request) {
     SunbirdMWService.tellToBGRouter(request, self());
   }
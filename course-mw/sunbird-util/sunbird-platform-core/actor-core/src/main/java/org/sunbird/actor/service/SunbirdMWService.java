@@ -6,6 +6,7 @@ import org.sunbird.actor.router.BackgroundRequestRouter;
 import org.sunbird.actor.router.RequestRouter;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.request.Request;
+import org.sunbird.common.request.RequestDeadline;
 
 /** @author Mahesh Kumar Gangula */
 public class SunbirdMWService extends BaseMWService {
@@ -29,6 +30,7 @@ public class SunbirdMWService extends BaseMWService {
   }
 
   public static void tellToBGRouter(Request request, ActorRef sender) {
+    request.setRequestContext(RequestDeadline.detach(request.getRequestContext()));
     String operation = request.getOperation();
     ActorRef actor = BackgroundRequestRouter.getActor(operation);
     if (null == actor) {
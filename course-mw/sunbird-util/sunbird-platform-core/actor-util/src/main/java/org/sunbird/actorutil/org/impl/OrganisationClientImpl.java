@@ -125,7 +125,7 @@ public class OrganisationClientImpl implements OrganisationClient {
     Future<Map<String, Object>> esResponseF =
         esUtil.search(null, searchDto, ProjectUtil.EsType.organisation.getTypeName());
     Map<String, Object> esResponse =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResponseF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(esResponseF);
     List<Map<String, Object>> list = (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
     if (!list.isEmpty()) {
       map = list.get(0);
@@ -141,7 +141,7 @@ public class OrganisationClientImpl implements OrganisationClient {
     Future<Map<String, Object>> mapF =
         esUtil.getDataByIdentifier(null, ProjectUtil.EsType.organisation.getTypeName(), id);
 
-    map = (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(mapF);
+    map = (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(mapF);
     if (MapUtils.isEmpty(map)) {
       return null;
     } else {
@@ -163,7 +163,7 @@ public class OrganisationClientImpl implements OrganisationClient {
     Future<Map<String, Object>> resultF =
         esUtil.search(null, searchDto, ProjectUtil.EsType.organisation.getTypeName());
     Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(resultF);
 
     List<Map<String, Object>> orgMapList = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
     if (CollectionUtils.isNotEmpty(orgMapList)) {
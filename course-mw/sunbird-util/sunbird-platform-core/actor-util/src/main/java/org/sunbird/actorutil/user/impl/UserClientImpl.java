@@ -67,7 +67,7 @@ public class UserClientImpl implements UserClient {
     Future<Map<String, Object>> esResponseF =
         esUtil.search(null, searchDto, ProjectUtil.EsType.user.getTypeName());
     Map<String, Object> esResponse =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResponseF);
+        (Map<String, Object>) ElasticSearchHelper.getReadResponseFromFuture(esResponseF);
 
     if (null != esResponse) {
       List<Map<String, Object>> facetsResponse =
@@ -2,10 +2,9 @@ package org.sunbird.common.models.util;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 /**
  * This class will be used to read cassandratablecolumn properties file.
@@ -15,6 +14,7 @@ import java.util.stream.Collectors;
 public class CassandraPropertyReader {
 
   private final Properties properties = new Properties();
+  private final Map<String, String> propertyKeys = new HashMap<>();
   private static final String file = "cassandratablecolumn.properties";
   private static CassandraPropertyReader cassandraPropertyReader = null;
   public LoggerUtil logger = new LoggerUtil(this.getClass());
@@ -24,6 +24,9 @@ public class CassandraPropertyReader {
     InputStream in = this.getClass().getClassLoader().getResourceAsStream(file);
     try {
       properties.load(in);
+      for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+        propertyKeys.putIfAbsent((String) entry.getValue(), (String) entry.getKey());
+      }
     } catch (IOException e) {
       logger.error(null, "Error in properties cache", e);
     }
@@ -57,10 +60,6 @@ public class CassandraPropertyReader {
    * @return key corresponding to given value if found else will return value itself.
    */
   public String readPropertyValue(String key) {
-    List<Map.Entry<Object, Object>> s = properties.entrySet()
-            .stream()
-            .filter(entry -> key.equals(entry.getValue()))
-            .collect(Collectors.toList());
-    return s.isEmpty() ? key : (String) s.get(0).getKey();
+    return propertyKeys.getOrDefault(key, key);
   }
 }
@@ -1,47 +1,104 @@
 package org.sunbird.common.models.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.sunbird.common.request.RequestContext;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Writes a log line as a LOG telemetry event. The fields are streamed into a generator and buffer
+ * kept per thread, so a line costs one string and no intermediate maps.
+ */
 public class CustomLogFormat {
-    private String edataType = "system";
-    private String eid = "LOG";
-    private String ver = "3.0";
-    private Map<String, Object> edata = new HashMap<>();
-    private Map<String, Object> eventMap = new HashMap<>();
-
-    CustomLogFormat(RequestContext requestContext, String msg, Map<String, Object> object, Map<String, Object> params) {
-        if (params != null)
-            this.edata.put("params", new ArrayList<Map<String, Object>>(){{add(params);}});
-        setEventMap(requestContext, msg);
-        if (object != null)
-            this.eventMap.put("object", object);
+    private static final String EDATA_TYPE = "system";
+    private static final String EID = "LOG";
+    private static final String VER = "3.0";
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<Output> output = new ThreadLocal<>();
+
+    private CustomLogFormat() {}
+
+    /** Generator writing into a buffer that is cleared before every line. */
+    private static final class Output {
+        private final StringWriter buffer = new StringWriter(512);
+        private final JsonGenerator generator;
+        private boolean inUse;
+
+        private Output() throws IOException {
+            generator = mapper.getFactory().createGenerator(buffer);
+            generator.setRootValueSeparator(null);
+        }
+    }
+
+    static String format(RequestContext requestContext, String level, String msg, Map<String, Object> object, Map<String, Object> params) throws IOException {
+        Output out = output.get();
+        if (out == null) {
+            out = new Output();
+            output.set(out);
+        } else if (out.inUse) {
+            // logging from within the serialization of a value of the line being written
+            out = new Output();
+        }
+        out.buffer.getBuffer().setLength(0);
+        out.inUse = true;
+        try {
+            write(out.generator, requestContext, level, msg, object, params);
+            out.generator.flush();
+        } catch (IOException | RuntimeException e) {
+            // the generator is left in the middle of an object, start over with a new one
+            if (output.get() == out) {
+                output.remove();
+            }
+            throw e;
+        } finally {
+            out.inUse = false;
+        }
+        String line = out.buffer.toString();
+        if (out.buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER && output.get() == out) {
+            output.remove();
+        }
+        return line;
     }
 
-    public Map<String, Object> getEventMap() {
-        return this.eventMap;
+    private static void write(JsonGenerator generator, RequestContext requestContext, String level, String msg, Map<String, Object> object, Map<String, Object> params) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("eid", EID);
+        generator.writeNumberField("ets", System.currentTimeMillis());
+        generator.writeStringField("ver", VER);
+        generator.writeStringField("mid", EID + ":" + randomId());
+        generator.writeObjectField("context", requestContext.getContextMap());
+        generator.writeObjectFieldStart("actor");
+        generator.writeStringField("id", requestContext.getActorId());
+        generator.writeStringField("type", requestContext.getActorType());
+        generator.writeEndObject();
+        generator.writeObjectFieldStart("edata");
+        generator.writeStringField("type", EDATA_TYPE);
+        generator.writeStringField("requestid", requestContext.getRequestId());
+        generator.writeStringField("message", msg);
+        generator.writeStringField("level", level);
+        if (params != null) {
+            generator.writeArrayFieldStart("params");
+            generator.writeObject(params);
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        if (object != null) {
+            generator.writeObjectField("object", object);
+        }
+        generator.writeEndObject();
     }
 
-    public void setEventMap(RequestContext requestContext, String msg) {
-        this.edata.put("type", edataType);
-        this.edata.put("requestid", requestContext.getRequestId());
-        this.edata.put("message", msg);
-        this.edata.put("level", requestContext.getLoggerLevel());
-        this.eventMap.putAll(new HashMap<String, Object>() {{
-            put("eid", eid);
-            put("ets", System.currentTimeMillis());
-            put("ver", ver);
-            put("mid", "LOG:" + UUID.randomUUID().toString());
-            put("context", requestContext.getContextMap());
-            put("actor", new HashMap<String, Object>() {{
-                put("id", requestContext.getActorId());
-                put("type", requestContext.getActorType());
-            }});
-            put("edata", edata);
-        }});
+    /** @return a random version 4 UUID, without the contention of the shared SecureRandom */
+    private static String randomId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least).toString();
     }
 }
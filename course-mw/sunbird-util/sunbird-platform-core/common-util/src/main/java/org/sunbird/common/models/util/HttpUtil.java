@@ -4,13 +4,19 @@ package org.sunbird.common.models.util;
 import com.mashape.unirest.http.HttpResponse;
 import com.mashape.unirest.http.Unirest;
 import com.mashape.unirest.http.exceptions.UnirestException;
+import com.mashape.unirest.request.BaseRequest;
 import org.apache.commons.collections4.MapUtils;
 import org.sunbird.common.models.response.HttpUtilResponse;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * This utility method will handle external http call
@@ -33,7 +39,7 @@ public class HttpUtil {
   public static String sendGetRequest(String requestURL, Map<String, String> headers)
           throws UnirestException {
     long startTime = System.currentTimeMillis();
-    HttpResponse<String> httpResponse = Unirest.get(requestURL).headers(headers).asString();
+    HttpResponse<String> httpResponse = asString(Unirest.get(requestURL).headers(headers));
     if(200 == httpResponse.getStatus()) {
       long stopTime = System.currentTimeMillis();
       long elapsedTime = stopTime - startTime;
@@ -57,7 +63,7 @@ public class HttpUtil {
       String requestURL, Map<String, String> params, Map<String, String> headers)
       throws Exception {
     long startTime = System.currentTimeMillis();
-    HttpResponse<String> httpResponse = Unirest.post(requestURL).headers(headers).body(params).asString();
+    HttpResponse<String> httpResponse = asString(Unirest.post(requestURL).headers(headers).body(params));
     String str = httpResponse.getBody();
     long stopTime = System.currentTimeMillis();
     long elapsedTime = stopTime - startTime;
@@ -83,7 +89,7 @@ public class HttpUtil {
   public static String sendPostRequest(
       String requestURL, String params, Map<String, String> headers) throws Exception {
     long startTime = System.currentTimeMillis();
-    HttpResponse<String> httpResponse = Unirest.post(requestURL).headers(headers).body(params).asString();
+    HttpResponse<String> httpResponse = asString(Unirest.post(requestURL).headers(headers).body(params));
     String str = httpResponse.getBody();
     long stopTime = System.currentTimeMillis();
     long elapsedTime = stopTime - startTime;
@@ -112,7 +118,7 @@ public class HttpUtil {
     long startTime = System.currentTimeMillis();
     HttpUtilResponse response = new HttpUtilResponse();
     try {
-      HttpResponse<String> httpResponse = Unirest.post(requestURL).headers(headers).body(params).asString();
+      HttpResponse<String> httpResponse = asString(Unirest.post(requestURL).headers(headers).body(params));
       response = new HttpUtilResponse(httpResponse.getBody(), httpResponse.getStatus());
     } catch (Exception ex) {
       logger.error(null, "Exception occurred while reading body of POST call response : " , ex);
@@ -149,7 +155,7 @@ public class HttpUtil {
             + params);
 
     try {
-      HttpResponse<String> httpResponse = Unirest.patch(requestURL).headers(headers).body(params).asString();
+      HttpResponse<String> httpResponse = asString(Unirest.patch(requestURL).headers(headers).body(params));
       
       if (ResponseCode.OK.getResponseCode() == httpResponse.getStatus()) {
         long stopTime = System.currentTimeMillis();
@@ -190,6 +196,42 @@ public class HttpUtil {
   }
 
 
+  /**
+   * Sends the request and reads the response body as a string. Within a request that has a
+   * deadline a GET is not made once the deadline has passed, and the wait for its response is cut
+   * off at the deadline. Other methods may write, and are always waited for.
+   *
+   * @param request Unirest request to send
+   * @return the response
+   * @throws UnirestException if the call fails or the deadline passes
+   */
+  public static HttpResponse<String> asString(BaseRequest request) throws UnirestException {
+    long remaining = RequestDeadline.remainingMillisToSend(request);
+    if (remaining == RequestDeadline.NONE) {
+      return request.asString();
+    }
+    String url = request.getHttpRequest().getUrl();
+    if (remaining == 0) {
+      throw new UnirestException("Request deadline exceeded before calling " + url);
+    }
+    return await(request.asStringAsync(), url, remaining);
+  }
+
+  static <T> T await(Future<T> future, String url, long timeoutMillis) throws UnirestException {
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new UnirestException("Request deadline exceeded while calling " + url);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw new UnirestException(cause instanceof Exception ? (Exception) cause : e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnirestException(e);
+    }
+  }
+
   public static Map<String, String> getHeader(Map<String, String> input) throws Exception {
     return new HashMap<String, String>() {
       {
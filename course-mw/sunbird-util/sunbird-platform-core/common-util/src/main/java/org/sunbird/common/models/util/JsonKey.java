@@ -597,5 +597,64 @@ public final class JsonKey {
   public static final String ES_ORGANISATION_INDEX = "es_organisation_index";
   public static final String ES_USER_COURSES_INDEX = "es_user_courses_index";
 
+  public static final String REDIS_SERVICE = "Redis service";
+  public static final String KAFKA_SERVICE = "Kafka service";
+  public static final String HEALTH_CHECK_TIMEOUT_MS = "sunbird_health_check_timeout_ms";
+  public static final String HEALTH_CHECK_CACHE_TTL_MS = "sunbird_health_check_cache_ttl_ms";
+
+  public static final String SUNBIRD_CACHE_ENABLE = "sunbird_cache_enable";
+  public static final String PAGE_CACHE_REFRESH_INTERVAL =
+      "sunbird_page_cache_refresh_interval_minutes";
+
+  public static final String SUNBIRD_QRCODE_DIALCODE_CHUNK_SIZE =
+      "sunbird_qrcode_dialcode_chunk_size";
+  public static final String SUNBIRD_QRCODE_DIALCODE_PARALLELISM =
+      "sunbird_qrcode_dialcode_parallelism";
+
+  public static final String SUNBIRD_COURSE_BATCH_NOTIFICATION_RECIPIENTS_LIMIT =
+      "sunbird_course_batch_notification_recipients_limit";
+  public static final String SUNBIRD_COURSE_BATCH_NOTIFICATION_PARALLELISM =
+      "sunbird_course_batch_notification_parallelism";
+  public static final String SUNBIRD_COURSE_BATCH_NOTIFICATION_MAX_RETRIES =
+      "sunbird_course_batch_notification_max_retries";
+  public static final String SUNBIRD_COURSE_BATCH_NOTIFICATION_QUEUE_SIZE =
+      "sunbird_course_batch_notification_queue_size";
+
+  public static final String SUNBIRD_COURSE_METADATA_CACHE_TTL =
+      "sunbird_course_metadata_cache_ttl_seconds";
+  public static final String SUNBIRD_COURSE_METADATA_CACHE_SIZE =
+      "sunbird_course_metadata_cache_size";
+  public static final String SUNBIRD_COURSE_BATCH_SEARCH_CACHE_TTL =
+      "sunbird_course_batch_search_cache_ttl_seconds";
+  public static final String SUNBIRD_COURSE_BATCH_SEARCH_CACHE_SIZE =
+      "sunbird_course_batch_search_cache_size";
+  public static final String SUNBIRD_ES_REFRESH_INTERVAL =
+      "sunbird_es_refresh_interval_ms";
+
+
+  public static final String SUNBIRD_CONTENT_CONSUMPTION_BUFFER_WINDOW =
+      "sunbird_content_consumption_buffer_window_ms";
+  public static final String SUNBIRD_CONTENT_CONSUMPTION_BUFFER_CAPACITY =
+      "sunbird_content_consumption_buffer_capacity";
+
+  public static final String SUNBIRD_STORAGE_BACKEND = "sunbird_storage_backend";
+  public static final String IN_MEMORY = "memory";
+  public static final String SUNBIRD_IN_MEMORY_STORAGE_LATENCY_MS =
+      "sunbird_in_memory_storage_latency_ms";
+  public static final String SUNBIRD_IN_MEMORY_STORAGE_LATENCY_JITTER_MS =
+      "sunbird_in_memory_storage_latency_jitter_ms";
+
+  public static final String SUNBIRD_CONCURRENCY_LIMIT_ENABLED = "sunbird_concurrency_limit_enabled";
+  public static final String SUNBIRD_CONCURRENCY_LIMIT_INITIAL = "sunbird_concurrency_limit_initial";
+  public static final String SUNBIRD_CONCURRENCY_LIMIT_MIN = "sunbird_concurrency_limit_min";
+  public static final String SUNBIRD_CONCURRENCY_LIMIT_MAX = "sunbird_concurrency_limit_max";
+
+  public static final String SUNBIRD_MAIL_TRANSPORT_POOL_SIZE = "sunbird_mail_transport_pool_size";
+  public static final String SUNBIRD_CACHE_VALUE_FORMAT = "sunbird_cache_value_format";
+  public static final String SUNBIRD_CACHE_COMPRESSION_THRESHOLD =
+      "sunbird_cache_compression_threshold";
+  public static final String SUNBIRD_TELEMETRY_ERROR_BUFFER_SIZE =
+      "sunbird_telemetry_error_buffer_size";
+
   private JsonKey() {}
 }
@@ -11,12 +11,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.sunbird.common.exception.ProjectCommonException;
-import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
-import org.sunbird.common.responsecode.ResponseCode;
-import org.sunbird.telemetry.util.TelemetryEvents;
-import org.sunbird.telemetry.util.TelemetryWriter;
+import org.sunbird.telemetry.util.TelemetryLmaxWriter;
 
 /**
  * This class will used to log the project message in any level.
@@ -31,7 +27,6 @@ public class ProjectLogger {
   private static ObjectMapper mapper = new ObjectMapper();
   private static Logger rootLogger = LoggerFactory.getLogger("defaultLogger");
   private static Logger queryLogger = LoggerFactory.getLogger("queryLogger");
-  //	private static TelemetryLmaxWriter lmaxWriter = TelemetryLmaxWriter.getInstance();
 
   /** To log only message. */
   public static void log(String message) {
@@ -48,35 +43,7 @@ public class ProjectLogger {
   }
 
   private static void telemetryProcess(Map<String, Object> telemetryInfo, Throwable e) {
-
-    ProjectCommonException projectCommonException = null;
-    if (e instanceof ProjectCommonException) {
-      projectCommonException = (ProjectCommonException) e;
-    } else {
-      projectCommonException =
-          new ProjectCommonException(
-              ResponseCode.internalError.getErrorCode(),
-              ResponseCode.internalError.getErrorMessage(),
-              ResponseCode.SERVER_ERROR.getResponseCode());
-    }
-    Request request = new Request();
-    telemetryInfo.put(JsonKey.TELEMETRY_EVENT_TYPE, TelemetryEvents.ERROR.getName());
-
-    Map<String, Object> params = (Map<String, Object>) telemetryInfo.get(JsonKey.PARAMS);
-    params.put(JsonKey.ERROR, projectCommonException.getCode());
-    params.put(JsonKey.STACKTRACE, generateStackTrace(e.getStackTrace()));
-    request.setRequest(telemetryInfo);
-    TelemetryWriter.write(request);
-    //		lmaxWriter.submitMessage(request);
-
-  }
-
-  private static String generateStackTrace(StackTraceElement[] elements) {
-    StringBuilder builder = new StringBuilder("");
-    for (StackTraceElement element : elements) {
-      builder.append(element.toString());
-    }
-    return builder.toString();
+    TelemetryLmaxWriter.getInstance().submitError(null, telemetryInfo, e);
   }
 
   public static void log(String message, String logLevel) {
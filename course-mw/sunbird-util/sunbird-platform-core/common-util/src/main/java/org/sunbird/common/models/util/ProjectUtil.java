@@ -21,6 +21,8 @@ import org.apache.hadoop.util.Time;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.log.NullLogChute;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.util.url.EsConfigUtil;
 import org.sunbird.common.request.Request;
@@ -770,6 +772,7 @@ public class ProjectUtil {
   public static String getSMSBody(Map<String, String> smsTemplate) {
     try {
       Properties props = new Properties();
+      props.put(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
       props.put("resource.loader", "class");
       props.put(
           "class.resource.loader.class",
@@ -9,6 +9,7 @@ import com.mashape.unirest.http.exceptions.UnirestException;
 import com.mashape.unirest.request.BaseRequest;
 import org.apache.commons.lang3.StringUtils;
 import org.json.JSONObject;
+import org.sunbird.common.request.RequestDeadline;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
 
@@ -28,6 +29,12 @@ public class RestUtil {
   public static Future<HttpResponse<JsonNode>> executeAsync(BaseRequest request) {
     ProjectLogger.log("RestUtil:execute: request url = " + request.getHttpRequest().getUrl());
     Promise<HttpResponse<JsonNode>> promise = Futures.promise();
+    if (RequestDeadline.remainingMillisToSend(request) == 0) {
+      promise.failure(
+          new UnirestException(
+              "Request deadline exceeded before calling " + request.getHttpRequest().getUrl()));
+      return promise.future();
+    }
 
     request.asJsonAsync(
         new Callback<JsonNode>() {
@@ -52,7 +59,16 @@ public class RestUtil {
   }
 
   public static HttpResponse<JsonNode> execute(BaseRequest request) throws Exception {
-    return request.asJson();
+    // only a GET is bound by the request deadline, see HttpUtil.asString
+    long remaining = RequestDeadline.remainingMillisToSend(request);
+    if (remaining == RequestDeadline.NONE) {
+      return request.asJson();
+    }
+    String url = request.getHttpRequest().getUrl();
+    if (remaining == 0) {
+      throw new UnirestException("Request deadline exceeded before calling " + url);
+    }
+    return HttpUtil.await(request.asJsonAsync(), url, remaining);
   }
 
   public static String getFromResponse(HttpResponse<JsonNode> resp, String key) throws Exception {
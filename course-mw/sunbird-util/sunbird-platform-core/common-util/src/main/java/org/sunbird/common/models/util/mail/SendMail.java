@@ -1,26 +1,31 @@
 package org.sunbird.common.models.util.mail;
 
 import java.io.StringWriter;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
 import javax.activation.FileDataSource;
 import javax.mail.BodyPart;
 import javax.mail.Message;
 import javax.mail.Message.RecipientType;
-import javax.mail.MessagingException;
 import javax.mail.Multipart;
 import javax.mail.Session;
-import javax.mail.Transport;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
 import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.log.NullLogChute;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.apache.velocity.runtime.resource.loader.StringResourceLoader;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerEnum;
 import org.sunbird.common.models.util.ProjectLogger;
@@ -39,6 +44,14 @@ public class SendMail {
   private static String userName;
   private static String password;
   private static String fromEmail;
+  private static Session session;
+  private static SmtpTransportPool transportPool;
+  private static final int MAX_BODY_TEMPLATES = 100;
+  private static final VelocityEngine engine = createEngine();
+  // compiled templates, by template name and by template body
+  private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+  private static final Map<String, Template> bodyTemplates = new ConcurrentHashMap<>();
+  private static final AtomicLong bodyTemplateCount = new AtomicLong();
 
   static {
     // collecting setup value from ENV
@@ -70,6 +83,71 @@ public class SendMail {
      */
     props.put("mail.smtp.auth", "true");
     props.put("mail.smtp.port", port);
+    session = Session.getInstance(props, new GMailAuthenticator(userName, password));
+    transportPool =
+        new SmtpTransportPool(
+            session,
+            host,
+            userName,
+            password,
+            NumberUtils.toInt(
+                PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_MAIL_TRANSPORT_POOL_SIZE),
+                4));
+    Runtime.getRuntime().addShutdownHook(new ResourceCleanUp());
+  }
+
+  /** Closes the pooled SMTP transports when the jvm shuts down. */
+  static class ResourceCleanUp extends Thread {
+    public void run() {
+      transportPool.close();
+    }
+  }
+
+  private static VelocityEngine createEngine() {
+    Properties p = new Properties();
+    // errors are logged by the callers, velocity would otherwise write velocity.log to the cwd
+    p.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
+    p.setProperty("resource.loader", "class,string");
+    p.setProperty("class.resource.loader.class", ClasspathResourceLoader.class.getName());
+    p.setProperty("class.resource.loader.cache", "true");
+    p.setProperty("string.resource.loader.class", StringResourceLoader.class.getName());
+    VelocityEngine velocityEngine = new VelocityEngine();
+    try {
+      velocityEngine.init(p);
+    } catch (Exception e) {
+      ProjectLogger.log(
+          "SendMail:createEngine : Exception occurred with message = " + e.getMessage(), e);
+    }
+    return velocityEngine;
+  }
+
+  /** @return the compiled template of the given name, parsed on first use */
+  private static Template getTemplate(String templateName) throws Exception {
+    Template template = templates.get(templateName);
+    if (template == null) {
+      template = engine.getTemplate(templateName);
+      templates.put(templateName, template);
+    }
+    return template;
+  }
+
+  /** @return the compiled template of the given body, parsed on first use */
+  private static Template getBodyTemplate(String templateBody) throws Exception {
+    Template template = bodyTemplates.get(templateBody);
+    if (template == null) {
+      if (bodyTemplates.size() >= MAX_BODY_TEMPLATES) {
+        bodyTemplates.clear();
+      }
+      String name = "SimpleVelocity" + bodyTemplateCount.incrementAndGet();
+      StringResourceLoader.getRepository().putStringResource(name, templateBody);
+      try {
+        template = engine.getTemplate(name);
+      } finally {
+        StringResourceLoader.getRepository().removeStringResource(name);
+      }
+      bodyTemplates.put(templateBody, template);
+    }
+    return template;
   }
 
   /** This method will initialize values from property files. */
@@ -91,16 +169,9 @@ public class SendMail {
    */
   public static boolean sendMail(
       String[] emailList, String subject, VelocityContext context, String templateName) {
-    VelocityEngine engine = new VelocityEngine();
-    Properties p = new Properties();
-    p.setProperty("resource.loader", "class");
-    p.setProperty(
-        "class.resource.loader.class",
-        "org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader");
     StringWriter writer = null;
     try {
-      engine.init(p);
-      Template template = engine.getTemplate(templateName);
+      Template template = getTemplate(templateName);
       writer = new StringWriter();
       template.merge(context, writer);
     } catch (Exception e) {
@@ -123,9 +194,9 @@ public class SendMail {
       String[] emailList, String subject, VelocityContext context, String templateBody) {
     StringWriter writer = null;
     try {
-      Velocity.init();
+      Template template = getBodyTemplate(templateBody);
       writer = new StringWriter();
-      Velocity.evaluate(context, writer, "SimpleVelocity", templateBody);
+      template.merge(context, writer);
     } catch (Exception e) {
       ProjectLogger.log(
           "SendMail:sendMailWithBody : Exception occurred with message =" + e.getMessage(), e);
@@ -149,9 +220,7 @@ public class SendMail {
       String templateName,
       String[] ccEmailList) {
     ProjectLogger.log("Mail Template name - " + templateName, LoggerEnum.INFO.name());
-    Transport transport = null;
     try {
-      Session session = Session.getInstance(props, new GMailAuthenticator(userName, password));
       MimeMessage message = new MimeMessage(session);
       message.setFrom(new InternetAddress(fromEmail));
       int size = emailList.length;
@@ -169,31 +238,13 @@ public class SendMail {
         size--;
       }
       message.setSubject(subject);
-      VelocityEngine engine = new VelocityEngine();
-      Properties p = new Properties();
-      p.setProperty("resource.loader", "class");
-      p.setProperty(
-          "class.resource.loader.class",
-          "org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader");
-      engine.init(p);
-      Template template = engine.getTemplate(templateName);
+      Template template = getTemplate(templateName);
       StringWriter writer = new StringWriter();
       template.merge(context, writer);
       message.setContent(writer.toString(), "text/html; charset=utf-8");
-      transport = session.getTransport("smtp");
-      transport.connect(host, userName, password);
-      transport.sendMessage(message, message.getAllRecipients());
-      transport.close();
+      transportPool.send(message);
     } catch (Exception e) {
       ProjectLogger.log(e.toString(), e);
-    } finally {
-      if (transport != null) {
-        try {
-          transport.close();
-        } catch (MessagingException e) {
-          ProjectLogger.log(e.toString(), e);
-        }
-      }
     }
   }
 
@@ -207,9 +258,7 @@ public class SendMail {
    */
   public static void sendAttachment(
       String[] emailList, String emailBody, String subject, String filePath) {
-    Transport transport = null;
     try {
-      Session session = Session.getInstance(props, new GMailAuthenticator(userName, password));
       MimeMessage message = new MimeMessage(session);
       message.setFrom(new InternetAddress(fromEmail));
       int size = emailList.length;
@@ -234,32 +283,19 @@ public class SendMail {
       multipart.addBodyPart(messageBodyPart);
       message.setSubject(subject);
       message.setContent(multipart);
-      transport = session.getTransport("smtp");
-      transport.connect(host, userName, password);
-      transport.sendMessage(message, message.getAllRecipients());
-      transport.close();
+      transportPool.send(message);
     } catch (Exception e) {
       ProjectLogger.log(e.toString(), e);
-    } finally {
-      if (transport != null) {
-        try {
-          transport.close();
-        } catch (MessagingException e) {
-          ProjectLogger.log(e.toString(), e);
-        }
-      }
     }
   }
 
   private static boolean sendEmail(
       String[] emailList, String subject, VelocityContext context, StringWriter writer) {
-    Transport transport = null;
     boolean sentStatus = true;
     try {
       if (context != null) {
         context.put(JsonKey.FROM_EMAIL, fromEmail);
       }
-      Session session = Session.getInstance(props, new GMailAuthenticator(userName, password));
       MimeMessage message = new MimeMessage(session);
       message.setFrom(new InternetAddress(fromEmail));
       RecipientType recipientType = null;
@@ -275,23 +311,12 @@ public class SendMail {
         message.addRecipient(Message.RecipientType.TO, new InternetAddress(fromEmail));
       message.setSubject(subject);
       message.setContent(writer.toString(), "text/html; charset=utf-8");
-      transport = session.getTransport("smtp");
-      transport.connect(host, userName, password);
-      transport.sendMessage(message, message.getAllRecipients());
-      transport.close();
+      transportPool.send(message);
     } catch (Exception e) {
 
       sentStatus = false;
       ProjectLogger.log(
           "SendMail:sendMail: Exception occurred with message = " + e.getMessage(), e);
-    } finally {
-      if (transport != null) {
-        try {
-          transport.close();
-        } catch (MessagingException e) {
-          ProjectLogger.log(e.toString(), e);
-        }
-      }
     }
     return sentStatus;
   }
@@ -0,0 +1,110 @@
+package org.sunbird.common.models.util.mail;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import org.sunbird.common.models.util.ProjectLogger;
+
+/**
+ * Small pool of connected SMTP transports, so that sending a mail does not pay for a new connection
+ * and login each time. Transports are checked before reuse and dropped once they fail, the next
+ * borrower then connects a new one.
+ */
+public class SmtpTransportPool {
+
+  private static final long BORROW_TIMEOUT_SECONDS = 30;
+
+  private final Session session;
+  private final String host;
+  private final String userName;
+  private final String password;
+  private final Semaphore permits;
+  private final LinkedBlockingDeque<Transport> idle = new LinkedBlockingDeque<>();
+  private volatile boolean closed;
+
+  public SmtpTransportPool(
+      Session session, String host, String userName, String password, int size) {
+    this.session = session;
+    this.host = host;
+    this.userName = userName;
+    this.password = password;
+    this.permits = new Semaphore(Math.max(1, size));
+  }
+
+  /**
+   * Sends the message to all its recipients over a pooled transport.
+   *
+   * @param message Message to send
+   * @throws MessagingException if no transport could be connected or sending failed
+   */
+  public void send(Message message) throws MessagingException {
+    Transport transport = borrow();
+    boolean sent = false;
+    try {
+      transport.sendMessage(message, message.getAllRecipients());
+      sent = true;
+    } finally {
+      release(transport, sent);
+    }
+  }
+
+  private Transport borrow() throws MessagingException {
+    try {
+      if (!permits.tryAcquire(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        throw new MessagingException("No SMTP transport available");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("Interrupted while waiting for an SMTP transport", e);
+    }
+    try {
+      Transport transport;
+      while ((transport = idle.pollFirst()) != null) {
+        if (transport.isConnected()) {
+          return transport;
+        }
+        close(transport);
+      }
+      transport = session.getTransport("smtp");
+      transport.connect(host, userName, password);
+      return transport;
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void release(Transport transport, boolean reusable) {
+    if (reusable) {
+      idle.offerFirst(transport);
+      if (closed) {
+        // the pool was closed while this transport was in use
+        close();
+      }
+    } else {
+      close(transport);
+    }
+    permits.release();
+  }
+
+  /** Closes the idle transports, transports in use are closed once they are given back. */
+  public void close() {
+    closed = true;
+    Transport transport;
+    while ((transport = idle.pollFirst()) != null) {
+      close(transport);
+    }
+  }
+
+  private static void close(Transport transport) {
+    try {
+      transport.close();
+    } catch (MessagingException e) {
+      ProjectLogger.log(e.toString(), e);
+    }
+  }
+}
@@ -19,6 +19,15 @@ import org.sunbird.common.responsecode.ResponseCode;
  * @author B Vinaya Kumar
  */
 public class BaseRequestValidator {
+  private static final RequestRules SEARCH =
+      RequestRules.builder()
+          .present(JsonKey.FILTERS, ResponseCode.mandatoryParamsMissing, JsonKey.FILTERS)
+          .ofType(JsonKey.FILTERS, Map.class, "Map")
+          .check(BaseRequestValidator::validateSearchRequestFiltersValues)
+          .ofType(JsonKey.FIELDS, List.class, "List")
+          .listOf(JsonKey.FIELDS, String.class, "List of String")
+          .build();
+
   public LoggerUtil logger = new LoggerUtil(this.getClass());
 
   /**
@@ -380,100 +389,56 @@ public class BaseRequestValidator {
   }
 
   public void validateSearchRequest(Request request) {
-    if (null == request.getRequest().get(JsonKey.FILTERS)) {
-      throw new ProjectCommonException(
-          ResponseCode.mandatoryParamsMissing.getErrorCode(),
-          MessageFormat.format(
-              ResponseCode.mandatoryParamsMissing.getErrorMessage(), JsonKey.FILTERS),
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
-    if (request.getRequest().containsKey(JsonKey.FILTERS)
-        && (!(request.getRequest().get(JsonKey.FILTERS) instanceof Map))) {
-      throw new ProjectCommonException(
-          ResponseCode.dataTypeError.getErrorCode(),
-          MessageFormat.format(
-              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.FILTERS, "Map"),
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
-    validateSearchRequestFiltersValues(request);
-    validateSearchRequestFieldsValues(request);
-  }
-
-  private void validateSearchRequestFieldsValues(Request request) {
-    if (request.getRequest().containsKey(JsonKey.FIELDS)
-        && (!(request.getRequest().get(JsonKey.FIELDS) instanceof List))) {
-      throw new ProjectCommonException(
-          ResponseCode.dataTypeError.getErrorCode(),
-          MessageFormat.format(
-              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.FIELDS, "List"),
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
-    if (request.getRequest().containsKey(JsonKey.FIELDS)
-        && (request.getRequest().get(JsonKey.FIELDS) instanceof List)) {
-      for (Object obj : (List) request.getRequest().get(JsonKey.FIELDS)) {
-        if (!(obj instanceof String)) {
-          throw new ProjectCommonException(
-              ResponseCode.dataTypeError.getErrorCode(),
-              MessageFormat.format(
-                  ResponseCode.dataTypeError.getErrorMessage(), JsonKey.FIELDS, "List of String"),
-              ResponseCode.CLIENT_ERROR.getResponseCode());
-        }
-      }
-    }
+    SEARCH.validate(request);
   }
 
-  private void validateSearchRequestFiltersValues(Request request) {
-    if (request.getRequest().containsKey(JsonKey.FILTERS)
-        && ((request.getRequest().get(JsonKey.FILTERS) instanceof Map))) {
-      Map<String, Object> map = (Map<String, Object>) request.getRequest().get(JsonKey.FILTERS);
-
-      map.forEach(
-          (key, val) -> {
-            if (key == null) {
-              throw new ProjectCommonException(
-                  ResponseCode.invalidParameterValue.getErrorCode(),
-                  MessageFormat.format(
-                      ResponseCode.invalidParameterValue.getErrorMessage(), key, JsonKey.FILTERS),
-                  ResponseCode.CLIENT_ERROR.getResponseCode());
-            }
-            if (val instanceof List) {
-              validateListValues((List) val, key);
-            } else if (val instanceof Map) {
-              validateMapValues((Map) val);
-            } else if (val == null)
-              if (StringUtils.isEmpty((String) val)) {
-                throw new ProjectCommonException(
-                    ResponseCode.invalidParameterValue.getErrorCode(),
-                    MessageFormat.format(
-                        ResponseCode.invalidParameterValue.getErrorMessage(), val, key),
-                    ResponseCode.CLIENT_ERROR.getResponseCode());
-              }
-          });
+  private static void validateSearchRequestFiltersValues(Map<String, Object> request) {
+    Object filters = request.get(JsonKey.FILTERS);
+    if (filters instanceof Map) {
+      ((Map<String, Object>) filters)
+          .forEach(
+              (key, val) -> {
+                if (key == null) {
+                  throw RequestRules.clientError(
+                      ResponseCode.invalidParameterValue,
+                      MessageFormat.format(
+                          ResponseCode.invalidParameterValue.getErrorMessage(),
+                          key,
+                          JsonKey.FILTERS));
+                }
+                if (val instanceof List) {
+                  validateListValues((List) val, key);
+                } else if (val instanceof Map) {
+                  validateMapValues((Map) val);
+                } else if (val == null) {
+                  throw RequestRules.clientError(
+                      ResponseCode.invalidParameterValue,
+                      MessageFormat.format(
+                          ResponseCode.invalidParameterValue.getErrorMessage(), val, key));
+                }
+              });
     }
   }
 
-  private void validateMapValues(Map val) {
+  private static void validateMapValues(Map val) {
     val.forEach(
         (k, v) -> {
           if (k == null || v == null) {
-            throw new ProjectCommonException(
-                ResponseCode.invalidParameterValue.getErrorCode(),
-                MessageFormat.format(ResponseCode.invalidParameterValue.getErrorMessage(), v, k),
-                ResponseCode.CLIENT_ERROR.getResponseCode());
+            throw RequestRules.clientError(
+                ResponseCode.invalidParameterValue,
+                MessageFormat.format(ResponseCode.invalidParameterValue.getErrorMessage(), v, k));
           }
         });
   }
 
-  private void validateListValues(List val, String key) {
-    val.forEach(
-        v -> {
-          if (v == null) {
-            throw new ProjectCommonException(
-                ResponseCode.invalidParameterValue.getErrorCode(),
-                MessageFormat.format(ResponseCode.invalidParameterValue.getErrorMessage(), v, key),
-                ResponseCode.CLIENT_ERROR.getResponseCode());
-          }
-        });
+  private static void validateListValues(List val, String key) {
+    for (Object v : val) {
+      if (v == null) {
+        throw RequestRules.clientError(
+            ResponseCode.invalidParameterValue,
+            MessageFormat.format(ResponseCode.invalidParameterValue.getErrorMessage(), v, key));
+      }
+    }
   }
 
   public void validateEmail(String email) {
@@ -18,6 +18,8 @@ public class RequestContext {
     private Map<String, Object> contextMap = new HashMap<>();
     private String channel;
     private Map<String, Object> pdata = new HashMap<>();
+    // epoch millis after which nobody waits for the response any more, 0 if unbounded
+    private long deadline;
 
     public RequestContext(String channel, String pdataId, String env, String did, String sid, String pid, String pver, List<Object> cdata) {
         this.did = did;
@@ -37,6 +39,32 @@ public class RequestContext {
         }});
     }
 
+    private RequestContext(RequestContext other) {
+        this.uid = other.uid;
+        this.did = other.did;
+        this.sid = other.sid;
+        this.debugEnabled = other.debugEnabled;
+        this.actorId = other.actorId;
+        this.actorType = other.actorType;
+        this.loggerLevel = other.loggerLevel;
+        this.requestId = other.requestId;
+        this.env = other.env;
+        this.contextMap = other.contextMap;
+        this.channel = other.channel;
+        this.pdata = other.pdata;
+        this.deadline = other.deadline;
+    }
+
+    /** @return this context, or a copy of it without its deadline when it has one */
+    public RequestContext withoutDeadline() {
+        if (deadline <= 0) {
+            return this;
+        }
+        RequestContext copy = new RequestContext(this);
+        copy.deadline = 0;
+        return copy;
+    }
+
     public String getActorId() {
         return actorId;
     }
@@ -81,6 +109,15 @@ public class RequestContext {
         this.env = env;
     }
 
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /** @param deadline epoch millis after which nobody waits for the response */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
     public Map<String, Object> getContextMap() {
         return contextMap;
     }
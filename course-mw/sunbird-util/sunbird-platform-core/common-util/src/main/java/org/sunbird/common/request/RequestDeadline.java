@@ -0,0 +1,124 @@
+package org.sunbird.common.request;
+
+import com.mashape.unirest.http.HttpMethod;
+import com.mashape.unirest.request.BaseRequest;
+import com.mashape.unirest.request.HttpRequest;
+import java.util.concurrent.TimeUnit;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.responsecode.ResponseCode;
+
+/**
+ * Deadline of the API request being processed. The controller stores it in the RequestContext as
+ * the time its actor ask times out; past that point the caller has already answered with a timeout
+ * and any further work on the request is wasted. Storage reads and HTTP GETs use it to skip calls
+ * once the deadline has passed and to wait no longer than the deadline otherwise. Storage writes
+ * and other HTTP calls are not bound by it, so that an operation is never cut off between two of
+ * its writes.
+ *
+ * <p>BaseActor binds the RequestContext to the thread handling the request, so that layers which are
+ * not handed a RequestContext (HTTP utilities, caches) can still find the deadline.
+ *
+ * <p>Work that goes on after the response, e.g. messages told to background actors, must not be
+ * bound by the deadline and is handed a context from {@link #detach(RequestContext)}. An actor that
+ * goes on working after its reply binds the detached context to its thread.
+ */
+public final class RequestDeadline {
+
+  /** Remaining time reported when there is no deadline. */
+  public static final long NONE = Long.MAX_VALUE;
+
+  private static final ThreadLocal<RequestContext> current = new ThreadLocal<>();
+
+  private RequestDeadline() {}
+
+  /**
+   * @param requestContext context of the request, may be null
+   * @return the context without its deadline, for work nobody waits for
+   */
+  public static RequestContext detach(RequestContext requestContext) {
+    return requestContext == null ? null : requestContext.withoutDeadline();
+  }
+
+  /** Makes the deadline of the given context visible to calls made from the current thread. */
+  public static void bind(RequestContext requestContext) {
+    if (requestContext == null) {
+      current.remove();
+    } else {
+      current.set(requestContext);
+    }
+  }
+
+  public static void unbind() {
+    current.remove();
+  }
+
+  /**
+   * @param requestContext context of the request, or null to use the one bound to the thread
+   * @return milliseconds left until the deadline, at most 0 once it passed, or {@link #NONE}
+   */
+  public static long remainingMillis(RequestContext requestContext) {
+    RequestContext context = requestContext != null ? requestContext : current.get();
+    if (context == null || context.getDeadline() <= 0) {
+      return NONE;
+    }
+    return Math.max(context.getDeadline() - System.currentTimeMillis(), 0);
+  }
+
+  /** @return milliseconds left until the deadline of the request bound to the thread */
+  public static long remainingMillis() {
+    return remainingMillis(null);
+  }
+
+  /**
+   * @param request HTTP request about to be sent on the thread
+   * @return milliseconds left until the deadline for a GET, {@link #NONE} for other methods as
+   *     they may write
+   */
+  public static long remainingMillisToSend(BaseRequest request) {
+    HttpRequest httpRequest = request.getHttpRequest();
+    return httpRequest != null && httpRequest.getHttpMethod() == HttpMethod.GET
+        ? remainingMillis()
+        : NONE;
+  }
+
+  public static boolean isExceeded(RequestContext requestContext) {
+    return remainingMillis(requestContext) == 0;
+  }
+
+  public static boolean isExceeded() {
+    return isExceeded(null);
+  }
+
+  /**
+   * @param requestContext context of the request, or null to use the one bound to the thread
+   * @param timeoutMillis timeout the call would use without a deadline
+   * @return the timeout shortened to the time left until the deadline
+   */
+  public static long timeoutMillis(RequestContext requestContext, long timeoutMillis) {
+    return Math.min(timeoutMillis, remainingMillis(requestContext));
+  }
+
+  /**
+   * @param requestContext context of the request, or null to use the one bound to the thread
+   * @param operation what was about to be done, for the error message
+   * @throws ProjectCommonException if the deadline has passed
+   */
+  public static void check(RequestContext requestContext, String operation) {
+    if (isExceeded(requestContext)) {
+      throw exceeded(operation);
+    }
+  }
+
+  /** @return the error to report for work skipped because the deadline has passed */
+  public static ProjectCommonException exceeded(String operation) {
+    return new ProjectCommonException(
+        ResponseCode.operationTimeout.getErrorCode(),
+        "Request deadline exceeded before " + operation,
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  /** @return absolute deadline of a request the caller waits for the given time */
+  public static long after(long timeout, TimeUnit unit) {
+    return System.currentTimeMillis() + unit.toMillis(timeout);
+  }
+}
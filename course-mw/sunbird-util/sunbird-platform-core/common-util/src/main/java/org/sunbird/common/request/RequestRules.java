@@ -0,0 +1,244 @@
+package org.sunbird.common.request;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.responsecode.ResponseCode;
+
+/**
+ * Declarative checks on the request body of one operation. The rules are compiled once, usually
+ * into a static field of the validator, as a flat array of checks whose error messages are already
+ * formatted. Validating a request then only looks up each key once per rule, and a rejection
+ * throws an exception without a stack trace, so it costs about as little as an acceptance.
+ *
+ * <pre>
+ * private static final RequestRules GET_PAGE_DATA =
+ *     RequestRules.builder()
+ *         .required(JsonKey.SOURCE, ResponseCode.sourceRequired)
+ *         .oneOfIgnoreCase(JsonKey.SOURCE, sources, ResponseCode.invalidPageSource)
+ *         .build();
+ * </pre>
+ */
+public final class RequestRules {
+
+  /** One compiled check, throwing a {@link ProjectCommonException} when the request fails it. */
+  @FunctionalInterface
+  public interface Check {
+    void check(Map<String, Object> request);
+  }
+
+  private final Check[] checks;
+
+  private RequestRules(List<Check> checks) {
+    this.checks = checks.toArray(new Check[0]);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Runs every check in the order the rules were declared, stopping at the first failure.
+   *
+   * @param request API request, a null request or body being validated as an empty body
+   */
+  public void validate(Request request) {
+    validate(null == request ? null : request.getRequest());
+  }
+
+  public void validate(Map<String, Object> request) {
+    Map<String, Object> data = null == request ? Collections.emptyMap() : request;
+    for (Check check : checks) {
+      check.check(data);
+    }
+  }
+
+  /** Client error for a failed rule. Validation errors are expected, so no stack trace is kept. */
+  public static ProjectCommonException clientError(ResponseCode error, String message) {
+    return new Rejection(error.getErrorCode(), message);
+  }
+
+  private static String message(ResponseCode error, Object... messageArguments) {
+    return messageArguments.length == 0
+        ? error.getErrorMessage()
+        : MessageFormat.format(error.getErrorMessage(), messageArguments);
+  }
+
+  private static final class Rejection extends ProjectCommonException {
+    private static final long serialVersionUID = 1L;
+
+    private Rejection(String code, String message) {
+      super(code, message, ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  public static final class Builder {
+    private final List<Check> checks = new ArrayList<>();
+
+    private Builder() {}
+
+    /** The request body must not be empty. */
+    public Builder notEmpty(ResponseCode error, Object... messageArguments) {
+      String message = message(error, messageArguments);
+      return check(
+          request -> {
+            if (request.isEmpty()) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** The value must be present, of any type. */
+    public Builder present(String key, ResponseCode error, Object... messageArguments) {
+      String message = message(error, messageArguments);
+      return check(
+          request -> {
+            if (null == request.get(key)) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** The value must be a non blank string. */
+    public Builder required(String key, ResponseCode error, Object... messageArguments) {
+      String message = message(error, messageArguments);
+      return check(
+          request -> {
+            if (isBlank(request.get(key))) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** If the key is sent, its value must be a non blank string. */
+    public Builder nonBlankIfPresent(String key, ResponseCode error, Object... messageArguments) {
+      String message = message(error, messageArguments);
+      return check(
+          request -> {
+            if (request.containsKey(key) && isBlank(request.get(key))) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** The value must be a non empty string. Unlike {@link #required}, it may be blank. */
+    public Builder nonEmpty(String key, ResponseCode error, Object... messageArguments) {
+      String message = message(error, messageArguments);
+      return check(
+          request -> {
+            if (isEmpty(request.get(key))) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** If the key is sent, its value must be a non empty string, which may be blank. */
+    public Builder nonEmptyIfPresent(String key, ResponseCode error, Object... messageArguments) {
+      String message = message(error, messageArguments);
+      return check(
+          request -> {
+            if (request.containsKey(key) && isEmpty(request.get(key))) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** If the value is sent, it must be one of the given values. */
+    public Builder oneOf(String key, Collection<?> values, ResponseCode error) {
+      Set<Object> allowed = new HashSet<>(values);
+      String message = message(error);
+      return check(
+          request -> {
+            Object value = request.get(key);
+            if (null != value && !allowed.contains(value)) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** If the value is sent, it must be a string equal to one of the given values ignoring case. */
+    public Builder oneOfIgnoreCase(String key, Collection<String> values, ResponseCode error) {
+      Set<String> allowed = new HashSet<>();
+      values.forEach(value -> allowed.add(value.toLowerCase()));
+      String message = message(error);
+      return check(
+          request -> {
+            Object value = request.get(key);
+            if (null != value
+                && !(value instanceof String
+                    && allowed.contains(((String) value).toLowerCase()))) {
+              throw clientError(error, message);
+            }
+          });
+    }
+
+    /** If the value is sent, it must be an instance of the given type. */
+    public Builder ofType(String key, Class<?> type, String typeName) {
+      String message = message(ResponseCode.dataTypeError, key, typeName);
+      return check(
+          request -> {
+            Object value = request.get(key);
+            if (null != value && !type.isInstance(value)) {
+              throw clientError(ResponseCode.dataTypeError, message);
+            }
+          });
+    }
+
+    /** If the value is sent, it must be a list whose elements are of the given type. */
+    public Builder listOf(String key, Class<?> elementType, String typeName) {
+      String message = message(ResponseCode.dataTypeError, key, typeName);
+      return check(
+          request -> {
+            Object value = request.get(key);
+            if (value instanceof List) {
+              for (Object element : (List<?>) value) {
+                if (!elementType.isInstance(element)) {
+                  throw clientError(ResponseCode.dataTypeError, message);
+                }
+              }
+            }
+          });
+    }
+
+    /** Applies the given rules only when the value of the key matches the condition. */
+    public Builder when(String key, Predicate<Object> condition, RequestRules rules) {
+      return check(
+          request -> {
+            if (condition.test(request.get(key))) {
+              rules.validate(request);
+            }
+          });
+    }
+
+    /** Adds a check that cannot be expressed with the other rules. */
+    public Builder check(Check check) {
+      checks.add(check);
+      return this;
+    }
+
+    public RequestRules build() {
+      return new RequestRules(checks);
+    }
+
+    private static boolean isBlank(Object value) {
+      return !(value instanceof CharSequence) || StringUtils.isBlank((CharSequence) value);
+    }
+
+    private static boolean isEmpty(Object value) {
+      return !(value instanceof CharSequence) || StringUtils.isEmpty((CharSequence) value);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -31,6 +32,60 @@ import org.sunbird.common.request.Request;
 public final class RequestValidator {
   private static final int ERROR_CODE = ResponseCode.CLIENT_ERROR.getResponseCode();
 
+  private static final RequestRules GET_PAGE_DATA =
+      RequestRules.builder()
+          .required(JsonKey.SOURCE, ResponseCode.sourceRequired)
+          .oneOfIgnoreCase(
+              JsonKey.SOURCE,
+              Arrays.stream(Source.values()).map(Source::getValue).collect(Collectors.toList()),
+              ResponseCode.invalidPageSource)
+          .required(JsonKey.PAGE_NAME, ResponseCode.pageNameRequired)
+          .build();
+  private static final RequestRules CREATE_SECTION =
+      RequestRules.builder()
+          .required(JsonKey.SECTION_NAME, ResponseCode.sectionNameRequired)
+          .required(JsonKey.SECTION_DATA_TYPE, ResponseCode.sectionDataTypeRequired)
+          .build();
+  private static final RequestRules UPDATE_SECTION =
+      RequestRules.builder()
+          .nonBlankIfPresent(JsonKey.SECTION_NAME, ResponseCode.sectionNameRequired)
+          .required(JsonKey.ID, ResponseCode.sectionIdRequired)
+          .nonBlankIfPresent(JsonKey.SECTION_DATA_TYPE, ResponseCode.sectionDataTypeRequired)
+          .build();
+  // a blank page name has always been accepted, unlike a blank section name
+  private static final RequestRules CREATE_PAGE =
+      RequestRules.builder().nonEmpty(JsonKey.PAGE_NAME, ResponseCode.pageNameRequired).build();
+  private static final RequestRules UPDATE_PAGE =
+      RequestRules.builder()
+          .nonEmptyIfPresent(JsonKey.PAGE_NAME, ResponseCode.pageNameRequired)
+          .required(JsonKey.ID, ResponseCode.pageIdRequired)
+          .build();
+  private static final RequestRules SYNC =
+      RequestRules.builder()
+          .when(
+              JsonKey.OPERATION_FOR,
+              operation -> null != operation && !"keycloak".equalsIgnoreCase((String) operation),
+              RequestRules.builder()
+                  .present(JsonKey.OBJECT_TYPE, ResponseCode.dataTypeError)
+                  .oneOf(
+                      JsonKey.OBJECT_TYPE,
+                      Arrays.asList(
+                          JsonKey.USER, JsonKey.ORGANISATION, JsonKey.BATCH, JsonKey.USER_COURSE),
+                      ResponseCode.invalidObjectType)
+                  .build())
+          .build();
+  private static final RequestRules GROUP_ACTIVITY_AGGREGATES =
+      RequestRules.builder()
+          .notEmpty(ResponseCode.invalidRequestData, "Error due to missing request body")
+          .required(JsonKey.GROUPID, ResponseCode.groupIdMismatch, "Error due to missing groupId")
+          .required(
+              JsonKey.ACTIVITYID, ResponseCode.activityIdMismatch, "Error due to missing activityId")
+          .required(
+              JsonKey.ACTIVITYTYPE,
+              ResponseCode.activityTypeMismatch,
+              "Error due to missing activity type")
+          .build();
+
   private RequestValidator() {}
 
   /**
@@ -157,36 +212,7 @@ public final class RequestValidator {
    * @param request Request
    */
   public static void validateGetPageData(Request request) {
-    if (request == null || (StringUtils.isBlank((String) request.get(JsonKey.SOURCE)))) {
-      throw new ProjectCommonException(
-          ResponseCode.sourceRequired.getErrorCode(),
-          ResponseCode.sourceRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
-    if (!validPageSourceType((String) request.get(JsonKey.SOURCE))) {
-      throw new ProjectCommonException(
-          ResponseCode.invalidPageSource.getErrorCode(),
-          ResponseCode.invalidPageSource.getErrorMessage(),
-          ERROR_CODE);
-    }
-    if (StringUtils.isBlank((String) request.get(JsonKey.PAGE_NAME))) {
-      throw new ProjectCommonException(
-          ResponseCode.pageNameRequired.getErrorCode(),
-          ResponseCode.pageNameRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
-  }
-
-  private static boolean validPageSourceType(String source) {
-
-    Boolean isValidSource = false;
-    for (Source src : ProjectUtil.Source.values()) {
-      if (src.getValue().equalsIgnoreCase(source)) {
-        isValidSource = true;
-        break;
-      }
-    }
-    return isValidSource;
+    GET_PAGE_DATA.validate(request);
   }
 
   /**
@@ -274,26 +300,7 @@ public final class RequestValidator {
    * @param userRequest Request
    */
   public static void validateCreateSection(Request request) {
-    if (StringUtils.isBlank(
-        (String)
-            (request.getRequest().get(JsonKey.SECTION_NAME) != null
-                ? request.getRequest().get(JsonKey.SECTION_NAME)
-                : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.sectionNameRequired.getErrorCode(),
-          ResponseCode.sectionNameRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
-    if (StringUtils.isBlank(
-        (String)
-            (request.getRequest().get(JsonKey.SECTION_DATA_TYPE) != null
-                ? request.getRequest().get(JsonKey.SECTION_DATA_TYPE)
-                : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.sectionDataTypeRequired.getErrorCode(),
-          ResponseCode.sectionDataTypeRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
+    CREATE_SECTION.validate(request);
   }
 
   /**
@@ -302,38 +309,7 @@ public final class RequestValidator {
    * @param request Request
    */
   public static void validateUpdateSection(Request request) {
-    if (request.getRequest().containsKey(JsonKey.SECTION_NAME)
-        && StringUtils.isBlank(
-            (String)
-                (request.getRequest().get(JsonKey.SECTION_NAME) != null
-                    ? request.getRequest().get(JsonKey.SECTION_NAME)
-                    : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.sectionNameRequired.getErrorCode(),
-          ResponseCode.sectionNameRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
-    if (StringUtils.isBlank(
-        (String)
-            (request.getRequest().get(JsonKey.ID) != null
-                ? request.getRequest().get(JsonKey.ID)
-                : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.sectionIdRequired.getErrorCode(),
-          ResponseCode.sectionIdRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
-    if (request.getRequest().containsKey(JsonKey.SECTION_DATA_TYPE)
-        && StringUtils.isBlank(
-            (String)
-                (request.getRequest().get(JsonKey.SECTION_DATA_TYPE) != null
-                    ? request.getRequest().get(JsonKey.SECTION_DATA_TYPE)
-                    : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.sectionDataTypeRequired.getErrorCode(),
-          ResponseCode.sectionDataTypeRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
+    UPDATE_SECTION.validate(request);
   }
 
   /**
@@ -342,16 +318,7 @@ public final class RequestValidator {
    * @param request Request
    */
   public static void validateCreatePage(Request request) {
-    if (StringUtils.isEmpty(
-        (String)
-            (request.getRequest().get(JsonKey.PAGE_NAME) != null
-                ? request.getRequest().get(JsonKey.PAGE_NAME)
-                : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.pageNameRequired.getErrorCode(),
-          ResponseCode.pageNameRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
+    CREATE_PAGE.validate(request);
   }
 
   /**
@@ -360,27 +327,7 @@ public final class RequestValidator {
    * @param request Request
    */
   public static void validateUpdatepage(Request request) {
-    if (request.getRequest().containsKey(JsonKey.PAGE_NAME)
-        && StringUtils.isEmpty(
-            (String)
-                (request.getRequest().get(JsonKey.PAGE_NAME) != null
-                    ? request.getRequest().get(JsonKey.PAGE_NAME)
-                    : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.pageNameRequired.getErrorCode(),
-          ResponseCode.pageNameRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
-    if (StringUtils.isBlank(
-        (String)
-            (request.getRequest().get(JsonKey.ID) != null
-                ? request.getRequest().get(JsonKey.ID)
-                : ""))) {
-      throw new ProjectCommonException(
-          ResponseCode.pageIdRequired.getErrorCode(),
-          ResponseCode.pageIdRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
+    UPDATE_PAGE.validate(request);
   }
 
   /**
@@ -676,27 +623,7 @@ public final class RequestValidator {
   }
 
   public static void validateSyncRequest(Request request) {
-    String operation = (String) request.getRequest().get(JsonKey.OPERATION_FOR);
-    if ((null != operation) && (!operation.equalsIgnoreCase("keycloak"))) {
-      if (request.getRequest().get(JsonKey.OBJECT_TYPE) == null) {
-        throw new ProjectCommonException(
-            ResponseCode.dataTypeError.getErrorCode(),
-            ResponseCode.dataTypeError.getErrorMessage(),
-            ERROR_CODE);
-      }
-      List<String> list =
-          new ArrayList<>(
-              Arrays.asList(
-                  new String[] {
-                    JsonKey.USER, JsonKey.ORGANISATION, JsonKey.BATCH, JsonKey.USER_COURSE
-                  }));
-      if (!list.contains(request.getRequest().get(JsonKey.OBJECT_TYPE))) {
-        throw new ProjectCommonException(
-            ResponseCode.invalidObjectType.getErrorCode(),
-            ResponseCode.invalidObjectType.getErrorMessage(),
-            ERROR_CODE);
-      }
-    }
+    SYNC.validate(request);
   }
 
   public static void validateUpdateSystemSettingsRequest(Request request) {
@@ -985,34 +912,6 @@ public final class RequestValidator {
   }
 
   public static void validateGroupActivityAggregatesRequest(Request request) {
-    try {
-      String message = "";
-      if(null == request || MapUtils.isEmpty(request.getRequest())){
-        message += "Error due to missing request body";
-        ProjectCommonException.throwClientErrorException(
-                ResponseCode.invalidRequestData,
-                MessageFormat.format(ResponseCode.invalidRequestData.getErrorMessage(), message));
-      }
-      if (StringUtils.isBlank((String)request.get(JsonKey.GROUPID))) {
-        message += "Error due to missing groupId";
-        ProjectCommonException.throwClientErrorException(
-                ResponseCode.groupIdMismatch,
-                MessageFormat.format(ResponseCode.groupIdMismatch.getErrorMessage(), message));
-      }
-      if (StringUtils.isBlank((String)request.get(JsonKey.ACTIVITYID))) {
-        message += "Error due to missing activityId";
-        ProjectCommonException.throwClientErrorException(
-                ResponseCode.activityIdMismatch,
-                MessageFormat.format(ResponseCode.activityIdMismatch.getErrorMessage(), message));
-      }
-      if (StringUtils.isBlank((String)request.get(JsonKey.ACTIVITYTYPE))) {
-        message += "Error due to missing activity type";
-        ProjectCommonException.throwClientErrorException(
-                ResponseCode.activityTypeMismatch,
-                MessageFormat.format(ResponseCode.activityTypeMismatch.getErrorMessage(), message));
-      }
-    } catch (Exception ex) {
-      throw ex;
-    }
+    GROUP_ACTIVITY_AGGREGATES.validate(request);
   }
 }
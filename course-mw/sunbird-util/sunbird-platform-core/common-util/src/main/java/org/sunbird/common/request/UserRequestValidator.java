@@ -17,6 +17,23 @@ public class UserRequestValidator extends BaseRequestValidator {
 
   private static final int ERROR_CODE = ResponseCode.CLIENT_ERROR.getResponseCode();
 
+  private static final RequestRules CHANGE_PASSWORD =
+      RequestRules.builder()
+          .required(JsonKey.PASSWORD, ResponseCode.passwordRequired)
+          .present(JsonKey.NEW_PASSWORD, ResponseCode.newPasswordRequired)
+          .required(JsonKey.NEW_PASSWORD, ResponseCode.newPasswordEmpty)
+          .build();
+  private static final RequestRules VERIFY_USER =
+      RequestRules.builder().required(JsonKey.LOGIN_ID, ResponseCode.loginIdRequired).build();
+  private static final RequestRules ASSIGN_ROLE =
+      RequestRules.builder()
+          .required(JsonKey.USER_ID, ResponseCode.userIdRequired)
+          .present(JsonKey.ROLES, ResponseCode.dataTypeError, JsonKey.ROLES, JsonKey.LIST)
+          .ofType(JsonKey.ROLES, List.class, JsonKey.LIST)
+          .build();
+  private static final RequestRules FORGOT_PASSWORD =
+      RequestRules.builder().required(JsonKey.USERNAME, ResponseCode.userNameRequired).build();
+
   public void validateCreateUserRequest(Request userRequest) {
     externalIdsValidation(userRequest, JsonKey.CREATE);
     fieldsNotAllowed(
@@ -726,16 +743,7 @@ public class UserRequestValidator extends BaseRequestValidator {
    * @param userRequest Request
    */
   public void validateChangePassword(Request userRequest) {
-    if (userRequest.getRequest().get(JsonKey.PASSWORD) == null
-        || (StringUtils.isBlank((String) userRequest.getRequest().get(JsonKey.PASSWORD)))) {
-      ProjectCommonException.throwClientErrorException(ResponseCode.passwordRequired);
-    }
-    if (userRequest.getRequest().get(JsonKey.NEW_PASSWORD) == null) {
-      ProjectCommonException.throwClientErrorException(ResponseCode.newPasswordRequired);
-    }
-    if (StringUtils.isBlank((String) userRequest.getRequest().get(JsonKey.NEW_PASSWORD))) {
-      ProjectCommonException.throwClientErrorException(ResponseCode.newPasswordEmpty);
-    }
+    CHANGE_PASSWORD.validate(userRequest);
   }
 
   /**
@@ -744,9 +752,7 @@ public class UserRequestValidator extends BaseRequestValidator {
    * @param userRequest Request
    */
   public void validateVerifyUser(Request userRequest) {
-    if (StringUtils.isBlank((String) userRequest.getRequest().get(JsonKey.LOGIN_ID))) {
-      ProjectCommonException.throwClientErrorException(ResponseCode.loginIdRequired);
-    }
+    VERIFY_USER.validate(userRequest);
   }
 
   /**
@@ -755,18 +761,7 @@ public class UserRequestValidator extends BaseRequestValidator {
    * @param request
    */
   public void validateAssignRole(Request request) {
-    if (StringUtils.isBlank((String) request.getRequest().get(JsonKey.USER_ID))) {
-      ProjectCommonException.throwClientErrorException(ResponseCode.userIdRequired);
-    }
-
-    if (request.getRequest().get(JsonKey.ROLES) == null
-        || !(request.getRequest().get(JsonKey.ROLES) instanceof List)) {
-      throw new ProjectCommonException(
-          ResponseCode.dataTypeError.getErrorCode(),
-          ProjectUtil.formatMessage(
-              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.ROLES, JsonKey.LIST),
-          ERROR_CODE);
-    }
+    ASSIGN_ROLE.validate(request);
 
     String organisationId = (String) request.getRequest().get(JsonKey.ORGANISATION_ID);
     String externalId = (String) request.getRequest().get(JsonKey.EXTERNAL_ID);
@@ -786,13 +781,7 @@ public class UserRequestValidator extends BaseRequestValidator {
 
   /** @param request */
   public void validateForgotPassword(Request request) {
-    if (request.getRequest().get(JsonKey.USERNAME) == null
-        || StringUtils.isBlank((String) request.getRequest().get(JsonKey.USERNAME))) {
-      throw new ProjectCommonException(
-          ResponseCode.userNameRequired.getErrorCode(),
-          ResponseCode.userNameRequired.getErrorMessage(),
-          ERROR_CODE);
-    }
+    FORGOT_PASSWORD.validate(request);
   }
 
   /**
@@ -0,0 +1,68 @@
+package org.sunbird.common.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.ProjectUtil;
+
+/**
+ * Settings shared by the in-memory storage backends, which stand in for cassandra and elastic
+ * search when sunbird_storage_backend is set to memory. Each backend delays every operation by a
+ * fixed latency plus a random jitter, so that load tests against them still see a remote store.
+ */
+public final class InMemoryStorage {
+
+  private final long latencyMs;
+  private final long jitterMs;
+
+  /**
+   * @param latencyMs delay added to every operation
+   * @param jitterMs upper bound of the random delay added on top of latencyMs
+   */
+  public InMemoryStorage(long latencyMs, long jitterMs) {
+    this.latencyMs = Math.max(latencyMs, 0);
+    this.jitterMs = Math.max(jitterMs, 0);
+  }
+
+  /** @return settings read from sunbird_in_memory_storage_latency_ms and its jitter */
+  public static InMemoryStorage fromConfig() {
+    return new InMemoryStorage(
+        getConfigLong(JsonKey.SUNBIRD_IN_MEMORY_STORAGE_LATENCY_MS),
+        getConfigLong(JsonKey.SUNBIRD_IN_MEMORY_STORAGE_LATENCY_JITTER_MS));
+  }
+
+  /** @return true if the service is configured to run against the in-memory backends */
+  public static boolean isEnabled() {
+    return JsonKey.IN_MEMORY.equalsIgnoreCase(
+        StringUtils.trim(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_STORAGE_BACKEND)));
+  }
+
+  /** Blocks the calling thread for the configured latency. */
+  public void simulateLatency() {
+    long delay = latencyMs;
+    if (jitterMs > 0) {
+      delay += ThreadLocalRandom.current().nextLong(jitterMs + 1);
+    }
+    if (delay > 0) {
+      try {
+        TimeUnit.MILLISECONDS.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  public long getLatencyMs() {
+    return latencyMs;
+  }
+
+  public long getJitterMs() {
+    return jitterMs;
+  }
+
+  private static long getConfigLong(String key) {
+    String value = StringUtils.trim(ProjectUtil.getConfigValue(key));
+    return StringUtils.isNumeric(value) ? Long.parseLong(value) : 0;
+  }
+}
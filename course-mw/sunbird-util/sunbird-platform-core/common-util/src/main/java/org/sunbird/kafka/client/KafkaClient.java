@@ -49,7 +49,8 @@ public class KafkaClient {
     producer = new KafkaProducer<String, String>(props);
   }
 
-  private static void loadTopics() {
+  /** Waits at most kafka_request_timeout_ms for the brokers, see loadConsumerProperties. */
+  private static synchronized void loadTopics() {
     if (consumer == null) {
       loadConsumerProperties();
     }
@@ -64,6 +65,10 @@ public class KafkaClient {
     props.put(ConsumerConfig.CLIENT_ID_CONFIG, "KafkaClientConsumer");
     props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
     props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+    // bounds listTopics, which runs under the class lock; must exceed session.timeout.ms (10 s)
+    props.put(
+        ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG,
+        ProjectUtil.getConfigValue("kafka_request_timeout_ms"));
     consumer = new KafkaConsumer<>(props);
   }
 
@@ -103,6 +108,22 @@ public class KafkaClient {
     }
   }
 
+  /**
+   * Checks broker connectivity by refreshing the topic metadata. Access to the shared consumer is
+   * serialised as KafkaConsumer is not thread-safe.
+   *
+   * @return true if the brokers returned the topic metadata
+   */
+  public static boolean checkConnection() {
+    try {
+      loadTopics();
+      return topics != null;
+    } catch (Exception e) {
+      logger.error(null, "KafkaClient:checkConnection: Kafka connection check failed", e);
+      return false;
+    }
+  }
+
   private static boolean validate(String topic) throws Exception {
     if (topics == null) {
       loadTopics();
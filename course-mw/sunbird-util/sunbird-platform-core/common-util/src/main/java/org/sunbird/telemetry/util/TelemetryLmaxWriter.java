@@ -0,0 +1,160 @@
+package org.sunbird.telemetry.util;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+
+/**
+ * Writes error telemetry on a single background thread. Failing requests only copy the error into a
+ * pre-allocated slot of a ring buffer; flattening the stack trace, assembling the event and
+ * validating it happen on the writer thread. When the buffer is full, as it can be during an error
+ * storm, further events are dropped and counted instead of slowing the requests down.
+ */
+public class TelemetryLmaxWriter {
+
+  private static final int DEFAULT_BUFFER_SIZE = 1024;
+  private static final Logger logger = LoggerFactory.getLogger("defaultLogger");
+
+  private final RingBuffer<ErrorEvent> ringBuffer;
+  private final AtomicLong dropped = new AtomicLong();
+
+  /** Slot of the ring buffer, reused for every error it carries. */
+  private static final class ErrorEvent {
+    private RequestContext requestContext;
+    private Map<String, Object> telemetryInfo;
+    private Throwable error;
+
+    private void clear() {
+      requestContext = null;
+      telemetryInfo = null;
+      error = null;
+    }
+  }
+
+  private static final class InstanceHolder {
+    private static final TelemetryLmaxWriter instance =
+        new TelemetryLmaxWriter(
+            NumberUtils.toInt(
+                ProjectUtil.getConfigValue(JsonKey.SUNBIRD_TELEMETRY_ERROR_BUFFER_SIZE),
+                DEFAULT_BUFFER_SIZE));
+  }
+
+  /** @param bufferSize number of pending events, rounded up to a power of two */
+  TelemetryLmaxWriter(int bufferSize) {
+    ExecutorService executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "telemetry-error-writer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    Disruptor<ErrorEvent> disruptor =
+        new Disruptor<>(
+            ErrorEvent::new,
+            Integer.highestOneBit(Math.max(bufferSize, 2) * 2 - 1),
+            executor,
+            ProducerType.MULTI,
+            new BlockingWaitStrategy());
+    disruptor.handleEventsWith(new ErrorEventHandler());
+    ringBuffer = disruptor.start();
+  }
+
+  public static TelemetryLmaxWriter getInstance() {
+    return InstanceHolder.instance;
+  }
+
+  /**
+   * Queues an error event. The telemetry info is completed and written later, so the caller must
+   * not change it afterwards.
+   *
+   * @param requestContext context of the failed request, may be null
+   * @param telemetryInfo context and params of the event
+   * @param error the error to report
+   * @return false if the event was dropped because the buffer is full
+   */
+  public boolean submitError(
+      RequestContext requestContext, Map<String, Object> telemetryInfo, Throwable error) {
+    long sequence;
+    try {
+      sequence = ringBuffer.tryNext();
+    } catch (InsufficientCapacityException e) {
+      dropped.incrementAndGet();
+      return false;
+    }
+    try {
+      ErrorEvent event = ringBuffer.get(sequence);
+      event.requestContext = requestContext;
+      event.telemetryInfo = telemetryInfo;
+      event.error = error;
+    } finally {
+      ringBuffer.publish(sequence);
+    }
+    return true;
+  }
+
+  /** @return number of events dropped because the buffer was full */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private final class ErrorEventHandler implements EventHandler<ErrorEvent> {
+    private long reportedDrops;
+
+    @Override
+    public void onEvent(ErrorEvent event, long sequence, boolean endOfBatch) {
+      try {
+        TelemetryWriter.write(
+            toRequest(event.requestContext, event.telemetryInfo, event.error));
+      } catch (Exception e) {
+        logger.error("TelemetryLmaxWriter: Error occurred while writing error telemetry", e);
+      } finally {
+        event.clear();
+      }
+      long drops = dropped.get();
+      if (endOfBatch && drops != reportedDrops) {
+        logger.warn("TelemetryLmaxWriter: " + (drops - reportedDrops) + " error events dropped");
+        reportedDrops = drops;
+      }
+    }
+  }
+
+  static Request toRequest(
+      RequestContext requestContext, Map<String, Object> telemetryInfo, Throwable e) {
+    String errorCode =
+        e instanceof ProjectCommonException
+            ? ((ProjectCommonException) e).getCode()
+            : ResponseCode.internalError.getErrorCode();
+    Request request = null == requestContext ? new Request() : new Request(requestContext);
+    telemetryInfo.put(JsonKey.TELEMETRY_EVENT_TYPE, TelemetryEvents.ERROR.getName());
+
+    Map<String, Object> params = (Map<String, Object>) telemetryInfo.get(JsonKey.PARAMS);
+    params.put(JsonKey.ERROR, errorCode);
+    params.put(JsonKey.STACKTRACE, generateStackTrace(e.getStackTrace()));
+    request.setRequest(telemetryInfo);
+    return request;
+  }
+
+  private static String generateStackTrace(StackTraceElement[] elements) {
+    StringBuilder builder = new StringBuilder();
+    for (StackTraceElement element : elements) {
+      builder.append(element.toString());
+    }
+    return builder.toString();
+  }
+}
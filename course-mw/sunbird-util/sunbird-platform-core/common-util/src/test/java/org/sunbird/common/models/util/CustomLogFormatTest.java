@@ -0,0 +1,63 @@
+package org.sunbird.common.models.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.request.RequestContext;
+
+public class CustomLogFormatTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testFormatWritesLogEvent() throws Exception {
+    RequestContext context = newContext();
+    Map<String, Object> object = new HashMap<>();
+    object.put("id", "do_123");
+    Map<String, Object> params = new HashMap<>();
+    params.put("count", 2);
+
+    Map<String, Object> event = parse(CustomLogFormat.format(context, "INFO", "message", object, params));
+
+    Assert.assertEquals("LOG", event.get("eid"));
+    Assert.assertTrue(((String) event.get("mid")).startsWith("LOG:"));
+    Assert.assertEquals("channel", ((Map<String, Object>) event.get("context")).get("channel"));
+    Assert.assertEquals("user", ((Map<String, Object>) event.get("actor")).get("id"));
+    Assert.assertEquals(object, event.get("object"));
+    Map<String, Object> edata = (Map<String, Object>) event.get("edata");
+    Assert.assertEquals("message", edata.get("message"));
+    Assert.assertEquals("INFO", edata.get("level"));
+    Assert.assertEquals("request", edata.get("requestid"));
+    Assert.assertEquals(2, ((List<Map<String, Object>>) edata.get("params")).get(0).get("count"));
+  }
+
+  @Test
+  public void testFormatReusesBufferBetweenLines() throws Exception {
+    RequestContext context = newContext();
+    String first = CustomLogFormat.format(context, "INFO", "first", null, null);
+    String second = CustomLogFormat.format(context, "WARN", "second", null, null);
+
+    Assert.assertEquals("first", ((Map<String, Object>) parse(first).get("edata")).get("message"));
+    Map<String, Object> event = parse(second);
+    Assert.assertEquals("second", ((Map<String, Object>) event.get("edata")).get("message"));
+    Assert.assertFalse(event.containsKey("object"));
+    Assert.assertFalse(((Map<String, Object>) event.get("edata")).containsKey("params"));
+  }
+
+  private Map<String, Object> parse(String line) throws Exception {
+    return mapper.readValue(line, new TypeReference<Map<String, Object>>() {});
+  }
+
+  private static RequestContext newContext() {
+    RequestContext context =
+        new RequestContext("channel", "pdata", "env", "did", "sid", "pid", "1.0", null);
+    context.setActorId("user");
+    context.setActorType("User");
+    context.setRequestId("request");
+    return context;
+  }
+}
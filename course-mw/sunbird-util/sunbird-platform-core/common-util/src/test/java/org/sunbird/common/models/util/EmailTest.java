@@ -10,6 +10,7 @@ import org.sunbird.common.models.util.mail.GMailAuthenticator;
 import org.sunbird.common.models.util.mail.SendMail;
 
 import javax.mail.PasswordAuthentication;
+import org.apache.velocity.VelocityContext;
 
 /** @author Manzarul */
 public class EmailTest {
@@ -42,6 +43,32 @@ public class EmailTest {
     Assert.assertTrue(true);
   }
 
+  @Test
+  public void sendMailWithTemplateTest() throws Exception {
+    VelocityContext context = new VelocityContext();
+    context.put(JsonKey.NAME, "learner");
+    Assert.assertTrue(
+        SendMail.sendMail(new String[] {"template@example.com"}, "subject", context, "emailtemplate.vm"));
+    Assert.assertTrue(
+        SendMail.sendMail(new String[] {"template@example.com"}, "subject", context, "emailtemplate.vm"));
+    Assert.assertEquals(2, Mailbox.get("template@example.com").size());
+  }
+
+  @Test
+  public void sendMailWithBodyTest() throws Exception {
+    VelocityContext context = new VelocityContext();
+    context.put(JsonKey.NAME, "learner");
+    Assert.assertTrue(
+        SendMail.sendMailWithBody(new String[] {"body@example.com"}, "subject", context, "Hello $name"));
+    context.put(JsonKey.NAME, "admin");
+    Assert.assertTrue(
+        SendMail.sendMailWithBody(new String[] {"body@example.com"}, "subject", context, "Hello $name"));
+    Mailbox mailbox = Mailbox.get("body@example.com");
+    Assert.assertEquals(2, mailbox.size());
+    Assert.assertEquals("Hello learner", mailbox.get(0).getContent());
+    Assert.assertEquals("Hello admin", mailbox.get(1).getContent());
+  }
+
   @AfterClass
   public static void tearDown() {
     authenticator = null;
@@ -0,0 +1,99 @@
+package org.sunbird.common.models.util.mail;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Provider;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.URLName;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SmtpTransportPoolTest {
+
+  private static final AtomicInteger connected = new AtomicInteger();
+  private static final AtomicInteger closed = new AtomicInteger();
+
+  private Session session;
+
+  @Before
+  public void setUp() throws Exception {
+    connected.set(0);
+    closed.set(0);
+    session = Session.getInstance(new Properties());
+    Provider provider =
+        new Provider(
+            Provider.Type.TRANSPORT, "smtp", FakeTransport.class.getName(), "sunbird", "1.0");
+    session.addProvider(provider);
+    session.setProvider(provider);
+  }
+
+  @Test
+  public void testTransportIsReused() throws Exception {
+    SmtpTransportPool pool = new SmtpTransportPool(session, "localhost", "user", "secret", 2);
+    pool.send(message());
+    pool.send(message());
+    Assert.assertEquals(1, connected.get());
+    pool.close();
+    Assert.assertEquals(1, closed.get());
+  }
+
+  @Test
+  public void testTransportInUseIsClosedWhenGivenBackAfterClose() throws Exception {
+    SmtpTransportPool pool = new SmtpTransportPool(session, "localhost", "user", "secret", 2);
+    MimeMessage message =
+        new MimeMessage(session) {
+          @Override
+          public Address[] getAllRecipients() throws MessagingException {
+            pool.close();
+            return super.getAllRecipients();
+          }
+        };
+    message.setRecipient(Message.RecipientType.TO, new InternetAddress("test@example.org"));
+    pool.send(message);
+    Assert.assertEquals(1, connected.get());
+    Assert.assertEquals(1, closed.get());
+  }
+
+  private MimeMessage message() throws MessagingException {
+    MimeMessage message = new MimeMessage(session);
+    message.setRecipient(Message.RecipientType.TO, new InternetAddress("test@example.org"));
+    return message;
+  }
+
+  public static class FakeTransport extends Transport {
+
+    private boolean open;
+
+    public FakeTransport(Session session, URLName urlName) {
+      super(session, urlName);
+    }
+
+    @Override
+    protected boolean protocolConnect(String host, int port, String user, String password) {
+      connected.incrementAndGet();
+      open = true;
+      return true;
+    }
+
+    @Override
+    public boolean isConnected() {
+      return open;
+    }
+
+    @Override
+    public void sendMessage(Message message, Address[] addresses) {}
+
+    @Override
+    public void close() {
+      closed.incrementAndGet();
+      open = false;
+    }
+  }
+}
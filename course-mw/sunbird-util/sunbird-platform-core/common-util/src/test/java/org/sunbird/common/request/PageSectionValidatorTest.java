@@ -229,6 +229,39 @@ public class PageSectionValidatorTest {
     assertEquals(null, (String) requestObj.get("ext"));
   }
 
+  @Test
+  public void testValidateCreatePageSuccessWithBlankPageName() {
+    Request request = new Request();
+    Map<String, Object> requestObj = new HashMap<>();
+    requestObj.put(JsonKey.PAGE_NAME, " ");
+    request.setRequest(requestObj);
+    RequestValidator.validateCreatePage(request);
+  }
+
+  @Test
+  public void testValidateCreatePageFailureWithEmptyPageName() {
+    Request request = new Request();
+    Map<String, Object> requestObj = new HashMap<>();
+    requestObj.put(JsonKey.PAGE_NAME, "");
+    request.setRequest(requestObj);
+    try {
+      RequestValidator.validateCreatePage(request);
+      Assert.fail("empty page name should have been rejected");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.pageNameRequired.getErrorCode(), e.getCode());
+    }
+  }
+
+  @Test
+  public void testValidateUpdatePageSuccessWithBlankPageName() {
+    Request request = new Request();
+    Map<String, Object> requestObj = new HashMap<>();
+    requestObj.put(JsonKey.PAGE_NAME, " ");
+    requestObj.put(JsonKey.ID, "identifier of the page");
+    request.setRequest(requestObj);
+    RequestValidator.validateUpdatepage(request);
+  }
+
   @Test
   public void testValidateUpdatePageSuccess() {
     Request request = new Request();
@@ -0,0 +1,90 @@
+package org.sunbird.common.request;
+
+import com.mashape.unirest.http.HttpMethod;
+import com.mashape.unirest.request.GetRequest;
+import com.mashape.unirest.request.HttpRequestWithBody;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.responsecode.ResponseCode;
+
+public class RequestDeadlineTest {
+
+  @After
+  public void tearDown() {
+    RequestDeadline.unbind();
+  }
+
+  @Test
+  public void testNoDeadline() {
+    RequestContext context = newContext(0);
+    Assert.assertEquals(RequestDeadline.NONE, RequestDeadline.remainingMillis(context));
+    Assert.assertFalse(RequestDeadline.isExceeded(context));
+    Assert.assertEquals(500, RequestDeadline.timeoutMillis(context, 500));
+    Assert.assertEquals(RequestDeadline.NONE, RequestDeadline.remainingMillis());
+  }
+
+  @Test
+  public void testTimeoutShortenedToDeadline() {
+    RequestContext context = newContext(RequestDeadline.after(1, TimeUnit.SECONDS));
+    long timeout = RequestDeadline.timeoutMillis(context, 30000);
+    Assert.assertTrue(timeout > 0 && timeout <= 1000);
+    Assert.assertEquals(100, RequestDeadline.timeoutMillis(context, 100));
+  }
+
+  @Test
+  public void testBoundContextUsedWhenNoneGiven() {
+    RequestDeadline.bind(newContext(System.currentTimeMillis() - 1));
+    Assert.assertTrue(RequestDeadline.isExceeded());
+    RequestDeadline.unbind();
+    Assert.assertFalse(RequestDeadline.isExceeded());
+  }
+
+  @Test
+  public void testCheckFailsOnceDeadlinePassed() {
+    RequestContext context = newContext(System.currentTimeMillis() - 1);
+    try {
+      RequestDeadline.check(context, "test call");
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      Assert.assertEquals(ResponseCode.operationTimeout.getErrorCode(), e.getCode());
+    }
+  }
+
+  @Test
+  public void testDetachDropsDeadlineOfCopyOnly() {
+    RequestContext context = newContext(System.currentTimeMillis() - 1);
+    context.setRequestId("request-1");
+    RequestContext detached = RequestDeadline.detach(context);
+    Assert.assertNotSame(context, detached);
+    Assert.assertFalse(RequestDeadline.isExceeded(detached));
+    Assert.assertEquals("request-1", detached.getRequestId());
+    Assert.assertSame(context.getContextMap(), detached.getContextMap());
+    Assert.assertTrue(RequestDeadline.isExceeded(context));
+    RequestContext unbounded = newContext(0);
+    Assert.assertSame(unbounded, RequestDeadline.detach(unbounded));
+    Assert.assertNull(RequestDeadline.detach(null));
+  }
+
+  @Test
+  public void testOnlyGetBoundWhenSending() {
+    RequestDeadline.bind(newContext(System.currentTimeMillis() - 1));
+    String url = "http://localhost:8000/v1/content/read";
+    Assert.assertEquals(
+        0, RequestDeadline.remainingMillisToSend(new GetRequest(HttpMethod.GET, url)));
+    Assert.assertEquals(
+        RequestDeadline.NONE,
+        RequestDeadline.remainingMillisToSend(new HttpRequestWithBody(HttpMethod.PATCH, url)));
+    Assert.assertEquals(
+        RequestDeadline.NONE,
+        RequestDeadline.remainingMillisToSend(new HttpRequestWithBody(HttpMethod.POST, url)));
+  }
+
+  private static RequestContext newContext(long deadline) {
+    RequestContext context = new RequestContext(null, null, null, null, null, null, null, null);
+    context.setDeadline(deadline);
+    return context;
+  }
+}
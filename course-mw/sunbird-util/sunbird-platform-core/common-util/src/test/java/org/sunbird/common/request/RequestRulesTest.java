@@ -0,0 +1,97 @@
+package org.sunbird.common.request;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.responsecode.ResponseCode;
+
+public class RequestRulesTest {
+
+  private static final RequestRules RULES =
+      RequestRules.builder()
+          .required(JsonKey.ID, ResponseCode.mandatoryParamsMissing, JsonKey.ID)
+          .oneOfIgnoreCase(JsonKey.SOURCE, Arrays.asList("web", "android"), ResponseCode.invalidPageSource)
+          .nonBlankIfPresent(JsonKey.NAME, ResponseCode.pageNameRequired)
+          .listOf(JsonKey.FIELDS, String.class, "List of String")
+          .build();
+
+  @Test
+  public void testValidateSuccess() {
+    Map<String, Object> request = newRequest();
+    request.put(JsonKey.FIELDS, Arrays.asList("name"));
+
+    RULES.validate(request);
+  }
+
+  @Test
+  public void testValidateFailureWithFormattedMessage() {
+    Map<String, Object> request = newRequest();
+    request.remove(JsonKey.ID);
+
+    ProjectCommonException e = reject(request);
+
+    Assert.assertEquals(ResponseCode.mandatoryParamsMissing.getErrorCode(), e.getCode());
+    Assert.assertEquals(
+        MessageFormat.format(ResponseCode.mandatoryParamsMissing.getErrorMessage(), JsonKey.ID),
+        e.getMessage());
+    Assert.assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), e.getResponseCode());
+    Assert.assertEquals(0, e.getStackTrace().length);
+  }
+
+  @Test
+  public void testValidateFailureInDeclarationOrder() {
+    Map<String, Object> request = newRequest();
+    request.put(JsonKey.SOURCE, "ios");
+    request.put(JsonKey.NAME, " ");
+
+    Assert.assertEquals(ResponseCode.invalidPageSource.getErrorCode(), reject(request).getCode());
+    request.put(JsonKey.SOURCE, "WEB");
+    Assert.assertEquals(ResponseCode.pageNameRequired.getErrorCode(), reject(request).getCode());
+  }
+
+  @Test
+  public void testValidateFailureWithWrongTypes() {
+    Map<String, Object> request = newRequest();
+    request.put(JsonKey.ID, 1);
+    Assert.assertEquals(
+        ResponseCode.mandatoryParamsMissing.getErrorCode(), reject(request).getCode());
+
+    request = newRequest();
+    request.put(JsonKey.FIELDS, Arrays.asList("name", 1));
+    Assert.assertEquals(ResponseCode.dataTypeError.getErrorCode(), reject(request).getCode());
+  }
+
+  @Test
+  public void testValidateNullRequestAsEmpty() {
+    ProjectCommonException e = null;
+    try {
+      RULES.validate((Request) null);
+    } catch (ProjectCommonException ex) {
+      e = ex;
+    }
+    Assert.assertNotNull(e);
+    Assert.assertEquals(ResponseCode.mandatoryParamsMissing.getErrorCode(), e.getCode());
+  }
+
+  private static ProjectCommonException reject(Map<String, Object> request) {
+    try {
+      RULES.validate(request);
+    } catch (ProjectCommonException e) {
+      return e;
+    }
+    Assert.fail("request should have been rejected");
+    return null;
+  }
+
+  private static Map<String, Object> newRequest() {
+    Map<String, Object> request = new HashMap<>();
+    request.put(JsonKey.ID, "id");
+    request.put(JsonKey.SOURCE, "web");
+    return request;
+  }
+}
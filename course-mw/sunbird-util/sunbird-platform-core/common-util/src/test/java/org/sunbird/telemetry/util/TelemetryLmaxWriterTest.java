@@ -0,0 +1,97 @@
+package org.sunbird.telemetry.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.responsecode.ResponseCode;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({TelemetryWriter.class})
+@PowerMockIgnore({"javax.management.*", "javax.net.ssl.*", "javax.security.*"})
+public class TelemetryLmaxWriterTest {
+
+  @Test
+  public void testToRequestBuildsErrorEvent() {
+    ProjectCommonException error =
+        new ProjectCommonException(
+            ResponseCode.invalidRequestData.getErrorCode(),
+            ResponseCode.invalidRequestData.getErrorMessage(),
+            ResponseCode.CLIENT_ERROR.getResponseCode());
+
+    Request request = TelemetryLmaxWriter.toRequest(null, newTelemetryInfo(), error);
+
+    Assert.assertEquals(
+        TelemetryEvents.ERROR.getName(), request.getRequest().get(JsonKey.TELEMETRY_EVENT_TYPE));
+    Map<String, Object> params = (Map<String, Object>) request.getRequest().get(JsonKey.PARAMS);
+    Assert.assertEquals(ResponseCode.invalidRequestData.getErrorCode(), params.get(JsonKey.ERROR));
+    Assert.assertTrue(
+        ((String) params.get(JsonKey.STACKTRACE)).contains("testToRequestBuildsErrorEvent"));
+  }
+
+  @Test
+  public void testSubmitErrorWritesOnWriterThread() throws Exception {
+    PowerMockito.mockStatic(TelemetryWriter.class);
+    CountDownLatch written = new CountDownLatch(1);
+    AtomicReference<String> writerThread = new AtomicReference<>();
+    PowerMockito.doAnswer(
+            invocation -> {
+              writerThread.set(Thread.currentThread().getName());
+              written.countDown();
+              return null;
+            })
+        .when(TelemetryWriter.class);
+    TelemetryWriter.write(Mockito.any(Request.class));
+
+    Assert.assertTrue(
+        new TelemetryLmaxWriter(4)
+            .submitError(null, newTelemetryInfo(), new RuntimeException("failure")));
+
+    Assert.assertTrue(written.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals("telemetry-error-writer", writerThread.get());
+  }
+
+  @Test
+  public void testSubmitErrorDropsWhenBufferIsFull() throws Exception {
+    PowerMockito.mockStatic(TelemetryWriter.class);
+    CountDownLatch release = new CountDownLatch(1);
+    PowerMockito.doAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(TelemetryWriter.class);
+    TelemetryWriter.write(Mockito.any(Request.class));
+    TelemetryLmaxWriter writer = new TelemetryLmaxWriter(2);
+
+    int accepted = 0;
+    for (int i = 0; i < 10; i++) {
+      if (writer.submitError(null, newTelemetryInfo(), new RuntimeException("failure"))) {
+        accepted++;
+      }
+    }
+    release.countDown();
+
+    Assert.assertTrue(accepted <= 3);
+    Assert.assertEquals(10 - accepted, writer.getDroppedCount());
+  }
+
+  private static Map<String, Object> newTelemetryInfo() {
+    Map<String, Object> telemetryInfo = new HashMap<>();
+    telemetryInfo.put(JsonKey.CONTEXT, new HashMap<>());
+    telemetryInfo.put(JsonKey.PARAMS, new HashMap<>());
+    return telemetryInfo;
+  }
+}
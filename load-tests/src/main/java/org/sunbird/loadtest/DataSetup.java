@@ -0,0 +1,116 @@
+package org.sunbird.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates what the traffic needs through the service's own APIs, since the in-memory stores start
+ * empty: one open batch per course, a page with a course section, and one enrolment per learner.
+ */
+public class DataSetup {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final int CONCURRENCY = 32;
+
+  private final HttpClient client;
+  private final Route.Target target;
+
+  public DataSetup(HttpClient client, Route.Target target) {
+    this.client = client;
+    this.target = target;
+  }
+
+  public void run() throws IOException, InterruptedException {
+    String admin = target.data.getAdminUserId();
+    String today = LocalDate.now().toString();
+    for (TestData.Course course : target.data.getCourses()) {
+      Map<String, Object> request = new HashMap<>();
+      request.put("courseId", course.getCourseId());
+      request.put("name", "Load test batch");
+      request.put("enrollmentType", "open");
+      request.put("startDate", today);
+      request.put("endDate", LocalDate.now().plusYears(1).toString());
+      request.put("createdBy", admin);
+      JsonNode result = send(target.post("/v1/course/batch/create", admin, request));
+      course.setBatchId(result.path("batchId").asText());
+    }
+
+    Map<String, Object> searchRequest = new HashMap<>();
+    searchRequest.put("filters", Map.of("contentType", List.of("Course")));
+    searchRequest.put("limit", 10);
+    Map<String, Object> section = new HashMap<>();
+    section.put("name", "Load test courses");
+    section.put("sectionDataType", "course");
+    section.put("searchQuery", Map.of("request", searchRequest));
+    String sectionId =
+        send(target.post("/v1/page/section/create", admin, section)).path("sectionId").asText();
+    List<Map<String, Object>> sections = new ArrayList<>();
+    sections.add(Map.of("id", sectionId, "index", 1, "group", 1));
+    Map<String, Object> page = new HashMap<>();
+    page.put("name", TestData.PAGE_NAME);
+    page.put("portalMap", sections);
+    page.put("appMap", sections);
+    send(target.post("/v1/page/create", admin, page));
+
+    enrolLearners();
+  }
+
+  private void enrolLearners() throws InterruptedException {
+    Semaphore permits = new Semaphore(CONCURRENCY);
+    AtomicInteger failed = new AtomicInteger();
+    List<CompletableFuture<?>> pending = new ArrayList<>();
+    for (int i = 0; i < target.data.getUserIds().size(); i++) {
+      TestData.Enrolment enrolment = target.data.enrolmentAt(i);
+      Map<String, Object> request = new HashMap<>();
+      request.put("userId", enrolment.getUserId());
+      request.put("courseId", enrolment.getCourse().getCourseId());
+      request.put("batchId", enrolment.getCourse().getBatchId());
+      permits.acquire();
+      pending.add(
+          client
+              .sendAsync(
+                  target.post("/v1/course/enroll", enrolment.getUserId(), request),
+                  HttpResponse.BodyHandlers.discarding())
+              .whenComplete(
+                  (response, error) -> {
+                    permits.release();
+                    if (error == null && response.statusCode() == 200) {
+                      target.data.enrolled(enrolment);
+                    } else {
+                      failed.incrementAndGet();
+                    }
+                  }));
+    }
+    CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+    if (target.data.getEnrolmentCount() == 0) {
+      throw new IllegalStateException(
+          "No learner could be enrolled during setup, " + failed.get() + " enrolments failed");
+    }
+  }
+
+  private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(
+          "Setup request "
+              + request.uri().getPath()
+              + " failed with status "
+              + response.statusCode()
+              + ": "
+              + response.body());
+    }
+    return mapper.readTree(response.body()).path("result");
+  }
+}
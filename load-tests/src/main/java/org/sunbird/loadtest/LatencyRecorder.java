@@ -0,0 +1,121 @@
+package org.sunbird.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes of one route during the measured part of a run. Latencies are kept exactly, in
+ * microseconds, since a run records at most a few hundred thousand samples per route.
+ */
+public class LatencyRecorder {
+
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder success = new LongAdder();
+  private final LongAdder clientErrors = new LongAdder();
+  private final LongAdder serverErrors = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private long[] latencies = new long[1024];
+  private int count;
+
+  public void sent() {
+    sent.increment();
+  }
+
+  /** Counts an arrival for which there was nothing to target yet. */
+  public void skipped() {
+    skipped.increment();
+  }
+
+  /** Counts an arrival that was not sent because too many requests were in flight. */
+  public void dropped() {
+    dropped.increment();
+  }
+
+  /**
+   * @param status HTTP status of the response
+   * @param latencyNanos time from the scheduled arrival to the response
+   */
+  public void completed(int status, long latencyNanos) {
+    if (status >= 500) {
+      serverErrors.increment();
+    } else if (status >= 400) {
+      clientErrors.increment();
+    } else {
+      success.increment();
+    }
+    record(latencyNanos);
+  }
+
+  /** @param latencyNanos time from the scheduled arrival until the request failed */
+  public void failed(long latencyNanos) {
+    failures.increment();
+    record(latencyNanos);
+  }
+
+  private synchronized void record(long latencyNanos) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+  }
+
+  /**
+   * @param targetRate arrivals per second the route was driven at
+   * @param seconds length of the measured part of the run
+   * @return counts, throughput and latency percentiles in milliseconds
+   */
+  public Map<String, Object> summary(double targetRate, double seconds) {
+    long[] sorted;
+    synchronized (this) {
+      sorted = Arrays.copyOf(latencies, count);
+    }
+    Arrays.sort(sorted);
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("targetRate", targetRate);
+    summary.put("sent", sent.sum());
+    summary.put("completed", (long) sorted.length);
+    summary.put("success", success.sum());
+    summary.put("clientErrors", clientErrors.sum());
+    summary.put("serverErrors", serverErrors.sum());
+    summary.put("failures", failures.sum());
+    summary.put("dropped", dropped.sum());
+    summary.put("skipped", skipped.sum());
+    summary.put("throughput", seconds > 0 ? round(success.sum() / seconds) : 0.0);
+    Map<String, Object> latency = new LinkedHashMap<>();
+    if (sorted.length > 0) {
+      long total = 0;
+      for (long value : sorted) {
+        total += value;
+      }
+      latency.put("min", millis(sorted[0]));
+      latency.put("mean", round(total / (double) sorted.length / 1000));
+      latency.put("p50", millis(percentile(sorted, 50)));
+      latency.put("p90", millis(percentile(sorted, 90)));
+      latency.put("p95", millis(percentile(sorted, 95)));
+      latency.put("p99", millis(percentile(sorted, 99)));
+      latency.put("p999", millis(percentile(sorted, 99.9)));
+      latency.put("max", millis(sorted[sorted.length - 1]));
+    }
+    summary.put("latencyMs", latency);
+    return summary;
+  }
+
+  /** Nearest-rank percentile of sorted values. */
+  static long percentile(long[] sorted, double percentile) {
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  private static double millis(long micros) {
+    return round(micros / 1000.0);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
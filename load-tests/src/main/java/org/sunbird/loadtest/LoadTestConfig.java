@@ -0,0 +1,165 @@
+package org.sunbird.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Settings of a load test run. Values are read from loadtest.properties on the classpath, then
+ * from an optional properties file given on the command line, and finally from system properties
+ * of the same name, so that a single value can be changed with -Dloadtest.durationSeconds=300.
+ */
+public final class LoadTestConfig {
+
+  private static final String PREFIX = "loadtest.";
+
+  private final Properties properties;
+
+  private LoadTestConfig(Properties properties) {
+    this.properties = properties;
+  }
+
+  public static LoadTestConfig load(Path overrides) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in =
+        LoadTestConfig.class.getClassLoader().getResourceAsStream("loadtest.properties")) {
+      if (in != null) {
+        properties.load(in);
+      }
+    }
+    if (overrides != null && Files.exists(overrides)) {
+      try (Reader reader = Files.newBufferedReader(overrides, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      }
+    }
+    for (String name : System.getProperties().stringPropertyNames()) {
+      if (name.startsWith(PREFIX)) {
+        properties.setProperty(name, System.getProperty(name));
+      }
+    }
+    return new LoadTestConfig(properties);
+  }
+
+  /** @return base url of the service under test, e.g. http://localhost:9000 */
+  public String getServiceBaseUrl() {
+    return getString("service.baseUrl", "http://localhost:9000");
+  }
+
+  /** @return command that starts the service, or blank if an already running service is used */
+  public String getServiceCommand() {
+    return getString("service.command", "");
+  }
+
+  public String getServiceWorkingDir() {
+    return getString("service.workingDir", ".");
+  }
+
+  public int getServiceStartupTimeoutSeconds() {
+    return getInt("service.startupTimeoutSeconds", 300);
+  }
+
+  /** @return port of the downstream stand-ins, 0 picks a free port */
+  public int getStubPort() {
+    return getInt("stub.port", 0);
+  }
+
+  /** @return delay the downstream stand-ins add to every response */
+  public long getStubLatencyMs() {
+    return getLong("stub.latencyMs", 20);
+  }
+
+  public long getStorageLatencyMs() {
+    return getLong("storage.latencyMs", 2);
+  }
+
+  public long getStorageJitterMs() {
+    return getLong("storage.jitterMs", 3);
+  }
+
+  public int getWarmupSeconds() {
+    return getInt("warmupSeconds", 30);
+  }
+
+  public int getDurationSeconds() {
+    return getInt("durationSeconds", 120);
+  }
+
+  /** @return number of distinct learners the traffic is spread over */
+  public int getUsers() {
+    return getInt("users", 1000);
+  }
+
+  /** @return number of courses, each with one open batch, created before the run */
+  public int getCourses() {
+    return getInt("courses", 20);
+  }
+
+  public int getContentsPerCourse() {
+    return getInt("contentsPerCourse", 10);
+  }
+
+  /** @return requests allowed in flight before new arrivals are counted as dropped */
+  public int getMaxInFlight() {
+    return getInt("maxInFlight", 2000);
+  }
+
+  public int getRequestTimeoutSeconds() {
+    return getInt("requestTimeoutSeconds", 30);
+  }
+
+  /** @return true for exponential inter-arrival times, false for evenly spaced arrivals */
+  public boolean isPoissonArrivals() {
+    return "poisson".equalsIgnoreCase(getString("arrivals", "constant"));
+  }
+
+  /** @return target arrival rate per second of each route */
+  public Map<Route, Double> getRates() {
+    Map<Route, Double> rates = new EnumMap<>(Route.class);
+    for (Route route : Route.values()) {
+      double rate = getDouble("rate." + route.getKey(), route.getDefaultRate());
+      if (rate > 0) {
+        rates.put(route, rate);
+      }
+    }
+    return rates;
+  }
+
+  public String getReportPath() {
+    return getString("report", "target/load-test-report.json");
+  }
+
+  /** @return settings passed on to the service as given by loadtest.env.&lt;name&gt; */
+  public Properties getServiceEnvOverrides() {
+    Properties env = new Properties();
+    String envPrefix = PREFIX + "env.";
+    for (String name : properties.stringPropertyNames()) {
+      if (name.startsWith(envPrefix)) {
+        env.setProperty(name.substring(envPrefix.length()), properties.getProperty(name));
+      }
+    }
+    return env;
+  }
+
+  private String getString(String key, String defaultValue) {
+    String value = properties.getProperty(PREFIX + key);
+    return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+  }
+
+  private int getInt(String key, int defaultValue) {
+    return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
+  }
+
+  private long getLong(String key, long defaultValue) {
+    return Long.parseLong(getString(key, String.valueOf(defaultValue)));
+  }
+
+  private double getDouble(String key, double defaultValue) {
+    return Double.parseDouble(getString(key, String.valueOf(defaultValue)));
+  }
+}
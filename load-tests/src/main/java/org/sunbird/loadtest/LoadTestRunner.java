@@ -0,0 +1,126 @@
+package org.sunbird.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Entry point of the load test. It starts the downstream stand-ins, starts the service against
+ * them with the in-memory cassandra and elastic search backends (or uses one already running),
+ * creates the test data, drives the route mix at fixed arrival rates and writes a JSON report with
+ * throughput and latency percentiles per route.
+ *
+ * <p>Usage: {@code mvn -P load-test -pl load-tests exec:java [-Dloadtest.<setting>=<value>]}, see
+ * loadtest.properties for the settings.
+ */
+public class LoadTestRunner {
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.load(args.length > 0 ? Paths.get(args[0]) : null);
+    Map<String, Object> report = new LoadTestRunner().run(config);
+    Path path = Paths.get(config.getReportPath());
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    mapper.writeValue(path.toFile(), report);
+    System.out.println(mapper.writeValueAsString(report.get("routes")));
+    System.out.println("Load test report written to " + path.toAbsolutePath());
+    System.exit(0);
+  }
+
+  public Map<String, Object> run(LoadTestConfig config) throws Exception {
+    TestData data =
+        new TestData(config.getUsers(), config.getCourses(), config.getContentsPerCourse());
+    StubDownstreams stubs = new StubDownstreams(data, config.getStubLatencyMs());
+    stubs.start(config.getStubPort());
+    ServiceProcess service = new ServiceProcess(config.getServiceBaseUrl());
+    try {
+      TokenIssuer tokens = new TokenIssuer(stubs.getTokenIssuer());
+      Map<String, String> environment = serviceEnvironment(config, stubs, tokens);
+      if (config.getServiceCommand().isEmpty()) {
+        System.out.println(
+            "Using the service at " + config.getServiceBaseUrl() + ", which must run with:");
+        environment.forEach((key, value) -> System.out.println("  " + key + "=" + value));
+      } else {
+        service.start(
+            config.getServiceCommand(),
+            config.getServiceWorkingDir(),
+            environment,
+            Paths.get("target", "service.log").toAbsolutePath());
+      }
+      HttpClient client = newClient(config);
+      service.awaitHealthy(client, config.getServiceStartupTimeoutSeconds());
+
+      Route.Target target =
+          new Route.Target(
+              config.getServiceBaseUrl(),
+              data,
+              tokens,
+              Duration.ofSeconds(config.getRequestTimeoutSeconds()));
+      new DataSetup(client, target).run();
+
+      Instant startedAt = Instant.now();
+      Map<Route, Double> rates = config.getRates();
+      Map<Route, LatencyRecorder> recorders =
+          new OpenLoadGenerator(
+                  client, target, rates, config.isPoissonArrivals(), config.getMaxInFlight())
+              .run(config.getWarmupSeconds(), config.getDurationSeconds());
+
+      Map<String, Object> routes = new LinkedHashMap<>();
+      for (Map.Entry<Route, LatencyRecorder> entry : recorders.entrySet()) {
+        routes.put(
+            entry.getKey().getKey(),
+            entry.getValue().summary(rates.get(entry.getKey()), config.getDurationSeconds()));
+      }
+      Map<String, Object> report = new LinkedHashMap<>();
+      report.put("startedAt", startedAt.toString());
+      report.put("warmupSeconds", config.getWarmupSeconds());
+      report.put("durationSeconds", config.getDurationSeconds());
+      report.put("arrivals", config.isPoissonArrivals() ? "poisson" : "constant");
+      report.put("users", config.getUsers());
+      report.put("courses", config.getCourses());
+      report.put("stubLatencyMs", config.getStubLatencyMs());
+      report.put("storageLatencyMs", config.getStorageLatencyMs());
+      report.put("storageJitterMs", config.getStorageJitterMs());
+      report.put("enrolments", data.getEnrolmentCount());
+      report.put("downstreamRequests", stubs.getRequestCount());
+      report.put("routes", routes);
+      return report;
+    } finally {
+      service.stop();
+      stubs.stop();
+    }
+  }
+
+  private static HttpClient newClient(LoadTestConfig config) {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(config.getRequestTimeoutSeconds()))
+        .executor(Executors.newFixedThreadPool(16))
+        .build();
+  }
+
+  private static Map<String, String> serviceEnvironment(
+      LoadTestConfig config, StubDownstreams stubs, TokenIssuer tokens) {
+    Map<String, String> env = new HashMap<>(stubs.getServiceEnvironment());
+    env.put("sunbird_storage_backend", "memory");
+    env.put("sunbird_in_memory_storage_latency_ms", String.valueOf(config.getStorageLatencyMs()));
+    env.put(
+        "sunbird_in_memory_storage_latency_jitter_ms", String.valueOf(config.getStorageJitterMs()));
+    env.put("accesstoken.publickey.basepath", tokens.getKeyDirectory().toString());
+    config
+        .getServiceEnvOverrides()
+        .forEach((key, value) -> env.put((String) key, (String) value));
+    return env;
+  }
+}
@@ -0,0 +1,136 @@
+package org.sunbird.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives every route at its own fixed arrival rate, independent of how fast the service answers.
+ * Arrivals are planned ahead of time and latency is measured from the planned arrival rather than
+ * from the moment the request went out, so a stalled service shows up in the percentiles instead
+ * of silently lowering the offered load.
+ */
+public class OpenLoadGenerator {
+
+  private final HttpClient client;
+  private final Route.Target target;
+  private final Map<Route, Double> rates;
+  private final boolean poisson;
+  private final int maxInFlight;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Map<Route, LatencyRecorder> recorders = new EnumMap<>(Route.class);
+
+  public OpenLoadGenerator(
+      HttpClient client,
+      Route.Target target,
+      Map<Route, Double> rates,
+      boolean poisson,
+      int maxInFlight) {
+    this.client = client;
+    this.target = target;
+    this.rates = rates;
+    this.poisson = poisson;
+    this.maxInFlight = maxInFlight;
+    for (Route route : rates.keySet()) {
+      recorders.put(route, new LatencyRecorder());
+    }
+  }
+
+  /**
+   * Runs the warm-up and the measured phase back to back and waits for the requests still in
+   * flight.
+   *
+   * @return recorders of the measured phase, by route
+   */
+  public Map<Route, LatencyRecorder> run(int warmupSeconds, int durationSeconds)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+    long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+    List<Thread> threads = new ArrayList<>();
+    for (Map.Entry<Route, Double> entry : rates.entrySet()) {
+      Thread thread =
+          new Thread(
+              () -> drive(entry.getKey(), entry.getValue(), start, measureFrom, end),
+              "loadtest-" + entry.getKey().getKey());
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    while (inFlight.get() > 0) {
+      TimeUnit.MILLISECONDS.sleep(50);
+    }
+    return recorders;
+  }
+
+  private void drive(Route route, double rate, long start, long measureFrom, long end) {
+    LatencyRecorder recorder = recorders.get(route);
+    double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long arrival = start;
+    while (true) {
+      arrival += (long) nextInterval(meanIntervalNanos);
+      if (arrival >= end) {
+        return;
+      }
+      long wait;
+      while ((wait = arrival - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      send(route, arrival >= measureFrom ? recorder : null, arrival);
+    }
+  }
+
+  private double nextInterval(double meanIntervalNanos) {
+    if (!poisson) {
+      return meanIntervalNanos;
+    }
+    return -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos;
+  }
+
+  private void send(Route route, LatencyRecorder recorder, long arrival) {
+    Route.Call call;
+    try {
+      call = route.call(target);
+    } catch (RuntimeException e) {
+      call = null;
+    }
+    if (call == null) {
+      if (recorder != null) recorder.skipped();
+      return;
+    }
+    if (inFlight.incrementAndGet() > maxInFlight) {
+      inFlight.decrementAndGet();
+      if (recorder != null) recorder.dropped();
+      return;
+    }
+    if (recorder != null) recorder.sent();
+    Runnable onSuccess = call.onSuccess;
+    client
+        .sendAsync(call.request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete(
+            (response, error) -> {
+              long latency = System.nanoTime() - arrival;
+              inFlight.decrementAndGet();
+              if (error == null && response.statusCode() < 300 && onSuccess != null) {
+                onSuccess.run();
+              }
+              if (recorder == null) {
+                return;
+              }
+              if (error != null) {
+                recorder.failed(latency);
+              } else {
+                recorder.completed(response.statusCode(), latency);
+              }
+            });
+  }
+}
@@ -0,0 +1,157 @@
+package org.sunbird.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes the load test drives, with the arrival rate each one gets unless loadtest.rate.&lt;key&gt;
+ * says otherwise. The default mix is read heavy, like production traffic: learners list their
+ * courses and report progress far more often than they enrol.
+ */
+public enum Route {
+  ENROL("enrol", 10) {
+    @Override
+    Call call(Target target) {
+      TestData.Enrolment enrolment = target.data.nextEnrolment();
+      TestData.Course course = enrolment.getCourse();
+      Map<String, Object> request = new HashMap<>();
+      request.put("userId", enrolment.getUserId());
+      request.put("courseId", course.getCourseId());
+      request.put("batchId", course.getBatchId());
+      return new Call(
+          target.post("/v1/course/enroll", enrolment.getUserId(), request),
+          () -> target.data.enrolled(enrolment));
+    }
+  },
+  LIST("list", 60) {
+    @Override
+    Call call(Target target) {
+      String userId = target.data.randomUser();
+      return new Call(
+          target.builder("/v1/user/courses/list/" + userId, userId).GET().build(), null);
+    }
+  },
+  CONSUMPTION_UPDATE("consumptionUpdate", 50) {
+    @Override
+    Call call(Target target) {
+      TestData.Enrolment enrolment = target.data.randomEnrolment();
+      if (enrolment == null) {
+        return null;
+      }
+      TestData.Course course = enrolment.getCourse();
+      Map<String, Object> content = new HashMap<>();
+      content.put("contentId", course.randomContentId());
+      content.put("courseId", course.getCourseId());
+      content.put("batchId", course.getBatchId());
+      content.put("status", 2);
+      Map<String, Object> request = new HashMap<>();
+      request.put("userId", enrolment.getUserId());
+      request.put("contents", List.of(content));
+      return new Call(
+          target.send("PATCH", "/v1/content/state/update", enrolment.getUserId(), request), null);
+    }
+  },
+  BATCH_SEARCH("batchSearch", 20) {
+    @Override
+    Call call(Target target) {
+      Map<String, Object> filters = new HashMap<>();
+      filters.put("courseId", target.data.randomCourse().getCourseId());
+      filters.put("status", List.of("0", "1"));
+      Map<String, Object> request = new HashMap<>();
+      request.put("filters", filters);
+      request.put("limit", 20);
+      return new Call(target.post("/v1/course/batch/search", null, request), null);
+    }
+  },
+  PAGE_ASSEMBLE("pageAssemble", 20) {
+    @Override
+    Call call(Target target) {
+      Map<String, Object> request = new HashMap<>();
+      request.put("source", "web");
+      request.put("name", TestData.PAGE_NAME);
+      request.put("filters", new HashMap<>());
+      return new Call(target.post("/v1/page/assemble", null, request), null);
+    }
+  };
+
+  private final String key;
+  private final double defaultRate;
+
+  Route(String key, double defaultRate) {
+    this.key = key;
+    this.defaultRate = defaultRate;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public double getDefaultRate() {
+    return defaultRate;
+  }
+
+  /** @return the next request of this route, or null if there is nothing to target yet */
+  abstract Call call(Target target);
+
+  /** A request to send and what to do once the service accepted it. */
+  static final class Call {
+    final HttpRequest request;
+    final Runnable onSuccess;
+
+    Call(HttpRequest request, Runnable onSuccess) {
+      this.request = request;
+      this.onSuccess = onSuccess;
+    }
+  }
+
+  /** The service under test and the data and tokens requests are built from. */
+  static final class Target {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    final String baseUrl;
+    final TestData data;
+    final TokenIssuer tokens;
+    final Duration timeout;
+
+    Target(String baseUrl, TestData data, TokenIssuer tokens, Duration timeout) {
+      this.baseUrl = baseUrl;
+      this.data = data;
+      this.tokens = tokens;
+      this.timeout = timeout;
+    }
+
+    HttpRequest.Builder builder(String path, String userId) {
+      HttpRequest.Builder builder =
+          HttpRequest.newBuilder(URI.create(baseUrl + path))
+              .timeout(timeout)
+              .header("Content-Type", "application/json")
+              .header("x-channel-id", TestData.ORG_ID)
+              .header("x-app-id", "loadtest");
+      if (userId != null) {
+        builder.header("x-authenticated-user-token", tokens.tokenFor(userId));
+      }
+      return builder;
+    }
+
+    HttpRequest post(String path, String userId, Map<String, Object> request) {
+      return send("POST", path, userId, request);
+    }
+
+    HttpRequest send(String method, String path, String userId, Map<String, Object> request) {
+      try {
+        byte[] body = mapper.writeValueAsBytes(Map.of("request", request));
+        return builder(path, userId)
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Unable to serialise request for " + path, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.sunbird.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The service under test, either started by the load test with the stand-in settings in its
+ * environment or already running, in which case it must have been started with the same settings.
+ */
+public class ServiceProcess {
+
+  private final String baseUrl;
+  private Process process;
+
+  public ServiceProcess(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  /**
+   * @param command shell command that starts the service, e.g. the staged start script
+   * @param workingDir directory the command runs in
+   * @param environment settings added to the environment of the service
+   * @param log file the service output is written to
+   */
+  public void start(String command, String workingDir, Map<String, String> environment, Path log)
+      throws IOException {
+    ProcessBuilder builder = new ProcessBuilder("sh", "-c", command);
+    builder.directory(new File(workingDir));
+    builder.environment().putAll(environment);
+    builder.redirectErrorStream(true);
+    Files.createDirectories(log.getParent());
+    builder.redirectOutput(log.toFile());
+    process = builder.start();
+  }
+
+  /** Polls the health API until the service answers or the timeout passes. */
+  public void awaitHealthy(HttpClient client, int timeoutSeconds)
+      throws IOException, InterruptedException {
+    HttpRequest health =
+        HttpRequest.newBuilder(URI.create(baseUrl + "/health"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    while (System.nanoTime() < deadline) {
+      if (process != null && !process.isAlive()) {
+        throw new IllegalStateException(
+            "Service exited with code " + process.exitValue() + " before it became healthy");
+      }
+      try {
+        if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // not listening yet
+      }
+      TimeUnit.SECONDS.sleep(1);
+    }
+    throw new IOException("Service at " + baseUrl + " not healthy after " + timeoutSeconds + "s");
+  }
+
+  public void stop() throws InterruptedException {
+    if (process == null) {
+      return;
+    }
+    process.descendants().forEach(ProcessHandle::destroy);
+    process.destroy();
+    if (!process.waitFor(30, TimeUnit.SECONDS)) {
+      process.descendants().forEach(ProcessHandle::destroyForcibly);
+      process.destroyForcibly();
+    }
+  }
+}
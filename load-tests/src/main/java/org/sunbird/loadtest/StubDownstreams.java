@@ -0,0 +1,199 @@
+package org.sunbird.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-ins for the HTTP services the course service calls: content search and content
+ * read/update, user-org, group service, Druid and the analytics API. Every response is canned and
+ * delayed by a fixed latency, so that the service sees remote calls of a known cost.
+ *
+ * <p>All stand-ins share one port; the service is pointed at them through the base url settings
+ * returned by {@link #getServiceEnvironment()}. Redis and Kafka are not stood in for, see
+ * loadtest.properties.
+ */
+public class StubDownstreams {
+
+  static final String SEARCH_PATH = "/v3/search";
+  static final String CONTENT_READ_PATH = "/content/v3/read/";
+  static final String USER_ORG_PREFIX = "/user-org";
+  static final String GROUP_PREFIX = "/group";
+  static final String DRUID_PATH = "/druid/v2/";
+  static final String SSO_PATH = "/auth/";
+  static final String SSO_REALM = "sunbird";
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private final TestData testData;
+  private final long latencyMs;
+  private final AtomicLong requests = new AtomicLong();
+  private HttpServer server;
+  private ExecutorService executor;
+
+  public StubDownstreams(TestData testData, long latencyMs) {
+    this.testData = testData;
+    this.latencyMs = latencyMs;
+  }
+
+  public void start(int port) throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+    // Handlers block for the configured latency, so the pool has to cover the expected concurrency
+    executor = Executors.newFixedThreadPool(256);
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+    server.start();
+  }
+
+  public void stop() {
+    if (server != null) {
+      server.stop(0);
+      executor.shutdownNow();
+    }
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  public String getBaseUrl() {
+    return "http://localhost:" + getPort();
+  }
+
+  /** @return number of requests the stand-ins have served */
+  public long getRequestCount() {
+    return requests.get();
+  }
+
+  /** @return settings that point the service at the stand-ins */
+  public Map<String, String> getServiceEnvironment() {
+    Map<String, String> env = new HashMap<>();
+    env.put("sunbird_search_service_api_base_url", getBaseUrl());
+    env.put("ekstep_content_search_url", SEARCH_PATH);
+    env.put("content_service_base_url", getBaseUrl());
+    env.put("content_read_url", CONTENT_READ_PATH);
+    env.put("sunbird_user_org_api_base_url", getBaseUrl() + USER_ORG_PREFIX);
+    env.put("sunbird_group_service_api_base_url", getBaseUrl() + GROUP_PREFIX);
+    env.put("sunbird_analytics_api_base_url", getBaseUrl());
+    env.put("sunbird_api_mgr_base_url", getBaseUrl());
+    env.put("druid_proxy_api_host", "localhost");
+    env.put("druid_proxy_api_port", String.valueOf(getPort()));
+    env.put("druid_proxy_api_endpoint", DRUID_PATH);
+    env.put("sso.url", getBaseUrl() + SSO_PATH);
+    env.put("sso.realm", SSO_REALM);
+    env.put("sunbird_sso_url", getBaseUrl() + SSO_PATH);
+    env.put("sunbird_sso_realm", SSO_REALM);
+    return env;
+  }
+
+  /** @return issuer the service expects in user tokens once pointed at the stand-ins */
+  public String getTokenIssuer() {
+    return getBaseUrl() + SSO_PATH + "realms/" + SSO_REALM;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    byte[] request;
+    try (InputStream in = exchange.getRequestBody()) {
+      request = in.readAllBytes();
+    }
+    requests.incrementAndGet();
+    if (latencyMs > 0) {
+      try {
+        TimeUnit.MILLISECONDS.sleep(latencyMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    String path = exchange.getRequestURI().getPath();
+    Object body;
+    if (path.startsWith(DRUID_PATH)) {
+      body = new ArrayList<>();
+    } else if (path.startsWith(USER_ORG_PREFIX)) {
+      body = "GET".equals(exchange.getRequestMethod()) ? readUser(path) : emptySearch();
+    } else if (path.startsWith(GROUP_PREFIX)) {
+      body = okResponse(Map.of("members", new ArrayList<>()));
+    } else if (path.endsWith(SEARCH_PATH)) {
+      body = searchContent(request);
+    } else if (path.startsWith(CONTENT_READ_PATH)) {
+      body = readContent(path.substring(CONTENT_READ_PATH.length()));
+    } else {
+      body = okResponse(new HashMap<>());
+    }
+    byte[] bytes = mapper.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private Map<String, Object> searchContent(byte[] request) throws IOException {
+    // Course lookups filter on a single identifier, page sections list every course
+    String identifier =
+        request.length == 0
+            ? ""
+            : mapper.readTree(request).path("request").path("filters").path("identifier").asText();
+    List<Map<String, Object>> contents = new ArrayList<>();
+    for (TestData.Course course : testData.getCourses()) {
+      if (identifier.isEmpty() || identifier.equals(course.getCourseId())) {
+        contents.add(course.toContent());
+      }
+    }
+    Map<String, Object> result = new HashMap<>();
+    result.put("count", contents.size());
+    result.put("content", contents);
+    return okResponse(result);
+  }
+
+  private Map<String, Object> readContent(String courseId) {
+    TestData.Course course = testData.getCourse(courseId);
+    Map<String, Object> result = new HashMap<>();
+    if (course != null) {
+      result.put("content", course.toContent());
+    }
+    return okResponse(result);
+  }
+
+  private Map<String, Object> readUser(String path) {
+    String userId = path.substring(path.lastIndexOf('/') + 1);
+    Map<String, Object> user = new HashMap<>();
+    user.put("id", userId);
+    user.put("userId", userId);
+    user.put("firstName", "Learner");
+    user.put("rootOrgId", TestData.ORG_ID);
+    user.put("status", 1);
+    return okResponse(Map.of("response", user));
+  }
+
+  private Map<String, Object> emptySearch() {
+    Map<String, Object> response = new HashMap<>();
+    response.put("count", 0);
+    response.put("content", new ArrayList<>());
+    return okResponse(Map.of("response", response));
+  }
+
+  private static Map<String, Object> okResponse(Map<String, Object> result) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("resmsgid", "loadtest");
+    params.put("status", "successful");
+    Map<String, Object> response = new HashMap<>();
+    response.put("id", "api.loadtest");
+    response.put("ver", "v1");
+    response.put("params", params);
+    response.put("responseCode", "OK");
+    response.put("result", result);
+    return response;
+  }
+}
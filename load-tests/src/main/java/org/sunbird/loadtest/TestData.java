@@ -0,0 +1,175 @@
+package org.sunbird.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Learners, courses and enrolments the traffic is built from. Courses are served by the content
+ * stand-in and get their batches created through the service during setup; every enrolment that
+ * succeeds is remembered so that list and consumption traffic targets real enrolments.
+ */
+public class TestData {
+
+  static final String ORG_ID = "loadtest-org";
+  static final String PAGE_NAME = "loadtest-course";
+
+  private final List<String> userIds;
+  private final List<Course> courses;
+  private final Map<String, Course> coursesById = new HashMap<>();
+  private final List<Enrolment> enrolments = new CopyOnWriteArrayList<>();
+  private final AtomicLong nextEnrolment;
+  private final String adminUserId;
+
+  public TestData(int users, int courses, int contentsPerCourse) {
+    List<String> ids = new ArrayList<>(users);
+    for (int i = 0; i < users; i++) {
+      ids.add(userId("learner-" + i));
+    }
+    this.userIds = Collections.unmodifiableList(ids);
+    List<Course> list = new ArrayList<>(courses);
+    for (int i = 0; i < courses; i++) {
+      Course course = new Course("do_loadtest_course_" + i, contentsPerCourse);
+      list.add(course);
+      coursesById.put(course.getCourseId(), course);
+    }
+    this.courses = Collections.unmodifiableList(list);
+    this.adminUserId = userId("admin");
+    // Setup enrols every learner in one course; enrol traffic continues with the next pairs
+    this.nextEnrolment = new AtomicLong(users);
+  }
+
+  private static String userId(String name) {
+    return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  public List<String> getUserIds() {
+    return userIds;
+  }
+
+  public String getAdminUserId() {
+    return adminUserId;
+  }
+
+  public List<Course> getCourses() {
+    return courses;
+  }
+
+  public Course getCourse(String courseId) {
+    return coursesById.get(courseId);
+  }
+
+  public String randomUser() {
+    return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+  }
+
+  public Course randomCourse() {
+    return courses.get(ThreadLocalRandom.current().nextInt(courses.size()));
+  }
+
+  /**
+   * @param index position in the sequence of (learner, course) pairs
+   * @return enrolment of the learner and course at the given position
+   */
+  public Enrolment enrolmentAt(long index) {
+    String userId = userIds.get((int) (index % userIds.size()));
+    Course course = courses.get((int) ((index / userIds.size() + index) % courses.size()));
+    return new Enrolment(userId, course);
+  }
+
+  /** @return an enrolment not requested before, wrapping around once all pairs are used */
+  public Enrolment nextEnrolment() {
+    return enrolmentAt(nextEnrolment.getAndIncrement());
+  }
+
+  public void enrolled(Enrolment enrolment) {
+    enrolments.add(enrolment);
+  }
+
+  /** @return a random successful enrolment, or null if there is none yet */
+  public Enrolment randomEnrolment() {
+    int size = enrolments.size();
+    return size == 0 ? null : enrolments.get(ThreadLocalRandom.current().nextInt(size));
+  }
+
+  public int getEnrolmentCount() {
+    return enrolments.size();
+  }
+
+  public static final class Course {
+    private final String courseId;
+    private final List<String> contentIds;
+    private volatile String batchId;
+
+    Course(String courseId, int contents) {
+      this.courseId = courseId;
+      List<String> ids = new ArrayList<>(contents);
+      for (int i = 0; i < contents; i++) {
+        ids.add(courseId + "_content_" + i);
+      }
+      this.contentIds = Collections.unmodifiableList(ids);
+    }
+
+    public String getCourseId() {
+      return courseId;
+    }
+
+    public List<String> getContentIds() {
+      return contentIds;
+    }
+
+    public String getBatchId() {
+      return batchId;
+    }
+
+    void setBatchId(String batchId) {
+      this.batchId = batchId;
+    }
+
+    public String randomContentId() {
+      return contentIds.get(ThreadLocalRandom.current().nextInt(contentIds.size()));
+    }
+
+    /** @return the course as the content service describes it */
+    Map<String, Object> toContent() {
+      Map<String, Object> content = new HashMap<>();
+      content.put("identifier", courseId);
+      content.put("name", "Load test course " + courseId);
+      content.put("contentType", "Course");
+      content.put("primaryCategory", "Course");
+      content.put("mimeType", "application/vnd.ekstep.content-collection");
+      content.put("status", "Live");
+      content.put("channel", ORG_ID);
+      content.put("leafNodesCount", contentIds.size());
+      content.put("leafNodes", contentIds);
+      content.put("trackable", Map.of("enabled", "Yes"));
+      content.put("batches", new ArrayList<>());
+      return content;
+    }
+  }
+
+  public static final class Enrolment {
+    private final String userId;
+    private final Course course;
+
+    Enrolment(String userId, Course course) {
+      this.userId = userId;
+      this.course = course;
+    }
+
+    public String getUserId() {
+      return userId;
+    }
+
+    public Course getCourse() {
+      return course;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.sunbird.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signs user access tokens the way the SSO server does, with a key pair generated for the run. The
+ * public key is written to a directory that the service loads its token verification keys from,
+ * so the service authenticates load test traffic without a real SSO server.
+ */
+public class TokenIssuer {
+
+  static final String KEY_ID = "loadtest";
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+  private final KeyPair keyPair;
+  private final Path keyDirectory;
+  private final String issuer;
+  private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+  public TokenIssuer(String issuer) throws IOException, GeneralSecurityException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    this.keyPair = generator.generateKeyPair();
+    this.issuer = issuer;
+    this.keyDirectory = Files.createTempDirectory("loadtest-keys");
+    Files.write(
+        keyDirectory.resolve(KEY_ID),
+        Base64.getEncoder().encode(keyPair.getPublic().getEncoded()));
+  }
+
+  /** @return directory to pass to the service as accesstoken.publickey.basepath */
+  public Path getKeyDirectory() {
+    return keyDirectory;
+  }
+
+  /** @return a token for the user, valid for the rest of the run */
+  public String tokenFor(String userId) {
+    return tokens.computeIfAbsent(userId, this::sign);
+  }
+
+  private String sign(String userId) {
+    try {
+      Map<String, Object> header = new HashMap<>();
+      header.put("alg", "RS256");
+      header.put("typ", "JWT");
+      header.put("kid", KEY_ID);
+      Map<String, Object> body = new HashMap<>();
+      long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+      body.put("iss", issuer);
+      body.put("sub", "f:" + KEY_ID + ":" + userId);
+      body.put("iat", now);
+      body.put("exp", now + TimeUnit.DAYS.toSeconds(1));
+      String payload =
+          encoder.encodeToString(mapper.writeValueAsBytes(header))
+              + "."
+              + encoder.encodeToString(mapper.writeValueAsBytes(body));
+      Signature signature = Signature.getInstance("SHA256withRSA");
+      signature.initSign(keyPair.getPrivate());
+      signature.update(payload.getBytes(StandardCharsets.UTF_8));
+      return payload + "." + encoder.encodeToString(signature.sign());
+    } catch (IOException | GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to sign token for user " + userId, e);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package org.sunbird.loadtest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class LatencyRecorderTest {
+
+  @Test
+  public void testPercentileNearestRank() {
+    long[] sorted = new long[100];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = i + 1;
+    }
+    assertEquals(50, LatencyRecorder.percentile(sorted, 50));
+    assertEquals(99, LatencyRecorder.percentile(sorted, 99));
+    assertEquals(100, LatencyRecorder.percentile(sorted, 99.9));
+    assertEquals(1, LatencyRecorder.percentile(sorted, 0));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSummaryCountsOutcomes() {
+    LatencyRecorder recorder = new LatencyRecorder();
+    for (int i = 1; i <= 10; i++) {
+      recorder.sent();
+      recorder.completed(i <= 8 ? 200 : 500, TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    recorder.sent();
+    recorder.completed(400, TimeUnit.MILLISECONDS.toNanos(20));
+    recorder.dropped();
+    recorder.skipped();
+
+    Map<String, Object> summary = recorder.summary(10, 2);
+    assertEquals(11L, summary.get("sent"));
+    assertEquals(11L, summary.get("completed"));
+    assertEquals(8L, summary.get("success"));
+    assertEquals(1L, summary.get("clientErrors"));
+    assertEquals(2L, summary.get("serverErrors"));
+    assertEquals(1L, summary.get("dropped"));
+    assertEquals(1L, summary.get("skipped"));
+    assertEquals(4.0, summary.get("throughput"));
+    Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMs");
+    assertEquals(1.0, latency.get("min"));
+    assertEquals(6.0, latency.get("p50"));
+    assertEquals(20.0, latency.get("max"));
+  }
+}
@@ -3,10 +3,9 @@ package controllers;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.pattern.PatternsCS;
+import akka.stream.javadsl.Source;
 import akka.util.Timeout;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import modules.ApplicationStart;
 import modules.OnRequestHandler;
 import org.apache.commons.lang3.StringUtils;
@@ -21,10 +20,12 @@ import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.request.HeaderParam;
 import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.request.RequestDeadline;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.keys.SunbirdKey;
 import org.sunbird.telemetry.util.TelemetryEvents;
 import org.sunbird.telemetry.util.TelemetryWriter;
+import play.http.HttpEntity;
 import play.libs.Json;
 import play.mvc.Controller;
 import play.mvc.Http;
@@ -33,8 +34,10 @@ import play.mvc.Result;
 import play.mvc.Results;
 import util.Attrs;
 import util.AuthenticationHelper;
+import util.JsonChunkWriter;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -42,6 +45,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -54,13 +58,13 @@ import java.util.function.Function;
  * @author Manzarul
  */
 public class BaseController extends Controller {
-  
-  private static ObjectMapper objectMapper = new ObjectMapper();
+
   private static final String version = "v1";
   public static final int AKKA_WAIT_TIME = 30;
   protected Timeout timeout = new Timeout(AKKA_WAIT_TIME, TimeUnit.SECONDS);
   private static final String debugEnabled = "false";
   public static final LoggerUtil logger = new LoggerUtil(BaseController.class);
+  private static final int RESPONSE_CHUNK_SIZE = 64 * 1024;
 
   private org.sunbird.common.request.Request initRequest(
       org.sunbird.common.request.Request request, String operation, Http.Request httpRequest) {
@@ -102,12 +106,32 @@ public class BaseController extends Controller {
   protected org.sunbird.common.request.Request createAndInitRequest(
       String operation, JsonNode requestBodyJson, Http.Request httpRequest) {
     org.sunbird.common.request.Request request =
-        (org.sunbird.common.request.Request)
-            mapper.RequestMapper.mapRequest(
-                requestBodyJson, org.sunbird.common.request.Request.class);
+        requestBodyJson == httpRequest.body().asJson()
+            ? getRequestBody(httpRequest)
+            : (org.sunbird.common.request.Request)
+                mapper.RequestMapper.mapRequest(
+                    requestBodyJson, org.sunbird.common.request.Request.class);
     return initRequest(request, operation, httpRequest);
   }
 
+  /**
+   * Request bound from the JSON body of the HTTP request. OnRequestHandler binds it once per
+   * request, it is only mapped here when that did not happen, e.g. for a body that does not bind.
+   *
+   * @param httpRequest play.mvc.Http.Request
+   * @return Request bound from the body (@see {@link org.sunbird.common.request.Request})
+   */
+  protected org.sunbird.common.request.Request getRequestBody(Http.Request httpRequest) {
+    return httpRequest
+        .attrs()
+        .getOptional(Attrs.REQUEST_BODY)
+        .orElseGet(
+            () ->
+                (org.sunbird.common.request.Request)
+                    mapper.RequestMapper.mapRequest(
+                        httpRequest.body().asJson(), org.sunbird.common.request.Request.class));
+  }
+
   /**
    * Helper method for creating and initialising a request for given operation.
    *
@@ -342,18 +366,34 @@ public class BaseController extends Controller {
     code.setResponseCode(ResponseCode.OK.getResponseCode());
     response.setParams(createResponseParamObj(code, null, request.attrs().getOptional(Attrs.REQUEST_ID).orElse(null)));
 
-    String value = null;
+    return createJsonResult(Http.Status.OK, response);
+  }
+
+  /**
+   * Writes the response with one pass of a Jackson generator into chunks of bytes. A response that
+   * fits in one chunk is sent as it is, a bigger one with chunked transfer encoding, so that neither
+   * is materialized as a JsonNode tree or a String. X-Response-Length carries the size of the body.
+   *
+   * @param status HTTP status
+   * @param response Response
+   * @return Result
+   */
+  public static Result createJsonResult(int status, Response response) {
+    JsonChunkWriter.Chunks body;
     try {
-      if (response.getResult() != null) {
-        String json = new ObjectMapper().writeValueAsString(response.getResult());
-        value = getResponseSize(json);
-      }
-    } catch (Exception e) {
-      value = "0.0";
+      body = new JsonChunkWriter(Json.mapper(), RESPONSE_CHUNK_SIZE).write(response);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
     }
-
-    return Results.ok(Json.toJson(response))
-        .withHeader(HeaderParam.X_Response_Length.getName(), value);
+    Result result;
+    if (body.getChunks().size() > 1) {
+      result = Results.status(status).chunked(Source.from(body.getChunks())).as(Http.MimeTypes.JSON);
+    } else {
+      result =
+          new Result(
+              status, new HttpEntity.Strict(body.toByteString(), Optional.of(Http.MimeTypes.JSON)));
+    }
+    return result.withHeader(HeaderParam.X_Response_Length.getName(), String.valueOf(body.getSize()));
   }
 
   /**
@@ -539,6 +579,12 @@ public class BaseController extends Controller {
     // ...
     setContextData(httpReq, request);
     setChannelAndActorInfo(httpReq, request);
+    // once the ask below times out the caller has its answer, downstream work can stop there
+    if (request.getRequestContext() != null) {
+      request
+          .getRequestContext()
+          .setDeadline(RequestDeadline.after(timeout.duration().toMillis(), TimeUnit.MILLISECONDS));
+    }
 
     Function<Object, Result> function =
         new Function<Object, Result>() {
@@ -667,9 +713,7 @@ public class BaseController extends Controller {
   private static Map<String, Object> genarateTelemetryInfoForError(Http.Request request) {
     try{
       Map<String, Object> map = new HashMap<>();
-      String reqContext = request.attrs().getOptional(Attrs.CONTEXT).orElse(null);
-      Map<String, Object> requestInfo =
-              objectMapper.readValue(reqContext, new TypeReference<Map<String, Object>>() {});
+      Map<String, Object> requestInfo = request.attrs().get(Attrs.CONTEXT);
       Map<String, Object> contextInfo = (Map<String, Object>) requestInfo.getOrDefault(JsonKey.CONTEXT, new HashMap<String, Object>());
       Map<String, Object> params = new HashMap<>();
       params.put(JsonKey.ERR_TYPE, JsonKey.API_ACCESS);
@@ -801,9 +845,7 @@ public class BaseController extends Controller {
 
   public void setContextData(Http.Request httpReq, org.sunbird.common.request.Request reqObj) {
     try {
-      String reqContext = httpReq.attrs().get(Attrs.CONTEXT);
-      Map<String, Object> requestInfo =
-              objectMapper.readValue(reqContext, new TypeReference<Map<String, Object>>() {});
+      Map<String, Object> requestInfo = httpReq.attrs().get(Attrs.CONTEXT);
       reqObj.setRequestId(httpReq.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
       reqObj.getContext().putAll((Map<String, Object>) requestInfo.get(JsonKey.CONTEXT));
       reqObj.getContext().putAll((Map<String, Object>) requestInfo.get(JsonKey.ADDITIONAL_INFO));
@@ -814,10 +856,12 @@ public class BaseController extends Controller {
 
   private void generateExceptionTelemetry(Request request, ProjectCommonException exception) {
     try {
-      String reqContext = request.attrs().get(Attrs.CONTEXT);
-      Map<String, Object> requestInfo = objectMapper.readValue(reqContext, new TypeReference<Map<String, Object>>() {});
+      Map<String, Object> requestInfo = request.attrs().get(Attrs.CONTEXT);
       org.sunbird.common.request.Request reqForTelemetry = new org.sunbird.common.request.Request();
-      Map<String, Object> params = (Map<String, Object>) requestInfo.getOrDefault(JsonKey.ADDITIONAL_INFO, new HashMap<>());
+      Map<String, Object> params =
+          new HashMap<>(
+              (Map<String, Object>)
+                  requestInfo.getOrDefault(JsonKey.ADDITIONAL_INFO, Collections.emptyMap()));
       params.put(JsonKey.LOG_TYPE, JsonKey.API_ACCESS);
       params.put(JsonKey.MESSAGE, "");
       params.put(JsonKey.METHOD, request.method());
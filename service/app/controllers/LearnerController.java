@@ -90,7 +90,7 @@ public class LearnerController extends BaseController {
     String requestedFor = httpRequest.attrs().getOptional(Attrs.REQUESTED_FOR).orElse(null);
     String apiDebugLog = "UpdateContentState Request: " + requestData.toString() + " RequestedBy: " + requestedBy + " RequestedFor: " + requestedFor + " ";
       try {
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateUpdateContent(reqObj);
       reqObj = transformUserId(reqObj);
       reqObj.setOperation("updateConsumption");
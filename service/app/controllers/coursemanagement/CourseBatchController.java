@@ -84,7 +84,7 @@ public class CourseBatchController extends BaseController {
       JsonNode requestData = httpRequest.body().asJson();
      logger.debug(null,
           "CourseBatchController: search called with data = ", null, new HashMap<>(){{put("requestData", requestData);}});
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
         reqObj.put("creatorDetails", httpRequest.queryString().containsKey("creatorDetails"));
       reqObj.setOperation(ActorOperations.COMPOSITE_SEARCH.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -42,8 +42,7 @@ public class PageController extends BaseController {
   public CompletionStage<Result> createPage(Http.Request httpRequest) {
 
     try {
-      JsonNode requestData = httpRequest.body().asJson();
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateCreatePage(reqObj);
       reqObj.setOperation(ActorOperations.CREATE_PAGE.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -66,8 +65,7 @@ public class PageController extends BaseController {
   public CompletionStage<Result> updatePage(Http.Request httpRequest) {
 
     try {
-      JsonNode requestData = httpRequest.body().asJson();
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateUpdatepage(reqObj);
       reqObj.setOperation(ActorOperations.UPDATE_PAGE.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -133,8 +131,7 @@ public class PageController extends BaseController {
   public CompletionStage<Result> getPageData(Http.Request httpRequest) {
 
     try {
-      JsonNode requestData = httpRequest.body().asJson();
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateGetPageData(reqObj);
       reqObj.setOperation(ActorOperations.GET_PAGE_DATA.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -161,8 +158,7 @@ public class PageController extends BaseController {
   public CompletionStage<Result> getDIALPageData(Http.Request httpRequest) {
 
     try {
-      JsonNode requestData = httpRequest.body().asJson();
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateGetPageData(reqObj);
       reqObj.setOperation(ActorOperations.GET_DIAL_PAGE_DATA.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -209,7 +205,7 @@ public class PageController extends BaseController {
       JsonNode requestData = httpRequest.body().asJson();
      logger.info(null,
           "getting create page section data request=" + requestData);
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateCreateSection(reqObj);
       reqObj.setOperation(ActorOperations.CREATE_SECTION.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -235,7 +231,7 @@ public class PageController extends BaseController {
       JsonNode requestData = httpRequest.body().asJson();
      logger.info(null,
           "getting update page section data request=" + requestData);
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateUpdateSection(reqObj);
       reqObj.setOperation(ActorOperations.UPDATE_SECTION.getValue());
       reqObj.setRequestId(httpRequest.attrs().getOptional(Attrs.REQUEST_ID).orElse(null));
@@ -39,7 +39,7 @@ public class SearchController extends BaseController {
     try {
       JsonNode requestData = httpRequest.body().asJson();
      logger.info(null, "making a call to data synch api = " + requestData);
-      Request reqObj = (Request) mapper.RequestMapper.mapRequest(requestData, Request.class);
+      Request reqObj = getRequestBody(httpRequest);
       RequestValidator.validateSyncRequest(reqObj);
       String operation = (String) reqObj.getRequest().get(JsonKey.OPERATION_FOR);
       reqObj.setOperation(ActorOperations.SYNC.getValue());
@@ -1,15 +1,12 @@
 package filters;
 
 import akka.util.ByteString;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.concurrent.Executor;
 import javax.inject.Inject;
 
-import org.apache.commons.lang3.StringUtils;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectLogger;
@@ -24,7 +21,6 @@ import util.Attrs;
 public class AccessLogFilter extends EssentialFilter {
 
     private final Executor executor;
-    private ObjectMapper objectMapper = new ObjectMapper();
     public LoggerUtil logger = new LoggerUtil(this.getClass());
 
     @Inject
@@ -54,11 +50,8 @@ public class AccessLogFilter extends EssentialFilter {
                                     params.put(JsonKey.DURATION, requestTime);
                                     params.put(JsonKey.STATUS, result.status());
                                     params.put(JsonKey.LOG_LEVEL, JsonKey.INFO);
-                                    String contextDetails = request.attrs().getOptional(Attrs.CONTEXT).orElse("");
-                                    if(StringUtils.isNotBlank(contextDetails)) {
-                                        Map<String, Object> context =
-                                                objectMapper.readValue(
-                                                        contextDetails, new TypeReference<Map<String, Object>>() {});
+                                    Map<String, Object> context = request.attrs().getOptional(Attrs.CONTEXT).orElse(null);
+                                    if (context != null) {
                                         req.setRequest(
                                                 generateTelemetryRequestForController(
                                                         TelemetryEvents.LOG.getName(),
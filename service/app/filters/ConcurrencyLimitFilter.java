@@ -0,0 +1,185 @@
+package filters;
+
+import akka.util.ByteString;
+import controllers.BaseController;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import javax.inject.Inject;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.responsecode.ResponseCode;
+import play.libs.Json;
+import play.libs.streams.Accumulator;
+import play.mvc.EssentialAction;
+import play.mvc.EssentialFilter;
+import play.mvc.Http;
+import play.mvc.Result;
+import play.mvc.Results;
+import util.AdaptiveConcurrencyLimit;
+
+/**
+ * Sheds load before it reaches the actors. Requests are grouped by operation, e.g. enrol, batch
+ * search or batch create, and every group gets an {@link AdaptiveConcurrencyLimit}. The groups are
+ * a fixed list of path prefixes, requests matching none of them share the default group. A request
+ * arriving while its group is at the limit is answered right away with 503 and a Retry-After
+ * header, instead of queueing in an actor mailbox until the ask times out.
+ */
+public class ConcurrencyLimitFilter extends EssentialFilter {
+
+  private static final boolean enabled =
+      Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CONCURRENCY_LIMIT_ENABLED));
+  private static final String RETRY_AFTER_SECONDS = "1";
+  private static final String PRIVATE_PREFIX = "/private";
+  static final String DEFAULT_GROUP = "default";
+  // longest prefix first, so that e.g. /v1/page/assemble is matched before /v1/page
+  private static final List<String> ROUTE_GROUPS =
+      sortByLengthDescending(
+          "/v1/course/enroll",
+          "/v1/course/unenroll",
+          "/v1/course/admin",
+          "/v1/course/create",
+          "/v1/course/qrcode",
+          "/v1/course/batch/create",
+          "/v1/course/batch/update",
+          "/v1/course/batch/read",
+          "/v1/course/batch/search",
+          "/v1/course/batch/cert",
+          "/v1/batch/bulk",
+          "/v1/batch/participants",
+          "/v1/content/state/read",
+          "/v1/content/state/update",
+          "/v1/user/content/state",
+          "/v1/user/courses/list",
+          "/v2/user/courses/list",
+          "/v2/user/courses/admin/list",
+          "/v1/collection/summary",
+          "/v1/group/activity",
+          "/v1/dial/assemble",
+          "/v1/page/assemble",
+          "/v1/page",
+          "/v1/jobrequest",
+          "/v1/upload",
+          "/v1/cache",
+          "/v1/data/sync");
+
+  private final Executor executor;
+  private final Map<String, AdaptiveConcurrencyLimit> limits;
+  private LoggerUtil logger = new LoggerUtil(ConcurrencyLimitFilter.class);
+
+  @Inject
+  public ConcurrencyLimitFilter(Executor executor) {
+    super();
+    this.executor = executor;
+    int initialLimit = getIntConfig(JsonKey.SUNBIRD_CONCURRENCY_LIMIT_INITIAL, 100);
+    int minLimit = getIntConfig(JsonKey.SUNBIRD_CONCURRENCY_LIMIT_MIN, 10);
+    int maxLimit = getIntConfig(JsonKey.SUNBIRD_CONCURRENCY_LIMIT_MAX, 1000);
+    Map<String, AdaptiveConcurrencyLimit> groupLimits = new HashMap<>();
+    for (String group : ROUTE_GROUPS) {
+      groupLimits.put(group, new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit));
+    }
+    groupLimits.put(DEFAULT_GROUP, new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit));
+    this.limits = Collections.unmodifiableMap(groupLimits);
+  }
+
+  @Override
+  public EssentialAction apply(EssentialAction next) {
+    return EssentialAction.of(
+        request -> {
+          if (!enabled || isHealthCheck(request.path())) {
+            return next.apply(request);
+          }
+          String group = getRouteGroup(request.path());
+          AdaptiveConcurrencyLimit limit = limits.get(group);
+          if (!limit.tryAcquire()) {
+            logger.info(
+                null,
+                "ConcurrencyLimitFilter: rejected "
+                    + request.method()
+                    + " "
+                    + request.path()
+                    + ", limit of "
+                    + group
+                    + " is "
+                    + limit.getLimit());
+            return Accumulator.done(rejected(request));
+          }
+          long startTime = System.nanoTime();
+          Accumulator<ByteString, Result> accumulator;
+          try {
+            accumulator = next.apply(request);
+          } catch (RuntimeException e) {
+            limit.release(startTime, true);
+            throw e;
+          }
+          return accumulator
+              .map(
+                  result -> {
+                    limit.release(startTime, result.status() >= 500);
+                    return result;
+                  },
+                  executor)
+              .recoverWith(
+                  error -> {
+                    limit.release(startTime, true);
+                    CompletableFuture<Result> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(error);
+                    return failed;
+                  },
+                  executor);
+        });
+  }
+
+  /**
+   * @return longest group prefix of the path, e.g. /v1/course/batch/read for
+   *     /v1/course/batch/read/0123, or the default group. Private routes share the group of the
+   *     public route for the same operation.
+   */
+  static String getRouteGroup(String path) {
+    String routePath =
+        path.startsWith(PRIVATE_PREFIX + "/") ? path.substring(PRIVATE_PREFIX.length()) : path;
+    for (String group : ROUTE_GROUPS) {
+      if (routePath.startsWith(group)
+          && (routePath.length() == group.length() || routePath.charAt(group.length()) == '/')) {
+        return group;
+      }
+    }
+    return DEFAULT_GROUP;
+  }
+
+  private static List<String> sortByLengthDescending(String... groups) {
+    List<String> sorted = Arrays.asList(groups);
+    sorted.sort(Comparator.comparingInt(String::length).reversed());
+    return Collections.unmodifiableList(sorted);
+  }
+
+  private static boolean isHealthCheck(String path) {
+    return path.endsWith("/health");
+  }
+
+  private static Result rejected(Http.RequestHeader request) {
+    ProjectCommonException exception =
+        new ProjectCommonException(
+            ResponseCode.serviceUnAvailable.getErrorCode(),
+            ResponseCode.serviceUnAvailable.getErrorMessage(),
+            ResponseCode.SERVICE_UNAVAILABLE.getResponseCode());
+    Response response =
+        BaseController.createResponseOnException(request.path(), request.method(), exception);
+    return Results.status(ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(), Json.toJson(response))
+        .withHeader(Http.HeaderNames.RETRY_AFTER, RETRY_AFTER_SECONDS);
+  }
+
+  private static int getIntConfig(String key, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    return StringUtils.isNumeric(value) ? Integer.parseInt(value) : defaultValue;
+  }
+}
@@ -1,11 +1,14 @@
 package filters
 
+import akka.NotUsed
 import akka.stream.Materializer
+import akka.stream.scaladsl.{Flow, Source}
 import akka.util.ByteString
 import org.apache.commons.lang.StringUtils
 import org.sunbird.common.models.util.JsonKey
 import org.sunbird.common.models.util.JsonKey.{CLOUD_STORAGE_CNAME_URL, CLOUD_STORE_BASE_PATH, CONTENT_CLOUD_STORAGE_CONTAINER}
-import play.api.http.HttpEntity.Strict
+import play.api.http.HttpChunk
+import play.api.http.HttpEntity.{Chunked, Strict}
 import play.api.mvc.{Filter, RequestHeader, Result}
 import org.sunbird.common.models.util.ProjectUtil.getConfigValue
 import play.api.Logger.logger
@@ -17,7 +20,13 @@ class ResponseFilter  @Inject()(implicit val mat: Materializer, ec: ExecutionCon
 
   override def apply(nextFilter: (RequestHeader) => Future[Result])(rh: RequestHeader) =
     nextFilter(rh) flatMap { result =>
-      if (null != result.body && !result.body.isKnownEmpty){
+      if (result.body.isInstanceOf[Chunked]) {
+        // large responses are rewritten chunk by chunk rather than collected into one string
+        val body = result.body.asInstanceOf[Chunked]
+        val placeholder = ByteString(getConfigValue(JsonKey.CLOUD_STORE_BASE_PATH_PLACEHOLDER))
+        val baseUrl = ByteString(getBaseUrl + "/" + getConfigValue(CONTENT_CLOUD_STORAGE_CONTAINER))
+        Future(result.copy(body = body.copy(chunks = body.chunks.via(replaceInChunks(placeholder, baseUrl)))))
+      } else if (null != result.body && !result.body.isKnownEmpty){
         val contentType = result.body.contentType
         val updatedBody = result.body.consumeData.map { x =>
           val y = x.utf8String.replaceAll(getConfigValue(JsonKey.CLOUD_STORE_BASE_PATH_PLACEHOLDER), getBaseUrl + "/" + getConfigValue(CONTENT_CLOUD_STORAGE_CONTAINER))
@@ -32,9 +41,74 @@ class ResponseFilter  @Inject()(implicit val mat: Materializer, ec: ExecutionCon
       }
     }
 
+  private def replaceInChunks(placeholder: ByteString, replacement: ByteString): Flow[HttpChunk, HttpChunk, NotUsed] =
+    Flow[HttpChunk]
+      .map(chunk => Some(chunk): Option[HttpChunk])
+      .concat(Source.single(None))
+      .statefulMapConcat { () =>
+        val replacer = new PlaceholderReplacer(placeholder, replacement)
+        {
+          case Some(HttpChunk.Chunk(data)) =>
+            val replaced = replacer.next(data)
+            if (replaced.isEmpty) Nil else List(HttpChunk.Chunk(replaced))
+          case other =>
+            val tail = replacer.finish()
+            (if (tail.isEmpty) Nil else List(HttpChunk.Chunk(tail))) ++ other.toList
+        }
+      }
+
   def getBaseUrl: String = {
     var baseUrl = getConfigValue(CLOUD_STORAGE_CNAME_URL)
     if (StringUtils.isEmpty(baseUrl)) baseUrl = getConfigValue(CLOUD_STORE_BASE_PATH)
     baseUrl
   }
-}
\ No newline at end of file
+}
+
+/**
+  * Replaces a placeholder in a body that arrives in chunks. The tail of a chunk that could be the
+  * start of a placeholder is kept back until the next chunk shows whether it is one. One instance
+  * per body.
+  */
+private[filters] class PlaceholderReplacer(placeholder: ByteString, replacement: ByteString) {
+  // tail of the previous chunk that may be the start of a placeholder split across chunks
+  private var carry = ByteString.empty
+
+  /** @return the data seen so far with every placeholder replaced, up to the tail that could start one */
+  def next(data: ByteString): ByteString = {
+    val (replaced, rest) = replace(carry ++ data)
+    carry = rest
+    replaced
+  }
+
+  /** @return the tail kept back, once the body has ended */
+  def finish(): ByteString = {
+    val tail = carry
+    carry = ByteString.empty
+    tail
+  }
+
+  private def replace(data: ByteString): (ByteString, ByteString) = {
+    if (placeholder.isEmpty) return (data, ByteString.empty)
+    val builder = ByteString.newBuilder
+    var from = 0
+    var index = indexOf(data, from)
+    while (index >= 0) {
+      builder ++= data.slice(from, index) ++= replacement
+      from = index + placeholder.length
+      index = indexOf(data, from)
+    }
+    val keep = math.max(from, data.length - placeholder.length + 1)
+    builder ++= data.slice(from, keep)
+    (builder.result(), data.drop(keep))
+  }
+
+  private def indexOf(data: ByteString, from: Int): Int = {
+    val first = placeholder(0)
+    var i = from
+    while (i <= data.length - placeholder.length) {
+      if (data(i) == first && data.slice(i, i + placeholder.length) == placeholder) return i
+      i += 1
+    }
+    -1
+  }
+}
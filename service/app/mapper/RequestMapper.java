@@ -8,6 +8,7 @@ import org.sunbird.common.models.util.ProjectLogger;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.responsecode.ResponseCode;
 import play.libs.Json;
+import play.mvc.Http;
 
 /**
  * This class will map the requested json data into custom class.
@@ -39,4 +40,25 @@ public class RequestMapper {
       throw ProjectUtil.createClientException(ResponseCode.invalidData);
     }
   }
+
+  /**
+   * Binds the JSON body of the HTTP request once, so that the request handler, the controller and
+   * the validators share one bound object instead of each converting the body again.
+   *
+   * @param httpRequest play.mvc.Http.Request
+   * @param obj Class<T>
+   * @return bound body, or null if the request has no JSON body or it does not map to the class;
+   *     callers that need the error then use {@link #mapRequest(JsonNode, Class)}
+   */
+  public static <T> T bindBody(Http.Request httpRequest, Class<T> obj) {
+    JsonNode requestData = httpRequest.body().asJson();
+    if (requestData == null || !requestData.isObject()) {
+      return null;
+    }
+    try {
+      return Json.fromJson(requestData, obj);
+    } catch (Exception e) {
+      return null;
+    }
+  }
 }
@@ -3,6 +3,7 @@ package modules;
 import akka.routing.FromConfig;
 import akka.routing.RouterConfig;
 import com.google.inject.AbstractModule;
+import org.sunbird.actor.dispatcher.ActorDispatchers;
 import play.libs.akka.AkkaGuiceSupport;
 import util.ACTOR_NAMES;
 
@@ -17,7 +18,8 @@ public class ActorStartModule extends AbstractModule implements AkkaGuiceSupport
           actor.getActorClass(),
           actor.getActorName(),
           (props) -> {
-            return props.withRouter(config);
+            return ActorDispatchers.withDispatcher(props, actor.getActorClass())
+                .withRouter(config);
           });
     }
     System.out.println("binding completed");
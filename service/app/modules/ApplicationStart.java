@@ -8,6 +8,7 @@ import org.sunbird.auth.verifier.KeyManager;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.util.InMemoryStorage;
 import org.sunbird.learner.util.ContentSearchMock;
 import org.sunbird.learner.util.SchedulerManager;
 import org.sunbird.learner.util.Util;
@@ -42,7 +43,11 @@ public class ApplicationStart {
     if (Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.CONTENT_SERVICE_MOCK_ENABLED))) {
       mockServiceSetup();
     }
-    checkCassandraConnections();
+    if (InMemoryStorage.isEnabled()) {
+      logger.info(null, "Using in-memory storage, skipping cassandra connection.");
+    } else {
+      checkCassandraConnections();
+    }
     SchedulerManager.schedule();
     lifecycle.addStopHook(
         () -> {
@@ -1,10 +1,10 @@
 package modules;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.typesafe.config.ConfigFactory;
 
 import controllers.BaseController;
+import mapper.RequestMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.auth.verifier.AccessTokenValidator;
 import org.sunbird.cache.platform.Platform;
@@ -29,18 +29,18 @@ import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 public class OnRequestHandler implements ActionCreator {
-    
-    private ObjectMapper mapper = new ObjectMapper();
+
   public static boolean isServiceHealthy = true;
   private final List<String> USER_UNAUTH_STATES =
       Arrays.asList(JsonKey.UNAUTHORIZED, JsonKey.ANONYMOUS);
@@ -77,6 +77,12 @@ public class OnRequestHandler implements ActionCreator {
         String childId = null;
         String loggingHeaders = getLoggingHeaders(request);
         request = request.addAttr(Attrs.X_LOGGING_HEADERS, loggingHeaders);
+        // bound once here, the controller and the validators reuse it
+        org.sunbird.common.request.Request requestBody =
+            RequestMapper.bindBody(request, org.sunbird.common.request.Request.class);
+        if (requestBody != null) {
+            request = request.addAttr(Attrs.REQUEST_BODY, requestBody);
+        }
         if (StringUtils.isNotBlank(message) && forAuth.isPresent() && StringUtils.isNotBlank(forAuth.orElse(""))) {
             String requestedForId = getRequestedForId(request);
           childId = AccessTokenValidator.verifyManagedUserToken(forAuth.get(), message, requestedForId, loggingHeaders);
@@ -111,9 +117,10 @@ public class OnRequestHandler implements ActionCreator {
 
     private String getRequestedForId(Http.Request request) {
       String requestedForUserID = null;
-      JsonNode jsonBody = request.body().asJson();
-      if(null != jsonBody && jsonBody.has(JsonKey.REQUEST) && jsonBody.get(JsonKey.REQUEST).has(JsonKey.USER_ID)) {
-          requestedForUserID = jsonBody.get(JsonKey.REQUEST).get(JsonKey.USER_ID).asText();
+      org.sunbird.common.request.Request requestBody =
+          request.attrs().getOptional(Attrs.REQUEST_BODY).orElse(null);
+      if (null != requestBody && null != requestBody.getRequest().get(JsonKey.USER_ID)) {
+          requestedForUserID = String.valueOf(requestBody.getRequest().get(JsonKey.USER_ID));
       } else { // for read-api
           String uuidSegment = null;
           Path path = Paths.get(request.uri());
@@ -157,9 +164,10 @@ public class OnRequestHandler implements ActionCreator {
           long startTime = System.currentTimeMillis();
           String signType = "";
           String source = "";
-          if (request.body() != null && request.body().asJson() != null) {
+          JsonNode jsonBody = request.body() != null ? request.body().asJson() : null;
+          if (jsonBody != null) {
               JsonNode requestNode =
-                      request.body().asJson().get("params"); // extracting signup type from request
+                      jsonBody.get("params"); // extracting signup type from request
               if (requestNode != null && requestNode.get(JsonKey.SIGNUP_TYPE) != null) {
                   signType = requestNode.get(JsonKey.SIGNUP_TYPE).asText();
               }
@@ -167,7 +175,7 @@ public class OnRequestHandler implements ActionCreator {
                   source = requestNode.get(JsonKey.REQUEST_SOURCE).asText();
               }
           }
-          Map<String, Object> reqContext = new WeakHashMap<>();
+          Map<String, Object> reqContext = new HashMap<>();
           request = request.addAttr(Attrs.SIGNUP_TYPE, signType);
           reqContext.put(JsonKey.SIGNUP_TYPE, signType);
           request = request.addAttr(Attrs.REQUEST_SOURCE, source);
@@ -220,20 +228,21 @@ public class OnRequestHandler implements ActionCreator {
               request = request.addAttr(Attrs.ACTOR_ID, consumerId);
               request = request.addAttr(Attrs.ACTOR_TYPE, JsonKey.CONSUMER);
           }
-          Map<String, Object> map = new WeakHashMap<>();
-          map.put(JsonKey.CONTEXT, reqContext);
-          Map<String, Object> additionalInfo = new WeakHashMap<>();
+          Map<String, Object> map = new HashMap<>();
+          map.put(JsonKey.CONTEXT, Collections.unmodifiableMap(reqContext));
+          Map<String, Object> additionalInfo = new HashMap<>();
           additionalInfo.put(JsonKey.URL, url);
           additionalInfo.put(JsonKey.METHOD, methodName);
           additionalInfo.put(JsonKey.START_TIME, startTime);
 
           // additional info contains info other than context info ...
-          map.put(JsonKey.ADDITIONAL_INFO, additionalInfo);
+          map.put(JsonKey.ADDITIONAL_INFO, Collections.unmodifiableMap(additionalInfo));
           if (StringUtils.isBlank(requestId)) {
               requestId = JsonKey.DEFAULT_CONSUMER_ID;
           }
           request = request.addAttr(Attrs.REQUEST_ID, requestId);
-          request = request.addAttr(Attrs.CONTEXT, mapper.writeValueAsString(map));
+          // shared read-only by the controller and the filters, which copy what they change
+          request = request.addAttr(Attrs.CONTEXT, Collections.unmodifiableMap(map));
       } catch (Exception e) {
           ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR, e.getMessage());
       }
@@ -0,0 +1,103 @@
+package util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limit on the number of requests in flight that follows the latency the requests see. A long-term
+ * average of the latency stands for the latency without queueing and a short-term average for the
+ * current one; their ratio (the gradient) shrinks the limit as soon as requests start to queue and
+ * lets it grow by about the square root of the limit while latency stays flat. Requests that fail
+ * with a server error or time out cut the limit multiplicatively.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private static final int SHORT_WINDOW = 10;
+  private static final int LONG_WINDOW = 600;
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile double limit;
+  private double shortRtt;
+  private double longRtt;
+
+  /**
+   * @param initialLimit limit to start with, before any latency was observed
+   * @param minLimit requests always let through regardless of latency
+   * @param maxLimit upper bound of the limit
+   */
+  public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+  }
+
+  /**
+   * Takes a slot for a request. Every successful call must be followed by a call to {@link
+   * #release(long, boolean)}.
+   *
+   * @return false if the limit is reached and the request should be rejected
+   */
+  public boolean tryAcquire() {
+    if (inFlight.incrementAndGet() > (int) limit) {
+      inFlight.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gives the slot back and feeds the latency of the request into the limit.
+   *
+   * @param startNanos {@link System#nanoTime()} when the slot was taken
+   * @param dropped true if the request failed with a server error or timed out
+   */
+  public void release(long startNanos, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    onSample(System.nanoTime() - startNanos, current, dropped);
+  }
+
+  synchronized void onSample(long rttNanos, int inFlightAtEnd, boolean dropped) {
+    if (dropped) {
+      limit = Math.max(minLimit, limit * BACKOFF);
+      return;
+    }
+    double rtt = Math.max(rttNanos, 1);
+    if (longRtt == 0) {
+      shortRtt = rtt;
+      longRtt = rtt;
+    } else {
+      shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+      longRtt += (rtt - longRtt) / LONG_WINDOW;
+    }
+    // after a long spell of high latency let the long-term average come down quickly again
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    // grow only when the current limit is actually being used
+    if (newLimit > limit && inFlightAtEnd < limit / 2) {
+      return;
+    }
+    limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /** @return short-term average latency in milliseconds */
+  public synchronized double getLatencyMillis() {
+    return shortRtt / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -0,0 +1,109 @@
+package util;
+
+import akka.util.ByteString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes a value with one pass of a Jackson generator straight into UTF-8 chunks, without the
+ * JsonNode tree and the String that Json.toJson and the response size check used to build.
+ */
+public class JsonChunkWriter {
+
+  private final ObjectMapper mapper;
+  private final int chunkSize;
+
+  public JsonChunkWriter(ObjectMapper mapper, int chunkSize) {
+    this.mapper = mapper;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @param value object to serialize
+   * @return the JSON, split in chunks of at most chunkSize bytes
+   */
+  public Chunks write(Object value) throws IOException {
+    ChunkOutputStream out = new ChunkOutputStream(chunkSize);
+    mapper.writeValue(out, value);
+    out.close();
+    return out.chunks;
+  }
+
+  /** Serialized value, in the order the chunks have to be sent. */
+  public static class Chunks {
+    private final List<ByteString> chunks = new ArrayList<>();
+    private long size;
+
+    public List<ByteString> getChunks() {
+      return chunks;
+    }
+
+    /** @return number of bytes of all the chunks */
+    public long getSize() {
+      return size;
+    }
+
+    /** @return the whole value as a single ByteString */
+    public ByteString toByteString() {
+      ByteString data = ByteString.empty();
+      for (ByteString chunk : chunks) {
+        data = data.concat(chunk);
+      }
+      return data;
+    }
+  }
+
+  private static class ChunkOutputStream extends OutputStream {
+    private final int chunkSize;
+    private final Chunks chunks = new Chunks();
+    private byte[] buffer;
+    private int count;
+
+    private ChunkOutputStream(int chunkSize) {
+      this.chunkSize = chunkSize;
+      this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) {
+      if (count == chunkSize) {
+        emit();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      while (length > 0) {
+        if (count == chunkSize) {
+          emit();
+        }
+        int copied = Math.min(length, chunkSize - count);
+        System.arraycopy(bytes, offset, buffer, count, copied);
+        count += copied;
+        offset += copied;
+        length -= copied;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (count > 0) {
+        chunks.chunks.add(ByteString.fromArray(buffer, 0, count));
+        chunks.size += count;
+        count = 0;
+      }
+    }
+
+    private void emit() {
+      // the full buffer is handed over as is and never written again
+      chunks.chunks.add(ByteString.fromArrayUnsafe(buffer));
+      chunks.size += count;
+      buffer = new byte[chunkSize];
+      count = 0;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package filters;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrencyLimitFilterTest {
+
+  @Test
+  public void testSeparatesOperationsOfSameResource() {
+    Assert.assertEquals(
+        "/v1/course/enroll", ConcurrencyLimitFilter.getRouteGroup("/v1/course/enroll"));
+    Assert.assertEquals(
+        "/v1/course/batch/search", ConcurrencyLimitFilter.getRouteGroup("/v1/course/batch/search"));
+    Assert.assertEquals(
+        "/v1/course/batch/create", ConcurrencyLimitFilter.getRouteGroup("/v1/course/batch/create"));
+  }
+
+  @Test
+  public void testMatchesLongestPrefix() {
+    Assert.assertEquals(
+        "/v1/course/batch/read",
+        ConcurrencyLimitFilter.getRouteGroup("/v1/course/batch/read/0123"));
+    Assert.assertEquals(
+        "/v1/page/assemble", ConcurrencyLimitFilter.getRouteGroup("/v1/page/assemble"));
+    Assert.assertEquals("/v1/page", ConcurrencyLimitFilter.getRouteGroup("/v1/page/read/0123"));
+  }
+
+  @Test
+  public void testPrivateRouteSharesPublicGroup() {
+    Assert.assertEquals(
+        "/v1/course/batch/create",
+        ConcurrencyLimitFilter.getRouteGroup("/private/v1/course/batch/create"));
+  }
+
+  @Test
+  public void testUnknownPathsShareDefaultGroup() {
+    Assert.assertEquals(
+        ConcurrencyLimitFilter.DEFAULT_GROUP, ConcurrencyLimitFilter.getRouteGroup("/v1/unknown"));
+    Assert.assertEquals(
+        ConcurrencyLimitFilter.DEFAULT_GROUP, ConcurrencyLimitFilter.getRouteGroup("/v1/x/y/z"));
+    Assert.assertEquals(
+        ConcurrencyLimitFilter.DEFAULT_GROUP,
+        ConcurrencyLimitFilter.getRouteGroup("/v1/course/enrollment"));
+    Assert.assertEquals(
+        ConcurrencyLimitFilter.DEFAULT_GROUP, ConcurrencyLimitFilter.getRouteGroup("/"));
+  }
+}
@@ -0,0 +1,56 @@
+package filters;
+
+import akka.util.ByteString;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PlaceholderReplacerTest {
+
+  private static final String PLACEHOLDER = "CLOUD_STORAGE_BASE_PATH";
+  private static final String BASE_URL = "https://cdn.example.org/content";
+
+  private static PlaceholderReplacer newReplacer() {
+    return new PlaceholderReplacer(ByteString.fromString(PLACEHOLDER), ByteString.fromString(BASE_URL));
+  }
+
+  private static String replace(PlaceholderReplacer replacer, String... chunks) {
+    StringBuilder body = new StringBuilder();
+    for (String chunk : chunks) {
+      body.append(replacer.next(ByteString.fromString(chunk)).utf8String());
+    }
+    return body.append(replacer.finish().utf8String()).toString();
+  }
+
+  @Test
+  public void testPlaceholderSplitAcrossChunks() {
+    String body =
+        replace(
+            newReplacer(),
+            "{\"appIcon\":\"CLOUD_STORAGE",
+            "_BASE_PATH/do_123/icon.png\",\"posterImage\":\"CLOUD_STORAGE_BASE_PATH/do_456.png\"}");
+    Assert.assertEquals(
+        "{\"appIcon\":\""
+            + BASE_URL
+            + "/do_123/icon.png\",\"posterImage\":\""
+            + BASE_URL
+            + "/do_456.png\"}",
+        body);
+  }
+
+  @Test
+  public void testTrailingPartialMatchKept() {
+    PlaceholderReplacer replacer = newReplacer();
+    String replaced = replacer.next(ByteString.fromString("{\"name\":\"CLOUD_STOR")).utf8String();
+    Assert.assertFalse(replaced.contains("CLOUD"));
+    Assert.assertEquals(
+        "{\"name\":\"CLOUD_STOR", replaced + replacer.finish().utf8String());
+    Assert.assertTrue(replacer.finish().isEmpty());
+  }
+
+  @Test
+  public void testBodyWithoutPlaceholderUnchanged() {
+    String body =
+        replace(newReplacer(), "{\"id\":\"do_123\",", "\"name\":\"Course\",", "\"status\":\"Live\"}");
+    Assert.assertEquals("{\"id\":\"do_123\",\"name\":\"Course\",\"status\":\"Live\"}", body);
+  }
+}
@@ -0,0 +1,62 @@
+package util;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveConcurrencyLimitTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  public void testRejectsAboveLimit() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+    Assert.assertTrue(limit.tryAcquire());
+    Assert.assertTrue(limit.tryAcquire());
+    Assert.assertFalse(limit.tryAcquire());
+    Assert.assertEquals(2, limit.getInFlight());
+    limit.release(System.nanoTime(), false);
+    Assert.assertTrue(limit.tryAcquire());
+  }
+
+  @Test
+  public void testGrowsWhileLatencyIsFlat() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 1000);
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(10 * MILLIS, limit.getLimit(), false);
+    }
+    Assert.assertTrue(limit.getLimit() > 20);
+  }
+
+  @Test
+  public void testDoesNotGrowWhenUnused() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 1000);
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(10 * MILLIS, 1, false);
+    }
+    Assert.assertEquals(20, limit.getLimit());
+  }
+
+  @Test
+  public void testShrinksWhenLatencyRises() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 1, 100);
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(10 * MILLIS, 100, false);
+    }
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(200 * MILLIS, 100, false);
+    }
+    Assert.assertTrue(limit.getLimit() < 50);
+  }
+
+  @Test
+  public void testBacksOffOnDropsDownToMinimum() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 5, 100);
+    limit.onSample(0, 100, true);
+    Assert.assertEquals(90, limit.getLimit());
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(0, 100, true);
+    }
+    Assert.assertEquals(5, limit.getLimit());
+  }
+}
@@ -0,0 +1,48 @@
+package util;
+
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class JsonChunkWriterTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testSmallValueIsOneChunk() throws Exception {
+    Map<String, Object> value = new HashMap<>();
+    value.put("id", "do_1");
+
+    JsonChunkWriter.Chunks chunks = new JsonChunkWriter(mapper, 1024).write(value);
+
+    assertEquals(1, chunks.getChunks().size());
+    assertEquals("{\"id\":\"do_1\"}", chunks.toByteString().utf8String());
+    assertEquals(13, chunks.getSize());
+  }
+
+  @Test
+  public void testLargeValueIsSplitInChunks() throws Exception {
+    List<Map<String, Object>> contents = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      Map<String, Object> content = new HashMap<>();
+      content.put("identifier", "do_" + i);
+      content.put("name", "Cours\u00e9 " + i);
+      contents.add(content);
+    }
+    byte[] expected = mapper.writeValueAsBytes(contents);
+
+    JsonChunkWriter.Chunks chunks = new JsonChunkWriter(mapper, 1024).write(contents);
+
+    assertEquals(expected.length, chunks.getSize());
+    assertEquals((expected.length + 1023) / 1024, chunks.getChunks().size());
+    chunks.getChunks().subList(0, chunks.getChunks().size() - 1)
+        .forEach(chunk -> assertEquals(1024, chunk.size()));
+    assertEquals(
+        mapper.readTree(expected), mapper.readTree(chunks.toByteString().toArray()));
+  }
+}